@@ -0,0 +1,24 @@
+#!/bin/sh
+# Mede o tempo até a primeira requisição atendida (time-to-first-request) de uma imagem da API.
+# Uso: ./docker/measure-startup.sh <imagem> [argumentos extras do docker run]
+# Ex.: docker build -t todo-api:fast . && docker build --build-arg FAST_START=false -t todo-api:classic .
+#      ./docker/measure-startup.sh todo-api:classic --network java-todo-list-desafio_default -e SPRING_PROFILES_ACTIVE=docker
+#      ./docker/measure-startup.sh todo-api:fast    --network java-todo-list-desafio_default -e SPRING_PROFILES_ACTIVE=docker
+set -eu
+
+IMAGE="$1"
+shift
+PORT="${PORT:-18080}"
+RUNS="${RUNS:-5}"
+
+for run in $(seq 1 "$RUNS"); do
+    start=$(date +%s%N)
+    container=$(docker run -d --rm -p "$PORT:8080" "$@" "$IMAGE")
+    # Qualquer resposta HTTP conta: o health pode estar DOWN sem banco, mas a aplicação já atende requisições
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/actuator/health")" != "000" ]; do
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+    echo "execução $run: $(( (end - start) / 1000000 )) ms"
+    docker stop "$container" > /dev/null
+done
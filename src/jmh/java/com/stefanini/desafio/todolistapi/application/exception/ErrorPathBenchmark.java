@@ -0,0 +1,64 @@
+package com.stefanini.desafio.todolistapi.application.exception;
+
+import com.stefanini.desafio.todolistapi.domain.service.TaskNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo (tempo e bytes alocados por operação, com -prof gc) de montar uma resposta 404.
+ * {@code legacyNotFound} reproduz o caminho anterior para comparação: exceção com stack trace,
+ * MessageFormat a cada chamada e corpo em LinkedHashMap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorPathBenchmark {
+
+    private ResourceBundleMessageSource messageSource;
+    private CustomExceptionHandler handler;
+    private UUID id;
+
+    @Setup
+    public void setUp() {
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        handler = new CustomExceptionHandler(new ErrorMessages(messageSource), messageSource);
+        id = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> notFound() {
+        return handler.handleTaskNotFound(new TaskNotFoundException(id));
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> legacyNotFound(Blackhole blackhole) {
+        blackhole.consume(new RuntimeException());
+        String message = messageSource.getMessage("task.not.found", new Object[]{id}, LocaleContextHolder.getLocale());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.NOT_FOUND.value());
+        body.put("error", "Not Found");
+        body.put("message", message);
+
+        return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,118 @@
+package com.stefanini.desafio.todolistapi.infrastructure.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.stefanini.desafio.todolistapi.application.dto.ApiResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskResponse;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo (tempo e bytes alocados por operação, com -prof gc) de serializar uma página de tarefas e o envelope de uma
+ * tarefa. {@code reflective*} usa o Jackson padrão (BeanSerializer + jsr310), como antes do {@code JsonCodecConfig};
+ * {@code optimized*} usa os serializadores escritos à mão, em ISO e em milissegundos.
+ * A saída vai para um stream descartável, como no conversor do Spring, que escreve direto na resposta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskJsonBenchmark {
+
+    private static final TypeReference<List<TaskResponse>> LIST = new TypeReference<>() {
+    };
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private List<TaskResponse> page;
+    private ApiResponse<TaskResponse> single;
+    private ObjectWriter reflectiveList;
+    private ObjectWriter optimizedList;
+    private ObjectWriter epochMillisList;
+    private ObjectMapper reflective;
+    private ObjectMapper optimized;
+    private final OutputStream discard = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        page = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime created = base.plusMinutes(i * 7L).plusNanos(i * 1_234_567L);
+            page.add(new TaskResponse(UUID.randomUUID(), "Tarefa " + i, i % 2 == 0 ? null : "Descrição da tarefa " + i,
+                    created, created.plusHours(1), TaskStatus.values()[i % 3],
+                    i % 4 == 0 ? created.plusDays(3) : null, null, null));
+        }
+        single = new ApiResponse<>("Tarefa atualizada", page.getFirst());
+
+        reflective = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        optimized = mapper(LocalDateTimeJsonSerializer.Mode.ISO);
+        reflectiveList = reflective.writerFor(LIST);
+        optimizedList = optimized.writerFor(LIST);
+        epochMillisList = mapper(LocalDateTimeJsonSerializer.Mode.EPOCH_MILLIS).writerFor(LIST);
+    }
+
+    @Benchmark
+    public void reflectiveList() throws IOException {
+        reflectiveList.writeValue(discard, page);
+    }
+
+    @Benchmark
+    public void optimizedList() throws IOException {
+        optimizedList.writeValue(discard, page);
+    }
+
+    @Benchmark
+    public void optimizedListEpochMillis() throws IOException {
+        epochMillisList.writeValue(discard, page);
+    }
+
+    @Benchmark
+    public void reflectiveApiResponse() throws IOException {
+        reflective.writeValue(discard, single);
+    }
+
+    @Benchmark
+    public void optimizedApiResponse() throws IOException {
+        optimized.writeValue(discard, single);
+    }
+
+    private static ObjectMapper mapper(LocalDateTimeJsonSerializer.Mode mode) {
+        LocalDateTimeJsonSerializer timestamps = new LocalDateTimeJsonSerializer(mode, ZoneId.of("America/Sao_Paulo"));
+        SimpleModule module = new SimpleModule()
+                .addSerializer(timestamps)
+                .addSerializer(new TaskResponseJsonSerializer(timestamps))
+                .addSerializer(new ApiResponseJsonSerializer(timestamps));
+        return new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(module)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
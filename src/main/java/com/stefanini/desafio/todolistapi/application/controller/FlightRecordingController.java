@@ -0,0 +1,129 @@
+package com.stefanini.desafio.todolistapi.application.controller;
+
+import com.stefanini.desafio.todolistapi.application.dto.FlightRecordingResponse;
+import com.stefanini.desafio.todolistapi.infrastructure.jfr.FlightRecordingService;
+import com.stefanini.desafio.todolistapi.infrastructure.jfr.FlightRecordingSettings;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jdk.jfr.Recording;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/jfr/recordings")
+@SecurityRequirement(name = "BasicAuth")
+@Tag(name = "Admin - JFR", description = "Gravações do Java Flight Recorder sob demanda (apenas ADMIN)")
+public class FlightRecordingController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    public FlightRecordingController(FlightRecordingService flightRecordingService) {
+        this.flightRecordingService = flightRecordingService;
+    }
+
+    /**
+     * Inicia uma gravação JFR, que para sozinha ao fim da duração.
+     * @param settings A configuração do JDK ({@code DEFAULT} ou {@code PROFILE}).
+     * @param duration A duração em ISO-8601 (ex: {@code PT5M}); opcional, limitada a {@code api.jfr.max-duration}.
+     * @return A gravação iniciada, com o endereço para acompanhá-la no header Location.
+     */
+    @PostMapping
+    @Operation(summary = "Iniciar gravação JFR", description = "Inicia uma gravação com os eventos do JDK (GC, locks, alocação, CPU) e os eventos de operações de tarefas e de erros da API.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Gravação iniciada"),
+            @ApiResponse(responseCode = "409", description = "Gravações desligadas ou limite de gravações atingido")
+    })
+    public ResponseEntity<FlightRecordingResponse> start(
+            @RequestParam(defaultValue = "DEFAULT") FlightRecordingSettings settings,
+            @RequestParam(required = false) Duration duration
+    ) {
+        Recording recording = flightRecordingService.start(settings, duration);
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}").buildAndExpand(recording.getId()).toUri())
+                .body(toResponse(recording));
+    }
+
+    /**
+     * Lista as gravações mantidas.
+     * @return As gravações, da mais antiga para a mais recente.
+     */
+    @GetMapping
+    @Operation(summary = "Listar gravações JFR")
+    public List<FlightRecordingResponse> findAll() {
+        return flightRecordingService.findAll().stream().map(FlightRecordingController::toResponse).toList();
+    }
+
+    /**
+     * Para uma gravação em andamento, mantendo os dados para download.
+     * @param id O ID da gravação.
+     * @return A gravação parada.
+     */
+    @PostMapping("/{id}/stop")
+    @Operation(summary = "Parar gravação JFR")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Gravação parada"),
+            @ApiResponse(responseCode = "404", description = "Gravação não encontrada")
+    })
+    public FlightRecordingResponse stop(@PathVariable long id) {
+        return toResponse(flightRecordingService.stop(id));
+    }
+
+    /**
+     * Baixa os dados da gravação (parcial enquanto ela estiver em andamento), para abrir no JDK Mission Control
+     * ou com {@code jfr print}.
+     * @param id O ID da gravação.
+     * @return O arquivo {@code .jfr}.
+     */
+    @GetMapping(path = "/{id}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Baixar gravação JFR", description = "Retorna o arquivo .jfr com os dados gravados até o momento.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivo retornado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Gravação não encontrada")
+    })
+    public ResponseEntity<StreamingResponseBody> download(@PathVariable long id) {
+        Path file = flightRecordingService.dump(id);
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"recording-" + id + ".jfr\"")
+                .body(body);
+    }
+
+    /**
+     * Exclui uma gravação e os seus dados.
+     * @param id O ID da gravação.
+     */
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Excluir gravação JFR")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Gravação excluída"),
+            @ApiResponse(responseCode = "404", description = "Gravação não encontrada")
+    })
+    public void delete(@PathVariable long id) {
+        flightRecordingService.delete(id);
+    }
+
+    private static FlightRecordingResponse toResponse(Recording recording) {
+        return new FlightRecordingResponse(recording.getId(), recording.getName(), recording.getState().name(),
+                recording.getStartTime(), recording.getStopTime(), recording.getDuration(), recording.getSize());
+    }
+}
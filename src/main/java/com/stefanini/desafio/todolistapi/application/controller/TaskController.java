@@ -1,11 +1,29 @@
 package com.stefanini.desafio.todolistapi.application.controller;
 
 import com.stefanini.desafio.todolistapi.application.dto.ApiResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskAnalyticsResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskCountResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskImportResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskLookupRequest;
+import com.stefanini.desafio.todolistapi.application.dto.TaskLookupResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskPositionRequest;
 import com.stefanini.desafio.todolistapi.application.dto.TaskRequest;
 import com.stefanini.desafio.todolistapi.application.dto.TaskResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskSyncResponse;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportFormat;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportJob;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportService;
+import com.stefanini.desafio.todolistapi.application.stream.TaskEventBroadcaster;
 import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.domain.model.TaskFilter;
+import com.stefanini.desafio.todolistapi.domain.model.TaskPage;
 import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.domain.service.InvalidTaskFieldException;
+import com.stefanini.desafio.todolistapi.domain.service.TaskAnalyticsService;
+import com.stefanini.desafio.todolistapi.domain.service.TaskReadCoalescer;
 import com.stefanini.desafio.todolistapi.domain.service.TaskService;
+import com.stefanini.desafio.todolistapi.domain.service.TaskSyncService;
 import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -14,11 +32,25 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,14 +60,32 @@ import java.util.stream.Collectors;
 @Tag(name = "Tasks", description = "Endpoints para Gerenciamento de Tarefas")
 public class TaskController {
 
+    /** Header com o cursor da próxima página na listagem paginada. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     private final TaskService taskService;
     private final TaskMapper taskMapper;
     private final MessageSource messageSource;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final TaskSyncService taskSyncService;
+    private final TaskImportService taskImportService;
+    private final TaskReadCoalescer taskReadCoalescer;
+    private final TaskAnalyticsService taskAnalyticsService;
 
-    public TaskController(TaskService taskService, TaskMapper taskMapper, MessageSource messageSource) {
+    public TaskController(TaskService taskService, TaskMapper taskMapper, MessageSource messageSource,
+                          TaskEventBroadcaster taskEventBroadcaster, TaskSyncService taskSyncService,
+                          TaskImportService taskImportService, TaskReadCoalescer taskReadCoalescer,
+                          TaskAnalyticsService taskAnalyticsService) {
         this.taskService = taskService;
         this.taskMapper = taskMapper;
         this.messageSource = messageSource;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.taskSyncService = taskSyncService;
+        this.taskImportService = taskImportService;
+        this.taskReadCoalescer = taskReadCoalescer;
+        this.taskAnalyticsService = taskAnalyticsService;
     }
 
     /**
@@ -60,31 +110,257 @@ public class TaskController {
     }
 
     /**
-     * Lista todas as tarefas cadastradas.
-     * @return Uma lista de todas as tarefas.
+     * Lista todas as tarefas cadastradas, ou uma página delas quando {@code limit} ou {@code cursor} é informado.
+     * @param fields Os campos a retornar, separados por vírgula (opcional, ex: {@code id,title,status}).
+     * @param includeArchived Se verdadeiro, inclui as tarefas concluídas movidas para o arquivo (apenas sem paginação).
+     * @param limit O tamanho da página (opcional).
+     * @param cursor O cursor recebido no header {@value #NEXT_CURSOR_HEADER} da página anterior (opcional).
+     * @return Uma lista das tarefas, completas ou apenas com os campos solicitados; na paginação, o header
+     * {@value #NEXT_CURSOR_HEADER} traz o cursor da próxima página, se houver.
      */
     @GetMapping
-    @Operation(summary = "Listar todas as tarefas", description = "Retorna uma lista com todas as tarefas cadastradas.")
-    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso")
-    public List<TaskResponse> findAll() {
-        return taskService.findAllTasks().stream()
+    @Operation(summary = "Listar todas as tarefas", description = "Retorna uma lista com todas as tarefas cadastradas. O parâmetro 'fields' limita os campos retornados (e as colunas lidas do banco); 'includeArchived=true' inclui as tarefas arquivadas. Com 'limit' e/ou 'cursor', retorna uma página das tarefas ativas em ordem de criação e o cursor da próxima no header X-Next-Cursor.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Campos ou cursor inválidos")
+    })
+    public ResponseEntity<List<?>> findAll(@RequestParam(required = false) String fields,
+                                           @RequestParam(defaultValue = "false") boolean includeArchived,
+                                           @RequestParam(required = false) Integer limit,
+                                           @RequestParam(required = false) String cursor) {
+        Set<TaskField> selected = parseFields(fields);
+        if (limit != null || cursor != null) {
+            TaskPage page = taskService.findTaskPage(cursor, limit != null ? limit : DEFAULT_PAGE_SIZE);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(toResponses(page.tasks(), selected));
+        }
+
+        List<Task> tasks = selected != null ? taskService.findAllTasks(selected) : taskReadCoalescer.findAllTasks();
+        if (includeArchived) {
+            tasks = new ArrayList<>(tasks);
+            tasks.addAll(selected != null ? taskService.findArchivedTasks(selected) : taskService.findArchivedTasks());
+        }
+        return ResponseEntity.ok(toResponses(tasks, selected));
+    }
+
+    /**
+     * Lista uma página das tarefas ativas na ordem definida pelo usuário.
+     * @param fields Os campos a retornar, separados por vírgula (opcional).
+     * @param limit O tamanho da página.
+     * @param cursor O cursor recebido no header {@value #NEXT_CURSOR_HEADER} da página anterior (opcional).
+     * @return As tarefas da página; o header {@value #NEXT_CURSOR_HEADER} traz o cursor da próxima página, se houver.
+     */
+    @GetMapping("/ordered")
+    @Operation(summary = "Listar tarefas na ordem do usuário", description = "Retorna uma página das tarefas ativas na ordem definida pelo usuário (ver PUT /{id}/position), pelo índice da chave de ordenação, e o cursor da próxima no header X-Next-Cursor.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Campos ou cursor inválidos")
+    })
+    public ResponseEntity<List<?>> findOrdered(@RequestParam(required = false) String fields,
+                                               @RequestParam(defaultValue = "100") int limit,
+                                               @RequestParam(required = false) String cursor) {
+        Set<TaskField> selected = parseFields(fields);
+        TaskPage page = taskService.findRankedPage(cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(toResponses(page.tasks(), selected));
+    }
+
+    /**
+     * Abre um stream Server-Sent Events com as alterações de tarefas (criação, atualização e exclusão).
+     * @param lastEventId O último ID de evento recebido, enviado automaticamente pelo EventSource ao reconectar.
+     * @return O emitter SSE da conexão.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar alterações de tarefas", description = "Stream SSE com eventos task-created, task-updated e task-deleted. Suporta retomada via Last-Event-ID.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Stream de eventos aberto com sucesso")
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskEventBroadcaster.subscribe(lastEventId);
+    }
+
+    /**
+     * Retorna apenas as alterações posteriores à marca d'água informada (sincronização incremental).
+     * @param since A marca d'água recebida na sincronização anterior (omitida na primeira sincronização).
+     * @param snapshotCursor O cursor da próxima página do snapshot, recebido na página anterior (opcional).
+     * @param limit O número máximo de alterações por página.
+     * @return As tarefas alteradas, os tombstones das excluídas e a nova marca d'água.
+     */
+    @GetMapping("/sync")
+    @Operation(summary = "Sincronizar alterações", description = "Retorna as tarefas alteradas e excluídas após a marca d'água 'since', junto com a nova marca d'água. Sem 'since' (ou com marca d'água expirada) retorna a primeira página de um snapshot completo com fullResync=true; as páginas seguintes vêm com 'snapshotCursor', e depois da última o cliente continua com 'since' = watermark.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Cursor do snapshot inválido")
+    })
+    public TaskSyncResponse sync(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String snapshotCursor,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        return taskMapper.toResponse(taskSyncService.findChangesSince(since, snapshotCursor, limit));
+    }
+
+    /**
+     * Conta as tarefas ativas que atendem aos filtros informados, sem ler as tarefas.
+     * @param status O status das tarefas (opcional).
+     * @param createdFrom O início inclusivo da faixa de criação (opcional).
+     * @param createdTo O fim exclusivo da faixa de criação (opcional).
+     * @param updatedFrom O início inclusivo da faixa de alteração (opcional).
+     * @param updatedTo O fim exclusivo da faixa de alteração (opcional).
+     * @return A quantidade de tarefas.
+     */
+    @GetMapping("/count")
+    @Operation(summary = "Contar tarefas", description = "Conta as tarefas ativas por status e faixas de data de criação/alteração ([from, to)), usando o índice colunar em memória.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Contagem retornada com sucesso")
+    public TaskCountResponse count(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo
+    ) {
+        return new TaskCountResponse(taskService.countTasks(new TaskFilter(status, createdFrom, createdTo, updatedFrom, updatedTo)));
+    }
+
+    /**
+     * Retorna os indicadores diários (criadas, concluídas e totais por status) e os percentis do tempo de conclusão.
+     * @param from O primeiro dia, inclusivo (opcional; padrão: 29 dias antes de {@code to}).
+     * @param to O último dia, inclusivo (opcional; padrão: hoje).
+     * @return Os indicadores do período.
+     */
+    @GetMapping("/analytics")
+    @Operation(summary = "Indicadores de tarefas", description = "Retorna, para cada dia do período, as tarefas criadas, as concluídas e o total por status, além dos percentis p50/p90/p99 do tempo de conclusão (em segundos). Lido dos rollups mantidos incrementalmente, atualizados a cada poucos segundos.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Indicadores retornados com sucesso"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Período inválido ou longo demais")
+    })
+    public TaskAnalyticsResponse analytics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return taskMapper.toResponse(taskAnalyticsService.analytics(from, to));
+    }
+
+    /**
+     * Busca as tarefas ativas que atendem aos filtros informados, em ordem de criação.
+     * @param status O status das tarefas (opcional).
+     * @param createdFrom O início inclusivo da faixa de criação (opcional).
+     * @param createdTo O fim exclusivo da faixa de criação (opcional).
+     * @param updatedFrom O início inclusivo da faixa de alteração (opcional).
+     * @param updatedTo O fim exclusivo da faixa de alteração (opcional).
+     * @param limit O número máximo de tarefas.
+     * @return As tarefas encontradas.
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Filtrar tarefas", description = "Retorna as tarefas ativas por status e faixas de data de criação/alteração ([from, to)), em ordem de criação. O filtro roda no índice colunar em memória e apenas as tarefas selecionadas são lidas do banco.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tarefas retornadas com sucesso")
+    public List<TaskResponse> search(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        TaskFilter filter = new TaskFilter(status, createdFrom, createdTo, updatedFrom, updatedTo);
+        return taskService.findTasks(filter, limit).stream()
                 .map(taskMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Busca várias tarefas pelos IDs em uma única requisição.
+     * @param request O corpo da requisição com os IDs (até {@value TaskLookupRequest#MAX_IDS}).
+     * @return As tarefas encontradas, na ordem dos IDs informados, e os IDs sem tarefa.
+     */
+    @PostMapping("/lookup")
+    @Operation(summary = "Buscar várias tarefas por ID", description = "Retorna as tarefas dos IDs informados, inclusive as arquivadas, na ordem do pedido; os IDs sem tarefa são listados em missing. As consultas são feitas em lotes, por shard, e as tarefas lidas recentemente vêm do cache.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Lista de IDs vazia ou acima do limite")
+    })
+    public TaskLookupResponse lookup(@Valid @RequestBody TaskLookupRequest request) {
+        return taskMapper.toResponse(taskReadCoalescer.findTasksByIds(request.ids()));
+    }
+
+    /**
+     * Recebe um arquivo CSV ou NDJSON e agenda a importação das tarefas em segundo plano.
+     * @param file O arquivo, na parte {@code file} do upload multipart.
+     * @param format O formato do arquivo (opcional; identificado pela extensão ou pelo Content-Type).
+     * @return O estado inicial da importação, com o endereço de acompanhamento no header Location.
+     */
+    @PostMapping(path = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar tarefas em massa", description = "Importa tarefas de um arquivo CSV (cabeçalho com title, description e, opcionalmente, status) ou NDJSON (um objeto por linha). O arquivo é processado em segundo plano, em lotes; acompanhe pelo endereço do header Location.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Importação agendada"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Arquivo vazio ou formato não suportado"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Fila de importações cheia")
+    })
+    public ResponseEntity<TaskImportResponse> importTasks(@RequestParam("file") MultipartFile file,
+                                                          @RequestParam(required = false) TaskImportFormat format) {
+        TaskImportJob job = taskImportService.submit(file, format);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(toResponse(job));
+    }
+
+    /**
+     * Consulta o andamento de uma importação.
+     * @param jobId O ID da importação.
+     * @return O estado e os contadores da importação.
+     */
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "Acompanhar importação", description = "Retorna o status da importação e as quantidades de registros lidos, importados e rejeitados.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Importação encontrada"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Importação não encontrada")
+    })
+    public TaskImportResponse importStatus(@PathVariable UUID jobId) {
+        return toResponse(taskImportService.findJob(jobId));
+    }
+
+    /**
+     * Baixa o relatório dos registros rejeitados de uma importação (parcial enquanto ela estiver em andamento).
+     * @param jobId O ID da importação.
+     * @return Um CSV com a linha do arquivo e o motivo de cada rejeição.
+     */
+    @GetMapping(path = "/import/{jobId}/errors", produces = "text/csv")
+    @Operation(summary = "Baixar relatório de erros da importação", description = "Retorna um CSV (linha,erro) com os registros rejeitados.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Relatório retornado com sucesso"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Importação não encontrada")
+    })
+    public ResponseEntity<Resource> importErrors(@PathVariable UUID jobId) {
+        TaskImportJob job = taskImportService.findJob(jobId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + jobId + "-errors.csv\"")
+                .body(new FileSystemResource(job.getErrorReport()));
+    }
+
     /**
      * Busca uma tarefa específica pelo seu ID.
      * @param id O ID da tarefa a ser buscada.
-     * @return A tarefa encontrada.
+     * @param fields Os campos a retornar, separados por vírgula (opcional).
+     * @return A tarefa encontrada, completa ou apenas com os campos solicitados.
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar tarefa por ID", description = "Retorna uma tarefa específica com base no seu ID.")
+    @Operation(summary = "Buscar tarefa por ID", description = "Retorna uma tarefa específica com base no seu ID, inclusive se estiver arquivada.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tarefa encontrada com sucesso"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
     })
-    public TaskResponse findById(@PathVariable UUID id) {
-        return taskMapper.toResponse(taskService.findTaskById(id));
+    public Object findById(@PathVariable UUID id, @RequestParam(required = false) String fields) {
+        Set<TaskField> selected = parseFields(fields);
+        if (selected == null) {
+            return taskMapper.toResponse(taskReadCoalescer.findTaskById(id));
+        }
+        return taskMapper.toSparseResponse(taskService.findTaskById(id, selected), selected);
     }
 
     /**
@@ -95,7 +371,7 @@ public class TaskController {
      * @return Uma resposta padronizada com a mensagem de sucesso e os dados da tarefa atualizada.
      */
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar uma tarefa", description = "Atualiza o título, a descrição e/ou o status de uma tarefa existente.")
+    @Operation(summary = "Atualizar uma tarefa", description = "Atualiza o título, a descrição, o status, o prazo e/ou o lembrete de uma tarefa existente.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
@@ -109,7 +385,9 @@ public class TaskController {
                 id,
                 request.title(),
                 request.description(),
-                status
+                status,
+                request.dueDate(),
+                request.reminderDate()
         );
         TaskResponse taskResponse = taskMapper.toResponse(updatedTask);
         
@@ -117,13 +395,32 @@ public class TaskController {
         return new ApiResponse<>(message, taskResponse);
     }
 
+    /**
+     * Move uma tarefa na ordem definida pelo usuário (arrastar e soltar), alterando apenas a posição dela.
+     * @param id O ID da tarefa a ser movida.
+     * @param request Os vizinhos que a tarefa terá na nova posição.
+     * @return Uma resposta padronizada com a mensagem de sucesso e os dados da tarefa movida.
+     */
+    @PutMapping("/{id}/position")
+    @Operation(summary = "Mover uma tarefa", description = "Posiciona a tarefa logo depois de 'afterId' e/ou antes de 'beforeId' na ordem definida pelo usuário. Sem nenhum dos dois, a tarefa vai para o fim da lista. Apenas a tarefa movida é alterada.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tarefa movida com sucesso"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tarefa ou vizinho não encontrado"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Os vizinhos informados não estão mais em sequência")
+    })
+    public ApiResponse<TaskResponse> move(@PathVariable UUID id, @RequestBody TaskPositionRequest request) {
+        Task movedTask = taskService.moveTask(id, request.afterId(), request.beforeId());
+        String message = messageSource.getMessage("task.updated.success", new Object[]{id}, LocaleContextHolder.getLocale());
+        return new ApiResponse<>(message, taskMapper.toResponse(movedTask));
+    }
+
     /**
      * Exclui uma tarefa pelo seu ID.
      * @param id O ID da tarefa a ser excluída.
      * @return Uma resposta padronizada com a mensagem de sucesso.
      */
     @DeleteMapping("/{id}")
-    @Operation(summary = "Excluir uma tarefa", description = "Exclui uma tarefa permanentemente com base no seu ID.")
+    @Operation(summary = "Excluir uma tarefa", description = "Exclui uma tarefa com base no seu ID. A exclusão é informada aos clientes pela sincronização incremental.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tarefa excluída com sucesso"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
@@ -133,4 +430,52 @@ public class TaskController {
         String message = messageSource.getMessage("task.deleted.success", new Object[]{id}, LocaleContextHolder.getLocale());
         return new ApiResponse<>(message);
     }
+
+    private static TaskImportResponse toResponse(TaskImportJob job) {
+        return new TaskImportResponse(job.getId(), job.getFileName(), job.getFormat(), job.getStatus(),
+                job.getRowsRead().get(), job.getImported().get(), job.getRejected().get(),
+                job.getCreatedAt(), job.getStartedAt(), job.getFinishedAt(), job.getFailure());
+    }
+
+    private List<?> toResponses(List<Task> tasks, Set<TaskField> selected) {
+        if (selected == null) {
+            return tasks.stream()
+                    .map(taskMapper::toResponse)
+                    .collect(Collectors.toList());
+        }
+        return tasks.stream()
+                .map(task -> taskMapper.toSparseResponse(task, selected))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Converte o parâmetro {@code fields} em um conjunto de campos, rejeitando nomes desconhecidos.
+     * Um parâmetro ausente ou sem nenhum nome (ex: {@code fields=}) equivale a pedir a tarefa completa.
+     * @param fields Os nomes das propriedades separados por vírgula (pode ser nulo).
+     * @return Os campos solicitados, na ordem canônica do TaskResponse, ou nulo para todos os campos.
+     * @throws InvalidTaskFieldException se algum nome não corresponder a um campo da tarefa.
+     */
+    private Set<TaskField> parseFields(String fields) {
+        if (fields == null) {
+            return null;
+        }
+        Set<TaskField> selected = EnumSet.noneOf(TaskField.class);
+        List<String> invalid = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            String property = name.trim();
+            if (property.isEmpty()) {
+                continue;
+            }
+            TaskField field = TaskField.fromProperty(property);
+            if (field == null) {
+                invalid.add(property);
+            } else {
+                selected.add(field);
+            }
+        }
+        if (!invalid.isEmpty()) {
+            throw new InvalidTaskFieldException(invalid);
+        }
+        return selected.isEmpty() ? null : selected;
+    }
 }
@@ -0,0 +1,34 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Corpo padronizado das respostas de erro da API.
+ * {@code details} só é serializado quando presente (ex: erros de validação por campo).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ErrorResponse(
+        LocalDateTime timestamp,
+        int status,
+        String error,
+        String message,
+        List<String> details
+) {
+    public ErrorResponse(HttpStatusCode status, String message) {
+        this(status, message, null);
+    }
+
+    public ErrorResponse(HttpStatusCode status, String message, List<String> details) {
+        this(LocalDateTime.now(), status.value(), reasonPhrase(status), message, details);
+    }
+
+    private static String reasonPhrase(HttpStatusCode status) {
+        HttpStatus resolved = HttpStatus.resolve(status.value());
+        return resolved != null ? resolved.getReasonPhrase() : null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record FlightRecordingResponse(
+
+        long id,
+        String name,
+        String state,
+        Instant startTime,
+        Instant stopTime,
+        Duration duration,
+        long sizeBytes
+
+) {}
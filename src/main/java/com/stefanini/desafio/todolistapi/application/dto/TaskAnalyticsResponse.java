@@ -0,0 +1,13 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TaskAnalyticsResponse(
+
+        LocalDate from,
+        LocalDate to,
+        List<TaskDailyStatsResponse> days,
+        TaskCompletionStatsResponse completion
+
+) {}
@@ -0,0 +1,10 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+public record TaskCompletionStatsResponse(
+
+        long count,
+        long p50Seconds,
+        long p90Seconds,
+        long p99Seconds
+
+) {}
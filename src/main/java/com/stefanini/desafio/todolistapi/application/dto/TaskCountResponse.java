@@ -0,0 +1,7 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+public record TaskCountResponse(
+
+        long count
+
+) {}
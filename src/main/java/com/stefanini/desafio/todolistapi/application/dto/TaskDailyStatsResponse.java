@@ -0,0 +1,15 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public record TaskDailyStatsResponse(
+
+        LocalDate day,
+        long created,
+        long completed,
+        Map<TaskStatus, Long> backlog
+
+) {}
@@ -0,0 +1,13 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TaskEventResponse(
+
+        String type,
+        UUID taskId,
+        TaskResponse task,
+        LocalDateTime occurredAt
+
+) {}
@@ -0,0 +1,23 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportFormat;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TaskImportResponse(
+
+        UUID id,
+        String fileName,
+        TaskImportFormat format,
+        TaskImportStatus status,
+        long rowsRead,
+        long imported,
+        long rejected,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String failure
+
+) {}
@@ -0,0 +1,22 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * IDs das tarefas a buscar de uma vez (ex: os cartões de um quadro). IDs repetidos são respondidos uma única vez.
+ */
+public record TaskLookupRequest(
+
+        @NotEmpty(message = "{task.lookup.ids.size}")
+        @Size(max = TaskLookupRequest.MAX_IDS, message = "{task.lookup.ids.size}")
+        List<@NotNull(message = "{task.lookup.ids.null}") UUID> ids
+
+) {
+
+    public static final int MAX_IDS = 500;
+}
@@ -0,0 +1,11 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TaskLookupResponse(
+
+        List<TaskResponse> tasks,
+        List<UUID> missing
+
+) {}
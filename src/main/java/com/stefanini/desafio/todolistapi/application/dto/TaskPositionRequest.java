@@ -0,0 +1,15 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Nova posição de uma tarefa na ordem definida pelo usuário, pelos vizinhos que ela terá depois de movida.
+ * Basta um dos vizinhos; sem nenhum, a tarefa vai para o fim da lista.
+ */
+public record TaskPositionRequest(
+
+        UUID afterId,
+
+        UUID beforeId
+
+) {}
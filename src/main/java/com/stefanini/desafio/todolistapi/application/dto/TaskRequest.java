@@ -1,8 +1,12 @@
 package com.stefanini.desafio.todolistapi.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDateTime;
+
 public record TaskRequest(
 
         @NotBlank(message = "{task.title.not.empty}")
@@ -10,6 +14,24 @@ public record TaskRequest(
         String title,
 
         @Size(max = 500, message = "{task.description.size}")
-        String description
+        String description,
+
+        LocalDateTime dueDate,
+
+        LocalDateTime reminderDate
+
+) {
+
+    public TaskRequest(String title, String description) {
+        this(title, description, null, null);
+    }
 
-) {}
\ No newline at end of file
+    /**
+     * O lembrete, quando informado junto com o prazo, não pode ser posterior a ele.
+     */
+    @JsonIgnore
+    @AssertTrue(message = "{task.reminder.after.due}")
+    public boolean isReminderBeforeDueDate() {
+        return dueDate == null || reminderDate == null || !reminderDate.isAfter(dueDate);
+    }
+}
@@ -12,6 +12,15 @@ public record TaskResponse(
         String description,
         LocalDateTime creationDate,
         LocalDateTime updateDate,
-        TaskStatus status
+        TaskStatus status,
+        LocalDateTime dueDate,
+        LocalDateTime reminderDate,
+        LocalDateTime overdueDate
 
-) {}
\ No newline at end of file
+) {
+
+    public TaskResponse(UUID id, String title, String description, LocalDateTime creationDate,
+                        LocalDateTime updateDate, TaskStatus status) {
+        this(id, title, description, creationDate, updateDate, status, null, null, null);
+    }
+}
\ No newline at end of file
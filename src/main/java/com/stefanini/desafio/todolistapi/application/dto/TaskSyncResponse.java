@@ -0,0 +1,19 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.stefanini.desafio.todolistapi.infrastructure.json.LocalDateTimeJsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TaskSyncResponse(
+
+        List<TaskResponse> tasks,
+        List<TaskTombstoneResponse> deleted,
+        @JsonSerialize(using = LocalDateTimeJsonSerializer.Iso.class)
+        LocalDateTime watermark,
+        boolean hasMore,
+        boolean fullResync,
+        String snapshotCursor
+
+) {}
@@ -0,0 +1,11 @@
+package com.stefanini.desafio.todolistapi.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TaskTombstoneResponse(
+
+        UUID id,
+        LocalDateTime deletedDate
+
+) {}
@@ -1,10 +1,9 @@
 package com.stefanini.desafio.todolistapi.application.exception;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stefanini.desafio.todolistapi.application.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.context.MessageSource;
-import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
@@ -12,19 +11,16 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 @Component
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
     private final ObjectMapper objectMapper;
-    private final MessageSource messageSource;
+    private final ErrorMessages errorMessages;
 
-    public CustomAuthenticationEntryPoint(ObjectMapper objectMapper, MessageSource messageSource) {
+    public CustomAuthenticationEntryPoint(ObjectMapper objectMapper, ErrorMessages errorMessages) {
         this.objectMapper = objectMapper;
-        this.messageSource = messageSource;
+        this.errorMessages = errorMessages;
     }
 
     @Override
@@ -34,18 +30,7 @@ public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint
         response.setStatus(HttpStatus.UNAUTHORIZED.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
 
-        String message = messageSource.getMessage(
-                "auth.invalid.credentials",
-                null,
-                LocaleContextHolder.getLocale()
-        );
-
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now().toString());
-        body.put("status", HttpStatus.UNAUTHORIZED.value());
-        body.put("error", "Unauthorized");
-        body.put("message", message);
-
-        objectMapper.writeValue(response.getOutputStream(), body);
+        String message = errorMessages.get("auth.invalid.credentials");
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(HttpStatus.UNAUTHORIZED, message));
     }
 }
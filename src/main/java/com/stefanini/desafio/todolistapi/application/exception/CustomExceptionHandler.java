@@ -1,12 +1,27 @@
 package com.stefanini.desafio.todolistapi.application.exception;
 
+import com.stefanini.desafio.todolistapi.application.dto.ErrorResponse;
+import com.stefanini.desafio.todolistapi.application.imports.InvalidImportFileException;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportNotFoundException;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportQueueFullException;
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.domain.service.InvalidAnalyticsRangeException;
+import com.stefanini.desafio.todolistapi.domain.service.InvalidTaskCursorException;
+import com.stefanini.desafio.todolistapi.domain.service.InvalidTaskFieldException;
 import com.stefanini.desafio.todolistapi.domain.service.TaskNotFoundException;
+import com.stefanini.desafio.todolistapi.domain.service.TaskPositionConflictException;
+import com.stefanini.desafio.todolistapi.infrastructure.breaker.DatabaseUnavailableException;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.BulkheadFullException;
+import com.stefanini.desafio.todolistapi.infrastructure.jfr.FlightRecordingNotFoundException;
+import com.stefanini.desafio.todolistapi.infrastructure.jfr.FlightRecordingUnavailableException;
+import com.stefanini.desafio.todolistapi.infrastructure.ratelimit.RateLimitExceededException;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,23 +29,32 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
-import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * Manipulador de exceções global para a aplicação.
- * Captura exceções específicas e as formata em uma resposta JSON padronizada.
+ * Captura exceções específicas e as formata em uma resposta JSON padronizada ({@link ErrorResponse}).
+ * As exceções de fluxo esperado não carregam stack trace e as mensagens vêm de templates em cache
+ * ({@link ErrorMessages}), mantendo barato o caminho de erro sob rajadas de 404/400.
  */
 @ControllerAdvice
 public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
 
+    /** Lista dos campos aceitos em {@code fields}, fixa para toda a aplicação. */
+    private static final String ACCEPTED_FIELDS = Arrays.stream(TaskField.values())
+            .map(TaskField::property)
+            .collect(Collectors.joining(","));
+
+    private final ErrorMessages errorMessages;
     private final MessageSource messageSource;
 
-    public CustomExceptionHandler(MessageSource messageSource) {
+    public CustomExceptionHandler(ErrorMessages errorMessages, MessageSource messageSource) {
+        this.errorMessages = errorMessages;
         this.messageSource = messageSource;
     }
 
@@ -42,19 +66,161 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler(TaskNotFoundException.class)
     public ResponseEntity<Object> handleTaskNotFound(TaskNotFoundException ex) {
-        String message = messageSource.getMessage(
-                "task.not.found",
-                new Object[]{ex.getTaskId()},
-                LocaleContextHolder.getLocale()
-        );
+        String message = errorMessages.get("task.not.found", ex.getTaskId());
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.NOT_FOUND, message), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Manipula a exceção {@link InvalidTaskFieldException} lançada quando o parâmetro {@code fields} contém campos desconhecidos.
+     * Retorna uma resposta HTTP 400 (Bad Request) informando os campos inválidos e os aceitos.
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro e o status HTTP 400.
+     */
+    @ExceptionHandler(InvalidTaskFieldException.class)
+    public ResponseEntity<Object> handleInvalidTaskField(InvalidTaskFieldException ex) {
+        String message = errorMessages.get("task.fields.invalid", String.join(",", ex.getInvalidFields()), ACCEPTED_FIELDS);
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.BAD_REQUEST, message), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Manipula a exceção {@link InvalidTaskCursorException} lançada quando o cursor de paginação não pode ser lido.
+     * Retorna uma resposta HTTP 400 (Bad Request) orientando a recomeçar a paginação.
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro e o status HTTP 400.
+     */
+    @ExceptionHandler(InvalidTaskCursorException.class)
+    public ResponseEntity<Object> handleInvalidTaskCursor(InvalidTaskCursorException ex) {
+        String message = errorMessages.get("task.cursor.invalid");
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.BAD_REQUEST, message), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Manipula a exceção {@link InvalidAnalyticsRangeException} lançada quando o período dos indicadores é inválido.
+     * Retorna uma resposta HTTP 400 (Bad Request) com o tamanho máximo aceito.
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro e o status HTTP 400.
+     */
+    @ExceptionHandler(InvalidAnalyticsRangeException.class)
+    public ResponseEntity<Object> handleInvalidAnalyticsRange(InvalidAnalyticsRangeException ex) {
+        String message = errorMessages.get("analytics.range.invalid", ex.getMaxDays());
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.BAD_REQUEST, message), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Manipula a exceção {@link TaskPositionConflictException} lançada quando os vizinhos informados para mover uma
+     * tarefa não estão mais em sequência (a lista do cliente está desatualizada).
+     * Retorna uma resposta HTTP 409 (Conflict) orientando a recarregar a lista.
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro e o status HTTP 409.
+     */
+    @ExceptionHandler(TaskPositionConflictException.class)
+    public ResponseEntity<Object> handleTaskPositionConflict(TaskPositionConflictException ex) {
+        String message = errorMessages.get("task.position.conflict", ex.getTaskId());
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.CONFLICT, message), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Manipula a exceção {@link TaskImportNotFoundException} lançada quando uma importação não existe ou já foi descartada.
+     * Retorna uma resposta HTTP 404 (Not Found).
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro e o status HTTP 404.
+     */
+    @ExceptionHandler(TaskImportNotFoundException.class)
+    public ResponseEntity<Object> handleTaskImportNotFound(TaskImportNotFoundException ex) {
+        String message = errorMessages.get("import.not.found", ex.getJobId());
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.NOT_FOUND, message), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Manipula a exceção {@link InvalidImportFileException} lançada quando o arquivo enviado para importação é recusado.
+     * Retorna uma resposta HTTP 400 (Bad Request) com o motivo.
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro e o status HTTP 400.
+     */
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<Object> handleInvalidImportFile(InvalidImportFileException ex) {
+        String message = errorMessages.get(ex.getMessageKey());
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.BAD_REQUEST, message), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Manipula a exceção {@link TaskImportQueueFullException} lançada quando a fila de importações está cheia.
+     * Retorna uma resposta HTTP 503 (Service Unavailable) com o header {@code Retry-After}.
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro, o header Retry-After e o status HTTP 503.
+     */
+    @ExceptionHandler(TaskImportQueueFullException.class)
+    public ResponseEntity<Object> handleTaskImportQueueFull(TaskImportQueueFullException ex) {
+        String message = errorMessages.get("import.queue.full", ex.getQueueCapacity(), ex.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, message));
+    }
+
+    /**
+     * Manipula a exceção {@link FlightRecordingNotFoundException} lançada quando uma gravação JFR não existe ou já foi excluída.
+     * Retorna uma resposta HTTP 404 (Not Found).
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro e o status HTTP 404.
+     */
+    @ExceptionHandler(FlightRecordingNotFoundException.class)
+    public ResponseEntity<Object> handleFlightRecordingNotFound(FlightRecordingNotFoundException ex) {
+        String message = errorMessages.get("jfr.recording.not.found", ex.getRecordingId());
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.NOT_FOUND, message), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Manipula a exceção {@link FlightRecordingUnavailableException} lançada quando uma nova gravação JFR é recusada.
+     * Retorna uma resposta HTTP 409 (Conflict) com o motivo.
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro e o status HTTP 409.
+     */
+    @ExceptionHandler(FlightRecordingUnavailableException.class)
+    public ResponseEntity<Object> handleFlightRecordingUnavailable(FlightRecordingUnavailableException ex) {
+        String message = errorMessages.get(ex.getMessageKey(), ex.getMaxRecordings());
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.CONFLICT, message), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Manipula a exceção {@link RateLimitExceededException} lançada pelo controle de admissão.
+     * Retorna uma resposta HTTP 429 (Too Many Requests) com o header {@code Retry-After}.
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro, o header Retry-After e o status HTTP 429.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Object> handleRateLimitExceeded(RateLimitExceededException ex) {
+        String message = errorMessages.get(ex.getMessageKey(), ex.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS, message));
+    }
 
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.NOT_FOUND.value());
-        body.put("error", "Not Found");
-        body.put("message", message);
+    /**
+     * Manipula a exceção {@link BulkheadFullException} lançada quando o bulkhead de uma classe de carga está cheio.
+     * Retorna uma resposta HTTP 503 (Service Unavailable) com o header {@code Retry-After}.
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro, o header Retry-After e o status HTTP 503.
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Object> handleBulkheadFull(BulkheadFullException ex) {
+        String message = errorMessages.get("bulkhead.full", ex.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, message));
+    }
 
-        return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+    /**
+     * Manipula a exceção {@link DatabaseUnavailableException} lançada com o circuit breaker do banco aberto.
+     * Retorna uma resposta HTTP 503 (Service Unavailable) com o header {@code Retry-After}.
+     * @param ex A exceção capturada.
+     * @return Um ResponseEntity contendo o corpo do erro, o header Retry-After e o status HTTP 503.
+     */
+    @ExceptionHandler(DatabaseUnavailableException.class)
+    public ResponseEntity<Object> handleDatabaseUnavailable(DatabaseUnavailableException ex) {
+        String message = errorMessages.get("database.unavailable", ex.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, message));
     }
 
     /**
@@ -65,20 +231,9 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<Object> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        body.put("error", "Bad Request");
-
-        String valorEnviado = Objects.toString(ex.getValue(), "null");
-        String nomeParametro = ex.getName();
-        
         // Mensagem personalizada: "Falha ao converter 'id' com o valor: 'valor enviado'"
-        String message = String.format("Falha ao converter '%s' com o valor: '%s'", nomeParametro, valorEnviado);
-        
-        body.put("message", message);
-
-        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+        String message = errorMessages.get("argument.type.mismatch", ex.getName(), Objects.toString(ex.getValue(), "null"));
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.BAD_REQUEST, message), HttpStatus.BAD_REQUEST);
     }
 
     /**
@@ -94,26 +249,15 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
             MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
 
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", status.value());
-        body.put("error", "Bad Request");
-
         // Captura todos os erros de campo e os lista
-        List<String> errors = ex.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .map(error -> {
-                    String fieldName = error.getField();
-                    // Tenta resolver a mensagem do erro usando o MessageSource
-                    String errorMessage = messageSource.getMessage(error, LocaleContextHolder.getLocale());
-                    return fieldName + ": " + errorMessage;
-                })
-                .collect(Collectors.toList());
-
-        body.put("message", "Validation Failed");
-        body.put("details", errors);
-
-        return new ResponseEntity<>(body, status);
+        List<FieldError> fieldErrors = ex.getBindingResult().getFieldErrors();
+        List<String> errors = new ArrayList<>(fieldErrors.size());
+        Locale locale = LocaleContextHolder.getLocale();
+        for (FieldError error : fieldErrors) {
+            // Tenta resolver a mensagem do erro usando o MessageSource
+            errors.add(error.getField() + ": " + messageSource.getMessage(error, locale));
+        }
+
+        return new ResponseEntity<>(new ErrorResponse(status, "Validation Failed", errors), status);
     }
 }
@@ -0,0 +1,56 @@
+package com.stefanini.desafio.todolistapi.application.exception;
+
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mensagens das respostas de erro, resolvidas a partir de templates pré-processados e mantidos em cache por idioma.
+ * O {@link MessageSource} é consultado uma única vez por chave e idioma; a partir daí cada resposta de erro
+ * custa apenas a concatenação dos argumentos, sem criar um {@link java.text.MessageFormat} por requisição.
+ */
+@Component
+public class ErrorMessages {
+
+    /** Marca padrões que o {@link MessageTemplate} não decompõe; esses continuam formatados pelo MessageSource. */
+    private static final MessageTemplate UNSUPPORTED = MessageTemplate.parse("");
+
+    private final MessageSource messageSource;
+    private final Map<Locale, Map<String, MessageTemplate>> templates = new ConcurrentHashMap<>();
+
+    public ErrorMessages(MessageSource messageSource) {
+        this.messageSource = messageSource;
+    }
+
+    /**
+     * Resolve a mensagem no idioma da requisição atual.
+     * @param key A chave no messages.properties.
+     * @param args Os argumentos da mensagem.
+     * @return A mensagem formatada.
+     * @throws org.springframework.context.NoSuchMessageException se a chave não existir.
+     */
+    public String get(String key, Object... args) {
+        Locale locale = LocaleContextHolder.getLocale();
+        MessageTemplate template = templateFor(key, locale);
+        return template == UNSUPPORTED ? messageSource.getMessage(key, args, locale) : template.render(args);
+    }
+
+    private MessageTemplate templateFor(String key, Locale locale) {
+        Map<String, MessageTemplate> byKey = templates.get(locale);
+        if (byKey == null) {
+            byKey = templates.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+        }
+        MessageTemplate template = byKey.get(key);
+        if (template == null) {
+            // Sem argumentos, o MessageSource devolve o padrão cru, sem aplicar o MessageFormat
+            MessageTemplate parsed = MessageTemplate.parse(messageSource.getMessage(key, null, locale));
+            template = parsed != null ? parsed : UNSUPPORTED;
+            byKey.put(key, template);
+        }
+        return template;
+    }
+}
@@ -0,0 +1,95 @@
+package com.stefanini.desafio.todolistapi.application.exception;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Template de mensagem no formato do {@link java.text.MessageFormat} já decomposto em trechos literais
+ * e índices de argumentos, para renderização por simples concatenação.
+ * Suporta apenas argumentos simples ({@code {0}}) e aspas ({@code ''}); padrões com tipo/estilo
+ * ({@code {0,number}}) não são decompostos e ficam a cargo do {@code MessageSource}.
+ */
+final class MessageTemplate {
+
+    private final String[] literals;
+    private final int[] argumentIndexes;
+    private final int literalLength;
+
+    private MessageTemplate(String[] literals, int[] argumentIndexes) {
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Decompõe o padrão informado.
+     * @param pattern O texto da mensagem, como definido no messages.properties.
+     * @return O template, ou {@code null} se o padrão usar recursos do MessageFormat não suportados.
+     */
+    static MessageTemplate parse(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        StringBuilder current = new StringBuilder(pattern.length());
+        boolean quoted = false;
+
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    current.append('\'');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == '{' && !quoted) {
+                int end = pattern.indexOf('}', i);
+                Integer index = end < 0 ? null : argumentIndex(pattern.substring(i + 1, end));
+                if (index == null) {
+                    return null;
+                }
+                literals.add(current.toString());
+                indexes.add(index);
+                current.setLength(0);
+                i = end;
+            } else {
+                current.append(c);
+            }
+        }
+        literals.add(current.toString());
+        return new MessageTemplate(literals.toArray(String[]::new), indexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Renderiza a mensagem. Argumentos ausentes são mantidos como {@code {n}}, como no MessageFormat.
+     * @param args Os argumentos da mensagem, convertidos com {@link String#valueOf(Object)}.
+     * @return A mensagem final.
+     */
+    String render(Object[] args) {
+        if (argumentIndexes.length == 0) {
+            return literals[0];
+        }
+        StringBuilder message = new StringBuilder(literalLength + 40 * argumentIndexes.length);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            message.append(literals[i]);
+            int index = argumentIndexes[i];
+            if (args != null && index < args.length) {
+                message.append(args[index]);
+            } else {
+                message.append('{').append(index).append('}');
+            }
+        }
+        return message.append(literals[argumentIndexes.length]).toString();
+    }
+
+    private static Integer argumentIndex(String argument) {
+        String trimmed = argument.trim();
+        if (trimmed.isEmpty() || trimmed.length() > 2 || !trimmed.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Integer.parseInt(trimmed);
+    }
+}
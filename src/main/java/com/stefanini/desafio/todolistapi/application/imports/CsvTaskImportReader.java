@@ -0,0 +1,203 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+import com.stefanini.desafio.todolistapi.application.exception.ErrorMessages;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Leitor CSV (RFC 4180) caractere a caractere: campos entre aspas podem conter vírgulas, quebras de linha e
+ * aspas duplicadas. A primeira linha é o cabeçalho, que define a posição das colunas {@code title},
+ * {@code description} e {@code status}; apenas {@code title} é obrigatória.
+ */
+final class CsvTaskImportReader implements TaskImportReader {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final ErrorMessages errorMessages;
+    private final char[] buffer = new char[8192];
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private long line = 1;
+
+    private int columns = -1;
+    private int titleColumn = -1;
+    private int descriptionColumn = -1;
+    private int statusColumn = -1;
+
+    // Estado do registro corrente
+    private int recordChars;
+    private boolean tooLong;
+    private boolean malformed;
+
+    CsvTaskImportReader(Reader reader, ErrorMessages errorMessages) {
+        this.reader = reader;
+        this.errorMessages = errorMessages;
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        if (columns < 0) {
+            readHeader();
+        }
+        while (true) {
+            long start = line;
+            if (!readRecord()) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty() && !malformed) {
+                continue; // linha em branco
+            }
+            if (tooLong) {
+                return TaskImportRow.invalid(start, errorMessages.get("import.row.too.long", MAX_RECORD_CHARS));
+            }
+            if (malformed) {
+                return TaskImportRow.invalid(start, errorMessages.get("import.row.csv.malformed"));
+            }
+            if (fields.size() != columns) {
+                return TaskImportRow.invalid(start, errorMessages.get("import.row.columns", columns, fields.size()));
+            }
+            return new TaskImportRow(start, fields.get(titleColumn), column(descriptionColumn), column(statusColumn), null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        if (!readRecord() || tooLong || malformed) {
+            throw new IOException(errorMessages.get("import.csv.header.invalid"));
+        }
+        columns = fields.size();
+        for (int i = 0; i < columns; i++) {
+            String name = fields.get(i).trim().toLowerCase(Locale.ROOT);
+            if (i == 0 && !name.isEmpty() && name.charAt(0) == BOM) {
+                name = name.substring(1);
+            }
+            switch (name) {
+                case "title" -> titleColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "status" -> statusColumn = i;
+                default -> { }
+            }
+        }
+        if (titleColumn < 0) {
+            throw new IOException(errorMessages.get("import.csv.header.invalid"));
+        }
+    }
+
+    private String column(int index) {
+        if (index < 0) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Lê o próximo registro para {@link #fields}.
+     * @return {@code false} no fim do arquivo.
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        recordChars = 0;
+        tooLong = false;
+        malformed = false;
+        boolean quoted = false;
+        boolean fieldStarted = false;
+
+        int c = read();
+        if (c < 0) {
+            return false;
+        }
+        while (true) {
+            if (c < 0) {
+                malformed |= quoted;
+                endField();
+                return true;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    append((char) c);
+                }
+            } else if (c == '"') {
+                if (fieldStarted) {
+                    malformed = true;
+                } else {
+                    quoted = true;
+                }
+                fieldStarted = true;
+            } else if (c == ',') {
+                endField();
+                fieldStarted = false;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                line++;
+                endField();
+                return true;
+            } else {
+                fieldStarted = true;
+                append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private void append(char c) {
+        if (++recordChars > MAX_RECORD_CHARS) {
+            tooLong = true;
+        } else {
+            field.append(c);
+        }
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+import com.stefanini.desafio.todolistapi.domain.service.StacklessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+@Getter
+public class InvalidImportFileException extends StacklessException {
+
+    /** A chave da mensagem no messages.properties. */
+    private final String messageKey;
+
+    public InvalidImportFileException(String messageKey) {
+        this.messageKey = messageKey;
+    }
+}
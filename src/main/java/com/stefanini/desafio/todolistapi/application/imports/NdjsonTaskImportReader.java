@@ -0,0 +1,102 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stefanini.desafio.todolistapi.application.exception.ErrorMessages;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Leitor NDJSON: um objeto JSON por linha, com as propriedades {@code title}, {@code description} e {@code status}.
+ * Cada linha é lida como árvore, sem mapeamento por reflexão; propriedades desconhecidas são ignoradas.
+ */
+final class NdjsonTaskImportReader implements TaskImportReader {
+
+    private final Reader reader;
+    private final ObjectMapper objectMapper;
+    private final ErrorMessages errorMessages;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder record = new StringBuilder();
+    private int position;
+    private int limit;
+    private long line;
+    private boolean tooLong;
+
+    NdjsonTaskImportReader(Reader reader, ObjectMapper objectMapper, ErrorMessages errorMessages) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.errorMessages = errorMessages;
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        while (readLine()) {
+            if (tooLong) {
+                return TaskImportRow.invalid(line, errorMessages.get("import.row.too.long", MAX_RECORD_CHARS));
+            }
+            if (record.toString().isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(record.toString());
+            } catch (JsonProcessingException e) {
+                node = null;
+            }
+            if (node == null || !node.isObject()) {
+                return TaskImportRow.invalid(line, errorMessages.get("import.row.json.invalid"));
+            }
+            return new TaskImportRow(line, text(node, "title"), text(node, "description"), text(node, "status"), null);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static String text(JsonNode node, String property) {
+        JsonNode value = node.get(property);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * Lê a próxima linha para {@link #record}, guardando no máximo {@link #MAX_RECORD_CHARS} caracteres.
+     * @return {@code false} no fim do arquivo.
+     */
+    private boolean readLine() throws IOException {
+        record.setLength(0);
+        tooLong = false;
+        boolean any = false;
+        while (true) {
+            if (position == limit) {
+                int read = reader.read(buffer);
+                if (read <= 0) {
+                    if (any) {
+                        line++;
+                    }
+                    return any;
+                }
+                position = 0;
+                limit = read;
+            }
+            char c = buffer[position++];
+            if (c == '\n') {
+                line++;
+                return true;
+            }
+            if (c == '\r' || (c == '\uFEFF' && line == 0 && !any)) {
+                continue;
+            }
+            any = true;
+            if (record.length() < MAX_RECORD_CHARS) {
+                record.append(c);
+            } else {
+                tooLong = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+import java.util.Locale;
+
+/**
+ * Formatos aceitos na importação em massa.
+ */
+public enum TaskImportFormat {
+
+    /** CSV (RFC 4180) com cabeçalho; colunas {@code title}, {@code description} e {@code status} (opcional). */
+    CSV,
+    /** Um objeto JSON por linha, com as mesmas propriedades. */
+    NDJSON;
+
+    /**
+     * Identifica o formato pela extensão do arquivo ou, na falta dela, pelo Content-Type do upload.
+     * @param fileName O nome original do arquivo (pode ser nulo).
+     * @param contentType O Content-Type da parte do upload (pode ser nulo).
+     * @return O formato, ou nulo se não for reconhecido.
+     */
+    public static TaskImportFormat detect(String fileName, String contentType) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+        if (type.startsWith("text/csv")) {
+            return CSV;
+        }
+        if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+            return NDJSON;
+        }
+        return null;
+    }
+}
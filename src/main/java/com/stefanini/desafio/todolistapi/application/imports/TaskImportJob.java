@@ -0,0 +1,64 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado de uma importação em massa. Os contadores são atualizados pela thread da importação e lidos
+ * a qualquer momento pelo endpoint de acompanhamento.
+ */
+@Getter
+public class TaskImportJob {
+
+    private final UUID id;
+    private final String fileName;
+    private final TaskImportFormat format;
+    private final LocalDateTime createdAt;
+    private final Path upload;
+    private final Path errorReport;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile TaskImportStatus status = TaskImportStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failure;
+
+    public TaskImportJob(UUID id, String fileName, TaskImportFormat format, Path upload, Path errorReport) {
+        this.id = id;
+        this.fileName = fileName;
+        this.format = format;
+        this.createdAt = LocalDateTime.now();
+        this.upload = upload;
+        this.errorReport = errorReport;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        status = TaskImportStatus.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = TaskImportStatus.COMPLETED;
+    }
+
+    void fail(String reason) {
+        failure = reason;
+        finishedAt = LocalDateTime.now();
+        status = TaskImportStatus.FAILED;
+    }
+
+    /**
+     * @return {@code true} depois que a importação terminou, com sucesso ou não.
+     */
+    public boolean isFinished() {
+        TaskImportStatus current = status;
+        return current == TaskImportStatus.COMPLETED || current == TaskImportStatus.FAILED;
+    }
+}
@@ -0,0 +1,19 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+import com.stefanini.desafio.todolistapi.domain.service.StacklessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.UUID;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+@Getter
+public class TaskImportNotFoundException extends StacklessException {
+
+    private final UUID jobId;
+
+    public TaskImportNotFoundException(UUID jobId) {
+        this.jobId = jobId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+import com.stefanini.desafio.todolistapi.domain.service.StacklessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Lançada quando a fila de importações está cheia e um novo upload é recusado (HTTP 503).
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+@Getter
+public class TaskImportQueueFullException extends StacklessException {
+
+    private final int queueCapacity;
+    private final long retryAfterSeconds;
+
+    public TaskImportQueueFullException(int queueCapacity, long retryAfterSeconds) {
+        this.queueCapacity = queueCapacity;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,21 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Leitura incremental de um arquivo de importação, um registro por vez. Nenhuma implementação guarda mais
+ * do que o registro corrente, então a memória usada não depende do tamanho do arquivo.
+ */
+interface TaskImportReader extends Closeable {
+
+    /** Tamanho máximo de um registro; o excedente é descartado e o registro rejeitado. */
+    int MAX_RECORD_CHARS = 8192;
+
+    /**
+     * Lê o próximo registro.
+     * @return O registro, ou nulo no fim do arquivo.
+     * @throws IOException se o arquivo não puder ser lido ou o formato estiver irrecuperável (ex: cabeçalho inválido).
+     */
+    TaskImportRow next() throws IOException;
+}
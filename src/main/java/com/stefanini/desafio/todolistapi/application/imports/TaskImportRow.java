@@ -0,0 +1,16 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+/**
+ * Registro lido do arquivo de importação, ainda sem validação.
+ * @param line A linha do arquivo em que o registro começa (a partir de 1).
+ * @param title O título lido.
+ * @param description A descrição lida.
+ * @param status O status informado, em texto (nulo quando ausente).
+ * @param error O erro de leitura do registro, ou nulo se ele pôde ser lido.
+ */
+record TaskImportRow(long line, String title, String description, String status, String error) {
+
+    static TaskImportRow invalid(long line, String error) {
+        return new TaskImportRow(line, null, null, null, error);
+    }
+}
@@ -0,0 +1,409 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stefanini.desafio.todolistapi.application.dto.TaskRequest;
+import com.stefanini.desafio.todolistapi.application.exception.ErrorMessages;
+import com.stefanini.desafio.todolistapi.domain.event.TasksImportedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.domain.service.TaskRanking;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.WorkloadContext;
+import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardContext;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Importação em massa de tarefas a partir de arquivos CSV ou NDJSON, executada em segundo plano.
+ * <p>
+ * O upload é gravado em disco e lido em fluxo, em lotes de {@code chunk-size} registros. A validação de cada lote
+ * (as mesmas regras do {@link TaskRequest}) roda em um pool limitado, com no máximo duas vezes o número de threads
+ * em lotes pendentes; a gravação segue a ordem do arquivo, com um lote JDBC e um commit por lote e shard.
+ * A memória usada depende apenas do tamanho do lote, não do arquivo. Os registros rejeitados vão para um
+ * relatório CSV ({@code linha,erro}) que pode ser baixado durante ou após a importação.
+ * <p>
+ * No máximo {@code concurrent-jobs} importações rodam ao mesmo tempo, e outras {@code queue-capacity} esperam na
+ * fila; com a fila cheia o upload é recusado ({@link TaskImportQueueFullException}) em vez de acumular arquivos em
+ * disco e registros em memória.
+ * <p>
+ * Os lotes confirmados permanecem mesmo que a importação falhe depois. O registro das importações fica em memória,
+ * na instância que recebeu o upload, e é descartado após {@code retention}.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+    private static final String ERROR_REPORT_HEADER = "linha,erro\n";
+    private static final String UPLOAD_SUFFIX = ".upload";
+    private static final String ERROR_REPORT_SUFFIX = "-errors.csv";
+    private static final String STATUS_VALUES = Arrays.stream(TaskStatus.values())
+            .map(TaskStatus::name)
+            .collect(Collectors.joining(", "));
+    /** Sugestão de espera ao cliente com a fila cheia: uma importação costuma levar minutos. */
+    private static final long QUEUE_FULL_RETRY_AFTER_SECONDS = 60;
+
+    private final TaskStore taskStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Shards shards;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ErrorMessages errorMessages;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskRanking taskRanking;
+    private final Clock clock;
+    private final Path directory;
+    private final int chunkSize;
+    private final int validationWindow;
+    private final Duration retention;
+    private final int queueCapacity;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService validationExecutor;
+    private final Map<UUID, TaskImportJob> jobs = new ConcurrentHashMap<>();
+
+    /** Resultado da validação de um lote: as tarefas prontas para gravar e os registros rejeitados. */
+    record ValidatedChunk(List<Task> valid, List<TaskImportRow> rejected) {
+    }
+
+    public TaskImportService(
+            TaskStore taskStore,
+            TransactionTemplate transactionTemplate,
+            Shards shards,
+            TaskMapper taskMapper,
+            Validator validator,
+            ObjectMapper objectMapper,
+            ErrorMessages errorMessages,
+            ApplicationEventPublisher eventPublisher,
+            TaskRanking taskRanking,
+            Clock clock,
+            @Value("${api.tasks.import.directory:${java.io.tmpdir}/task-imports}") String directory,
+            @Value("${api.tasks.import.chunk-size:1000}") int chunkSize,
+            @Value("${api.tasks.import.validation-threads:4}") int validationThreads,
+            @Value("${api.tasks.import.concurrent-jobs:2}") int concurrentJobs,
+            @Value("${api.tasks.import.queue-capacity:8}") int queueCapacity,
+            @Value("${api.tasks.import.retention:24h}") Duration retention) throws IOException {
+        this.taskStore = taskStore;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = shards;
+        this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.errorMessages = errorMessages;
+        this.eventPublisher = eventPublisher;
+        this.taskRanking = taskRanking;
+        this.clock = clock;
+        this.directory = Files.createDirectories(Path.of(directory));
+        this.chunkSize = chunkSize;
+        this.validationWindow = validationThreads * 2;
+        this.retention = retention;
+        this.queueCapacity = queueCapacity;
+        this.jobExecutor = new ThreadPoolExecutor(concurrentJobs, concurrentJobs, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("task-import-", 0).daemon().factory());
+        this.validationExecutor = Executors.newFixedThreadPool(validationThreads,
+                Thread.ofPlatform().name("task-import-validate-", 0).daemon().factory());
+    }
+
+    /**
+     * Grava o arquivo enviado em disco e agenda a importação.
+     * @param file O arquivo recebido no upload.
+     * @param format O formato informado pelo cliente, ou nulo para identificá-lo pelo nome e Content-Type.
+     * @return A importação criada, ainda na fila.
+     * @throws InvalidImportFileException se o arquivo estiver vazio ou o formato não for reconhecido.
+     * @throws TaskImportQueueFullException se a fila de importações estiver cheia.
+     */
+    public TaskImportJob submit(MultipartFile file, TaskImportFormat format) {
+        if (file.isEmpty()) {
+            throw new InvalidImportFileException("import.file.empty");
+        }
+        TaskImportFormat resolved = format != null ? format : TaskImportFormat.detect(file.getOriginalFilename(), file.getContentType());
+        if (resolved == null) {
+            throw new InvalidImportFileException("import.file.format.unsupported");
+        }
+
+        UUID id = UUID.randomUUID();
+        TaskImportJob job = new TaskImportJob(id, file.getOriginalFilename(), resolved,
+                directory.resolve(id + UPLOAD_SUFFIX), directory.resolve(id + ERROR_REPORT_SUFFIX));
+        try {
+            // Com file-size-threshold=0 o upload já está em disco e a transferência é apenas um rename
+            file.transferTo(job.getUpload());
+            Files.writeString(job.getErrorReport(), ERROR_REPORT_HEADER, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o arquivo de importação", e);
+        }
+        jobs.put(id, job);
+        try {
+            // O executor já limita as importações simultâneas; aqui só se escolhe o pool de conexões do lote
+            jobExecutor.execute(() -> WorkloadContext.callAs(Workload.BULK, () -> {
+                run(job);
+                return null;
+            }));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            deleteQuietly(job.getUpload());
+            deleteQuietly(job.getErrorReport());
+            throw new TaskImportQueueFullException(queueCapacity, QUEUE_FULL_RETRY_AFTER_SECONDS);
+        }
+        return job;
+    }
+
+    /**
+     * Busca uma importação pelo ID.
+     * @param id O ID da importação.
+     * @return A importação, com o progresso atual.
+     * @throws TaskImportNotFoundException se a importação não existir (ou já tiver sido descartada).
+     */
+    public TaskImportJob findJob(UUID id) {
+        TaskImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new TaskImportNotFoundException(id);
+        }
+        return job;
+    }
+
+    /**
+     * Executa a importação: lê o arquivo em lotes, valida em paralelo e grava na ordem do arquivo.
+     */
+    void run(TaskImportJob job) {
+        job.start();
+        Deque<Future<ValidatedChunk>> pending = new ArrayDeque<>();
+        try (TaskImportReader reader = open(job);
+             BufferedWriter errors = Files.newBufferedWriter(job.getErrorReport(), StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            List<TaskImportRow> chunk = new ArrayList<>(chunkSize);
+            for (TaskImportRow row = reader.next(); row != null; row = reader.next()) {
+                job.getRowsRead().incrementAndGet();
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    pending.add(submitValidation(chunk));
+                    chunk = new ArrayList<>(chunkSize);
+                    if (pending.size() >= validationWindow) {
+                        write(job, await(pending.poll()), errors);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                pending.add(submitValidation(chunk));
+            }
+            while (!pending.isEmpty()) {
+                write(job, await(pending.poll()), errors);
+            }
+            job.complete();
+            log.info("Importação {} concluída: {} tarefas importadas e {} registros rejeitados",
+                    job.getId(), job.getImported().get(), job.getRejected().get());
+        } catch (IOException e) {
+            job.fail(e.getMessage());
+            log.warn("Importação {} interrompida após {} tarefas importadas: {}", job.getId(), job.getImported().get(), e.getMessage());
+        } catch (RuntimeException e) {
+            job.fail(errorMessages.get("import.failed"));
+            log.error("Importação {} interrompida após {} tarefas importadas", job.getId(), job.getImported().get(), e);
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+            deleteQuietly(job.getUpload());
+        }
+    }
+
+    /**
+     * Descarta as importações encerradas há mais de {@code retention}, com seus relatórios de erro,
+     * e os arquivos que sobraram de execuções anteriores da aplicação.
+     */
+    @Scheduled(fixedDelayString = "${api.tasks.import.purge-interval-ms:3600000}")
+    public void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+        jobs.values().removeIf(job -> {
+            if (job.isFinished() && job.getFinishedAt().isBefore(cutoff)) {
+                deleteQuietly(job.getErrorReport());
+                return true;
+            }
+            return false;
+        });
+
+        Instant orphanCutoff = clock.instant().minus(retention);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> {
+                        UUID id = jobIdOf(file);
+                        return id != null && !jobs.containsKey(id);
+                    })
+                    .filter(file -> lastModified(file).isBefore(orphanCutoff))
+                    .forEach(TaskImportService::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("Falha ao limpar o diretório de importações {}", directory, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+        validationExecutor.shutdownNow();
+    }
+
+    private TaskImportReader open(TaskImportJob job) throws IOException {
+        InputStreamReader input = new InputStreamReader(Files.newInputStream(job.getUpload()), StandardCharsets.UTF_8);
+        return job.getFormat() == TaskImportFormat.CSV
+                ? new CsvTaskImportReader(input, errorMessages)
+                : new NdjsonTaskImportReader(input, objectMapper, errorMessages);
+    }
+
+    private Future<ValidatedChunk> submitValidation(List<TaskImportRow> chunk) {
+        return validationExecutor.submit(() -> validate(chunk));
+    }
+
+    /**
+     * Aplica ao lote as regras de validação da criação de tarefas. As tarefas válidas recebem ID e datas aqui,
+     * já que o ID define o shard em que serão gravadas.
+     */
+    ValidatedChunk validate(List<TaskImportRow> chunk) {
+        List<Task> valid = new ArrayList<>(chunk.size());
+        List<TaskImportRow> rejected = new ArrayList<>();
+        for (TaskImportRow row : chunk) {
+            if (row.error() != null) {
+                rejected.add(row);
+                continue;
+            }
+            TaskStatus status = TaskStatus.PENDENTE;
+            if (row.status() != null) {
+                try {
+                    status = TaskStatus.valueOf(row.status().trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    rejected.add(TaskImportRow.invalid(row.line(), errorMessages.get("import.row.status.invalid", row.status(), STATUS_VALUES)));
+                    continue;
+                }
+            }
+            Set<ConstraintViolation<TaskRequest>> violations = validator.validate(new TaskRequest(row.title(), row.description()));
+            if (!violations.isEmpty()) {
+                String error = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                rejected.add(TaskImportRow.invalid(row.line(), error));
+                continue;
+            }
+            LocalDateTime now = LocalDateTime.now(clock);
+            valid.add(new Task(UUID.randomUUID(), row.title(), row.description(), now, now, status));
+        }
+        return new ValidatedChunk(valid, rejected);
+    }
+
+    /**
+     * Grava as tarefas válidas do lote, com um lote JDBC e um commit por shard, e os rejeitados no relatório.
+     * As tarefas entram no fim da ordem definida pelo usuário, na ordem do arquivo, com as chaves geradas de uma vez
+     * para o lote. O evento de cada shard sai logo após o seu commit, para que o filtro de IDs nunca recuse uma
+     * tarefa já gravada.
+     */
+    private void write(TaskImportJob job, ValidatedChunk chunk, BufferedWriter errors) throws IOException {
+        List<Task> valid = chunk.valid();
+        List<String> ranks = valid.isEmpty() ? List.of() : taskRanking.next(valid.size());
+        Map<Integer, List<Task>> byShard = new HashMap<>();
+        Map<Integer, List<TaskEntity>> entitiesByShard = new HashMap<>();
+        for (int i = 0; i < valid.size(); i++) {
+            Task task = valid.get(i);
+            TaskEntity entity = taskMapper.toEntity(task);
+            entity.setRankKey(ranks.get(i));
+            int shard = shards.shardOf(task.id());
+            byShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(task);
+            entitiesByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(entity);
+        }
+        for (Map.Entry<Integer, List<Task>> shard : byShard.entrySet()) {
+            List<TaskEntity> entities = entitiesByShard.get(shard.getKey());
+            ShardContext.callOn(shard.getKey(), () -> transactionTemplate.execute(status -> taskStore.insertAll(entities)));
+            job.getImported().addAndGet(entities.size());
+            eventPublisher.publishEvent(new TasksImportedEvent(shard.getValue()));
+        }
+
+        for (TaskImportRow row : chunk.rejected()) {
+            errors.write(Long.toString(row.line()));
+            errors.write(",\"");
+            errors.write(row.error().replace("\"", "\"\""));
+            errors.write("\"\n");
+        }
+        job.getRejected().addAndGet(chunk.rejected().size());
+        errors.flush();
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importação interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Falha na validação do lote", e.getCause());
+        }
+    }
+
+    private static UUID jobIdOf(Path file) {
+        String name = file.getFileName().toString();
+        int end = name.endsWith(UPLOAD_SUFFIX) ? name.length() - UPLOAD_SUFFIX.length()
+                : name.endsWith(ERROR_REPORT_SUFFIX) ? name.length() - ERROR_REPORT_SUFFIX.length() : -1;
+        try {
+            return end > 0 ? UUID.fromString(name.substring(0, end)) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Instant lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (IOException e) {
+            return Instant.MAX;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Falha ao remover o arquivo de importação {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+public enum TaskImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,13 @@
+package com.stefanini.desafio.todolistapi.application.stream;
+
+/**
+ * Política aplicada quando o buffer de um assinante lento do stream SSE está cheio.
+ */
+public enum StreamOverflowPolicy {
+    /** Descarta o evento mais antigo do buffer para abrir espaço ao novo. */
+    DROP_OLDEST,
+    /** Descarta o evento recém-chegado, preservando o que já está no buffer. */
+    DROP_NEWEST,
+    /** Encerra a conexão do assinante; o cliente reconecta e retoma pelo {@code Last-Event-ID}. */
+    DISCONNECT
+}
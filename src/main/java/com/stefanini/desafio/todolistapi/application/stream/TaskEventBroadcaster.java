@@ -0,0 +1,193 @@
+package com.stefanini.desafio.todolistapi.application.stream;
+
+import com.stefanini.desafio.todolistapi.application.dto.TaskEventResponse;
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.event.TaskDeadlinesFiredEvent;
+import com.stefanini.desafio.todolistapi.domain.model.DeadlineType;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Distribui as alterações de tarefas para os clientes conectados via Server-Sent Events.
+ * Mantém um histórico circular dos últimos eventos para permitir a retomada pelo {@code Last-Event-ID}.
+ */
+@Component
+public class TaskEventBroadcaster {
+
+    private final TaskMapper taskMapper;
+    private final int bufferSize;
+    private final int historySize;
+    private final StreamOverflowPolicy overflowPolicy;
+    private final long timeoutMs;
+    private final Executor dispatcher;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<TaskStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Protegido pelo próprio monitor: sequência, histórico e fan-out precisam ser atômicos entre si.
+    private final Deque<TaskStreamEvent> history = new ArrayDeque<>();
+    private long sequence;
+
+    @Autowired
+    public TaskEventBroadcaster(
+            TaskMapper taskMapper,
+            @Value("${api.tasks.stream.buffer-size:256}") int bufferSize,
+            @Value("${api.tasks.stream.history-size:1024}") int historySize,
+            @Value("${api.tasks.stream.overflow-policy:DROP_OLDEST}") StreamOverflowPolicy overflowPolicy,
+            @Value("${api.tasks.stream.timeout-ms:1800000}") long timeoutMs) {
+        this(taskMapper, bufferSize, historySize, overflowPolicy, timeoutMs, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    TaskEventBroadcaster(TaskMapper taskMapper, int bufferSize, int historySize,
+                         StreamOverflowPolicy overflowPolicy, long timeoutMs, Executor dispatcher) {
+        this.taskMapper = taskMapper;
+        this.bufferSize = bufferSize;
+        this.historySize = historySize;
+        this.overflowPolicy = overflowPolicy;
+        this.timeoutMs = timeoutMs;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Registra um novo assinante do stream.
+     * Se {@code lastEventId} for informado, reenvia os eventos posteriores a ele que ainda estão no histórico;
+     * se o histórico não cobrir o intervalo, ou se os eventos perdidos não couberem no buffer do assinante, envia um
+     * evento {@code reset} para o cliente recarregar a lista (uma reposição parcial perderia eventos ou, com
+     * {@code DISCONNECT}, derrubaria o cliente a cada tentativa).
+     * @param lastEventId O último ID de evento recebido pelo cliente (opcional).
+     * @return O emitter SSE associado à conexão.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(timeoutMs), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(emitter, bufferSize, overflowPolicy, dispatcher, subscribers::remove);
+
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(subscriber::detach);
+        emitter.onError(ex -> subscriber.detach());
+
+        synchronized (history) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    /**
+     * Publica a alteração para todos os assinantes após a confirmação da transação,
+     * evitando notificar mudanças que sofreram rollback.
+     * @param event O evento de domínio publicado pelo serviço.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskEventResponse payload = new TaskEventResponse(
+                event.type().name(),
+                event.taskId(),
+                event.task() != null ? taskMapper.toResponse(event.task()) : null,
+                event.occurredAt()
+        );
+        broadcast("task-" + event.type().name().toLowerCase(), payload);
+    }
+
+    /**
+     * Publica um evento {@code task-reminder} por tarefa lembrada. Os prazos vencidos já chegam aos clientes
+     * como {@code task-updated}, pois marcar a tarefa como atrasada a altera.
+     * @param event O lote de prazos disparados pelo agendador.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeadlinesFired(TaskDeadlinesFiredEvent event) {
+        if (event.type() != DeadlineType.REMINDER) {
+            return;
+        }
+        for (Task task : event.tasks()) {
+            broadcast("task-reminder", new TaskEventResponse(
+                    event.type().name(), task.id(), taskMapper.toResponse(task), event.firedAt()));
+        }
+    }
+
+    private void broadcast(String name, TaskEventResponse payload) {
+        synchronized (history) {
+            long next = ++sequence;
+            TaskStreamEvent streamEvent = new TaskStreamEvent(epoch + "-" + next, next, name, payload);
+            history.addLast(streamEvent);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            for (TaskStreamSubscriber subscriber : subscribers) {
+                subscriber.offer(streamEvent);
+            }
+        }
+    }
+
+    /**
+     * Envia heartbeats periódicos para manter as conexões abertas através de proxies e balanceadores.
+     */
+    @Scheduled(fixedDelayString = "${api.tasks.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (TaskStreamSubscriber subscriber : subscribers) {
+            subscriber.heartbeat();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(TaskStreamSubscriber::close);
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void replay(TaskStreamSubscriber subscriber, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        TaskStreamEvent oldest = history.peekFirst();
+        long oldestAvailable = oldest != null ? oldest.sequence() : sequence + 1;
+
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence + 1 < oldestAvailable
+                || sequence - lastSequence > bufferSize) {
+            subscriber.offer(new TaskStreamEvent(epoch + "-" + sequence, sequence, "reset", sequence));
+            return;
+        }
+        for (TaskStreamEvent event : history) {
+            if (event.sequence() > lastSequence) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    /**
+     * Extrai a sequência de um ID de evento; IDs de outra época (servidor reiniciado) ou inválidos retornam -1.
+     */
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator <= 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.stefanini.desafio.todolistapi.application.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Evento já serializável enfileirado para os assinantes do stream.
+ * O {@code id} segue o formato {@code <época>-<sequência>}, permitindo detectar reinícios do servidor na retomada.
+ */
+record TaskStreamEvent(String id, long sequence, String name, Object data) {
+
+    static final TaskStreamEvent HEARTBEAT = new TaskStreamEvent(null, -1, null, null);
+
+    boolean isHeartbeat() {
+        return this == HEARTBEAT;
+    }
+
+    SseEmitter.SseEventBuilder toSse() {
+        if (isHeartbeat()) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (id != null) {
+            builder.id(id);
+        }
+        return builder.name(name).data(data, MediaType.APPLICATION_JSON);
+    }
+}
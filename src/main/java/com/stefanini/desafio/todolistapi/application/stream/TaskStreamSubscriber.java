@@ -0,0 +1,139 @@
+package com.stefanini.desafio.todolistapi.application.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Assinante do stream SSE com buffer próprio e limitado.
+ * A publicação apenas enfileira o evento; o envio pela conexão ocorre no {@code dispatcher},
+ * de modo que um cliente lento nunca bloqueia quem publica nem os demais assinantes.
+ */
+class TaskStreamSubscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<TaskStreamEvent> buffer;
+    private final StreamOverflowPolicy overflowPolicy;
+    private final Executor dispatcher;
+    private final Consumer<TaskStreamSubscriber> onClose;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+
+    TaskStreamSubscriber(SseEmitter emitter, int bufferSize, StreamOverflowPolicy overflowPolicy,
+                         Executor dispatcher, Consumer<TaskStreamSubscriber> onClose) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.overflowPolicy = overflowPolicy;
+        this.dispatcher = dispatcher;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Enfileira um evento para envio, aplicando a política de overflow caso o buffer esteja cheio.
+     * @param event O evento a ser enviado.
+     */
+    void offer(TaskStreamEvent event) {
+        if (closed.get()) {
+            return;
+        }
+        if (!buffer.offer(event)) {
+            switch (overflowPolicy) {
+                case DROP_OLDEST -> {
+                    buffer.poll();
+                    dropped.incrementAndGet();
+                    if (!buffer.offer(event)) {
+                        dropped.incrementAndGet();
+                    }
+                }
+                case DROP_NEWEST -> dropped.incrementAndGet();
+                case DISCONNECT -> {
+                    close();
+                    return;
+                }
+            }
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Envia um heartbeat apenas se não houver eventos pendentes; com tráfego a conexão já está ativa.
+     */
+    void heartbeat() {
+        if (buffer.isEmpty()) {
+            offer(TaskStreamEvent.HEARTBEAT);
+        }
+    }
+
+    long droppedCount() {
+        return dropped.get();
+    }
+
+    int pending() {
+        return buffer.size();
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Encerra a conexão com o cliente e descarta os eventos pendentes.
+     */
+    void close() {
+        if (detach()) {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // A requisição assíncrona já havia sido finalizada pelo container.
+            }
+        }
+    }
+
+    /**
+     * Marca o assinante como encerrado sem tocar na conexão (usado nos callbacks do próprio emitter).
+     * @return {@code true} se esta chamada efetivamente encerrou o assinante.
+     */
+    boolean detach() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        buffer.clear();
+        onClose.accept(this);
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            TaskStreamEvent event;
+            while (!closed.get() && (event = buffer.poll()) != null) {
+                long lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    emitter.send(SseEmitter.event().name("overflow").data(lost));
+                }
+                emitter.send(event.toSse());
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Cliente desconectado: libera o assinante para não acumular eventos.
+            close();
+        } finally {
+            draining.set(false);
+        }
+        if (!closed.get() && !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.stefanini.desafio.todolistapi.domain.event;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
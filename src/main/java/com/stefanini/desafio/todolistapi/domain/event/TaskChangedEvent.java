@@ -0,0 +1,39 @@
+package com.stefanini.desafio.todolistapi.domain.event;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de domínio publicado pelo {@code TaskService} a cada alteração de uma tarefa.
+ * Para exclusões, {@code task} é nulo e apenas o {@code taskId} é informado.
+ * {@code previousStatus} é o status antes da alteração (nulo na criação), usado pelos rollups de indicadores
+ * para contar as transições sem reler a tarefa. {@code occurredAt} vem do relógio de quem publica (o mesmo das datas
+ * gravadas na tarefa).
+ */
+public record TaskChangedEvent(
+        TaskChangeType type,
+        UUID taskId,
+        Task task,
+        TaskStatus previousStatus,
+        LocalDateTime occurredAt
+) {
+    public static TaskChangedEvent created(Task task, LocalDateTime occurredAt) {
+        return new TaskChangedEvent(TaskChangeType.CREATED, task.id(), task, null, occurredAt);
+    }
+
+    /** Alteração que manteve o status da tarefa. */
+    public static TaskChangedEvent updated(Task task, LocalDateTime occurredAt) {
+        return updated(task, task.status(), occurredAt);
+    }
+
+    public static TaskChangedEvent updated(Task task, TaskStatus previousStatus, LocalDateTime occurredAt) {
+        return new TaskChangedEvent(TaskChangeType.UPDATED, task.id(), task, previousStatus, occurredAt);
+    }
+
+    public static TaskChangedEvent deleted(UUID taskId, TaskStatus previousStatus, LocalDateTime occurredAt) {
+        return new TaskChangedEvent(TaskChangeType.DELETED, taskId, null, previousStatus, occurredAt);
+    }
+}
@@ -0,0 +1,18 @@
+package com.stefanini.desafio.todolistapi.domain.event;
+
+import com.stefanini.desafio.todolistapi.domain.model.DeadlineType;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Evento publicado pelo {@code TaskDeadlineScheduler} após o commit de cada lote de prazos disparados.
+ * Cada tarefa aparece uma única vez por prazo, mesmo após reinícios ou com várias instâncias da aplicação.
+ */
+public record TaskDeadlinesFiredEvent(
+        DeadlineType type,
+        List<Task> tasks,
+        LocalDateTime firedAt
+) {
+}
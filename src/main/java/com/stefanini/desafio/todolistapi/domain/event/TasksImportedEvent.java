@@ -0,0 +1,12 @@
+package com.stefanini.desafio.todolistapi.domain.event;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+
+import java.util.List;
+
+/**
+ * Evento publicado pela importação em massa após o commit de cada lote de tarefas criadas.
+ * Substitui um {@link TaskChangedEvent} por tarefa, que inundaria o stream SSE durante importações grandes.
+ */
+public record TasksImportedEvent(List<Task> tasks) {
+}
@@ -0,0 +1,11 @@
+package com.stefanini.desafio.todolistapi.domain.model;
+
+/**
+ * Tipos de prazo disparados pelo {@code TaskDeadlineScheduler}.
+ */
+public enum DeadlineType {
+    /** Horário de lembrete da tarefa ({@code reminderDate}). */
+    REMINDER,
+    /** Prazo da tarefa ({@code dueDate}), após o qual ela é marcada como atrasada. */
+    OVERDUE
+}
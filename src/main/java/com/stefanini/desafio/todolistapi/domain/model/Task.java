@@ -9,6 +9,23 @@ public record Task(
         String description,
         LocalDateTime creationDate,
         LocalDateTime updateDate,
-        TaskStatus status
+        TaskStatus status,
+        LocalDateTime dueDate,
+        LocalDateTime reminderDate,
+        LocalDateTime overdueDate
 ) {
+
+    public Task(UUID id, String title, String description, LocalDateTime creationDate,
+                LocalDateTime updateDate, TaskStatus status) {
+        this(id, title, description, creationDate, updateDate, status, null, null, null);
+    }
+
+    /**
+     * Retorna uma cópia da tarefa com o ID informado.
+     * @param id O UUID da tarefa.
+     * @return A tarefa com o novo ID e os demais campos inalterados.
+     */
+    public Task withId(UUID id) {
+        return new Task(id, title, description, creationDate, updateDate, status, dueDate, reminderDate, overdueDate);
+    }
 }
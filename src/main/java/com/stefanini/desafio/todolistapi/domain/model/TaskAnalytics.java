@@ -0,0 +1,19 @@
+package com.stefanini.desafio.todolistapi.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Indicadores de tarefas de um período, lidos dos rollups diários.
+ * @param from O primeiro dia do período.
+ * @param to O último dia do período.
+ * @param days Os indicadores de cada dia do período, inclusive os dias sem alterações.
+ * @param completion Os percentis do tempo de conclusão no período.
+ */
+public record TaskAnalytics(
+        LocalDate from,
+        LocalDate to,
+        List<TaskDailyStats> days,
+        TaskCompletionStats completion
+) {
+}
@@ -0,0 +1,24 @@
+package com.stefanini.desafio.todolistapi.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Resultado de uma sincronização incremental: tarefas alteradas, tarefas excluídas e a nova marca d'água.
+ * @param tasks Tarefas criadas ou atualizadas após a marca d'água informada.
+ * @param deleted Tarefas excluídas após a marca d'água informada.
+ * @param watermark Marca d'água a ser enviada pelo cliente na próxima sincronização.
+ * @param hasMore Indica que há mais alterações (ou páginas do snapshot) e o cliente deve sincronizar novamente em seguida.
+ * @param fullResync Indica que o resultado é uma página do snapshot completo: o cliente substitui seus dados locais
+ * na primeira página e acrescenta as seguintes.
+ * @param snapshotCursor Cursor da próxima página do snapshot, nulo fora do snapshot ou na última página.
+ */
+public record TaskChanges(
+        List<Task> tasks,
+        List<TaskTombstone> deleted,
+        LocalDateTime watermark,
+        boolean hasMore,
+        boolean fullResync,
+        String snapshotCursor
+) {
+}
@@ -0,0 +1,16 @@
+package com.stefanini.desafio.todolistapi.domain.model;
+
+/**
+ * Percentis do tempo entre a criação e a conclusão das tarefas concluídas em um período, com erro relativo de até 1%.
+ * @param count As conclusões com tempo registrado.
+ * @param p50Seconds A mediana, em segundos.
+ * @param p90Seconds O percentil 90, em segundos.
+ * @param p99Seconds O percentil 99, em segundos.
+ */
+public record TaskCompletionStats(
+        long count,
+        long p50Seconds,
+        long p90Seconds,
+        long p99Seconds
+) {
+}
@@ -0,0 +1,19 @@
+package com.stefanini.desafio.todolistapi.domain.model;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Indicadores de um dia.
+ * @param day O dia.
+ * @param created As tarefas criadas no dia.
+ * @param completed As tarefas concluídas no dia.
+ * @param backlog A quantidade de tarefas em cada status ao fim do dia (ou agora, para o dia corrente).
+ */
+public record TaskDailyStats(
+        LocalDate day,
+        long created,
+        long completed,
+        Map<TaskStatus, Long> backlog
+) {
+}
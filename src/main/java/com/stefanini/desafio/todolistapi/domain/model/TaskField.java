@@ -0,0 +1,49 @@
+package com.stefanini.desafio.todolistapi.domain.model;
+
+import java.util.function.Function;
+
+/**
+ * Campos de uma tarefa que podem ser selecionados individualmente (sparse fieldsets, {@code ?fields=}).
+ * O nome da propriedade é o mesmo usado no JSON de resposta e na entidade JPA.
+ */
+public enum TaskField {
+    ID("id", Task::id),
+    TITLE("title", Task::title),
+    DESCRIPTION("description", Task::description),
+    CREATION_DATE("creationDate", Task::creationDate),
+    UPDATE_DATE("updateDate", Task::updateDate),
+    STATUS("status", Task::status),
+    DUE_DATE("dueDate", Task::dueDate),
+    REMINDER_DATE("reminderDate", Task::reminderDate),
+    OVERDUE_DATE("overdueDate", Task::overdueDate);
+
+    private final String property;
+    private final Function<Task, Object> accessor;
+
+    TaskField(String property, Function<Task, Object> accessor) {
+        this.property = property;
+        this.accessor = accessor;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public Object read(Task task) {
+        return accessor.apply(task);
+    }
+
+    /**
+     * Busca o campo pelo nome da propriedade.
+     * @param property O nome da propriedade (ex: "creationDate").
+     * @return O campo correspondente ou {@code null} se não existir.
+     */
+    public static TaskField fromProperty(String property) {
+        for (TaskField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.stefanini.desafio.todolistapi.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtro de contagem e busca das tarefas ativas. Campos nulos não restringem; as faixas de data são
+ * fechadas no início e abertas no fim ({@code [from, to)}).
+ */
+public record TaskFilter(
+        TaskStatus status,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime updatedFrom,
+        LocalDateTime updatedTo
+) {
+
+    /**
+     * Indica se a tarefa atende ao filtro.
+     * @param task A tarefa.
+     * @return {@code true} se o status e as datas estiverem dentro do filtro.
+     */
+    public boolean matches(Task task) {
+        return (status == null || task.status() == status)
+                && within(task.creationDate(), createdFrom, createdTo)
+                && within(task.updateDate(), updatedFrom, updatedTo);
+    }
+
+    private static boolean within(LocalDateTime value, LocalDateTime from, LocalDateTime to) {
+        if (from != null && (value == null || value.isBefore(from))) {
+            return false;
+        }
+        return to == null || value != null && value.isBefore(to);
+    }
+}
@@ -0,0 +1,38 @@
+package com.stefanini.desafio.todolistapi.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resultado de uma busca de várias tarefas pelos IDs.
+ * @param tasks As tarefas encontradas, na ordem em que os IDs foram pedidos (cada ID uma única vez).
+ * @param missing Os IDs pedidos que não correspondem a nenhuma tarefa, também na ordem do pedido.
+ */
+public record TaskLookup(
+        List<Task> tasks,
+        List<UUID> missing
+) {
+
+    /**
+     * Monta o resultado na ordem do pedido.
+     * @param requested Os IDs pedidos, sem repetições, na ordem do pedido.
+     * @param found As tarefas encontradas, pelo ID.
+     * @return As tarefas encontradas e os IDs sem tarefa.
+     */
+    public static TaskLookup of(Collection<UUID> requested, Map<UUID, Task> found) {
+        List<Task> tasks = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : requested) {
+            Task task = found.get(id);
+            if (task != null) {
+                tasks.add(task);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new TaskLookup(tasks, missing);
+    }
+}
@@ -0,0 +1,14 @@
+package com.stefanini.desafio.todolistapi.domain.model;
+
+import java.util.List;
+
+/**
+ * Página de tarefas ativas, em ordem de criação, na paginação por cursor.
+ * @param tasks As tarefas da página.
+ * @param nextCursor O cursor da próxima página, ou nulo quando esta é a última.
+ */
+public record TaskPage(
+        List<Task> tasks,
+        String nextCursor
+) {
+}
@@ -0,0 +1,13 @@
+package com.stefanini.desafio.todolistapi.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Marca de exclusão de uma tarefa, informada aos clientes na sincronização incremental.
+ */
+public record TaskTombstone(
+        UUID id,
+        LocalDateTime deletedDate
+) {
+}
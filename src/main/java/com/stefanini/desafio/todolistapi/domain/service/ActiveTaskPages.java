@@ -0,0 +1,70 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskPage;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardCursor;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Paginação por cursor das tarefas ativas em ordem de criação, compartilhada pela listagem paginada
+ * ({@link TaskService#findTaskPage}) e pelo snapshot da sincronização ({@link TaskSyncService}).
+ * Cada shard devolve sua próxima página pelo índice {@code (creation_date, id)} e as páginas são intercaladas
+ * em memória; o cursor seguinte guarda até onde cada shard foi consumido.
+ */
+final class ActiveTaskPages {
+
+    static final Comparator<Task> CREATION_ORDER =
+            Comparator.comparing(Task::creationDate).thenComparing(Task::id);
+
+    private ActiveTaskPages() {
+    }
+
+    /**
+     * Lê a página seguinte à posição do cursor, que é avançado até a última tarefa entregue de cada shard.
+     * @param shards Os shards a consultar.
+     * @param taskStore O repositório de tarefas.
+     * @param position A posição de cada shard (sem posição na primeira página).
+     * @param pageSize O tamanho da página, já limitado por quem chama.
+     * @return As tarefas da página e o cursor da próxima, nulo quando não houver mais tarefas.
+     */
+    static TaskPage next(Shards shards, TaskStore taskStore, ShardCursor position, int pageSize) {
+        // Uma linha a mais por shard indica se ainda há tarefas depois da página.
+        List<List<Task>> pages = shards.gatherEach(shard -> {
+            ShardCursor.Position after = position.position(shard);
+            return after == null
+                    ? taskStore.findActiveTaskPage(Limit.of(pageSize + 1))
+                    : taskStore.findActiveTaskPageAfter(after.creationDate(), after.id(), Limit.of(pageSize + 1));
+        });
+
+        int[] consumed = new int[pages.size()];
+        List<Task> tasks = new ArrayList<>(pageSize);
+        while (tasks.size() < pageSize) {
+            int next = -1;
+            for (int shard = 0; shard < pages.size(); shard++) {
+                List<Task> page = pages.get(shard);
+                if (consumed[shard] < page.size() && (next < 0
+                        || CREATION_ORDER.compare(page.get(consumed[shard]), pages.get(next).get(consumed[next])) < 0)) {
+                    next = shard;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            Task task = pages.get(next).get(consumed[next]++);
+            position.advance(next, new ShardCursor.Position(task.creationDate(), task.id()));
+            tasks.add(task);
+        }
+
+        boolean hasMore = false;
+        for (int shard = 0; shard < pages.size(); shard++) {
+            hasMore |= consumed[shard] < pages.get(shard).size();
+        }
+        return new TaskPage(tasks, hasMore ? position.encode() : null);
+    }
+}
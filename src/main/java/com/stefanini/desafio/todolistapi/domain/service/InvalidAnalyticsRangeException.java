@@ -0,0 +1,16 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+@Getter
+public class InvalidAnalyticsRangeException extends StacklessException {
+
+    private final long maxDays;
+
+    public InvalidAnalyticsRangeException(long maxDays) {
+        this.maxDays = maxDays;
+    }
+}
@@ -0,0 +1,16 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+@Getter
+public class InvalidTaskCursorException extends StacklessException {
+
+    private final String cursor;
+
+    public InvalidTaskCursorException(String cursor) {
+        this.cursor = cursor;
+    }
+}
@@ -0,0 +1,18 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+@Getter
+public class InvalidTaskFieldException extends StacklessException {
+
+    private final List<String> invalidFields;
+
+    public InvalidTaskFieldException(List<String> invalidFields) {
+        this.invalidFields = invalidFields;
+    }
+}
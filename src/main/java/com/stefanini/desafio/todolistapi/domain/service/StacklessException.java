@@ -0,0 +1,14 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+/**
+ * Base das exceções de fluxo esperado (404, 400, 429), que sempre são convertidas em resposta HTTP
+ * pelo {@code CustomExceptionHandler} e nunca chegam ao log com stack trace.
+ * Dispensa a captura da pilha e a lista de exceções suprimidas, que dominam o custo de {@code new}
+ * quando clientes inválidos ou scanners geram rajadas desses erros.
+ */
+public abstract class StacklessException extends RuntimeException {
+
+    protected StacklessException() {
+        super(null, null, false, false);
+    }
+}
@@ -0,0 +1,140 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskAnalytics;
+import com.stefanini.desafio.todolistapi.domain.model.TaskCompletionStats;
+import com.stefanini.desafio.todolistapi.domain.model.TaskDailyStats;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskDailyRollupEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskBacklogRollupStore;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskDailyRollupStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import com.stefanini.desafio.todolistapi.infrastructure.sketch.QuantileSketch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consulta dos indicadores de tarefas, lidos apenas dos rollups mantidos pelo {@link TaskRollupRecorder}: o custo
+ * depende da quantidade de dias do período, e não da quantidade de tarefas.
+ * <p>
+ * Cada shard guarda os rollups das próprias tarefas; os dias são somados entre os shards e os sketches de tempo de
+ * conclusão são combinados antes de calcular os percentis. Os totais por status só são gravados nos dias em que
+ * mudam, então cada dia sem linha herda o total do dia anterior.
+ */
+@Service
+public class TaskAnalyticsService {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final int DEFAULT_DAYS = 30;
+
+    private final TaskDailyRollupStore dailyStore;
+    private final TaskBacklogRollupStore backlogStore;
+    private final Shards shards;
+    private final int maxDays;
+
+    /** Rollups de um shard no período, com o último total de cada status antes do período. */
+    private record ShardRollups(List<TaskDailyRollupEntity> daily, List<TaskBacklogRollupEntity> backlog,
+                                long[] initialBacklog) {
+    }
+
+    public TaskAnalyticsService(
+            TaskDailyRollupStore dailyStore,
+            TaskBacklogRollupStore backlogStore,
+            Shards shards,
+            @Value("${api.tasks.analytics.max-days:366}") int maxDays) {
+        this.dailyStore = dailyStore;
+        this.backlogStore = backlogStore;
+        this.shards = shards;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * Retorna os indicadores de cada dia do período e os percentis do tempo de conclusão.
+     * @param from O primeiro dia; se nulo, 29 dias antes de {@code to}.
+     * @param to O último dia; se nulo, hoje.
+     * @return Os indicadores do período.
+     * @throws InvalidAnalyticsRangeException se {@code from} for posterior a {@code to} ou o período passar do limite.
+     */
+    public TaskAnalytics analytics(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        long length = ChronoUnit.DAYS.between(start, end) + 1;
+        if (length < 1 || length > maxDays) {
+            throw new InvalidAnalyticsRangeException(maxDays);
+        }
+        int days = (int) length;
+
+        long[] created = new long[days];
+        long[] completed = new long[days];
+        long[][] backlog = new long[STATUSES.length][days];
+        QuantileSketch completion = new QuantileSketch();
+        for (List<ShardRollups> part : shards.gatherEach(shard -> List.of(read(start, end)))) {
+            ShardRollups rollups = part.getFirst();
+            for (TaskDailyRollupEntity daily : rollups.daily()) {
+                int index = (int) ChronoUnit.DAYS.between(start, daily.getDay());
+                created[index] += daily.getCreated();
+                completed[index] += daily.getCompleted();
+                completion.merge(QuantileSketch.fromBytes(daily.getCompletionSketch()));
+            }
+            addCarriedForward(backlog, rollups, start);
+        }
+
+        List<TaskDailyStats> result = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            Map<TaskStatus, Long> totals = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : STATUSES) {
+                totals.put(status, backlog[status.ordinal()][i]);
+            }
+            result.add(new TaskDailyStats(start.plusDays(i), created[i], completed[i], totals));
+        }
+        return new TaskAnalytics(start, end, result, new TaskCompletionStats(completion.count(),
+                seconds(completion, 0.5), seconds(completion, 0.9), seconds(completion, 0.99)));
+    }
+
+    private ShardRollups read(LocalDate from, LocalDate to) {
+        long[] initial = new long[STATUSES.length];
+        for (TaskStatus status : STATUSES) {
+            List<TaskBacklogRollupEntity> latest = backlogStore.findLatestBefore(status, from, Limit.of(1));
+            initial[status.ordinal()] = latest.isEmpty() ? 0 : latest.getFirst().getTotal();
+        }
+        return new ShardRollups(dailyStore.findDailyBetween(from, to), backlogStore.findBacklogBetween(from, to), initial);
+    }
+
+    /**
+     * Soma os totais por status de um shard em cada dia, repetindo o último total conhecido nos dias sem linha.
+     */
+    private static void addCarriedForward(long[][] backlog, ShardRollups rollups, LocalDate start) {
+        int days = backlog[0].length;
+        long[][] changes = new long[STATUSES.length][];
+        for (TaskBacklogRollupEntity row : rollups.backlog()) {
+            int status = row.getKey().getStatus().ordinal();
+            if (changes[status] == null) {
+                changes[status] = new long[days];
+                Arrays.fill(changes[status], Long.MIN_VALUE);
+            }
+            changes[status][(int) ChronoUnit.DAYS.between(start, row.getKey().getDay())] = row.getTotal();
+        }
+        for (int status = 0; status < STATUSES.length; status++) {
+            long total = rollups.initialBacklog()[status];
+            for (int i = 0; i < days; i++) {
+                if (changes[status] != null && changes[status][i] != Long.MIN_VALUE) {
+                    total = changes[status][i];
+                }
+                backlog[status][i] += total;
+            }
+        }
+    }
+
+    private static long seconds(QuantileSketch sketch, double quantile) {
+        return Math.round(sketch.quantile(quantile));
+    }
+}
@@ -0,0 +1,134 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Bulkhead;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskArchiveStore;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Arquivamento em segundo plano (camada fria): move as tarefas concluídas há mais de {@code min-age}
+ * da tabela {@code tasks} para {@code tasks_archive}, mantendo a tabela ativa e seus índices pequenos.
+ * Cada lote roda em sua própria transação curta e há uma pausa entre os lotes, para não disputar
+ * locks e I/O com o tráfego da API. Com o particionamento ligado, cada shard é arquivado na sua vez,
+ * com o mesmo limite de lotes por rodada.
+ */
+@Component
+@Bulkhead(Workload.BULK)
+public class TaskArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiveJob.class);
+
+    private final TaskStore taskStore;
+    private final TaskArchiveStore taskArchiveStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Shards shards;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pauseBetweenBatches;
+
+    public TaskArchiveJob(
+            TaskStore taskStore,
+            TaskArchiveStore taskArchiveStore,
+            TransactionTemplate transactionTemplate,
+            Shards shards,
+            Clock clock,
+            @Value("${api.tasks.archive.enabled:false}") boolean enabled,
+            @Value("${api.tasks.archive.min-age:90d}") Duration minAge,
+            @Value("${api.tasks.archive.batch-size:500}") int batchSize,
+            @Value("${api.tasks.archive.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${api.tasks.archive.pause-between-batches:200ms}") Duration pauseBetweenBatches) {
+        this.taskStore = taskStore;
+        this.taskArchiveStore = taskArchiveStore;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = shards;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+    }
+
+    /**
+     * Executa uma rodada de arquivamento, limitada a {@code max-batches-per-run} lotes.
+     * O job é desligado por {@code api.tasks.archive.enabled} em tempo de execução (e não por condição de bean),
+     * para que a chave continue valendo no modo AOT.
+     * @return A quantidade de tarefas arquivadas na rodada.
+     */
+    @Scheduled(fixedDelayString = "${api.tasks.archive.interval-ms:900000}",
+            initialDelayString = "${api.tasks.archive.initial-delay-ms:60000}")
+    public int archiveCompletedTasks() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(minAge);
+        int[] archived = {0};
+        shards.runOnEach(() -> archived[0] += archiveShard(cutoff));
+
+        if (archived[0] > 0) {
+            log.info("{} tarefas concluídas antes de {} foram arquivadas", archived[0], cutoff);
+        }
+        return archived[0];
+    }
+
+    private int archiveShard(LocalDateTime cutoff) {
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            archived += moved != null ? moved : 0;
+            if (moved == null || moved < batchSize || !pause()) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * Copia um lote para o arquivo e o remove da tabela ativa, na mesma transação.
+     * As linhas ficam bloqueadas desde a seleção, então uma atualização concorrente espera o lote terminar
+     * e passa a encontrar a tarefa no arquivo (de onde o {@link TaskService} a restaura).
+     */
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<UUID> ids = taskStore.findArchivable(TaskStatus.CONCLUIDA, cutoff, Limit.of(batchSize)).stream()
+                .map(TaskEntity::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        taskArchiveStore.copyFromTasks(ids, LocalDateTime.now(clock));
+        taskStore.deleteAllByIdIn(ids);
+        return ids.size();
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatches.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatches);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
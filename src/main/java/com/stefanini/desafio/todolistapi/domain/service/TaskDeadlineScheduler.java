@@ -0,0 +1,313 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.event.TaskDeadlinesFiredEvent;
+import com.stefanini.desafio.todolistapi.domain.event.TasksImportedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.DeadlineType;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.config.SchedulingConfig;
+import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskDeadline;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.schedule.TimingWheel;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardContext;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dispara os lembretes e marca como atrasadas as tarefas cujo prazo venceu.
+ * <p>
+ * Os prazos dos próximos {@code lookahead} ficam em um {@link TimingWheel} por tipo, em memória, e cada tick só
+ * entrega os que venceram, sem consultar a tabela. A carga é incremental: um cursor {@code (data, id)} por tipo e
+ * shard percorre o índice filtrado de prazos pendentes, e cada tick lê apenas a faixa que entrou no horizonte
+ * (limitada a {@code max-load-per-tick} linhas, para que um grande atraso seja absorvido aos poucos). Tarefas
+ * criadas ou alteradas depois da carga entram no wheel pelos eventos do {@link TaskService} e da importação.
+ * <p>
+ * Os prazos vencidos são gravados em lotes de {@code batch-size}, uma transação por lote e shard, com atualizações
+ * condicionais que só valem para prazos ainda pendentes e com a mesma data. Por isso um prazo repetido no wheel,
+ * alterado depois de agendado ou disparado por outra instância não dispara de novo; após um reinício, o cursor
+ * recomeça do início e os prazos vencidos durante a parada disparam no primeiro tick.
+ */
+@Component
+public class TaskDeadlineScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskDeadlineScheduler.class);
+    private static final LocalDateTime FIRST_LOAD_AFTER = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final TaskStore taskStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Shards shards;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration lookahead;
+    private final int batchSize;
+    private final int maxLoadPerTick;
+    private final Map<DeadlineType, TimingWheel<TaskDeadline>> wheels = new EnumMap<>(DeadlineType.class);
+    private final Map<DeadlineType, Counter> fired = new EnumMap<>(DeadlineType.class);
+    /** Até onde o índice de cada tipo já foi carregado, por shard. Acessado apenas pela thread do tick. */
+    private final Map<DeadlineType, Cursor[]> cursors = new EnumMap<>(DeadlineType.class);
+
+    /**
+     * Posição da carga no índice de prazos. Um {@code id} nulo indica que todos os prazos até {@code date},
+     * inclusive, já foram carregados.
+     */
+    private record Cursor(LocalDateTime date, UUID id) {
+    }
+
+    public TaskDeadlineScheduler(
+            TaskStore taskStore,
+            TransactionTemplate transactionTemplate,
+            Shards shards,
+            TaskMapper taskMapper,
+            ApplicationEventPublisher eventPublisher,
+            Clock clock,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${api.tasks.deadlines.enabled:true}") boolean enabled,
+            @Value("${api.tasks.deadlines.tick-ms:1000}") long tickMillis,
+            @Value("${api.tasks.deadlines.lookahead:1h}") Duration lookahead,
+            @Value("${api.tasks.deadlines.batch-size:500}") int batchSize,
+            @Value("${api.tasks.deadlines.max-load-per-tick:50000}") int maxLoadPerTick) {
+        this.taskStore = taskStore;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = shards;
+        this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.lookahead = lookahead;
+        this.batchSize = batchSize;
+        this.maxLoadPerTick = maxLoadPerTick;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        long start = toMillis(LocalDateTime.now(clock));
+        for (DeadlineType type : DeadlineType.values()) {
+            TimingWheel<TaskDeadline> wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, WHEEL_LEVELS, start);
+            // Metade do horizonte: o relógio do wheel pode estar um tick atrás do relógio da carga
+            if (lookahead.toMillis() > wheel.horizonMillis() / 2) {
+                throw new IllegalArgumentException("api.tasks.deadlines.lookahead excede o horizonte do timing wheel");
+            }
+            wheels.put(type, wheel);
+            Cursor[] initial = new Cursor[shards.count()];
+            Arrays.fill(initial, new Cursor(FIRST_LOAD_AFTER, null));
+            cursors.put(type, initial);
+            fired.put(type, Counter.builder("tasks.deadlines.fired")
+                    .description("Prazos de tarefas disparados")
+                    .tag("type", type.name().toLowerCase())
+                    .register(registry));
+            Gauge.builder("tasks.deadlines.scheduled", wheel, TimingWheel::size)
+                    .description("Prazos agendados no timing wheel")
+                    .tag("type", type.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Carrega a faixa do índice que entrou no horizonte e dispara os prazos vencidos.
+     * O agendador é desligado por {@code api.tasks.deadlines.enabled} em tempo de execução, para que a chave
+     * continue valendo no modo AOT. Roda no agendador exclusivo dos prazos, fora da fila dos demais jobs.
+     */
+    @Scheduled(fixedDelayString = "${api.tasks.deadlines.tick-ms:1000}",
+            scheduler = SchedulingConfig.DEADLINE_SCHEDULER)
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime horizon = now.plus(lookahead);
+        for (DeadlineType type : DeadlineType.values()) {
+            try {
+                load(type, horizon);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao carregar os prazos ({}); a carga continua do mesmo ponto no próximo tick", type, e);
+            }
+        }
+        for (DeadlineType type : DeadlineType.values()) {
+            List<TaskDeadline> due = wheels.get(type).advance(toMillis(now));
+            if (!due.isEmpty()) {
+                fire(type, due, now);
+            }
+        }
+    }
+
+    /**
+     * Agenda o prazo e o lembrete da tarefa criada ou alterada, se já estiverem dentro do horizonte
+     * (os demais serão lidos do índice quando entrarem nele).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (enabled && event.task() != null) {
+            track(event.task(), LocalDateTime.now(clock).plus(lookahead));
+        }
+    }
+
+    /**
+     * Agenda os prazos das tarefas de um lote da importação em massa.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime horizon = LocalDateTime.now(clock).plus(lookahead);
+        for (Task task : event.tasks()) {
+            track(task, horizon);
+        }
+    }
+
+    /**
+     * @param type O tipo de prazo.
+     * @return A quantidade de prazos desse tipo agendados em memória.
+     */
+    public int scheduled(DeadlineType type) {
+        return wheels.get(type).size();
+    }
+
+    private void track(Task task, LocalDateTime horizon) {
+        if (task.status() == TaskStatus.CONCLUIDA) {
+            return;
+        }
+        // Um agendamento repetido é inofensivo: a atualização condicional descarta o segundo disparo
+        if (task.dueDate() != null && task.overdueDate() == null && !task.dueDate().isAfter(horizon)) {
+            schedule(DeadlineType.OVERDUE, new TaskDeadline(task.id(), task.dueDate()));
+        }
+        // O lembrete nunca é posterior ao prazo e dispara antes dele no mesmo tick: numa tarefa já atrasada, já saiu
+        if (task.reminderDate() != null && task.overdueDate() == null && !task.reminderDate().isAfter(horizon)) {
+            schedule(DeadlineType.REMINDER, new TaskDeadline(task.id(), task.reminderDate()));
+        }
+    }
+
+    /**
+     * Lê, em páginas por shard, os prazos pendentes entre o cursor de cada shard e o horizonte.
+     */
+    private void load(DeadlineType type, LocalDateTime horizon) {
+        Cursor[] positions = cursors.get(type);
+        int pageSize = Math.min(batchSize, maxLoadPerTick);
+        boolean[] done = new boolean[positions.length];
+        for (int loaded = 0; loaded < maxLoadPerTick; loaded += pageSize) {
+            List<List<TaskDeadline>> pages = shards.gatherEach(shard -> done[shard]
+                    ? List.of()
+                    : page(type, positions[shard], horizon, pageSize));
+            boolean more = false;
+            for (int shard = 0; shard < pages.size(); shard++) {
+                if (done[shard]) {
+                    continue;
+                }
+                List<TaskDeadline> page = pages.get(shard);
+                page.forEach(deadline -> schedule(type, deadline));
+                if (page.size() < pageSize) {
+                    done[shard] = true;
+                    if (positions[shard].date().isBefore(horizon)) {
+                        positions[shard] = new Cursor(horizon, null);
+                    }
+                } else {
+                    TaskDeadline last = page.get(page.size() - 1);
+                    positions[shard] = new Cursor(last.at(), last.taskId());
+                    more = true;
+                }
+            }
+            if (!more) {
+                return;
+            }
+        }
+    }
+
+    private List<TaskDeadline> page(DeadlineType type, Cursor after, LocalDateTime horizon, int pageSize) {
+        if (after.id() == null && !after.date().isBefore(horizon)) {
+            return List.of();
+        }
+        return type == DeadlineType.OVERDUE
+                ? taskStore.findPendingDueDates(after.date(), after.id(), horizon, Limit.of(pageSize))
+                : taskStore.findPendingReminders(after.date(), after.id(), horizon, Limit.of(pageSize));
+    }
+
+    /**
+     * Grava os prazos vencidos em lotes, um commit por lote e shard, e publica os eventos das tarefas disparadas.
+     * Um lote que falhar volta ao wheel e é tentado de novo no próximo tick.
+     */
+    private void fire(DeadlineType type, List<TaskDeadline> due, LocalDateTime now) {
+        Map<Integer, List<TaskDeadline>> byShard = new HashMap<>();
+        for (TaskDeadline deadline : due) {
+            byShard.computeIfAbsent(shards.shardOf(deadline.taskId()), shard -> new ArrayList<>()).add(deadline);
+        }
+        for (Map.Entry<Integer, List<TaskDeadline>> shard : byShard.entrySet()) {
+            List<TaskDeadline> deadlines = shard.getValue();
+            for (int from = 0; from < deadlines.size(); from += batchSize) {
+                List<TaskDeadline> batch = deadlines.subList(from, Math.min(from + batchSize, deadlines.size()));
+                try {
+                    List<Task> tasks = ShardContext.callOn(shard.getKey(),
+                            () -> transactionTemplate.execute(status -> mark(type, batch, now)));
+                    publish(type, tasks, now);
+                } catch (RuntimeException e) {
+                    log.warn("Falha ao disparar {} prazos ({}); nova tentativa no próximo tick", batch.size(), type, e);
+                    batch.forEach(deadline -> schedule(type, deadline));
+                }
+            }
+        }
+    }
+
+    private List<Task> mark(DeadlineType type, List<TaskDeadline> batch, LocalDateTime now) {
+        List<UUID> ids = type == DeadlineType.OVERDUE
+                ? taskStore.markOverdue(batch, now)
+                : taskStore.markReminded(batch, now);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return taskStore.findByIdInAndDeletedDateIsNull(ids).stream()
+                .map(taskMapper::toDomain)
+                .toList();
+    }
+
+    private void publish(DeadlineType type, List<Task> tasks, LocalDateTime now) {
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+        fired.get(type).increment(tasks.size());
+        eventPublisher.publishEvent(new TaskDeadlinesFiredEvent(type, tasks, now));
+        if (type == DeadlineType.OVERDUE) {
+            // Marcar como atrasada altera a tarefa: índices, cache de leituras, stream e sincronização precisam saber
+            for (Task task : tasks) {
+                eventPublisher.publishEvent(TaskChangedEvent.updated(task, now));
+            }
+        }
+    }
+
+    private void schedule(DeadlineType type, TaskDeadline deadline) {
+        if (!wheels.get(type).schedule(toMillis(deadline.at()), deadline)) {
+            log.warn("Prazo {} da tarefa {} além do horizonte do timing wheel", deadline.at(), deadline.taskId());
+        }
+    }
+
+    private static long toMillis(LocalDateTime date) {
+        return date.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
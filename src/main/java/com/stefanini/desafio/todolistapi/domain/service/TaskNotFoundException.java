@@ -8,12 +8,11 @@ import java.util.UUID;
 
 @ResponseStatus(HttpStatus.NOT_FOUND)
 @Getter
-public class TaskNotFoundException extends RuntimeException {
+public class TaskNotFoundException extends StacklessException {
 
     private final UUID taskId;
 
     public TaskNotFoundException(UUID id) {
-        super();
         this.taskId = id;
     }
 }
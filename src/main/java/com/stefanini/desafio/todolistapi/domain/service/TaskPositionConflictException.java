@@ -0,0 +1,18 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.UUID;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+@Getter
+public class TaskPositionConflictException extends StacklessException {
+
+    private final UUID taskId;
+
+    public TaskPositionConflictException(UUID id) {
+        this.taskId = id;
+    }
+}
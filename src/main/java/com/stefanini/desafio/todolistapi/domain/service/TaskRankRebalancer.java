@@ -0,0 +1,170 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Bulkhead;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.rank.FractionalIndex;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardContext;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Rebalanceamento em segundo plano das chaves de ordenação ({@link FractionalIndex}).
+ * <p>
+ * Inserções repetidas no mesmo ponto da lista alongam as chaves. A cada rodada, o job procura as chaves mais longas
+ * que {@code max-key-length} e redistribui as chaves de uma janela de vizinhos em volta de cada uma, entre as chaves
+ * que limitam a janela: a ordem visível não muda e apenas as linhas da janela são alteradas. A janela começa com
+ * {@code window} tarefas e dobra até que as novas chaves caibam em metade do limite (ou até {@code max-window}).
+ * <p>
+ * Cada troca é condicional à chave lida, então uma tarefa movida durante o rebalanceamento mantém a posição que o
+ * usuário escolheu; uma tarefa movida para dentro da janela no mesmo instante pode ficar fora do lugar e basta
+ * movê-la de novo. As escritas rodam em uma transação curta por shard.
+ */
+@Component
+@Bulkhead(Workload.BULK)
+public class TaskRankRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRankRebalancer.class);
+    private static final Comparator<TaskRank> RANK_ORDER =
+            Comparator.comparing(TaskRank::rankKey).thenComparing(TaskRank::taskId);
+
+    private final TaskStore taskStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Shards shards;
+    private final boolean enabled;
+    private final int maxKeyLength;
+    private final int window;
+    private final int maxWindow;
+    private final int maxPerRun;
+    private final Counter rebalanced;
+
+    public TaskRankRebalancer(
+            TaskStore taskStore,
+            TransactionTemplate transactionTemplate,
+            Shards shards,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${api.tasks.rank.rebalance.enabled:true}") boolean enabled,
+            @Value("${api.tasks.rank.rebalance.max-key-length:32}") int maxKeyLength,
+            @Value("${api.tasks.rank.rebalance.window:32}") int window,
+            @Value("${api.tasks.rank.rebalance.max-window:4096}") int maxWindow,
+            @Value("${api.tasks.rank.rebalance.max-per-run:50}") int maxPerRun) {
+        this.taskStore = taskStore;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = shards;
+        this.enabled = enabled;
+        this.maxKeyLength = maxKeyLength;
+        this.window = Math.max(window, 2);
+        this.maxWindow = Math.max(maxWindow, this.window);
+        this.maxPerRun = maxPerRun;
+        this.rebalanced = Counter.builder("tasks.rank.rebalanced")
+                .description("Chaves de ordenação reescritas pelo rebalanceamento")
+                .register(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Executa uma rodada de rebalanceamento, limitada a {@code max-per-run} chaves longas.
+     * O job é desligado por {@code api.tasks.rank.rebalance.enabled} em tempo de execução, para que a chave
+     * continue valendo no modo AOT.
+     * @return A quantidade de chaves reescritas na rodada.
+     */
+    @Scheduled(fixedDelayString = "${api.tasks.rank.rebalance.interval-ms:300000}",
+            initialDelayString = "${api.tasks.rank.rebalance.initial-delay-ms:60000}")
+    public int rebalance() {
+        if (!enabled) {
+            return 0;
+        }
+        List<TaskRank> longKeys = shards.gather(() -> taskStore.findRanksLongerThan(maxKeyLength, Limit.of(maxPerRun)));
+        longKeys.sort(RANK_ORDER);
+        Set<UUID> done = new HashSet<>();
+        int updated = 0;
+        for (TaskRank target : longKeys.subList(0, Math.min(maxPerRun, longKeys.size()))) {
+            // Uma janela anterior pode já ter reescrito esta chave
+            if (done.add(target.taskId())) {
+                updated += rebalanceAround(target, done);
+            }
+        }
+        if (updated > 0) {
+            log.info("{} chaves de ordenação de tarefas foram rebalanceadas", updated);
+        }
+        return updated;
+    }
+
+    /**
+     * Redistribui as chaves da janela centrada na chave longa, dobrando a janela até que as novas chaves fiquem curtas.
+     * @return A quantidade de chaves reescritas.
+     */
+    private int rebalanceAround(TaskRank target, Set<UUID> done) {
+        for (int radius = window / 2; ; radius *= 2) {
+            int size = radius + 1;
+            List<TaskRank> before = nearest(shards.gather(() -> taskStore.findRanksBefore(target.rankKey(), Limit.of(size))),
+                    RANK_ORDER.reversed(), size);
+            List<TaskRank> from = nearest(shards.gather(() -> taskStore.findRanksFrom(target.rankKey(), Limit.of(size))),
+                    RANK_ORDER, size);
+            // As chaves logo fora da janela a limitam; sem elas, a janela chegou a uma ponta da lista
+            String lower = before.size() > radius ? before.get(radius).rankKey() : null;
+            String upper = from.size() > radius ? from.get(radius).rankKey() : null;
+            List<TaskRank> ranks = new ArrayList<>(before.subList(0, Math.min(radius, before.size())));
+            Collections.reverse(ranks);
+            ranks.addAll(from.subList(0, Math.min(radius, from.size())));
+
+            List<String> keys = FractionalIndex.keysBetween(lower, upper, ranks.size());
+            int longest = keys.stream().mapToInt(String::length).max().orElse(0);
+            boolean atEnd = lower == null || upper == null;
+            if (longest <= maxKeyLength / 2 || atEnd || radius * 2 > maxWindow) {
+                ranks.forEach(rank -> done.add(rank.taskId()));
+                int current = ranks.stream().mapToInt(rank -> rank.rankKey().length()).max().orElse(0);
+                return longest < current ? write(ranks, keys) : 0;
+            }
+        }
+    }
+
+    /** Grava as chaves alteradas, em uma transação por shard. */
+    private int write(List<TaskRank> ranks, List<String> keys) {
+        Map<Integer, List<Integer>> byShard = new HashMap<>();
+        for (int i = 0; i < ranks.size(); i++) {
+            if (!ranks.get(i).rankKey().equals(keys.get(i))) {
+                byShard.computeIfAbsent(shards.shardOf(ranks.get(i).taskId()), shard -> new ArrayList<>()).add(i);
+            }
+        }
+        int updated = 0;
+        for (Map.Entry<Integer, List<Integer>> shard : byShard.entrySet()) {
+            Integer count = ShardContext.callOn(shard.getKey(), () -> transactionTemplate.execute(status -> {
+                int changed = 0;
+                for (int i : shard.getValue()) {
+                    changed += taskStore.updateRankKey(ranks.get(i).taskId(), ranks.get(i).rankKey(), keys.get(i));
+                }
+                return changed;
+            }));
+            updated += count != null ? count : 0;
+        }
+        rebalanced.increment(updated);
+        return updated;
+    }
+
+    /** Intercala as posições devolvidas pelos shards e mantém as {@code size} primeiras na ordem informada. */
+    private static List<TaskRank> nearest(List<TaskRank> ranks, Comparator<TaskRank> order, int size) {
+        ranks.sort(order);
+        return ranks.size() > size ? ranks.subList(0, size) : ranks;
+    }
+}
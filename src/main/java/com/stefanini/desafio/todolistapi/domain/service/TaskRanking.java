@@ -0,0 +1,131 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.rank.FractionalIndex;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Gera as chaves de ordenação ({@link FractionalIndex}) da ordem definida pelo usuário.
+ * As chaves vizinhas são lidas pelo índice {@code (rank_key, id)} de todos os shards, sem materializar entidades,
+ * e cada nova chave recebe um sufixo aleatório para que criações e movimentos concorrentes no mesmo ponto não
+ * terminem empatados. As leituras passam pelo {@link Shards}: com o particionamento ligado, cada shard é lido em
+ * paralelo, na sua própria transação, sem interferir na transação de escrita de quem chama.
+ */
+@Component
+public class TaskRanking {
+
+    private static final Comparator<TaskRank> RANK_ORDER =
+            Comparator.comparing(TaskRank::rankKey).thenComparing(TaskRank::taskId);
+
+    private final TaskStore taskStore;
+    private final Shards shards;
+
+    public TaskRanking(TaskStore taskStore, Shards shards) {
+        this.taskStore = taskStore;
+        this.shards = shards;
+    }
+
+    /**
+     * Gera a chave de uma tarefa anexada ao fim da lista.
+     * @return A nova chave.
+     */
+    public String next() {
+        return next(1).get(0);
+    }
+
+    /**
+     * Gera as chaves de tarefas anexadas ao fim da lista, na ordem informada (usado na importação em massa).
+     * @param count A quantidade de chaves.
+     * @return As chaves, em ordem crescente.
+     */
+    public List<String> next(int count) {
+        List<String> keys = FractionalIndex.keysBetween(last(), null, count);
+        List<String> jittered = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            jittered.add(FractionalIndex.jitter(keys.get(i), i + 1 < keys.size() ? keys.get(i + 1) : null,
+                    ThreadLocalRandom.current()));
+        }
+        return jittered;
+    }
+
+    /**
+     * Gera a chave de uma tarefa movida para logo depois de {@code afterId} e antes de {@code beforeId}.
+     * Com apenas um dos vizinhos, o outro é o seu vizinho atual na lista; sem nenhum, a tarefa vai para o fim.
+     * @param taskId O ID da tarefa movida.
+     * @param afterId O ID da tarefa que ficará antes dela (opcional).
+     * @param beforeId O ID da tarefa que ficará depois dela (opcional).
+     * @return A nova chave.
+     * @throws TaskNotFoundException se um dos vizinhos não existir.
+     * @throws TaskPositionConflictException se os vizinhos não estiverem mais nessa ordem ou incluírem a própria tarefa.
+     */
+    public String between(UUID taskId, UUID afterId, UUID beforeId) {
+        if (taskId.equals(afterId) || taskId.equals(beforeId)) {
+            throw new TaskPositionConflictException(taskId);
+        }
+        List<UUID> neighbours = Stream.of(afterId, beforeId).filter(Objects::nonNull).toList();
+        Map<UUID, String> ranks = new HashMap<>();
+        if (!neighbours.isEmpty()) {
+            shards.gather(() -> taskStore.findRanksByIdIn(neighbours)).forEach(rank -> ranks.put(rank.taskId(), rank.rankKey()));
+        }
+        for (UUID neighbour : neighbours) {
+            if (!ranks.containsKey(neighbour)) {
+                throw new TaskNotFoundException(neighbour);
+            }
+            if (ranks.get(neighbour) == null) {
+                throw new TaskPositionConflictException(taskId);
+            }
+        }
+
+        String after = ranks.get(afterId);
+        String before = ranks.get(beforeId);
+        String lower = after;
+        String upper = before;
+        if (afterId == null && beforeId == null) {
+            lower = last();
+        } else if (beforeId == null) {
+            upper = closest(() -> taskStore.findRanksAfter(after, Limit.of(2)), taskId, RANK_ORDER);
+        } else if (afterId == null) {
+            lower = closest(() -> taskStore.findRanksBefore(before, Limit.of(2)), taskId, RANK_ORDER.reversed());
+        }
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new TaskPositionConflictException(taskId);
+        }
+        return FractionalIndex.jitter(FractionalIndex.keyBetween(lower, upper), upper, ThreadLocalRandom.current());
+    }
+
+    /**
+     * @return A maior chave entre as tarefas ativas de todos os shards, ou nula se nenhuma tiver chave.
+     */
+    public String last() {
+        return shards.gather(() -> taskStore.findLastRanks(Limit.of(1))).stream()
+                .max(RANK_ORDER)
+                .map(TaskRank::rankKey)
+                .orElse(null);
+    }
+
+    /**
+     * Vizinho mais próximo entre os devolvidos por cada shard, ignorando a própria tarefa movida.
+     * Cada shard devolve dois candidatos, já que um deles pode ser a tarefa movida.
+     */
+    private String closest(Supplier<List<TaskRank>> query, UUID taskId, Comparator<TaskRank> order) {
+        return shards.gather(query).stream()
+                .filter(rank -> !rank.taskId().equals(taskId))
+                .min(order)
+                .map(TaskRank::rankKey)
+                .orElse(null);
+    }
+}
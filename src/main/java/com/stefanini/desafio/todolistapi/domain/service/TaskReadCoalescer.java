@@ -0,0 +1,139 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.event.TasksImportedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskLookup;
+import com.stefanini.desafio.todolistapi.infrastructure.breaker.StaleReads;
+import com.stefanini.desafio.todolistapi.infrastructure.coalesce.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Agrupa as leituras idênticas e concorrentes de {@link TaskService#findTaskById(UUID)} e
+ * {@link TaskService#findAllTasks()}, e atende a busca de várias tarefas pelo cache das leituras por ID: sob uma
+ * rajada (ex: logo após um deploy), uma única consulta vai ao banco e as demais requisições recebem o mesmo
+ * resultado. Fica fora do serviço para que as requisições em espera
+ * não abram transação nem ocupem conexão do pool.
+ * <p>
+ * Alterações confirmadas descartam a carga em andamento e o cache da tarefa e da listagem, então uma leitura feita
+ * após a resposta de uma escrita não recebe o estado anterior a ela. Arquivamentos e expurgos em lote não são
+ * notificados e aparecem na listagem após a janela de cache ({@code cache-window}, desligada por padrão).
+ * Resultados servidos do cache de leituras com o banco indisponível nunca são compartilhados.
+ */
+@Component
+public class TaskReadCoalescer {
+
+    private static final String ALL_TASKS = "all";
+
+    private final TaskService taskService;
+    private final boolean enabled;
+    private final SingleFlight<UUID, Task> byId;
+    private final SingleFlight<String, List<Task>> all;
+
+    @Autowired
+    public TaskReadCoalescer(
+            TaskService taskService,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${api.tasks.coalescing.enabled:true}") boolean enabled,
+            @Value("${api.tasks.coalescing.cache-window:0ms}") Duration cacheWindow) {
+        this(taskService, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), enabled, cacheWindow, System::nanoTime);
+    }
+
+    TaskReadCoalescer(TaskService taskService, MeterRegistry registry, boolean enabled, Duration cacheWindow,
+                      LongSupplier ticker) {
+        this.taskService = taskService;
+        this.enabled = enabled;
+        this.byId = new SingleFlight<>("findTaskById", cacheWindow, registry, ticker);
+        this.all = new SingleFlight<>("findAllTasks", cacheWindow, registry, ticker);
+    }
+
+    /**
+     * Busca a tarefa pelo ID, compartilhando a consulta com as requisições concorrentes para o mesmo ID.
+     * @param id O UUID da tarefa.
+     * @return O objeto de domínio da tarefa.
+     * @throws TaskNotFoundException se nenhuma tarefa for encontrada com o ID fornecido.
+     */
+    public Task findTaskById(UUID id) {
+        if (!enabled) {
+            return taskService.findTaskById(id);
+        }
+        return byId.load(id, () -> taskService.findTaskById(id), TaskReadCoalescer::fresh);
+    }
+
+    /**
+     * Lista as tarefas ativas, compartilhando a consulta com as requisições concorrentes.
+     * @return Uma lista imutável, compartilhada entre as requisições agrupadas.
+     */
+    public List<Task> findAllTasks() {
+        if (!enabled) {
+            return taskService.findAllTasks();
+        }
+        return all.load(ALL_TASKS, () -> Collections.unmodifiableList(taskService.findAllTasks()), TaskReadCoalescer::fresh);
+    }
+
+    /**
+     * Busca várias tarefas pelos IDs: as que estão no cache das leituras por ID (com {@code cache-window} ligada)
+     * são entregues sem consulta, e as demais são buscadas de uma vez pelo {@link TaskService#findTasksByIds}.
+     * @param ids Os IDs das tarefas; repetidos são considerados uma única vez.
+     * @return As tarefas encontradas e os IDs sem tarefa, ambos na ordem do pedido.
+     */
+    public TaskLookup findTasksByIds(List<UUID> ids) {
+        if (!enabled) {
+            return taskService.findTasksByIds(ids);
+        }
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        Map<UUID, Task> found = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID id : requested) {
+            Task cached = byId.peek(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (found.isEmpty()) {
+            return taskService.findTasksByIds(misses);
+        }
+        if (!misses.isEmpty()) {
+            taskService.findTasksByIds(misses).tasks().forEach(task -> found.put(task.id(), task));
+        }
+        return TaskLookup.of(requested, found);
+    }
+
+    /**
+     * Um resultado servido do cache de leituras com o banco indisponível só leva os headers de idade na resposta de
+     * quem fez a carga: não é repassado às requisições em espera nem guardado no cache.
+     */
+    private static boolean fresh() {
+        return !StaleReads.lastCallServedStale();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        byId.invalidate(event.taskId());
+        all.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        all.invalidateAll();
+    }
+}
@@ -0,0 +1,226 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangeType;
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.event.TasksImportedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupKey;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskDailyRollupEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskBacklogRollupStore;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskDailyRollupStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardContext;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import com.stefanini.desafio.todolistapi.infrastructure.sketch.QuantileSketch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Mantém os rollups de indicadores ({@code task_daily_rollups} e {@code task_backlog_rollups}) de forma incremental.
+ * <p>
+ * Após o commit de cada alteração do {@link TaskService} (e de cada lote da importação), as variações são somadas em
+ * memória por shard e dia: criações, conclusões com o tempo desde a criação em um {@link QuantileSketch}, e a
+ * variação do total de cada status. A cada {@code flush-interval-ms} as variações acumuladas são gravadas, uma
+ * transação por shard e dia, com leitura, soma e gravação com verificação de versão; assim o caminho de escrita das
+ * tarefas não disputa as linhas do dia corrente, e cada linha de rollup recebe uma escrita por intervalo.
+ * <p>
+ * Um lote que falha (ex: conflito de versão com outra instância) volta para o acumulador e é gravado no intervalo
+ * seguinte. As variações ainda não gravadas são perdidas se a instância cair, então os indicadores ficam
+ * aproximados nesse caso; o encerramento normal grava o que falta.
+ */
+@Component
+public class TaskRollupRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRollupRecorder.class);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskDailyRollupStore dailyStore;
+    private final TaskBacklogRollupStore backlogStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Shards shards;
+    private final boolean enabled;
+    private final Counter failures;
+    private final Object lock = new Object();
+
+    /** Variações ainda não gravadas, por shard e dia. Protegido por {@code lock}. */
+    private Map<Bucket, Pending> pending = new HashMap<>();
+
+    private record Bucket(int shard, LocalDate day) {
+    }
+
+    /** Variações acumuladas de um shard em um dia. */
+    private static final class Pending {
+        private long created;
+        private long completed;
+        private final QuantileSketch completion = new QuantileSketch();
+        private final long[] backlog = new long[STATUSES.length];
+
+        private void merge(Pending other) {
+            created += other.created;
+            completed += other.completed;
+            completion.merge(other.completion);
+            for (int i = 0; i < backlog.length; i++) {
+                backlog[i] += other.backlog[i];
+            }
+        }
+    }
+
+    public TaskRollupRecorder(
+            TaskDailyRollupStore dailyStore,
+            TaskBacklogRollupStore backlogStore,
+            TransactionTemplate transactionTemplate,
+            Shards shards,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${api.tasks.analytics.enabled:true}") boolean enabled) {
+        this.dailyStore = dailyStore;
+        this.backlogStore = backlogStore;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = shards;
+        this.enabled = enabled;
+        this.failures = Counter.builder("tasks.analytics.flush.failures")
+                .description("Gravações de rollups de indicadores adiadas para o intervalo seguinte")
+                .register(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Acumula a criação, a mudança de status ou a exclusão da tarefa. Alterações que mantêm o status são ignoradas.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        TaskStatus from = event.previousStatus();
+        TaskStatus to = event.task() != null ? event.task().status() : null;
+        if (event.type() != TaskChangeType.CREATED && (from == to || from == null)) {
+            return;
+        }
+        synchronized (lock) {
+            Pending bucket = bucket(event.taskId(), event.occurredAt().toLocalDate());
+            if (event.type() == TaskChangeType.CREATED) {
+                bucket.created++;
+            } else {
+                bucket.backlog[from.ordinal()]--;
+            }
+            if (to != null) {
+                bucket.backlog[to.ordinal()]++;
+            }
+            if (event.type() == TaskChangeType.UPDATED && to == TaskStatus.CONCLUIDA) {
+                bucket.completed++;
+                bucket.completion.add(Duration.between(event.task().creationDate(), event.occurredAt()).toSeconds());
+            }
+        }
+    }
+
+    /**
+     * Acumula as tarefas criadas por um lote da importação, no dia de criação de cada uma.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            for (Task task : event.tasks()) {
+                Pending bucket = bucket(task.id(), task.creationDate().toLocalDate());
+                bucket.created++;
+                bucket.backlog[task.status().ordinal()]++;
+            }
+        }
+    }
+
+    /**
+     * Grava as variações acumuladas, em ordem de dia (para que o total de um dia novo parta do dia anterior já
+     * atualizado). Os lotes que falharem voltam para o acumulador.
+     */
+    @Scheduled(fixedDelayString = "${api.tasks.analytics.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Bucket, Pending> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        List<Map.Entry<Bucket, Pending>> ordered = new ArrayList<>(batch.entrySet());
+        ordered.sort(Map.Entry.comparingByKey(Comparator.comparing(Bucket::day).thenComparingInt(Bucket::shard)));
+        for (Map.Entry<Bucket, Pending> entry : ordered) {
+            Bucket bucket = entry.getKey();
+            try {
+                ShardContext.callOn(bucket.shard(), () -> transactionTemplate.execute(status -> {
+                    write(bucket.day(), entry.getValue());
+                    return null;
+                }));
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Falha ao gravar os rollups de {} no shard {}; nova tentativa no próximo intervalo",
+                        bucket.day(), bucket.shard(), e);
+                synchronized (lock) {
+                    pending.computeIfAbsent(bucket, key -> new Pending()).merge(entry.getValue());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        flush();
+    }
+
+    private void write(LocalDate day, Pending changes) {
+        if (changes.created != 0 || changes.completed != 0) {
+            TaskDailyRollupEntity daily = dailyStore.findById(day).orElseGet(() -> new TaskDailyRollupEntity(day));
+            daily.setCreated(daily.getCreated() + changes.created);
+            daily.setCompleted(daily.getCompleted() + changes.completed);
+            if (changes.completion.count() > 0) {
+                QuantileSketch sketch = QuantileSketch.fromBytes(daily.getCompletionSketch());
+                sketch.merge(changes.completion);
+                daily.setCompletionSketch(sketch.toBytes());
+            }
+            dailyStore.save(daily);
+        }
+        for (TaskStatus status : STATUSES) {
+            long delta = changes.backlog[status.ordinal()];
+            if (delta == 0) {
+                continue;
+            }
+            TaskBacklogRollupKey key = new TaskBacklogRollupKey(status, day);
+            TaskBacklogRollupEntity backlog = backlogStore.findById(key)
+                    .orElseGet(() -> new TaskBacklogRollupEntity(key, totalBefore(status, day)));
+            backlog.setTotal(backlog.getTotal() + delta);
+            backlogStore.save(backlog);
+            backlogStore.shiftAfter(status, day, delta);
+        }
+    }
+
+    private long totalBefore(TaskStatus status, LocalDate day) {
+        List<TaskBacklogRollupEntity> latest = backlogStore.findLatestBefore(status, day, Limit.of(1));
+        return latest.isEmpty() ? 0 : latest.getFirst().getTotal();
+    }
+
+    private Pending bucket(UUID taskId, LocalDate day) {
+        return pending.computeIfAbsent(new Bucket(shards.shardOf(taskId), day), key -> new Pending());
+    }
+}
@@ -1,103 +1,531 @@
 package com.stefanini.desafio.todolistapi.domain.service;
 
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
 import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.domain.model.TaskFilter;
+import com.stefanini.desafio.todolistapi.domain.model.TaskLookup;
+import com.stefanini.desafio.todolistapi.domain.model.TaskPage;
 import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.breaker.ServeStale;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Bulkhead;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
 import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import com.stefanini.desafio.todolistapi.infrastructure.filter.TaskIdFilter;
+import com.stefanini.desafio.todolistapi.infrastructure.index.TaskColumnIndex;
 import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
-import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRepository;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskArchiveStore;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.RankCursor;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardCursor;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardKey;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Camada de serviço para a lógica de negócio relacionada a tarefas.
- * Todas as operações são transacionais.
+ * Todas as operações são transacionais. As operações por ID rodam no shard dono do ID ({@link ShardKey});
+ * as listagens consultam todos os shards via {@link Shards}, que abre uma transação por shard.
+ * <p>
+ * As leituras projetam as colunas direto em {@link Task} ({@link TaskStore#SELECT_TASK}), sem entidades
+ * gerenciadas; as escritas leem o {@link Clock} uma única vez, então as datas gravadas juntas são idênticas.
  */
 @Service
 @Transactional
+@Bulkhead(Workload.INTERACTIVE)
 public class TaskService {
 
-    private final TaskRepository taskRepository;
+    /** Tamanho máximo de uma página na paginação por cursor. */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /** IDs por consulta {@code IN} da busca de várias tarefas: bem abaixo do limite de 2.100 parâmetros do SQL Server. */
+    static final int LOOKUP_CHUNK_SIZE = 200;
+
+    private static final Comparator<TaskEntity> RANK_ORDER =
+            Comparator.comparing(TaskEntity::getRankKey).thenComparing(TaskEntity::getId);
+
+    private final TaskStore taskStore;
+    private final TaskArchiveStore taskArchiveStore;
     private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskIdFilter taskIdFilter;
+    private final Shards shards;
+    private final TaskColumnIndex taskColumnIndex;
+    private final TaskRanking taskRanking;
+    private final Clock clock;
 
-    public TaskService(TaskRepository taskRepository, TaskMapper taskMapper) {
-        this.taskRepository = taskRepository;
+    public TaskService(TaskStore taskStore, TaskArchiveStore taskArchiveStore,
+                       TaskMapper taskMapper, ApplicationEventPublisher eventPublisher, TaskIdFilter taskIdFilter,
+                       Shards shards, TaskColumnIndex taskColumnIndex, TaskRanking taskRanking, Clock clock) {
+        this.taskStore = taskStore;
+        this.taskArchiveStore = taskArchiveStore;
         this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+        this.taskIdFilter = taskIdFilter;
+        this.shards = shards;
+        this.taskColumnIndex = taskColumnIndex;
+        this.taskRanking = taskRanking;
+        this.clock = clock;
     }
 
     /**
-     * Cria uma nova tarefa no banco de dados.
-     * @param task O objeto de domínio da tarefa a ser criada.
+     * Cria uma nova tarefa no banco de dados e publica um {@link TaskChangedEvent} de criação.
+     * Com o particionamento ligado, o ID é atribuído antes da gravação e define o shard da tarefa.
+     * A tarefa entra no fim da ordem definida pelo usuário.
+     * @param task O objeto de domínio da tarefa a ser criada; datas de criação e de atualização nulas recebem o
+     *             mesmo instante.
      * @return A tarefa criada, com ID e datas preenchidas.
      */
-    public Task createTask(Task task) {
+    public Task createTask(@ShardKey Task task) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (task.creationDate() == null || task.updateDate() == null) {
+            task = new Task(task.id(), task.title(), task.description(),
+                    task.creationDate() != null ? task.creationDate() : now,
+                    task.updateDate() != null ? task.updateDate() : now,
+                    task.status(), task.dueDate(), task.reminderDate(), task.overdueDate());
+        }
         TaskEntity entity = taskMapper.toEntity(task);
-        entity = taskRepository.save(entity);
-        return taskMapper.toDomain(entity);
+        entity.setRankKey(taskRanking.next());
+        entity = taskStore.save(entity);
+        // A entidade gravada tem os mesmos campos da tarefa, além do ID atribuído no INSERT
+        Task created = task.withId(entity.getId());
+        eventPublisher.publishEvent(TaskChangedEvent.created(created, now));
+        return created;
     }
 
     /**
      * Retorna uma lista com todas as tarefas cadastradas.
      * @return Uma lista de objetos de domínio Task.
      */
+    @ServeStale
+    @Bulkhead(Workload.BULK)
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<Task> findAllTasks() {
-        return taskRepository.findAll().stream()
+        return shards.gather(taskStore::findActiveTasks);
+    }
+
+    /**
+     * Retorna todas as tarefas lendo do banco apenas as colunas dos campos solicitados.
+     * Os campos não solicitados ficam nulos no objeto de domínio retornado.
+     * @param fields Os campos a serem carregados.
+     * @return Uma lista de objetos de domínio Task parcialmente preenchidos.
+     */
+    @ServeStale
+    @Bulkhead(Workload.BULK)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Task> findAllTasks(Set<TaskField> fields) {
+        return shards.gather(() -> taskStore.findAllActiveProjected(fields)).stream()
+                .map(taskMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Retorna as tarefas movidas para o arquivo (camada fria) pelo {@link TaskArchiveJob}.
+     * @return Uma lista de objetos de domínio Task arquivados.
+     */
+    @ServeStale
+    @Bulkhead(Workload.BULK)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Task> findArchivedTasks() {
+        return shards.gather(taskArchiveStore::findAll).stream()
+                .map(taskMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Retorna as tarefas arquivadas lendo apenas as colunas dos campos informados.
+     * @param fields Os campos a serem lidos (o ID é sempre lido).
+     * @return Uma lista de objetos de domínio Task arquivados, preenchidos apenas nos campos solicitados.
+     */
+    @ServeStale
+    @Bulkhead(Workload.BULK)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Task> findArchivedTasks(Set<TaskField> fields) {
+        return shards.gather(() -> taskArchiveStore.findAllProjected(fields)).stream()
                 .map(taskMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Busca uma tarefa específica pelo seu ID.
+     * Retorna uma página das tarefas ativas em ordem de criação, continuando do cursor informado
+     * (ver {@link ActiveTaskPages}).
+     * @param cursor O cursor devolvido na página anterior (nulo na primeira página).
+     * @param limit O tamanho da página, limitado a {@link #MAX_PAGE_SIZE}.
+     * @return As tarefas da página e o cursor da próxima, nulo quando não houver mais tarefas.
+     * @throws InvalidTaskCursorException se o cursor estiver malformado ou tiver sido emitido para outra topologia de shards.
+     */
+    @ServeStale
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public TaskPage findTaskPage(String cursor, int limit) {
+        return ActiveTaskPages.next(shards, taskStore, parseCursor(cursor), Math.clamp(limit, 1, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Retorna uma página das tarefas ativas na ordem definida pelo usuário, continuando do cursor informado.
+     * Como em {@link #findTaskPage}, cada shard devolve sua próxima página, aqui pelo índice {@code (rank_key, id)},
+     * e as páginas são intercaladas em memória.
+     * @param cursor O cursor devolvido na página anterior (nulo na primeira página).
+     * @param limit O tamanho da página, limitado a {@link #MAX_PAGE_SIZE}.
+     * @return As tarefas da página e o cursor da próxima, nulo quando não houver mais tarefas.
+     * @throws InvalidTaskCursorException se o cursor estiver malformado ou tiver sido emitido para outra topologia de shards.
+     */
+    @ServeStale
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public TaskPage findRankedPage(String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        RankCursor position = parseRankCursor(cursor);
+
+        List<List<TaskEntity>> pages = shards.gatherEach(shard -> {
+            RankCursor.Position after = position.position(shard);
+            return after == null
+                    ? taskStore.findRankedPage(Limit.of(pageSize + 1))
+                    : taskStore.findRankedPageAfter(after.rankKey(), after.id(), Limit.of(pageSize + 1));
+        });
+
+        int[] consumed = new int[pages.size()];
+        List<Task> tasks = new ArrayList<>(pageSize);
+        while (tasks.size() < pageSize) {
+            int next = -1;
+            for (int shard = 0; shard < pages.size(); shard++) {
+                List<TaskEntity> page = pages.get(shard);
+                if (consumed[shard] < page.size() && (next < 0
+                        || RANK_ORDER.compare(page.get(consumed[shard]), pages.get(next).get(consumed[next])) < 0)) {
+                    next = shard;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            TaskEntity entity = pages.get(next).get(consumed[next]++);
+            position.advance(next, new RankCursor.Position(entity.getRankKey(), entity.getId()));
+            tasks.add(taskMapper.toDomain(entity));
+        }
+
+        boolean hasMore = false;
+        for (int shard = 0; shard < pages.size(); shard++) {
+            hasMore |= consumed[shard] < pages.get(shard).size();
+        }
+        return new TaskPage(tasks, hasMore ? position.encode() : null);
+    }
+
+    /**
+     * Conta as tarefas ativas que atendem ao filtro pelo {@link TaskColumnIndex}, sem acessar o banco.
+     * Enquanto o índice não estiver montado, a contagem é feita no banco. A contagem reflete as alterações desta
+     * instância após o commit; as de outras réplicas e os arquivamentos só entram na reconstrução seguinte
+     * ({@code api.tasks.column-index.rebuild-interval-ms}).
+     * @param filter O filtro de status e datas.
+     * @return A quantidade de tarefas.
+     */
+    @ServeStale
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public long countTasks(TaskFilter filter) {
+        if (taskColumnIndex.isReady()) {
+            return taskColumnIndex.count(filter);
+        }
+        return shards.gather(() -> List.of(taskStore.countActiveMatching(filter.status(),
+                        filter.createdFrom(), filter.createdTo(), filter.updatedFrom(), filter.updatedTo())))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * Busca as tarefas ativas que atendem ao filtro, em ordem de criação. O {@link TaskColumnIndex} seleciona os IDs
+     * e apenas essas tarefas são lidas do banco; enquanto o índice não estiver montado, o filtro é aplicado no banco.
+     * O índice pode estar desatualizado (alterações de outras réplicas e arquivamentos só entram na reconstrução),
+     * então as tarefas lidas passam de novo pelo filtro: a página pode vir menor que {@code limit}, mas nunca traz
+     * uma tarefa fora do filtro.
+     * @param filter O filtro de status e datas.
+     * @param limit O número máximo de tarefas, limitado a {@link #MAX_PAGE_SIZE}.
+     * @return As tarefas ordenadas por data de criação e ID.
+     */
+    @ServeStale
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Task> findTasks(TaskFilter filter, int limit) {
+        int max = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        if (!taskColumnIndex.isReady()) {
+            List<Task> rows = shards.gather(() -> taskStore.findActiveMatching(filter.status(),
+                    filter.createdFrom(), filter.createdTo(), filter.updatedFrom(), filter.updatedTo(), Limit.of(max)))
+                    .stream().map(taskMapper::toDomain).collect(Collectors.toList());
+            rows.sort(ActiveTaskPages.CREATION_ORDER);
+            return rows.subList(0, Math.min(max, rows.size()));
+        }
+
+        List<UUID> ids = taskColumnIndex.findIds(filter, max);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Task> byId = HashMap.newHashMap(ids.size());
+        shards.gather(() -> taskStore.findActiveTasksByIdIn(ids)).forEach(task -> byId.put(task.id(), task));
+        // Mantém a ordem do índice; IDs arquivados ou expurgados desde a última reconstrução, e tarefas alteradas
+        // desde então para fora do filtro, ficam de fora
+        List<Task> tasks = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Task task = byId.get(id);
+            if (task != null && filter.matches(task)) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Busca uma tarefa específica pelo seu ID, consultando o arquivo quando ela não estiver na tabela ativa.
+     * IDs que o {@link TaskIdFilter} garante não existirem são recusados sem acesso ao banco.
      * @param id O UUID da tarefa a ser encontrada.
      * @return O objeto de domínio da tarefa correspondente.
      * @throws TaskNotFoundException se nenhuma tarefa for encontrada com o ID fornecido.
      */
-    public Task findTaskById(UUID id) {
-        return taskRepository.findById(id)
+    @ServeStale
+    public Task findTaskById(@ShardKey UUID id) {
+        requireKnownId(id);
+        return taskStore.findActiveTaskById(id)
+                .or(() -> taskArchiveStore.findById(id).map(taskMapper::toDomain))
+                .orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * Busca uma tarefa pelo seu ID lendo do banco apenas as colunas dos campos solicitados.
+     * @param id O UUID da tarefa a ser encontrada.
+     * @param fields Os campos a serem carregados.
+     * @return O objeto de domínio da tarefa, com os campos não solicitados nulos.
+     * @throws TaskNotFoundException se nenhuma tarefa for encontrada com o ID fornecido.
+     */
+    @ServeStale
+    public Task findTaskById(@ShardKey UUID id, Set<TaskField> fields) {
+        requireKnownId(id);
+        return taskStore.findActiveProjectedById(id, fields)
                 .map(taskMapper::toDomain)
-                .orElseThrow(() -> new TaskNotFoundException(id));
+                .or(() -> taskArchiveStore.findById(id).map(taskMapper::toDomain))
+                .orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * Busca várias tarefas pelos IDs, inclusive as arquivadas, com consultas {@code IN} de até
+     * {@link #LOOKUP_CHUNK_SIZE} IDs apenas nos shards donos de algum deles (em paralelo); o arquivo só é consultado
+     * para os IDs que não estavam na tabela ativa, e só nos shards desses IDs. IDs que o {@link TaskIdFilter} garante não existirem nem chegam
+     * ao banco.
+     * @param ids Os IDs das tarefas; repetidos são considerados uma única vez.
+     * @return As tarefas encontradas e os IDs sem tarefa, ambos na ordem do pedido.
+     */
+    @ServeStale
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public TaskLookup findTasksByIds(List<UUID> ids) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        Map<Integer, List<UUID>> byShard = new HashMap<>();
+        List<UUID> known = new ArrayList<>(requested.size());
+        for (UUID id : requested) {
+            if (taskIdFilter.mightContain(id)) {
+                byShard.computeIfAbsent(shards.shardOf(id), key -> new ArrayList<>()).add(id);
+                known.add(id);
+            }
+        }
+
+        Map<UUID, Task> found = HashMap.newHashMap(requested.size());
+        if (!byShard.isEmpty()) {
+            shards.gatherEach(byShard.keySet(), shard -> inChunks(byShard.get(shard), taskStore::findActiveTasksByIdIn))
+                    .forEach(part -> part.forEach(task -> found.put(task.id(), task)));
+            byShard.values().forEach(shardIds -> shardIds.removeIf(found::containsKey));
+            byShard.values().removeIf(List::isEmpty);
+            if (!byShard.isEmpty()) {
+                shards.gatherEach(byShard.keySet(), shard -> inChunks(byShard.get(shard), taskArchiveStore::findAllById))
+                        .forEach(part -> part.forEach(archived -> found.put(archived.getId(), taskMapper.toDomain(archived))));
+            }
+        }
+
+        for (UUID id : known) {
+            if (!found.containsKey(id)) {
+                taskIdFilter.recordFalsePositive(id);
+            }
+        }
+        return TaskLookup.of(requested, found);
+    }
+
+    /**
+     * Atualiza os dados de uma tarefa existente, mantendo o prazo e o lembrete.
+     * @see #updateTask(UUID, String, String, TaskStatus, LocalDateTime, LocalDateTime)
+     */
+    public Task updateTask(@ShardKey UUID id, String title, String description, TaskStatus status) {
+        return updateTask(id, title, description, status, null, null);
     }
 
     /**
      * Atualiza os dados de uma tarefa existente.
-     * A data de atualização é sempre renovada.
+     * A data de atualização é sempre renovada e um {@link TaskChangedEvent} de atualização é publicado.
+     * Uma tarefa arquivada volta para a tabela ativa antes de ser alterada. Um novo prazo volta a valer mesmo que o
+     * anterior já tenha vencido; um novo lembrete volta a ser enviado pelo {@link TaskDeadlineScheduler}.
      * @param id O UUID da tarefa a ser atualizada.
      * @param title O novo título da tarefa (se nulo, mantém o atual).
      * @param description A nova descrição da tarefa (se nula, mantém a atual).
      * @param status O novo status da tarefa (se nulo, mantém o atual).
+     * @param dueDate O novo prazo da tarefa (se nulo, mantém o atual).
+     * @param reminderDate O novo horário de lembrete (se nulo, mantém o atual).
      * @return O objeto de domínio da tarefa com os dados atualizados.
      * @throws TaskNotFoundException se nenhuma tarefa for encontrada com o ID fornecido.
      */
-    public Task updateTask(UUID id, String title, String description, TaskStatus status) {
-        Task existingTask = findTaskById(id);
+    public Task updateTask(@ShardKey UUID id, String title, String description, TaskStatus status,
+                           LocalDateTime dueDate, LocalDateTime reminderDate) {
+        TaskEntity existing = findActiveEntity(id);
+        Task existingTask = taskMapper.toDomain(existing);
+        LocalDateTime due = dueDate != null ? dueDate : existingTask.dueDate();
+        LocalDateTime reminder = reminderDate != null ? reminderDate : existingTask.reminderDate();
+        boolean sameReminder = Objects.equals(reminder, existingTask.reminderDate());
 
         Task updatedTask = new Task(
                 existingTask.id(),
                 title != null ? title : existingTask.title(),
                 description != null ? description : existingTask.description(),
                 existingTask.creationDate(),
-                LocalDateTime.now(),
-                status != null ? status : existingTask.status()
+                LocalDateTime.now(clock),
+                status != null ? status : existingTask.status(),
+                due,
+                reminder,
+                Objects.equals(due, existingTask.dueDate()) ? existingTask.overdueDate() : null
         );
 
-        TaskEntity entity = taskMapper.toEntity(updatedTask);
-        taskRepository.save(entity);
+        // Altera a entidade carregada (e não uma nova, com o mesmo ID), que o TaskStore grava como UPDATE
+        existing.setTitle(updatedTask.title());
+        existing.setDescription(updatedTask.description());
+        existing.setUpdateDate(updatedTask.updateDate());
+        existing.setStatus(updatedTask.status());
+        existing.setDueDate(updatedTask.dueDate());
+        existing.setReminderDate(updatedTask.reminderDate());
+        existing.setOverdueDate(updatedTask.overdueDate());
+        if (!sameReminder) {
+            existing.setReminderSentDate(null);
+        }
+        taskStore.save(existing);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(updatedTask, existingTask.status(), updatedTask.updateDate()));
 
         return updatedTask;
     }
 
     /**
-     * Exclui uma tarefa do banco de dados com base no seu ID.
+     * Move uma tarefa na ordem definida pelo usuário, para logo depois de {@code afterId} e antes de {@code beforeId}.
+     * Apenas a chave de ordenação da tarefa movida é alterada ({@link TaskRanking}); a data de atualização é renovada
+     * e um {@link TaskChangedEvent} de atualização é publicado, para que os clientes sincronizados reordenem a lista.
+     * @param id O UUID da tarefa a ser movida.
+     * @param afterId O ID da tarefa que ficará imediatamente antes (opcional).
+     * @param beforeId O ID da tarefa que ficará imediatamente depois (opcional); sem nenhum vizinho, a tarefa vai para o fim.
+     * @return O objeto de domínio da tarefa movida.
+     * @throws TaskNotFoundException se a tarefa ou um dos vizinhos não existir.
+     * @throws TaskPositionConflictException se os vizinhos não estiverem mais nessa ordem.
+     */
+    public Task moveTask(@ShardKey UUID id, UUID afterId, UUID beforeId) {
+        TaskEntity entity = findActiveEntity(id);
+        entity.setRankKey(taskRanking.between(id, afterId, beforeId));
+        entity.setUpdateDate(LocalDateTime.now(clock));
+        entity = taskStore.save(entity);
+        Task moved = taskMapper.toDomain(entity);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(moved, moved.updateDate()));
+        return moved;
+    }
+
+    /**
+     * Exclui logicamente uma tarefa com base no seu ID e publica um {@link TaskChangedEvent} de exclusão.
+     * A linha permanece como tombstone (com {@code deletedDate}) para que a sincronização incremental
+     * informe a exclusão aos clientes; o expurgo físico é feito pelo {@link TaskSyncService}.
+     * Uma tarefa arquivada volta para a tabela ativa para virar tombstone.
      * @param id O UUID da tarefa a ser excluída.
      * @throws TaskNotFoundException se nenhuma tarefa for encontrada com o ID fornecido.
      */
-    public void deleteTask(UUID id) {
-        Task taskToDelete = findTaskById(id);
-        taskRepository.deleteById(taskToDelete.id());
+    public void deleteTask(@ShardKey UUID id) {
+        TaskEntity entity = findActiveEntity(id);
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        entity.setDeletedDate(now);
+        entity.setUpdateDate(now);
+        taskStore.save(entity);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id, entity.getStatus(), now));
+    }
+
+    /**
+     * Busca a entidade ativa da tarefa, restaurando-a do arquivo quando necessário.
+     * @param id O UUID da tarefa.
+     * @return A entidade gerenciada da tarefa na tabela ativa.
+     * @throws TaskNotFoundException se a tarefa não existir nem na tabela ativa nem no arquivo.
+     */
+    private TaskEntity findActiveEntity(UUID id) {
+        requireKnownId(id);
+        return taskStore.findByIdAndDeletedDateIsNull(id)
+                .or(() -> restoreFromArchive(id))
+                .orElseThrow(() -> notFound(id));
+    }
+
+    private static <T> List<T> inChunks(List<UUID> ids, Function<List<UUID>, List<T>> query) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<T> result = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            result.addAll(query.apply(ids.subList(from, Math.min(ids.size(), from + LOOKUP_CHUNK_SIZE))));
+        }
+        return result;
+    }
+
+    private void requireKnownId(UUID id) {
+        if (!taskIdFilter.mightContain(id)) {
+            throw new TaskNotFoundException(id);
+        }
+    }
+
+    private TaskNotFoundException notFound(UUID id) {
+        taskIdFilter.recordFalsePositive(id);
+        return new TaskNotFoundException(id);
+    }
+
+    private RankCursor parseRankCursor(String cursor) {
+        if (cursor == null) {
+            return RankCursor.start(shards.count());
+        }
+        try {
+            return RankCursor.decode(cursor, shards.count());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTaskCursorException(cursor);
+        }
+    }
+
+    private ShardCursor parseCursor(String cursor) {
+        if (cursor == null) {
+            return ShardCursor.start(shards.count());
+        }
+        try {
+            return ShardCursor.decode(cursor, shards.count());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTaskCursorException(cursor);
+        }
+    }
+
+    /**
+     * Restaura a tarefa arquivada para a tabela ativa. O arquivo não guarda a chave de ordenação: a tarefa
+     * restaurada volta no fim da ordem definida pelo usuário.
+     */
+    private Optional<TaskEntity> restoreFromArchive(UUID id) {
+        if (taskArchiveStore.copyBackToTasks(id) == 0) {
+            return Optional.empty();
+        }
+        taskArchiveStore.deleteById(id);
+        Optional<TaskEntity> restored = taskStore.findByIdAndDeletedDateIsNull(id);
+        restored.ifPresent(entity -> entity.setRankKey(taskRanking.next()));
+        return restored;
     }
 
 }
@@ -0,0 +1,184 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskChanges;
+import com.stefanini.desafio.todolistapi.domain.model.TaskPage;
+import com.stefanini.desafio.todolistapi.domain.model.TaskTombstone;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Bulkhead;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
+import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardCursor;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sincronização incremental (delta sync) para clientes offline/mobile.
+ * A marca d'água é a {@code updateDate} da última alteração entregue; exclusões são entregues como tombstones
+ * até expirarem o período de retenção, após o qual o cliente recebe um snapshot completo.
+ * <p>
+ * O snapshot também é paginado, pela ordem de criação ({@link ActiveTaskPages}), e cada página traz o cursor da
+ * seguinte. A marca d'água é fixada na primeira página e vai no cursor: depois da última página, a sincronização
+ * incremental a partir dela traz o que mudou enquanto o cliente lia o snapshot.
+ * Com o particionamento ligado, cada consulta roda em todos os shards e as alterações são intercaladas por
+ * {@code updateDate}; a marca d'água continua global, pois os shards compartilham o relógio da aplicação
+ * (o mesmo {@link Clock} que o {@link TaskService} usa nas datas gravadas).
+ */
+@Service
+@Transactional(Transactional.TxType.SUPPORTS)
+public class TaskSyncService {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final TaskStore taskStore;
+    private final TaskMapper taskMapper;
+    private final Shards shards;
+    private final Duration tombstoneRetention;
+    private final Duration safetyLag;
+    private final int maxLimit;
+    private final Clock clock;
+
+    public TaskSyncService(
+            TaskStore taskStore,
+            TaskMapper taskMapper,
+            Shards shards,
+            Clock clock,
+            @Value("${api.tasks.sync.tombstone-retention:30d}") Duration tombstoneRetention,
+            @Value("${api.tasks.sync.safety-lag:2s}") Duration safetyLag,
+            @Value("${api.tasks.sync.max-limit:5000}") int maxLimit) {
+        this.taskStore = taskStore;
+        this.taskMapper = taskMapper;
+        this.shards = shards;
+        this.tombstoneRetention = tombstoneRetention;
+        this.safetyLag = safetyLag;
+        this.maxLimit = maxLimit;
+        this.clock = clock;
+    }
+
+    /**
+     * Retorna as alterações ocorridas após a marca d'água informada.
+     * A janela termina em "agora menos a margem de segurança", para não pular transações ainda não confirmadas
+     * que gravaram uma {@code updateDate} anterior à marca d'água devolvida.
+     * @param since A marca d'água da última sincronização (nula na primeira sincronização).
+     * @param snapshotCursor O cursor da página anterior do snapshot; quando informado, {@code since} é ignorado.
+     * @param limit O número máximo de alterações (ou tarefas do snapshot) por página.
+     * @return As alterações, os tombstones e a nova marca d'água.
+     * @throws InvalidTaskCursorException se o cursor do snapshot estiver malformado ou tiver sido emitido para outra
+     * topologia de shards.
+     */
+    @Bulkhead(Workload.BULK)
+    public TaskChanges findChangesSince(LocalDateTime since, String snapshotCursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, maxLimit);
+        if (snapshotCursor != null) {
+            return snapshotPage(snapshotCursor, pageSize);
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime upTo = now.minus(safetyLag);
+
+        if (since == null || since.isBefore(now.minus(tombstoneRetention))) {
+            // Tombstones anteriores à retenção já podem ter sido expurgados: o cliente precisa de um snapshot.
+            return snapshotPage(upTo, ShardCursor.start(shards.count()), pageSize);
+        }
+        if (!since.isBefore(upTo)) {
+            return new TaskChanges(List.of(), List.of(), since, false, false, null);
+        }
+
+        // Cada shard devolve até pageSize + 1 linhas; intercaladas, as primeiras pageSize + 1 são as globais.
+        List<TaskEntity> rows = shards.gather(() -> taskStore.findChangedBetween(since, upTo, Limit.of(pageSize + 1)));
+        rows.sort(Comparator.comparing(TaskEntity::getUpdateDate));
+        rows = rows.subList(0, Math.min(rows.size(), pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        LocalDateTime watermark = upTo;
+
+        if (hasMore) {
+            rows = trimToWholeTimestamps(rows, pageSize);
+            watermark = rows.getLast().getUpdateDate();
+        }
+        return split(rows, watermark, hasMore);
+    }
+
+    /**
+     * Remove fisicamente os tombstones mais antigos que o período de retenção, em uma transação por shard.
+     * @return A quantidade de tombstones removidos.
+     */
+    @Bulkhead(Workload.BULK)
+    @Scheduled(fixedDelayString = "${api.tasks.sync.purge-interval-ms:3600000}")
+    public int purgeExpiredTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(tombstoneRetention);
+        return shards.sumOnEach(() -> taskStore.purgeTombstonesDeletedBefore(cutoff));
+    }
+
+    /**
+     * Corta a página sem separar linhas com a mesma {@code updateDate}: como a próxima consulta usa
+     * {@code > watermark}, dividir um empate perderia as linhas restantes do mesmo instante.
+     */
+    private List<TaskEntity> trimToWholeTimestamps(List<TaskEntity> rows, int pageSize) {
+        LocalDateTime boundary = rows.get(pageSize).getUpdateDate();
+        int end = pageSize;
+        while (end > 0 && rows.get(end - 1).getUpdateDate().equals(boundary)) {
+            end--;
+        }
+        if (end == 0) {
+            // Página inteira no mesmo instante: entrega todas as linhas desse instante de uma vez.
+            return shards.gather(() -> taskStore.findByUpdateDate(boundary));
+        }
+        return rows.subList(0, end);
+    }
+
+    private TaskChanges snapshotPage(String snapshotCursor, int pageSize) {
+        String decoded;
+        try {
+            decoded = new String(DECODER.decode(snapshotCursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTaskCursorException(snapshotCursor);
+        }
+        int separator = decoded.indexOf('|');
+        try {
+            if (separator < 0) {
+                throw new IllegalArgumentException("Cursor de snapshot sem marca d'água");
+            }
+            return snapshotPage(LocalDateTime.parse(decoded.substring(0, separator)),
+                    ShardCursor.decode(decoded.substring(separator + 1), shards.count()), pageSize);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidTaskCursorException(snapshotCursor);
+        }
+    }
+
+    private TaskChanges snapshotPage(LocalDateTime watermark, ShardCursor position, int pageSize) {
+        TaskPage page = ActiveTaskPages.next(shards, taskStore, position, pageSize);
+        String next = page.nextCursor() != null
+                ? ENCODER.encodeToString((watermark + "|" + page.nextCursor()).getBytes(StandardCharsets.UTF_8))
+                : null;
+        return new TaskChanges(page.tasks(), List.of(), watermark, next != null, true, next);
+    }
+
+    private TaskChanges split(List<TaskEntity> rows, LocalDateTime watermark, boolean hasMore) {
+        List<Task> tasks = new ArrayList<>(rows.size());
+        List<TaskTombstone> deleted = new ArrayList<>();
+        for (TaskEntity row : rows) {
+            if (row.getDeletedDate() != null) {
+                deleted.add(new TaskTombstone(row.getId(), row.getDeletedDate()));
+            } else {
+                tasks.add(taskMapper.toDomain(row));
+            }
+        }
+        return new TaskChanges(tasks, deleted, watermark, hasMore, false, null);
+    }
+}
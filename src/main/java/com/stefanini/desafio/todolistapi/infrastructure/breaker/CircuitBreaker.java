@@ -0,0 +1,174 @@
+package com.stefanini.desafio.todolistapi.infrastructure.breaker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker com janela deslizante das últimas {@code windowSize} chamadas.
+ * <p>
+ * Fechado, todas as chamadas passam; quando ao menos {@code minimumCalls} foram registradas e a taxa de falhas da
+ * janela chega a {@code failureRateThreshold}, o circuito abre e recusa as chamadas por {@code openDuration}.
+ * Depois disso fica meio aberto e deixa passar {@code halfOpenCalls} chamadas de teste: se todas tiverem sucesso,
+ * fecha com a janela zerada; a primeira falha o abre de novo.
+ * <p>
+ * Publica, com a tag {@code name}: {@code circuit.breaker.state} (0 = fechado, 1 = aberto, 2 = meio aberto) e
+ * {@code circuit.breaker.calls} por {@code outcome} ({@code success}, {@code failure} ou {@code rejected}).
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier ticker;
+    private final Counter successes;
+    private final Counter failed;
+    private final Counter rejected;
+
+    /** Resultado das últimas chamadas ({@code true} = falha), em anel. Protegido por {@code this}. */
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls, LongSupplier ticker, MeterRegistry meterRegistry) {
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.ticker = ticker;
+        this.successes = callCounter(meterRegistry, name, "success");
+        this.failed = callCounter(meterRegistry, name, "failure");
+        this.rejected = callCounter(meterRegistry, name, "rejected");
+        Gauge.builder("circuit.breaker.state", this, breaker -> breaker.getState().ordinal())
+                .description("Estado do circuit breaker (0 = fechado, 1 = aberto, 2 = meio aberto)")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Pede permissão para uma chamada. Quem recebe {@code true} deve informar o resultado com {@link #onSuccess()},
+     * {@link #onFailure()} ou {@link #onIgnored()}.
+     * @return {@code false} se o circuito estiver aberto (ou meio aberto, sem vagas de teste).
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (ticker.getAsLong() - openedAt < openNanos) {
+                rejected.increment();
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                rejected.increment();
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * Registra uma chamada bem-sucedida.
+     */
+    public synchronized void onSuccess() {
+        successes.increment();
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Devolve a permissão de uma chamada que não chegou ao banco (ex: recusada por um bulkhead), sem registrar
+     * resultado: com o circuito meio aberto, a vaga de teste volta a ficar disponível.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermits + halfOpenSuccesses < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * Registra uma chamada com falha, abrindo o circuito se a taxa de falhas chegar ao limite.
+     */
+    public synchronized void onFailure() {
+        failed.increment();
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * @return O tempo até o circuito aberto voltar a aceitar chamadas de teste (zero se não estiver aberto).
+     */
+    public synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openNanos - (ticker.getAsLong() - openedAt)));
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = ticker.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("circuit.breaker.calls")
+                .description("Chamadas ao circuit breaker, pelo resultado")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,180 @@
+package com.stefanini.desafio.todolistapi.infrastructure.breaker;
+
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Bulkhead;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.BulkheadFullException;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
+import com.stefanini.desafio.todolistapi.infrastructure.config.AspectOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Protege o banco com um {@link CircuitBreaker} em volta das operações do {@code TaskService}: falhas de conexão,
+ * timeouts e chamadas mais lentas que {@code slowCallThreshold} contam como falha; erros de negócio (ex: tarefa não
+ * encontrada) e conflitos de versão ou de lock contam como sucesso, já que o banco respondeu. As operações
+ * {@link Workload#BULK} (ex: as listagens completas) ficam fora da contagem de chamadas lentas: levam segundos em
+ * tabelas grandes mesmo com o banco saudável, e algumas delas abririam o circuito para as escritas e buscas por ID.
+ * Continuam contando as suas falhas e timeouts.
+ * <p>
+ * Com o circuito aberto, ou quando uma leitura {@link ServeStale} falha no banco, a leitura é atendida com o último
+ * resultado do {@link StaleReadCache}, e a resposta HTTP da thread chamadora recebe os headers {@code Warning: 110} e
+ * {@code Age} (o resultado é marcado em {@link StaleReads}, para não ser repassado a outras requisições);
+ * sem resultado guardado, e para as escritas, a chamada é recusada na hora com {@link DatabaseUnavailableException}
+ * (HTTP 503), em vez de prender a thread até o timeout do JDBC.
+ * <p>
+ * Roda dentro do bulkhead e antes do interceptador de transações ({@link AspectOrder}): o tempo só é medido depois
+ * que a chamada recebeu a vaga, então a espera na fila não conta como chamada lenta, e a falha ao obter a conexão
+ * conta. Uma {@link BulkheadFullException} nunca é registrada. Com {@code api.breaker.enabled=false} as chamadas
+ * passam direto.
+ */
+@Aspect
+@Order(AspectOrder.CIRCUIT_BREAKER)
+public class DatabaseCircuitBreakerAspect {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private final CircuitBreaker breaker;
+    private final StaleReadCache cache;
+    private final boolean enabled;
+    private final long slowCallNanos;
+    private final Counter staleReads;
+    private final Map<Method, Policy> policies = new ConcurrentHashMap<>();
+
+    /** O que a anotação do método define para o circuit breaker, resolvido uma vez por método. */
+    private record Policy(boolean serveStale, boolean countsSlowCalls) {
+    }
+
+    public DatabaseCircuitBreakerAspect(CircuitBreaker breaker, StaleReadCache cache, boolean enabled,
+                                        Duration slowCallThreshold, MeterRegistry meterRegistry) {
+        this.breaker = breaker;
+        this.cache = cache;
+        this.enabled = enabled;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.staleReads = Counter.builder("circuit.breaker.stale.reads")
+                .description("Leituras atendidas com o último resultado guardado por falha do banco")
+                .tag("name", "database")
+                .register(meterRegistry);
+    }
+
+    @Around("execution(public * com.stefanini.desafio.todolistapi.domain.service.TaskService.*(..))")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        StaleReads.reset();
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget() != null ? joinPoint.getTarget().getClass() : method.getDeclaringClass();
+        Policy policy = policies.computeIfAbsent(method, m -> policyOf(m, targetClass));
+        StaleReadCache.Key key = policy.serveStale() ? StaleReadCache.Key.of(method, joinPoint.getArgs()) : null;
+
+        if (!breaker.tryAcquire()) {
+            StaleReadCache.Entry entry = key != null ? cache.get(key) : null;
+            if (entry == null) {
+                throw new DatabaseUnavailableException(Math.max(1, breaker.remainingOpen().toSeconds()));
+            }
+            return serve(entry);
+        }
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            if (e instanceof BulkheadFullException) {
+                breaker.onIgnored();
+                throw e;
+            }
+            if (!isDatabaseFailure(e)) {
+                breaker.onSuccess();
+                throw e;
+            }
+            breaker.onFailure();
+            StaleReadCache.Entry entry = key != null ? cache.get(key) : null;
+            if (entry == null) {
+                throw e;
+            }
+            return serve(entry);
+        }
+        if (policy.countsSlowCalls() && System.nanoTime() - start > slowCallNanos) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+        if (key != null) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    private static Policy policyOf(Method method, Class<?> targetClass) {
+        Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(specific, Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(targetClass, Bulkhead.class);
+        }
+        return new Policy(AnnotatedElementUtils.hasAnnotation(specific, ServeStale.class),
+                bulkhead == null || bulkhead.value() != Workload.BULK);
+    }
+
+    private Object serve(StaleReadCache.Entry entry) {
+        staleReads.increment();
+        StaleReads.markServed();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet && servlet.getResponse() != null) {
+            HttpServletResponse response = servlet.getResponse();
+            response.setHeader(HttpHeaders.WARNING, STALE_WARNING);
+            response.setHeader(HttpHeaders.AGE, Long.toString(cache.age(entry).toSeconds()));
+        }
+        return entry.value();
+    }
+
+    /**
+     * Indica se a exceção (ou uma de suas causas) mostra que o banco está indisponível ou lento demais.
+     */
+    static boolean isDatabaseFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConcurrencyFailureException) {
+                return false;
+            }
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof TransactionTimedOutException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException
+                    || cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
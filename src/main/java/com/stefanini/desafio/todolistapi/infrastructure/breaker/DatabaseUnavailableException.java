@@ -0,0 +1,20 @@
+package com.stefanini.desafio.todolistapi.infrastructure.breaker;
+
+import com.stefanini.desafio.todolistapi.domain.service.StacklessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Lançada quando o circuit breaker do banco está aberto e não há resultado anterior para servir (HTTP 503).
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+@Getter
+public class DatabaseUnavailableException extends StacklessException {
+
+    private final long retryAfterSeconds;
+
+    public DatabaseUnavailableException(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.stefanini.desafio.todolistapi.infrastructure.breaker;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca uma leitura que pode ser atendida com o último resultado bem-sucedido (para os mesmos argumentos) quando o
+ * banco falha ou o circuit breaker está aberto. Ver {@link DatabaseCircuitBreakerAspect}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ServeStale {
+}
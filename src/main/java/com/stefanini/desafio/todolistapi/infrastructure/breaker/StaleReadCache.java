@@ -0,0 +1,206 @@
+package com.stefanini.desafio.todolistapi.infrastructure.breaker;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.TaskLookup;
+import com.stefanini.desafio.todolistapi.domain.model.TaskPage;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Último resultado bem-sucedido de cada leitura {@link ServeStale}, por método e argumentos, guardado para ser servido
+ * quando o banco está indisponível.
+ * <p>
+ * O limite é pelo tamanho dos resultados, e não pela quantidade de leituras: cada resultado pesa a quantidade de
+ * tarefas que contém (uma listagem completa pesa tanto quanto as suas tarefas), e a soma fica em até
+ * {@code maxTasks}. Resultados maiores que o limite não são guardados. Ao passar do limite, os resultados lidos do
+ * banco há mais tempo são descartados até sobrar um décimo de folga; como toda leitura bem-sucedida regrava o seu
+ * resultado, as leituras frequentes ficam.
+ * <p>
+ * As leituras e gravações não disputam um lock global: o mapa é concorrente, e só o descarte, raro, percorre as
+ * entradas (uma thread por vez). Os resultados são guardados por referência (os objetos de domínio são imutáveis).
+ * <p>
+ * Uma alteração confirmada descarta as leituras que receberam o ID da tarefa alterada, sozinho ou em uma coleção de
+ * IDs (ex: a busca de várias tarefas), encontradas por um índice reverso de ID para leituras, sem percorrer o mapa.
+ * As leituras sem ID (listagens, páginas, contagens) podem conter qualquer tarefa e são todas descartadas, para que
+ * uma listagem guardada não sirva uma tarefa que o {@code GET /{id}} já não encontra. Com o banco fora não há
+ * commits, então as listagens lidas antes da queda continuam disponíveis.
+ */
+public class StaleReadCache {
+
+    /** Chave de uma leitura: o método e os argumentos recebidos. */
+    public record Key(Method method, List<Object> args) {
+
+        public static Key of(Method method, Object[] args) {
+            return new Key(method, Arrays.asList(args.clone()));
+        }
+    }
+
+    /** Resultado guardado, o instante (em {@code ticker}) em que foi lido do banco e o seu peso em tarefas. */
+    public record Entry(Object value, long storedAt, long weight) {
+    }
+
+    private final long maxTasks;
+    private final LongSupplier ticker;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    /** Leituras guardadas por ID de tarefa recebido nos argumentos. */
+    private final ConcurrentMap<Object, Set<Key>> byTask = new ConcurrentHashMap<>();
+    /** Leituras guardadas que não receberam nenhum ID de tarefa. */
+    private final Set<Key> listings = ConcurrentHashMap.newKeySet();
+    private final AtomicLong weight = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public StaleReadCache(long maxTasks, LongSupplier ticker) {
+        this.maxTasks = maxTasks;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Guarda o resultado de uma leitura bem-sucedida.
+     * @param key A leitura.
+     * @param value O resultado.
+     */
+    public void put(Key key, Object value) {
+        long size = weigh(value);
+        if (size > maxTasks) {
+            remove(key);
+            return;
+        }
+        Entry previous = entries.put(key, new Entry(value, ticker.getAsLong(), size));
+        index(key);
+        if (weight.addAndGet(size - (previous != null ? previous.weight() : 0)) > maxTasks) {
+            evict();
+        }
+    }
+
+    /**
+     * @param key A leitura.
+     * @return O último resultado da leitura, ou nulo se não houver.
+     */
+    public Entry get(Key key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @param entry Um resultado guardado.
+     * @return Há quanto tempo o resultado foi lido do banco.
+     */
+    public Duration age(Entry entry) {
+        return Duration.ofNanos(ticker.getAsLong() - entry.storedAt());
+    }
+
+    /**
+     * @return A soma dos pesos dos resultados guardados, em tarefas.
+     */
+    public long weight() {
+        return weight.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<Key> reads = byTask.remove(event.taskId());
+        if (reads != null) {
+            reads.forEach(this::remove);
+        }
+        listings.forEach(this::remove);
+    }
+
+    private void index(Key key) {
+        boolean mentionsTask = false;
+        for (Object id : taskIds(key)) {
+            byTask.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(key);
+            mentionsTask = true;
+        }
+        if (!mentionsTask) {
+            listings.add(key);
+        }
+    }
+
+    private void unindex(Key key) {
+        if (listings.remove(key)) {
+            return;
+        }
+        for (Object id : taskIds(key)) {
+            byTask.computeIfPresent(id, (k, keys) -> keys.remove(key) && keys.isEmpty() ? null : keys);
+        }
+    }
+
+    /** IDs de tarefas recebidos pela leitura, sozinhos ou em uma coleção. */
+    private static List<Object> taskIds(Key key) {
+        List<Object> ids = new ArrayList<>();
+        for (Object arg : key.args()) {
+            if (arg instanceof UUID) {
+                ids.add(arg);
+            } else if (arg instanceof Collection<?> values) {
+                for (Object value : values) {
+                    if (value instanceof UUID) {
+                        ids.add(value);
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Map.Entry<Key, Entry>> oldest = new ArrayList<>(entries.entrySet());
+            oldest.sort(Comparator.comparingLong(entry -> entry.getValue().storedAt()));
+            long target = maxTasks - maxTasks / 10;
+            for (Map.Entry<Key, Entry> entry : oldest) {
+                if (weight.get() <= target) {
+                    break;
+                }
+                remove(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private void remove(Key key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            weight.addAndGet(-entry.weight());
+            unindex(key);
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            weight.addAndGet(-entry.weight());
+            unindex(key);
+        }
+    }
+
+    private static long weigh(Object value) {
+        long size;
+        if (value instanceof Collection<?> collection) {
+            size = collection.size();
+        } else if (value instanceof TaskPage page) {
+            size = page.tasks().size();
+        } else if (value instanceof TaskLookup lookup) {
+            size = lookup.tasks().size();
+        } else {
+            size = 1;
+        }
+        return Math.max(1, size);
+    }
+}
@@ -0,0 +1,29 @@
+package com.stefanini.desafio.todolistapi.infrastructure.breaker;
+
+/**
+ * Indica à thread chamadora se a última operação do {@code TaskService} foi atendida com um resultado do
+ * {@link StaleReadCache}. Os headers {@code Warning} e {@code Age} só vão para a resposta dessa thread, então quem
+ * compartilha resultados entre requisições (ex: o {@code TaskReadCoalescer}) não deve repassar nem guardar esse.
+ */
+public final class StaleReads {
+
+    private static final ThreadLocal<Boolean> SERVED = new ThreadLocal<>();
+
+    private StaleReads() {
+    }
+
+    /**
+     * @return {@code true} se a última operação do {@code TaskService} na thread devolveu um resultado guardado.
+     */
+    public static boolean lastCallServedStale() {
+        return SERVED.get() != null;
+    }
+
+    static void reset() {
+        SERVED.remove();
+    }
+
+    static void markServed() {
+        SERVED.set(Boolean.TRUE);
+    }
+}
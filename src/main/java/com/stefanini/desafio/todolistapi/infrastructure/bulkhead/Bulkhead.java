@@ -0,0 +1,23 @@
+package com.stefanini.desafio.todolistapi.infrastructure.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Executa o método (ou todos os métodos públicos da classe) dentro do bulkhead da classe de carga informada,
+ * com as conexões do pool dessa classe. A anotação do método prevalece sobre a da classe.
+ * Ver {@link BulkheadAspect}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    /**
+     * @return A classe de carga da operação.
+     */
+    Workload value();
+}
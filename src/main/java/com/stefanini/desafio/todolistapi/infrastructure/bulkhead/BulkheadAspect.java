@@ -0,0 +1,84 @@
+package com.stefanini.desafio.todolistapi.infrastructure.bulkhead;
+
+import com.stefanini.desafio.todolistapi.infrastructure.config.AspectOrder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Executa os métodos anotados com {@link Bulkhead} dentro do bulkhead da sua classe de carga e com a classe de carga
+ * definida na thread, para que as conexões venham do pool correspondente.
+ * <p>
+ * Só a operação mais externa passa pelo bulkhead: chamadas aninhadas mantêm a classe de carga já definida, sem
+ * reservar outra vaga (assim um job em lote que chama o {@code TaskService} não disputa as vagas interativas).
+ * Roda antes do interceptador de transações, já que a conexão é escolhida quando a transação começa, e antes do
+ * circuit breaker do banco ({@link AspectOrder}), que só mede a chamada depois que ela recebeu a vaga.
+ * <p>
+ * As requisições HTTP e os jobs em segundo plano têm vagas separadas em cada classe de carga: uma requisição espera
+ * poucos milissegundos e recebe 503, em vez de prender a thread do servidor na fila, e as reconstruções agendadas
+ * não tomam as vagas das listagens.
+ * Com {@code api.bulkheads.enabled=false} apenas a classe de carga é definida, sem limitar a concorrência.
+ */
+@Aspect
+@Order(AspectOrder.BULKHEAD)
+public class BulkheadAspect {
+
+    private final Map<Workload, WorkloadBulkhead> requests = new EnumMap<>(Workload.class);
+    private final Map<Workload, WorkloadBulkhead> background = new EnumMap<>(Workload.class);
+    private final boolean enabled;
+    private final Map<Method, Workload> workloads = new ConcurrentHashMap<>();
+
+    public BulkheadAspect(Iterable<WorkloadBulkhead> bulkheads, boolean enabled) {
+        for (WorkloadBulkhead bulkhead : bulkheads) {
+            (bulkhead.getOrigin() == WorkloadBulkhead.Origin.REQUEST ? requests : background)
+                    .put(bulkhead.getWorkload(), bulkhead);
+        }
+        this.enabled = enabled;
+    }
+
+    @Around("within(com.stefanini.desafio.todolistapi..*) && (@annotation(com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Bulkhead) "
+            + "|| @within(com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Bulkhead))")
+    public Object isolate(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (WorkloadContext.current() != null) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget() != null ? joinPoint.getTarget().getClass() : method.getDeclaringClass();
+        Workload workload = workloads.computeIfAbsent(method, key -> workloadOf(key, targetClass));
+
+        WorkloadBulkhead bulkhead = null;
+        if (enabled) {
+            bulkhead = (RequestContextHolder.getRequestAttributes() != null ? requests : background).get(workload);
+        }
+        if (bulkhead != null) {
+            bulkhead.acquire();
+        }
+        Workload previous = WorkloadContext.enter(workload);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private static Workload workloadOf(Method method, Class<?> targetClass) {
+        Bulkhead annotation = AnnotatedElementUtils.findMergedAnnotation(AopUtils.getMostSpecificMethod(method, targetClass), Bulkhead.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, Bulkhead.class);
+        }
+        return annotation != null ? annotation.value() : Workload.INTERACTIVE;
+    }
+}
@@ -0,0 +1,22 @@
+package com.stefanini.desafio.todolistapi.infrastructure.bulkhead;
+
+import com.stefanini.desafio.todolistapi.domain.service.StacklessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Lançada quando o bulkhead de uma classe de carga não libera uma vaga dentro da espera máxima (HTTP 503).
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+@Getter
+public class BulkheadFullException extends StacklessException {
+
+    private final Workload workload;
+    private final long retryAfterSeconds;
+
+    public BulkheadFullException(Workload workload, long retryAfterSeconds) {
+        this.workload = workload;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
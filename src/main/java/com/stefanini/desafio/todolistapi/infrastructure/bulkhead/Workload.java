@@ -0,0 +1,13 @@
+package com.stefanini.desafio.todolistapi.infrastructure.bulkhead;
+
+/**
+ * Classe de carga de uma operação, que define o bulkhead e o pool de conexões usados por ela.
+ */
+public enum Workload {
+
+    /** Operações curtas e sensíveis à latência (ex: busca, alteração e exclusão de uma tarefa). */
+    INTERACTIVE,
+
+    /** Operações longas que percorrem muitas tarefas (ex: listagem completa, snapshot, importação, jobs). */
+    BULK
+}
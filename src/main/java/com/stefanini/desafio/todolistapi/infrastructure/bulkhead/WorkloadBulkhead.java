@@ -0,0 +1,112 @@
+package com.stefanini.desafio.todolistapi.infrastructure.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkhead de uma classe de carga e origem: no máximo {@code maxConcurrent} operações simultâneas, e as demais
+ * esperam em fila justa (FIFO) por até {@code maxWait} antes de serem recusadas.
+ * <p>
+ * Publica, com as tags {@code workload} e {@code origin}: {@code bulkhead.queue.depth} (operações na fila), {@code bulkhead.active}
+ * (operações em execução), {@code bulkhead.wait} (tempo de espera por uma vaga, inclusive das recusadas) e
+ * {@code bulkhead.rejected} (operações recusadas).
+ */
+public class WorkloadBulkhead {
+
+    /** Origem das operações, com vagas separadas. */
+    public enum Origin {
+        /** Requisições HTTP: a espera prende uma thread do servidor, então deve ser curta. */
+        REQUEST,
+        /** Jobs em segundo plano: podem esperar mais, sem disputar as vagas das requisições. */
+        BACKGROUND
+    }
+
+    private final Workload workload;
+    private final Origin origin;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final Timer wait;
+    private final Counter rejected;
+
+    public WorkloadBulkhead(Workload workload, Origin origin, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.workload = workload;
+        this.origin = origin;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+        String tag = workload.name().toLowerCase(Locale.ROOT);
+        String originTag = origin.name().toLowerCase(Locale.ROOT);
+        this.wait = Timer.builder("bulkhead.wait")
+                .description("Tempo de espera por uma vaga no bulkhead")
+                .tag("workload", tag)
+                .tag("origin", originTag)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("bulkhead.rejected")
+                .description("Operações recusadas por esgotar a espera no bulkhead")
+                .tag("workload", tag)
+                .tag("origin", originTag)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queue.depth", this, WorkloadBulkhead::getQueueDepth)
+                .description("Operações esperando uma vaga no bulkhead")
+                .tag("workload", tag)
+                .tag("origin", originTag)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", this, WorkloadBulkhead::getActive)
+                .description("Operações em execução no bulkhead")
+                .tag("workload", tag)
+                .tag("origin", originTag)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserva uma vaga, esperando no máximo {@code maxWait}.
+     * @throws BulkheadFullException se nenhuma vaga for liberada a tempo.
+     */
+    public void acquire() {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera pelo bulkhead " + workload + " interrompida", e);
+        } finally {
+            wait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new BulkheadFullException(workload, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(maxWaitNanos)));
+        }
+    }
+
+    /**
+     * Libera a vaga reservada por {@link #acquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    public Origin getOrigin() {
+        return origin;
+    }
+
+    public int getQueueDepth() {
+        return permits.getQueueLength();
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
@@ -0,0 +1,58 @@
+package com.stefanini.desafio.todolistapi.infrastructure.bulkhead;
+
+import java.util.function.Supplier;
+
+/**
+ * Classe de carga corrente da thread, lida pelo {@link WorkloadRoutingDataSource} ao abrir uma conexão.
+ * Como o {@link com.stefanini.desafio.todolistapi.infrastructure.shard.ShardContext}, precisa estar definida antes
+ * do início da transação.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * Retorna a classe de carga corrente da thread.
+     * @return A classe de carga, ou nulo quando nenhuma foi definida (usa {@link Workload#INTERACTIVE}).
+     */
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executa a ação com a classe de carga informada e restaura a anterior ao final.
+     * Não passa pelo bulkhead: serve para propagar a classe de carga para outras threads
+     * ou para tarefas que já têm a própria fila (ex: as importações).
+     * @param workload A classe de carga; nula mantém a da thread.
+     * @param action A ação a executar.
+     * @return O resultado da ação.
+     */
+    public static <T> T callAs(Workload workload, Supplier<T> action) {
+        if (workload == null) {
+            return action.get();
+        }
+        Workload previous = enter(workload);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.stefanini.desafio.todolistapi.infrastructure.bulkhead;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * DataSource que entrega conexões do pool da classe de carga corrente ({@link WorkloadContext}).
+ * Sem classe de carga definida, usa o pool {@link Workload#INTERACTIVE}, que também atende o Flyway e o Hibernate
+ * na subida.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+}
@@ -0,0 +1,199 @@
+package com.stefanini.desafio.todolistapi.infrastructure.coalesce;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Agrupamento de leituras concorrentes (single-flight): a primeira chamada para uma chave executa a carga e
+ * as que chegam enquanto ela está em andamento esperam e recebem o mesmo resultado, ou a mesma exceção.
+ * <p>
+ * Com uma janela de cache maior que zero, o resultado concluído continua sendo entregue por esse tempo.
+ * {@link #invalidate} descarta a carga em andamento e o resultado em cache da chave: chamadas posteriores à
+ * invalidação sempre fazem uma carga nova, e uma carga iniciada antes dela não entra no cache.
+ * <p>
+ * Um resultado que a carga marca como não compartilhável (ex: servido do cache de leituras com o banco indisponível,
+ * que precisa dos headers de idade na resposta) fica apenas com quem a executou: não entra no cache, e as chamadas
+ * em espera refazem a carga cada uma.
+ *
+ * @param <K> O tipo da chave da leitura.
+ * @param <V> O tipo do resultado, compartilhado entre as chamadas (deve ser imutável).
+ */
+public final class SingleFlight<K, V> {
+
+    /** Sinal interno para as chamadas em espera refazerem a carga; sem stack trace, já que nunca escapa. */
+    private static final RuntimeException UNSHARED = new RuntimeException("Resultado não compartilhável", null, false, false) {
+    };
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long cacheWindowNanos;
+    private final LongSupplier ticker;
+    private final Counter joinedInFlight;
+    private final Counter servedFromCache;
+
+    /** Uma carga e o seu resultado; {@code expiresAt} só é definido quando o resultado entra no cache. */
+    private static final class Flight<V> {
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        final long generation;
+        volatile long expiresAt;
+        volatile boolean cached;
+
+        Flight(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * @param name O nome da operação, usado na tag {@code operation} das métricas.
+     * @param cacheWindow Por quanto tempo o resultado concluído continua sendo entregue ({@link Duration#ZERO} desliga).
+     * @param registry O registro das métricas {@code tasks.reads.coalesced}.
+     */
+    public SingleFlight(String name, Duration cacheWindow, MeterRegistry registry) {
+        this(name, cacheWindow, registry, System::nanoTime);
+    }
+
+    /**
+     * @param ticker A fonte de tempo da janela de cache, em nanossegundos ({@link System#nanoTime()} fora dos testes).
+     * @see #SingleFlight(String, Duration, MeterRegistry)
+     */
+    public SingleFlight(String name, Duration cacheWindow, MeterRegistry registry, LongSupplier ticker) {
+        this.cacheWindowNanos = cacheWindow.toNanos();
+        this.ticker = ticker;
+        this.joinedInFlight = Counter.builder("tasks.reads.coalesced")
+                .description("Leituras atendidas pela carga de outra requisição, sem acesso próprio ao banco")
+                .tag("operation", name)
+                .tag("source", "in-flight")
+                .register(registry);
+        this.servedFromCache = Counter.builder("tasks.reads.coalesced")
+                .description("Leituras atendidas pela carga de outra requisição, sem acesso próprio ao banco")
+                .tag("operation", name)
+                .tag("source", "micro-cache")
+                .register(registry);
+    }
+
+    /**
+     * Retorna o resultado da carga em andamento (ou em cache) para a chave, ou executa a carga.
+     * @param key A chave da leitura.
+     * @param loader A carga, executada na thread chamadora quando ela é a primeira.
+     * @return O resultado da carga.
+     */
+    public V load(K key, Supplier<V> loader) {
+        return load(key, loader, () -> true);
+    }
+
+    /**
+     * Retorna o resultado da carga em andamento (ou em cache) para a chave, ou executa a carga.
+     * @param key A chave da leitura.
+     * @param loader A carga, executada na thread chamadora quando ela é a primeira.
+     * @param shareable Consultado na thread da carga logo após ela terminar: {@code false} entrega o resultado
+     *                  apenas a essa thread, sem cache, e as chamadas em espera refazem a carga.
+     * @return O resultado da carga.
+     */
+    public V load(K key, Supplier<V> loader, BooleanSupplier shareable) {
+        while (true) {
+            Flight<V> flight = flights.get(key);
+            if (flight != null && flight.cached && ticker.getAsLong() - flight.expiresAt >= 0) {
+                flights.remove(key, flight);
+                continue;
+            }
+            if (flight == null) {
+                Flight<V> mine = new Flight<>(generation.get());
+                flight = flights.putIfAbsent(key, mine);
+                if (flight == null) {
+                    return lead(key, mine, loader, shareable);
+                }
+            }
+            boolean cached = flight.cached;
+            V value;
+            try {
+                value = await(flight.result);
+            } catch (RuntimeException e) {
+                if (e == UNSHARED) {
+                    continue;
+                }
+                throw e;
+            }
+            (cached ? servedFromCache : joinedInFlight).increment();
+            return value;
+        }
+    }
+
+    /**
+     * Retorna o resultado em cache da chave, sem executar a carga nem esperar a que estiver em andamento.
+     * @param key A chave da leitura.
+     * @return O resultado ainda dentro da janela de cache, ou nulo.
+     */
+    public V peek(K key) {
+        Flight<V> flight = flights.get(key);
+        if (flight == null || !flight.cached || ticker.getAsLong() - flight.expiresAt >= 0) {
+            return null;
+        }
+        servedFromCache.increment();
+        return flight.result.getNow(null);
+    }
+
+    /**
+     * Descarta a carga em andamento e o resultado em cache da chave.
+     * @param key A chave da leitura.
+     */
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        flights.remove(key);
+    }
+
+    /**
+     * Descarta todas as cargas em andamento e resultados em cache.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        flights.clear();
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> loader, BooleanSupplier shareable) {
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            flights.remove(key, flight);
+            throw e;
+        }
+        if (!shareable.getAsBoolean()) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(UNSHARED);
+            return value;
+        }
+        flight.result.complete(value);
+        if (cacheWindowNanos > 0 && generation.get() == flight.generation) {
+            flight.expiresAt = ticker.getAsLong() + cacheWindowNanos;
+            flight.cached = true;
+        } else {
+            flights.remove(key, flight);
+        }
+        return value;
+    }
+
+    private static <V> V await(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
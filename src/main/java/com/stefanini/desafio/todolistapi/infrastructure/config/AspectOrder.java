@@ -0,0 +1,27 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import org.springframework.core.Ordered;
+
+/**
+ * Ordem dos aspectos em volta do {@code TaskService}, do mais externo para o mais interno. Todos rodam antes do
+ * interceptador de transações ({@link Ordered#LOWEST_PRECEDENCE}), já que a conexão é escolhida quando a
+ * transação começa:
+ * <ol>
+ *     <li>{@link #TRACING} e {@link #FLIGHT_RECORDER}: medem a chamada inteira, inclusive a espera no bulkhead;</li>
+ *     <li>{@link #BULKHEAD}: reserva a vaga da classe de carga e define o pool de conexões;</li>
+ *     <li>{@link #CIRCUIT_BREAKER}: só mede o tempo depois que a chamada recebeu a vaga, então a fila do
+ *     bulkhead não conta como chamada lenta;</li>
+ *     <li>{@link #SHARD_ROUTING}: define o shard do ID, usado pela transação logo em seguida.</li>
+ * </ol>
+ */
+public final class AspectOrder {
+
+    public static final int TRACING = Ordered.HIGHEST_PRECEDENCE;
+    public static final int FLIGHT_RECORDER = Ordered.HIGHEST_PRECEDENCE + 1;
+    public static final int BULKHEAD = Ordered.HIGHEST_PRECEDENCE + 2;
+    public static final int CIRCUIT_BREAKER = Ordered.HIGHEST_PRECEDENCE + 3;
+    public static final int SHARD_ROUTING = Ordered.HIGHEST_PRECEDENCE + 4;
+
+    private AspectOrder() {
+    }
+}
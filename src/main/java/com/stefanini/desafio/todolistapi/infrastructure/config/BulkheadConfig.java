@@ -0,0 +1,92 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.BulkheadAspect;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.WorkloadBulkhead;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Isolamento entre as operações interativas e as em lote (ver {@link com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Bulkhead}).
+ * <p>
+ * O bulkhead de cada classe de carga é sempre registrado; o limite de concorrência é controlado em tempo de execução
+ * por {@code api.bulkheads.enabled}. Já {@code api.bulkheads.separate-pools=true} é uma condição de bean, como o
+ * particionamento: o DataSource passa a ter um pool Hikari por classe de carga (ou por classe de carga e shard),
+ * com as métricas de cada pool ({@code hikaricp.connections.pending}, {@code hikaricp.connections.acquire}) publicadas
+ * com o nome do pool, e uma listagem completa não ocupa mais as conexões das buscas por ID.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+    @Bean
+    public BulkheadAspect bulkheadAspect(BulkheadProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        List<WorkloadBulkhead> bulkheads = new ArrayList<>();
+        for (Workload workload : Workload.values()) {
+            BulkheadProperties.Pool config = properties.of(workload);
+            bulkheads.add(new WorkloadBulkhead(workload, WorkloadBulkhead.Origin.REQUEST,
+                    config.maxConcurrent(), config.maxWait(), registry));
+            bulkheads.add(new WorkloadBulkhead(workload, WorkloadBulkhead.Origin.BACKGROUND,
+                    config.backgroundMaxConcurrent(), config.backgroundMaxWait(), registry));
+        }
+        return new BulkheadAspect(bulkheads, properties.enabled());
+    }
+
+    @Bean
+    @Primary
+    @Profile("!memory")
+    @ConditionalOnProperty(prefix = "api.bulkheads", name = "separate-pools", havingValue = "true")
+    public DataSource workloadRoutingDataSource(
+            BulkheadProperties properties,
+            ShardProperties shardProperties,
+            DataSourceProperties dataSourceProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        MetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        Map<Object, Object> targets = new HashMap<>();
+        for (Workload workload : Workload.values()) {
+            int maximumPoolSize = properties.of(workload).maximumPoolSize();
+            String name = workload.name().toLowerCase(Locale.ROOT);
+            if (shardProperties.enabled()) {
+                targets.put(workload, ShardingConfig.shardRouting(shardProperties, "-" + name,
+                        pool -> configure(pool, maximumPoolSize, metrics)));
+            } else {
+                HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+                pool.setPoolName(name);
+                targets.put(workload, configure(pool, maximumPoolSize, metrics));
+            }
+        }
+
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(Workload.INTERACTIVE));
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private static HikariDataSource configure(HikariDataSource pool, int maximumPoolSize, MetricsTrackerFactory metrics) {
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setMetricsTrackerFactory(metrics);
+        return pool;
+    }
+}
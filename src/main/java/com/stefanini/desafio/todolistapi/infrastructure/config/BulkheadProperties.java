@@ -0,0 +1,51 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração dos bulkheads por classe de carga ({@code api.bulkheads.*}).
+ * @param enabled Habilita o limite de concorrência de cada classe de carga.
+ * @param separatePools Usa um pool de conexões por classe de carga (por shard, com o particionamento ligado);
+ *                      desligado, as duas classes dividem o pool de {@code spring.datasource}.
+ * @param interactive Bulkhead e pool das operações interativas.
+ * @param bulk Bulkhead e pool das operações em lote.
+ */
+@ConfigurationProperties(prefix = "api.bulkheads")
+public record BulkheadProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("false") boolean separatePools,
+        @DefaultValue Pool interactive,
+        @DefaultValue Pool bulk
+) {
+
+    /**
+     * Retorna a configuração da classe de carga.
+     * @param workload A classe de carga.
+     * @return O bulkhead e o pool da classe de carga.
+     */
+    public Pool of(Workload workload) {
+        return workload == Workload.BULK ? bulk : interactive;
+    }
+
+    /**
+     * @param maxConcurrent Máximo de requisições simultâneas no bulkhead.
+     * @param maxWait Espera máxima de uma requisição por uma vaga antes de ser recusada; curta, já que prende a
+     *                thread do servidor.
+     * @param backgroundMaxConcurrent Máximo de operações simultâneas dos jobs em segundo plano, com vagas próprias.
+     * @param backgroundMaxWait Espera máxima de um job por uma vaga.
+     * @param maximumPoolSize Tamanho máximo do pool de conexões da classe de carga (por shard); deve comportar as
+     *                        vagas das requisições e dos jobs.
+     */
+    public record Pool(
+            @DefaultValue("40") int maxConcurrent,
+            @DefaultValue("50ms") Duration maxWait,
+            @DefaultValue("2") int backgroundMaxConcurrent,
+            @DefaultValue("1m") Duration backgroundMaxWait,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
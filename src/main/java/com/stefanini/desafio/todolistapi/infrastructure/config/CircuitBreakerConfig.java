@@ -0,0 +1,43 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.infrastructure.breaker.CircuitBreaker;
+import com.stefanini.desafio.todolistapi.infrastructure.breaker.DatabaseCircuitBreakerAspect;
+import com.stefanini.desafio.todolistapi.infrastructure.breaker.StaleReadCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Circuit breaker em volta do banco, com as leituras servidas do último resultado enquanto ele está indisponível
+ * (ver {@link DatabaseCircuitBreakerAspect}). Registrado sempre; {@code api.breaker.enabled} é lido em tempo de
+ * execução.
+ */
+@Configuration
+@EnableConfigurationProperties(CircuitBreakerProperties.class)
+public class CircuitBreakerConfig {
+
+    @Bean
+    public CircuitBreaker databaseCircuitBreaker(CircuitBreakerProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new CircuitBreaker("database", properties.windowSize(), properties.minimumCalls(),
+                properties.failureRateThreshold(), properties.openDuration(), properties.halfOpenCalls(),
+                System::nanoTime, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Bean
+    public StaleReadCache staleReadCache(CircuitBreakerProperties properties) {
+        return new StaleReadCache(properties.staleMaxTasks(), System::nanoTime);
+    }
+
+    @Bean
+    public DatabaseCircuitBreakerAspect databaseCircuitBreakerAspect(
+            CircuitBreaker databaseCircuitBreaker,
+            StaleReadCache staleReadCache,
+            CircuitBreakerProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DatabaseCircuitBreakerAspect(databaseCircuitBreaker, staleReadCache, properties.enabled(),
+                properties.slowCallThreshold(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
@@ -0,0 +1,30 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do circuit breaker do banco ({@code api.breaker.*}).
+ * @param enabled Habilita o circuit breaker e as leituras servidas do último resultado.
+ * @param windowSize Quantidade de chamadas recentes usadas para calcular a taxa de falhas.
+ * @param minimumCalls Mínimo de chamadas na janela antes de o circuito poder abrir.
+ * @param failureRateThreshold Taxa de falhas (entre 0 e 1) que abre o circuito.
+ * @param openDuration Tempo em que o circuito fica aberto antes das chamadas de teste.
+ * @param halfOpenCalls Chamadas de teste que precisam ter sucesso para fechar o circuito.
+ * @param slowCallThreshold Duração acima da qual uma chamada bem-sucedida conta como falha.
+ * @param staleMaxTasks Máximo de tarefas, somadas entre os resultados, guardadas para servir com o banco indisponível.
+ */
+@ConfigurationProperties(prefix = "api.breaker")
+public record CircuitBreakerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int windowSize,
+        @DefaultValue("10") int minimumCalls,
+        @DefaultValue("0.5") double failureRateThreshold,
+        @DefaultValue("10s") Duration openDuration,
+        @DefaultValue("3") int halfOpenCalls,
+        @DefaultValue("2s") Duration slowCallThreshold,
+        @DefaultValue("10000") long staleMaxTasks
+) {
+}
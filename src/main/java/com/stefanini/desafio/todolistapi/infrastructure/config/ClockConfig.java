@@ -0,0 +1,21 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Relógio único das datas gravadas nas tarefas ({@code creationDate}, {@code updateDate}, {@code deletedDate}), da
+ * marca d'água da sincronização, dos eventos de alteração e dos jobs (prazos, arquivamento e importação). Cada
+ * operação lê o relógio uma única vez, então as datas gravadas juntas são idênticas; nos testes, pode ser trocado
+ * por um {@link Clock#fixed relógio fixo}.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
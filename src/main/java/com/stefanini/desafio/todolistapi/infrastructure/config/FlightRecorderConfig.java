@@ -0,0 +1,19 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.infrastructure.jfr.FlightRecorderEventAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Eventos JFR da aplicação ({@code todolist.TaskOperation} e {@code todolist.ApiError}), registrados sempre: sem
+ * gravação ativa o aspecto apenas consulta {@code isEnabled()}. As gravações são controladas pelo
+ * {@link com.stefanini.desafio.todolistapi.infrastructure.jfr.FlightRecordingService}.
+ */
+@Configuration
+public class FlightRecorderConfig {
+
+    @Bean
+    public FlightRecorderEventAspect flightRecorderEventAspect() {
+        return new FlightRecorderEventAspect();
+    }
+}
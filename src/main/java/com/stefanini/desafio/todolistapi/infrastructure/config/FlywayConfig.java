@@ -0,0 +1,50 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Define o que o Flyway faz na subida da aplicação.
+ * Apenas a réplica responsável pelas migrações precisa migrar; as demais podem só validar ou pular a etapa,
+ * economizando as consultas ao histórico de migrações no tempo de inicialização.
+ * O modo é lido em tempo de execução (e não via {@code spring.flyway.enabled}), pois no modo AOT as
+ * condições de auto-configuração ficam fixadas no build.
+ * Com o particionamento ligado, a mesma ação é aplicada a cada shard, em sequência.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(FlywayConfig.class);
+
+    /**
+     * Ação do Flyway na inicialização.
+     */
+    public enum StartupMode {
+        /** Aplica as migrações pendentes (padrão). */
+        MIGRATE,
+        /** Apenas valida as migrações aplicadas, falhando a subida se houver divergência. */
+        VALIDATE,
+        /** Não acessa o banco na subida; para réplicas que não migram e para a execução de treino do CDS. */
+        SKIP
+    }
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Value("${api.flyway.mode:MIGRATE}") StartupMode mode,
+                                                           Shards shards) {
+        return flyway -> shards.runOnEach(() -> run(flyway, mode));
+    }
+
+    private static void run(Flyway flyway, StartupMode mode) {
+        switch (mode) {
+            case MIGRATE -> flyway.migrate();
+            case VALIDATE -> flyway.validate();
+            case SKIP -> log.info("Flyway ignorado na inicialização (api.flyway.mode=SKIP)");
+        }
+    }
+}
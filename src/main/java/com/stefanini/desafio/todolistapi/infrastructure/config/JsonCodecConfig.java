@@ -0,0 +1,43 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.application.dto.ApiResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskResponse;
+import com.stefanini.desafio.todolistapi.infrastructure.json.ApiResponseJsonSerializer;
+import com.stefanini.desafio.todolistapi.infrastructure.json.LocalDateTimeJsonSerializer;
+import com.stefanini.desafio.todolistapi.infrastructure.json.TaskResponseJsonSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.ZoneId;
+
+/**
+ * Caminho rápido de serialização das respostas de tarefas: serializadores escritos à mão para {@link TaskResponse} e
+ * {@link ApiResponse} e a formatação de {@code LocalDateTime} sem {@code DateTimeFormatter}, registrados no builder
+ * do Spring Boot (depois dos módulos, então substituem os do {@code jackson-datatype-jsr310}); valem também para
+ * CBOR e Smile, que partem do mesmo builder.
+ * <p>
+ * A escrita já é feita direto no stream da resposta pelo conversor do Spring, com os buffers reaproveitados do
+ * Jackson ({@code BufferRecycler}, um por thread do Tomcat).
+ * <p>
+ * {@code api.json.timestamps=EPOCH_MILLIS} troca todas as datas das respostas por milissegundos desde a época,
+ * convertidas pelo fuso {@code api.json.zone} (padrão: o da JVM, o mesmo de {@code LocalDateTime.now()}).
+ * As datas recebidas continuam em ISO-8601, e por isso a marca d'água da sincronização, que o cliente devolve em
+ * {@code since}, é sempre escrita em ISO.
+ */
+@Configuration
+public class JsonCodecConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer taskJsonSerializers(
+            @Value("${api.json.timestamps:ISO}") LocalDateTimeJsonSerializer.Mode timestamps,
+            @Value("${api.json.zone:}") String zone) {
+        LocalDateTimeJsonSerializer timestampSerializer = new LocalDateTimeJsonSerializer(
+                timestamps, zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone));
+        return builder -> builder
+                .serializers(timestampSerializer)
+                .serializers(new TaskResponseJsonSerializer(timestampSerializer))
+                .serializers(new ApiResponseJsonSerializer(timestampSerializer));
+    }
+}
@@ -0,0 +1,23 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.memory.MemoryTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuração do perfil {@code memory}, em que as tarefas ficam em memória com log de escrita antecipada
+ * (ver {@link com.stefanini.desafio.todolistapi.infrastructure.persistence.memory.MemoryTaskStore}).
+ * As auto-configurações de banco são excluídas em {@code application-memory.properties}; este perfil deve ser
+ * escolhido no build quando se usa o modo AOT, já que as exclusões ficam fixadas nele.
+ */
+@Configuration
+@Profile("memory")
+public class MemoryStoreConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new MemoryTransactionManager();
+    }
+}
@@ -0,0 +1,102 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.application.dto.ApiResponse;
+import com.stefanini.desafio.todolistapi.application.dto.ErrorResponse;
+import com.stefanini.desafio.todolistapi.application.dto.FlightRecordingResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskAnalyticsResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskCompletionStatsResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskCountResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskDailyStatsResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskEventResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskImportResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskLookupRequest;
+import com.stefanini.desafio.todolistapi.application.dto.TaskLookupResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskPositionRequest;
+import com.stefanini.desafio.todolistapi.application.dto.TaskRequest;
+import com.stefanini.desafio.todolistapi.application.dto.TaskResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskSyncResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskTombstoneResponse;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskArchiveEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupKey;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskDailyRollupEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskColumnRow;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskDeadline;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Metadados de alcançabilidade para a imagem nativa (GraalVM), além dos que o processamento AOT do Spring infere.
+ * Os DTOs são registrados explicitamente porque alguns endpoints retornam {@code Object}/{@code List<?>}
+ * (sparse fieldsets e erros) e o stream SSE serializa fora do retorno dos controllers, então a inferência não os alcança.
+ * Em execução na JVM estes registros não têm efeito.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.TaskRuntimeHints.class)
+@RegisterReflectionForBinding({
+        TaskRequest.class,
+        TaskResponse.class,
+        ApiResponse.class,
+        ErrorResponse.class,
+        TaskSyncResponse.class,
+        TaskTombstoneResponse.class,
+        TaskEventResponse.class,
+        TaskCountResponse.class,
+        TaskImportResponse.class,
+        TaskLookupRequest.class,
+        TaskLookupResponse.class,
+        TaskPositionRequest.class,
+        TaskAnalyticsResponse.class,
+        TaskDailyStatsResponse.class,
+        TaskCompletionStatsResponse.class,
+        FlightRecordingResponse.class
+})
+public class NativeHintsConfig {
+
+    static class TaskRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // MapStruct: Mappers.getMapper(TaskMapper.class) instancia o TaskMapperImpl gerado por reflexão
+            hints.reflection().registerType(
+                    TypeReference.of("com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapperImpl"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // Hibernate: acesso por campo e construtor sem argumentos das entidades (inclui as projeções parciais)
+            hints.reflection().registerTypes(
+                    List.of(TypeReference.of(TaskEntity.class), TypeReference.of(TaskArchiveEntity.class),
+                            TypeReference.of(TaskDailyRollupEntity.class), TypeReference.of(TaskBacklogRollupEntity.class),
+                            TypeReference.of(TaskBacklogRollupKey.class)),
+                    type -> type.withMembers(
+                            MemberCategory.DECLARED_FIELDS,
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                            MemberCategory.INVOKE_PUBLIC_METHODS));
+
+            // Hibernate: construtores das expressões "SELECT new ..." das leituras, do índice colunar e da carga de prazos
+            hints.reflection().registerType(Task.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerType(TaskColumnRow.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerType(TaskDeadline.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerType(TaskRank.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // mssql-jdbc: o driver é carregado pelo nome (spring.datasource.driver-class-name) e usa resource bundles
+            hints.reflection().registerType(
+                    TypeReference.of("com.microsoft.sqlserver.jdbc.SQLServerDriver"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources().registerResourceBundle("com.microsoft.sqlserver.jdbc.SQLServerResource");
+
+            // Mensagens de i18n e scripts do Flyway
+            hints.resources().registerPattern("messages*.properties");
+            hints.resources().registerPattern("db/migration/*.sql");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuração do controle de admissão da API ({@code api.rate-limit.*}).
+ * @param enabled Habilita o rate limiting e o limitador de concorrência.
+ * @param defaults Limite do token bucket aplicado a qualquer usuário sem configuração própria.
+ * @param principals Limites específicos por usuário autenticado (chave = username).
+ * @param concurrency Configuração do limitador adaptativo de concorrência dos endpoints que acessam o banco.
+ */
+@ConfigurationProperties(prefix = "api.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Bucket defaults,
+        Map<String, Bucket> principals,
+        @DefaultValue Concurrency concurrency
+) {
+
+    public RateLimitProperties {
+        principals = principals != null ? Map.copyOf(principals) : Map.of();
+    }
+
+    /**
+     * Retorna o limite configurado para o usuário, ou o padrão.
+     * @param principal O username autenticado.
+     * @return O limite do token bucket.
+     */
+    public Bucket bucketFor(String principal) {
+        return principals.getOrDefault(principal, defaults);
+    }
+
+    /**
+     * @param capacity Rajada máxima de requisições aceitas de uma vez.
+     * @param refillPerSecond Taxa sustentada de requisições por segundo.
+     */
+    public record Bucket(
+            @DefaultValue("100") long capacity,
+            @DefaultValue("50") double refillPerSecond
+    ) {
+    }
+
+    /**
+     * @param enabled Habilita o limitador de concorrência.
+     * @param initialLimit Limite inicial de requisições simultâneas.
+     * @param minLimit Limite mínimo, mesmo sob latência alta.
+     * @param maxLimit Limite máximo alcançável pelo aumento aditivo.
+     * @param latencyThreshold Latência acima da qual o limite é reduzido multiplicativamente.
+     */
+    public record Concurrency(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("4") int minLimit,
+            @DefaultValue("40") int maxLimit,
+            @DefaultValue("250ms") Duration latencyThreshold
+    ) {
+    }
+}
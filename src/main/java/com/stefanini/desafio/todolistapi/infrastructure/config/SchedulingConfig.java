@@ -0,0 +1,41 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Habilita as tarefas agendadas da aplicação (ex: heartbeats do stream de tarefas).
+ * <p>
+ * Os jobs compartilham o pool {@code taskScheduler}, dimensionado por {@code spring.task.scheduling.pool.size}, para
+ * que uma reconstrução de índice ou um lote do arquivamento não atrase os demais. O tick dos prazos roda em uma
+ * thread própria ({@link #DEADLINE_SCHEDULER}): o timing wheel avança a cada segundo e não entra na fila dos jobs
+ * longos.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /** Nome do agendador exclusivo do tick dos prazos, usado em {@code @Scheduled(scheduler = ...)}. */
+    public static final String DEADLINE_SCHEDULER = "deadlineScheduler";
+
+    /**
+     * Agendador padrão dos jobs. Declarado aqui porque o agendador dos prazos faria o do Spring Boot recuar; o
+     * builder mantém as propriedades {@code spring.task.scheduling.*}.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(DEADLINE_SCHEDULER)
+    public ThreadPoolTaskScheduler deadlineScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("deadlines-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        return scheduler;
+    }
+}
@@ -1,6 +1,11 @@
 package com.stefanini.desafio.todolistapi.infrastructure.config;
 
 import com.stefanini.desafio.todolistapi.application.exception.CustomAuthenticationEntryPoint;
+import com.stefanini.desafio.todolistapi.infrastructure.tracing.TracingPasswordEncoder;
+import io.micrometer.tracing.Tracer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,12 +24,20 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     @Value("${api.security.user.name}")
     private String username;
 
     @Value("${api.security.user.password}")
     private String password;
 
+    @Value("${api.security.admin.name}")
+    private String adminUsername;
+
+    @Value("${api.security.admin.password:}")
+    private String adminPassword;
+
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
     public SecurityConfig(CustomAuthenticationEntryPoint customAuthenticationEntryPoint) {
@@ -41,6 +54,10 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
                         // Libera o acesso aos endpoints do Swagger
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        // Libera o health check para as probes de liveness/readiness
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        // Endpoints administrativos (ex: gravações JFR) apenas para ADMIN
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         // Exige autenticação para todas as outras requisições
                         .anyRequest().authenticated()
                 )
@@ -51,6 +68,7 @@ public class SecurityConfig {
     }
 
     // 2. Configuração de Usuários em Memória (Para simplificar o desafio)
+    // O administrador (gravações JFR, dumps) só existe com senha configurada: não há senha padrão para ele
     @Bean
     public UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
         UserDetails user = User.builder()
@@ -58,14 +76,25 @@ public class SecurityConfig {
                 .password(passwordEncoder.encode(password))
                 .roles("USER")
                 .build();
+        if (adminPassword.isBlank()) {
+            log.warn("api.security.admin.password (ADMIN_PASSWORD) não configurada: endpoints /api/v1/admin/** desabilitados");
+            return new InMemoryUserDetailsManager(user);
+        }
+        UserDetails admin = User.builder()
+                .username(adminUsername)
+                .password(passwordEncoder.encode(adminPassword))
+                .roles("USER", "ADMIN")
+                .build();
 
-        return new InMemoryUserDetailsManager(user);
+        return new InMemoryUserDetailsManager(user, admin);
     }
 
-    // 3. Bean para o Password Encoder
+    // 3. Bean para o Password Encoder (a verificação do BCrypt vira um span próprio no trace da requisição)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ObjectProvider<Tracer> tracer,
+                                           @Value("${api.tracing.enabled:true}") boolean tracingEnabled) {
+        PasswordEncoder encoder = new BCryptPasswordEncoder();
+        return tracingEnabled ? new TracingPasswordEncoder(encoder, tracer.getIfAvailable(() -> Tracer.NOOP)) : encoder;
     }
 
 }
@@ -0,0 +1,55 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuração do particionamento horizontal das tarefas entre bancos ({@code api.shards.*}).
+ * A posição de cada banco na lista é o número do shard: reordenar, incluir ou remover bancos muda o destino
+ * dos IDs e exige redistribuir os dados.
+ * @param enabled Habilita o roteamento entre os bancos configurados; desligado, usa apenas {@code spring.datasource}.
+ * @param datasources Os bancos de cada shard, na ordem do número do shard.
+ */
+@ConfigurationProperties(prefix = "api.shards")
+public record ShardProperties(
+        @DefaultValue("false") boolean enabled,
+        List<Shard> datasources
+) {
+
+    public ShardProperties {
+        datasources = datasources != null ? List.copyOf(datasources) : List.of();
+        if (enabled && datasources.isEmpty()) {
+            throw new IllegalStateException("api.shards.enabled=true exige ao menos um banco em api.shards.datasources");
+        }
+    }
+
+    /**
+     * Retorna a quantidade de shards em uso (1 quando o particionamento está desligado).
+     * @return A quantidade de shards.
+     */
+    public int count() {
+        return enabled ? datasources.size() : 1;
+    }
+
+    /**
+     * @param url A URL JDBC do banco do shard.
+     * @param username O usuário do banco.
+     * @param password A senha do banco.
+     * @param driverClassName O driver JDBC (opcional, deduzido da URL).
+     * @param maximumPoolSize O tamanho máximo do pool de conexões do shard.
+     * @param connectionTimeout Espera máxima por uma conexão do pool, curta para que o circuit breaker perceba a
+     *                          falha do banco antes de as threads se acumularem.
+     */
+    public record Shard(
+            String url,
+            String username,
+            String password,
+            String driverClassName,
+            @DefaultValue("10") int maximumPoolSize,
+            @DefaultValue("2s") Duration connectionTimeout
+    ) {
+    }
+}
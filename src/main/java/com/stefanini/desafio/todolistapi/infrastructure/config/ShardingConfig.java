@@ -0,0 +1,84 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardRoutingAspect;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardRoutingDataSource;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Particionamento horizontal das tarefas: com {@code api.shards.enabled=true}, o DataSource da aplicação
+ * passa a rotear cada transação para o banco do shard corrente, com um pool Hikari por shard.
+ * <p>
+ * Diferente das demais chaves de liga/desliga, esta é uma condição de bean: trocar a topologia exige novo deploy
+ * (e, no modo AOT ou na imagem nativa, um novo build com a propriedade definida).
+ * Com {@code api.bulkheads.separate-pools=true} o DataSource é montado pelo {@link BulkheadConfig}, com um
+ * roteamento por shard para cada classe de carga.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${api.shards.enabled:false} and !${api.bulkheads.separate-pools:false}")
+    public DataSource shardRoutingDataSource(ShardProperties properties) {
+        return shardRouting(properties, "", pool -> { });
+    }
+
+    /**
+     * Monta o roteamento entre os shards, com um pool Hikari por shard.
+     * @param properties Os bancos de cada shard.
+     * @param poolSuffix Sufixo do nome dos pools ({@code shard-N} + sufixo).
+     * @param customizer Ajustes aplicados a cada pool antes do primeiro uso.
+     * @return O DataSource de roteamento, já inicializado.
+     */
+    static ShardRoutingDataSource shardRouting(ShardProperties properties, String poolSuffix, Consumer<HikariDataSource> customizer) {
+        List<ShardProperties.Shard> datasources = properties.datasources();
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < datasources.size(); shard++) {
+            HikariDataSource pool = pool(shard, datasources.get(shard));
+            pool.setPoolName(pool.getPoolName() + poolSuffix);
+            customizer.accept(pool);
+            targets.put(shard, pool);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(0));
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "api.shards", name = "enabled", havingValue = "true")
+    public ShardRoutingAspect shardRoutingAspect(Shards shards) {
+        return new ShardRoutingAspect(shards);
+    }
+
+    private static HikariDataSource pool(int shard, ShardProperties.Shard config) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + shard);
+        dataSource.setJdbcUrl(config.url());
+        dataSource.setUsername(config.username());
+        dataSource.setPassword(config.password());
+        if (config.driverClassName() != null) {
+            dataSource.setDriverClassName(config.driverClassName());
+        }
+        dataSource.setMaximumPoolSize(config.maximumPoolSize());
+        dataSource.setConnectionTimeout(config.connectionTimeout().toMillis());
+        return dataSource;
+    }
+}
@@ -1,28 +1,80 @@
 package com.stefanini.desafio.todolistapi.infrastructure.config;
 
+import com.stefanini.desafio.todolistapi.application.dto.TaskAnalyticsResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskCompletionStatsResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskDailyStatsResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskLookupResponse;
 import com.stefanini.desafio.todolistapi.application.dto.TaskRequest;
 import com.stefanini.desafio.todolistapi.application.dto.TaskResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskSyncResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskTombstoneResponse;
 import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskAnalytics;
+import com.stefanini.desafio.todolistapi.domain.model.TaskChanges;
+import com.stefanini.desafio.todolistapi.domain.model.TaskCompletionStats;
+import com.stefanini.desafio.todolistapi.domain.model.TaskDailyStats;
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.domain.model.TaskLookup;
+import com.stefanini.desafio.todolistapi.domain.model.TaskTombstone;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskArchiveEntity;
 import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
 import org.mapstruct.*;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface TaskMapper {
 
-    // 1. DTO de Criação -> Entidade de Domínio
+    // 1. DTO de Criação -> Entidade de Domínio (as datas são atribuídas pelo TaskService, com uma única leitura do relógio)
     @Mapping(target = "id", ignore = true)
-    @Mapping(target = "creationDate", expression = "java(java.time.LocalDateTime.now())")
-    @Mapping(target = "updateDate", expression = "java(java.time.LocalDateTime.now())")
+    @Mapping(target = "creationDate", ignore = true)
+    @Mapping(target = "updateDate", ignore = true)
     @Mapping(target = "status", expression = "java(com.stefanini.desafio.todolistapi.domain.model.TaskStatus.PENDENTE)")
+    @Mapping(target = "overdueDate", ignore = true)
     Task toDomain(TaskRequest dto);
 
     // 2. Entidade de Domínio -> DTO de Resposta
     TaskResponse toResponse(Task domain);
 
     // 3. Entidade de Domínio -> Entidade de Persistência
+    @Mapping(target = "deletedDate", ignore = true)
+    @Mapping(target = "reminderSentDate", ignore = true)
+    @Mapping(target = "rankKey", ignore = true)
     TaskEntity toEntity(Task domain);
 
     // 4. Entidade de Persistência -> Entidade de Domínio
     Task toDomain(TaskEntity entity);
 
+    // 4.1. Entidade Arquivada -> Entidade de Domínio (o arquivo guarda apenas tarefas concluídas, sem prazos)
+    @Mapping(target = "dueDate", ignore = true)
+    @Mapping(target = "reminderDate", ignore = true)
+    @Mapping(target = "overdueDate", ignore = true)
+    Task toDomain(TaskArchiveEntity entity);
+
+    // 5. Sincronização incremental -> DTO de Resposta
+    TaskSyncResponse toResponse(TaskChanges changes);
+
+    TaskTombstoneResponse toResponse(TaskTombstone tombstone);
+
+    // 6. Entidade de Domínio -> Resposta parcial (sparse fieldsets), com as mesmas chaves do TaskResponse
+    default Map<String, Object> toSparseResponse(Task domain, Set<TaskField> fields) {
+        Map<String, Object> response = LinkedHashMap.newLinkedHashMap(fields.size());
+        for (TaskField field : fields) {
+            response.put(field.property(), field.read(domain));
+        }
+        return response;
+    }
+
+    // 7. Indicadores -> DTO de Resposta
+    TaskAnalyticsResponse toResponse(TaskAnalytics analytics);
+
+    TaskDailyStatsResponse toResponse(TaskDailyStats stats);
+
+    TaskCompletionStatsResponse toResponse(TaskCompletionStats stats);
+
+    // 8. Busca de várias tarefas pelos IDs -> DTO de Resposta
+    TaskLookupResponse toResponse(TaskLookup lookup);
+
 }
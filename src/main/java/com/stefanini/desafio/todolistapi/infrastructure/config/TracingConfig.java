@@ -0,0 +1,57 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.infrastructure.tracing.FileSpanExporter;
+import com.stefanini.desafio.todolistapi.infrastructure.tracing.MemorySpanExporter;
+import com.stefanini.desafio.todolistapi.infrastructure.tracing.TraceSamplingSpanProcessor;
+import com.stefanini.desafio.todolistapi.infrastructure.tracing.TracingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.tracing.SpanProcessors;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Rastreamento distribuído: o Micrometer Tracing (ponte OpenTelemetry) cria os spans HTTP, propaga o contexto W3C
+ * ({@code traceparent}) e, com o {@code datasource-micrometer}, cria os spans de conexão e de cada comando JDBC.
+ * Esta configuração acrescenta os spans de serviço e mapper ({@link TracingAspect}) e troca o processador de spans
+ * padrão pela amostragem no fim do trace ({@link TraceSamplingSpanProcessor}) seguida do exportador configurado.
+ * <p>
+ * Como a decisão de exportar é tomada no fim do trace, {@code management.tracing.sampling.probability} deve ficar em
+ * 1.0 (todos os traces gravados em memória); a fração exportada é controlada por {@code api.tracing.sampling.*}.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public SpanExporter traceSpanExporter(TracingProperties properties) {
+        return switch (properties.exporter()) {
+            case FILE -> new FileSpanExporter(Path.of(properties.file()), properties.maxFileSize().toBytes());
+            case MEMORY -> new MemorySpanExporter(10_000);
+            case NONE -> SpanExporter.composite();
+        };
+    }
+
+    @Bean
+    public SpanProcessors traceSpanProcessors(SpanExporter traceSpanExporter, TracingProperties properties,
+                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        return SpanProcessors.of(List.of(new TraceSamplingSpanProcessor(
+                BatchSpanProcessor.builder(traceSpanExporter).build(),
+                properties.sampling(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))));
+    }
+
+    @Bean
+    public TracingAspect tracingAspect(ObjectProvider<Tracer> tracer, TracingProperties properties) {
+        return new TracingAspect(tracer.getIfAvailable(() -> Tracer.NOOP), properties.enabled(),
+                properties.maxMapperSpans());
+    }
+}
@@ -0,0 +1,72 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuração do rastreamento distribuído ({@code api.tracing.*}). A criação dos spans e a propagação W3C ficam
+ * com o Micrometer Tracing ({@code management.tracing.*}); aqui ficam os spans de serviço/mapper/BCrypt, a amostragem
+ * por endpoint e latência (decidida ao fim de cada trace) e o destino dos spans.
+ * @param enabled Habilita os spans de {@code TaskService}, {@code TaskMapper} e da verificação de senha.
+ * @param maxMapperSpans Os spans de {@code TaskMapper} criados sob um mesmo span pai; nas listagens, com uma conversão
+ *                       por tarefa, as demais chamadas não são rastreadas.
+ * @param exporter O destino dos traces amostrados.
+ * @param file O arquivo NDJSON do exportador {@link Exporter#FILE}.
+ * @param maxFileSize O tamanho a partir do qual o arquivo é rotacionado (mantém uma cópia {@code .1}).
+ * @param sampling As regras de amostragem.
+ */
+@ConfigurationProperties(prefix = "api.tracing")
+public record TracingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") int maxMapperSpans,
+        @DefaultValue("NONE") Exporter exporter,
+        @DefaultValue("./traces/spans.ndjson") String file,
+        @DefaultValue("64MB") DataSize maxFileSize,
+        @DefaultValue Sampling sampling
+) {
+
+    public enum Exporter {
+        /** Descarta os traces (apenas as regras de amostragem e as métricas continuam ativas). */
+        NONE,
+        /** Grava um span por linha, em JSON, no arquivo configurado. */
+        FILE,
+        /** Mantém os últimos spans em memória, para testes. */
+        MEMORY
+    }
+
+    /**
+     * Um trace é exportado se o span raiz local terminou com erro, se durou ao menos {@code latencyThreshold}, ou se
+     * foi sorteado pela taxa do endpoint (pelo template da rota, ex: {@code /api/v1/tasks/{id}}) ou pela taxa padrão.
+     * O sorteio usa o trace ID, então todos os spans de um trace recebem a mesma decisão.
+     * @param defaultRatio A fração dos traces exportada para endpoints sem taxa própria (0 a 1).
+     * @param endpoints As taxas por template de rota.
+     * @param latencyThreshold A duração do span raiz a partir da qual o trace é sempre exportado.
+     * @param maxPendingTraces Os traces em andamento mantidos à espera da decisão; acima disso os mais antigos são descartados.
+     * @param maxSpansPerTrace Os spans guardados por trace; os excedentes são descartados.
+     */
+    public record Sampling(
+            @DefaultValue("0.01") double defaultRatio,
+            Map<String, Double> endpoints,
+            @DefaultValue("500ms") Duration latencyThreshold,
+            @DefaultValue("10000") int maxPendingTraces,
+            @DefaultValue("2000") int maxSpansPerTrace
+    ) {
+
+        public Sampling {
+            endpoints = endpoints != null ? Map.copyOf(endpoints) : Map.of();
+        }
+
+        /**
+         * Retorna a taxa de amostragem da rota, ou a padrão.
+         * @param route O template da rota (pode ser nulo, ex: jobs agendados).
+         * @return A fração dos traces exportada.
+         */
+        public double ratioFor(String route) {
+            return route != null ? endpoints.getOrDefault(route, defaultRatio) : defaultRatio;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Transações dos jobs em segundo plano (importação, arquivamento, rebalanceamento, rollups, prazos, expurgos e
+ * reconstrução dos índices em memória).
+ * <p>
+ * O timeout padrão ({@code spring.transaction.default-timeout}) é curto para que uma requisição presa no banco falhe
+ * e conte no circuit breaker; as leituras completas e os lotes dos jobs recebem aqui um timeout próprio
+ * ({@code api.tasks.maintenance.transaction-timeout}), pelo {@link TransactionTemplate} injetado neles.
+ */
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public TransactionTemplate transactionTemplate(
+            PlatformTransactionManager transactionManager,
+            @Value("${api.tasks.maintenance.transaction-timeout:30m}") Duration timeout) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout((int) Math.min(Integer.MAX_VALUE, timeout.toSeconds()));
+        return template;
+    }
+}
@@ -0,0 +1,51 @@
+package com.stefanini.desafio.todolistapi.infrastructure.config;
+
+import com.stefanini.desafio.todolistapi.infrastructure.ratelimit.AdaptiveConcurrencyLimiter;
+import com.stefanini.desafio.todolistapi.infrastructure.ratelimit.ConcurrencyLimitInterceptor;
+import com.stefanini.desafio.todolistapi.infrastructure.ratelimit.RateLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registra o controle de admissão (rate limiting por usuário e limite adaptativo de concorrência) nos endpoints da API.
+ * O stream SSE fica fora do limitador de concorrência, pois mantém a conexão aberta sem ocupar o banco.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+
+    public WebMvcConfig(RateLimitProperties rateLimitProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!rateLimitProperties.enabled()) {
+            return;
+        }
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitProperties, meterRegistry))
+                .addPathPatterns("/api/**");
+
+        RateLimitProperties.Concurrency concurrency = rateLimitProperties.concurrency();
+        if (concurrency.enabled()) {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    concurrency.initialLimit(),
+                    concurrency.minLimit(),
+                    concurrency.maxLimit(),
+                    concurrency.latencyThreshold().toNanos()
+            );
+            registry.addInterceptor(new ConcurrencyLimitInterceptor(limiter, meterRegistry))
+                    .addPathPatterns("/api/**")
+                    .excludePathPatterns("/api/v1/tasks/stream");
+        }
+    }
+}
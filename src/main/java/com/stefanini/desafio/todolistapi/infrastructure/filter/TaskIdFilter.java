@@ -0,0 +1,283 @@
+package com.stefanini.desafio.todolistapi.infrastructure.filter;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangeType;
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.event.TasksImportedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Bulkhead;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskArchiveStore;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Filtro de pertinência (Bloom) sobre os IDs de tarefas existentes, ativas ou arquivadas.
+ * Uma resposta negativa permite devolver 404 sem consultar o banco; uma positiva ainda exige a consulta
+ * (falso positivo ou tarefa excluída desde a última reconstrução).
+ * <p>
+ * O filtro é montado em segundo plano logo após a subida, lendo apenas os IDs, e reconstruído periodicamente
+ * para descartar os IDs excluídos (Bloom não suporta remoção). Tarefas criadas nesta instância entram no filtro
+ * após o commit; as criadas por outras réplicas entram pela {@link #catchUp() atualização incremental}, que lê do
+ * índice {@code idx_task_update_date} os IDs alterados desde a última leitura. A resposta negativa só vale enquanto
+ * essa atualização está em dia (até {@value #MAX_LAG_INTERVALS} intervalos): antes da primeira montagem, ou com a
+ * atualização atrasada ou falhando, todas as consultas seguem para o banco. Uma tarefa criada em outra réplica
+ * ainda pode receber 404 aqui por até um intervalo de {@code api.tasks.id-filter.catch-up-interval-ms}.
+ */
+@Component
+public class TaskIdFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskIdFilter.class);
+
+    /** Intervalos da atualização incremental sem sucesso após os quais a resposta negativa deixa de valer. */
+    static final int MAX_LAG_INTERVALS = 3;
+
+    private final TaskStore taskStore;
+    private final TaskArchiveStore taskArchiveStore;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Shards shards;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration catchUpOverlap;
+    private final Duration maxLag;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter rejections;
+    private final Counter falsePositives;
+
+    /** Filtro em uso; nulo até a primeira montagem. */
+    private volatile BloomFilter current;
+    /** Filtro em reconstrução, que também recebe as inserções feitas durante a leitura dos IDs. */
+    private volatile BloomFilter building;
+    /**
+     * IDs excluídos nesta instância desde a montagem do filtro em uso: continuam no filtro até a próxima reconstrução,
+     * mas não encontrá-los no banco não é um falso positivo.
+     */
+    private volatile Set<UUID> deleted = ConcurrentHashMap.newKeySet();
+    /** Exclusões feitas durante a reconstrução, que passam a valer com o filtro novo. */
+    private volatile Set<UUID> deletedWhileBuilding;
+    /** Data de alteração a partir da qual a próxima atualização incremental lê os IDs. */
+    private volatile LocalDateTime watermark;
+    /** Instante da última montagem ou atualização incremental bem-sucedida; nulo até a primeira montagem. */
+    private volatile Instant caughtUpAt;
+
+    public TaskIdFilter(
+            TaskStore taskStore,
+            TaskArchiveStore taskArchiveStore,
+            TransactionTemplate transactionTemplate,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Shards shards,
+            Clock clock,
+            @Value("${api.tasks.id-filter.enabled:true}") boolean enabled,
+            @Value("${api.tasks.id-filter.expected-insertions:100000}") long expectedInsertions,
+            @Value("${api.tasks.id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${api.tasks.id-filter.catch-up-interval-ms:1000}") long catchUpIntervalMs,
+            @Value("${api.tasks.id-filter.catch-up-overlap:5s}") Duration catchUpOverlap) {
+        this.taskStore = taskStore;
+        this.taskArchiveStore = taskArchiveStore;
+        // Mantém o timeout dos jobs: a leitura de todos os IDs passa do timeout das requisições em tabelas grandes
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.shards = shards;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.catchUpOverlap = catchUpOverlap;
+        this.maxLag = Duration.ofMillis(catchUpIntervalMs * MAX_LAG_INTERVALS);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.rejections = Counter.builder("tasks.id.filter.rejections")
+                .description("Consultas por ID respondidas com 404 pelo filtro, sem acesso ao banco")
+                .register(registry);
+        this.falsePositives = Counter.builder("tasks.id.filter.false.positives")
+                .description("Consultas aceitas pelo filtro cujo ID nunca foi incluído nele (exclui as tarefas excluídas)")
+                .register(registry);
+        Gauge.builder("tasks.id.filter.expected.fpp", this, TaskIdFilter::expectedFalsePositiveRate)
+                .description("Taxa de falsos positivos estimada pela ocupação do filtro")
+                .register(registry);
+        Gauge.builder("tasks.id.filter.memory", this, TaskIdFilter::memoryBytes)
+                .description("Memória ocupada pelo filtro de IDs")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Indica se o ID pode existir. {@code false} significa que a tarefa não existia na última atualização do filtro.
+     * @param id O UUID da tarefa.
+     * @return {@code false} somente se o ID não está no filtro e o filtro está em dia.
+     */
+    public boolean mightContain(UUID id) {
+        BloomFilter filter = current;
+        if (filter == null || filter.mightContain(id) || !caughtUp()) {
+            return true;
+        }
+        rejections.increment();
+        return false;
+    }
+
+    /**
+     * Registra que um ID aceito pelo filtro não foi encontrado no banco. IDs de tarefas excluídas desde a montagem
+     * do filtro não contam: estão no filtro por serem de tarefas que existiram, e não por colisão.
+     * A taxa observada é {@code false.positives / (false.positives + rejections)}; exclusões feitas por outras
+     * instâncias ainda contam até a próxima reconstrução.
+     * @param id O ID não encontrado.
+     */
+    public void recordFalsePositive(UUID id) {
+        if (current != null && !deleted.contains(id)) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Inclui as tarefas criadas e anota as excluídas. Roda após o commit: se a reconstrução em andamento não viu a
+     * linha, o filtro em construção já está publicado e recebe o ID aqui.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangeType.CREATED) {
+            add(event.taskId());
+        } else if (event.type() == TaskChangeType.DELETED) {
+            markDeleted(event.taskId());
+        }
+    }
+
+    /**
+     * Inclui as tarefas de um lote da importação em massa, publicado após o commit do lote.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        for (Task task : event.tasks()) {
+            add(task.id());
+        }
+    }
+
+    /**
+     * Reconstrói o filtro a partir dos IDs do banco, dimensionado pela contagem atual.
+     * A primeira execução acontece logo após a subida. Com o particionamento ligado, um único filtro
+     * recebe os IDs de todos os shards, lidos um shard por vez.
+     */
+    @Bulkhead(Workload.BULK)
+    @Scheduled(fixedDelayString = "${api.tasks.id-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        Instant startedAt = clock.instant();
+        try {
+            long[] count = new long[1];
+            shards.runOnEach(() -> count[0] += readOnlyTransaction.execute(status ->
+                    taskStore.countByDeletedDateIsNull() + taskArchiveStore.count()));
+            // Folga para o crescimento até a próxima reconstrução sem estourar a taxa alvo
+            BloomFilter fresh = BloomFilter.create(Math.max(expectedInsertions, count[0] * 2), falsePositiveRate);
+            deletedWhileBuilding = ConcurrentHashMap.newKeySet();
+            building = fresh;
+            shards.runOnEach(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UUID> ids = taskStore.streamActiveIds()) {
+                    ids.forEach(fresh::put);
+                }
+                try (Stream<UUID> ids = taskArchiveStore.streamIds()) {
+                    ids.forEach(fresh::put);
+                }
+            }));
+            current = fresh;
+            deleted = deletedWhileBuilding;
+            // As criações de outras réplicas durante a leitura dos IDs vêm na próxima atualização incremental
+            watermark = LocalDateTime.ofInstant(startedAt, clock.getZone());
+            caughtUpAt = startedAt;
+            log.debug("Filtro de IDs reconstruído em {} ms", (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reconstruir o filtro de IDs; mantendo o filtro anterior", e);
+        } finally {
+            building = null;
+            deletedWhileBuilding = null;
+        }
+    }
+
+    /**
+     * Inclui os IDs alterados desde a última leitura, o que traz as tarefas criadas por outras réplicas.
+     * A leitura volta {@code api.tasks.id-filter.catch-up-overlap} antes da marca anterior para cobrir as transações
+     * confirmadas depois dela com data de alteração anterior e a diferença de relógio entre as réplicas; reincluir
+     * um ID não tem efeito. Não entra no bulkhead dos jobs: esperar por uma vaga atrasaria o filtro.
+     */
+    @Scheduled(fixedDelayString = "${api.tasks.id-filter.catch-up-interval-ms:1000}")
+    public void catchUp() {
+        LocalDateTime since = watermark;
+        if (!enabled || since == null) {
+            return;
+        }
+        Instant started = clock.instant();
+        try {
+            LocalDateTime from = since.minus(catchUpOverlap);
+            shards.runOnEach(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                for (UUID id : taskStore.findIdsChangedAfter(from)) {
+                    add(id);
+                }
+            }));
+            watermark = LocalDateTime.ofInstant(started, clock.getZone());
+            caughtUpAt = started;
+        } catch (RuntimeException e) {
+            log.warn("Falha na atualização incremental do filtro de IDs; consultas por ID seguem para o banco", e);
+        }
+    }
+
+    private boolean caughtUp() {
+        Instant at = caughtUpAt;
+        return at != null && Duration.between(at, clock.instant()).compareTo(maxLag) <= 0;
+    }
+
+    /**
+     * A ordem importa: lê primeiro o filtro em construção. Se a troca acontecer entre as duas leituras,
+     * o ID já foi inserido no filtro novo; se não houver reconstrução, vai apenas para o atual.
+     */
+    private void add(UUID id) {
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(id);
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(id);
+        }
+    }
+
+    /** Mesma ordem de {@link #add}: a exclusão vale para o filtro em construção e para o atual. */
+    private void markDeleted(UUID id) {
+        Set<UUID> next = deletedWhileBuilding;
+        if (next != null) {
+            next.add(id);
+        }
+        deleted.add(id);
+    }
+
+    private double expectedFalsePositiveRate() {
+        BloomFilter filter = current;
+        return filter != null ? filter.expectedFalsePositiveRate() : Double.NaN;
+    }
+
+    private double memoryBytes() {
+        BloomFilter filter = current;
+        return filter != null ? filter.memoryBytes() : 0;
+    }
+}
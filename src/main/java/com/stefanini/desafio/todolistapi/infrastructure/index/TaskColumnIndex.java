@@ -0,0 +1,269 @@
+package com.stefanini.desafio.todolistapi.infrastructure.index;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangeType;
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.event.TasksImportedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskFilter;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Bulkhead;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskColumnRow;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice colunar em memória das tarefas ativas, para contar e filtrar por status e datas sem consultar o banco
+ * nem materializar entidades. Só os IDs que atendem ao filtro são buscados no banco depois (ver {@code TaskService}).
+ * <p>
+ * Como o {@link com.stefanini.desafio.todolistapi.infrastructure.filter.TaskIdFilter}, é montado em segundo plano
+ * após a subida e reconstruído periodicamente; entre as reconstruções, acompanha as alterações feitas pelo
+ * {@code TaskService} após o commit. Arquivamentos e expurgos em lote só aparecem na reconstrução seguinte.
+ * Com o particionamento ligado, um único índice recebe as tarefas de todos os shards.
+ */
+@Component
+public class TaskColumnIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskColumnIndex.class);
+    private static final int LOAD_CHUNK = 1024;
+
+    private final TaskStore taskStore;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Shards shards;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Colunas em uso; nulas até a primeira montagem. */
+    private TaskColumns current;
+    /** Colunas em reconstrução, que também recebem as alterações feitas durante a carga. */
+    private TaskColumns building;
+    /** IDs excluídos durante a carga, que não devem voltar por uma leitura anterior à exclusão. */
+    private Set<UUID> removedWhileBuilding;
+
+    public TaskColumnIndex(
+            TaskStore taskStore,
+            TransactionTemplate transactionTemplate,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Shards shards,
+            @Value("${api.tasks.column-index.enabled:true}") boolean enabled) {
+        this.taskStore = taskStore;
+        // Mantém o timeout dos jobs: a carga de todas as tarefas passa do timeout das requisições em tabelas grandes
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.shards = shards;
+        this.enabled = enabled;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder("tasks.column.index.rows", this, TaskColumnIndex::rows)
+                .description("Tarefas ativas no índice colunar")
+                .register(registry);
+        Gauge.builder("tasks.column.index.memory", this, TaskColumnIndex::memoryBytes)
+                .description("Memória ocupada pelas colunas do índice")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * @return {@code true} depois da primeira montagem; antes dela as consultas devem ir ao banco.
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return current != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Conta as tarefas ativas que atendem ao filtro.
+     * @param filter O filtro de status e datas.
+     * @return A quantidade de tarefas.
+     * @throws IllegalStateException se o índice ainda não foi montado.
+     */
+    public long count(TaskFilter filter) {
+        TaskColumns.Scan scan = TaskColumns.Scan.of(filter);
+        lock.readLock().lock();
+        try {
+            return ready().count(scan);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lista os IDs das tarefas ativas que atendem ao filtro, em ordem de criação.
+     * @param filter O filtro de status e datas.
+     * @param limit O número máximo de IDs.
+     * @return Os IDs ordenados por data de criação e ID.
+     * @throws IllegalStateException se o índice ainda não foi montado.
+     */
+    public List<UUID> findIds(TaskFilter filter, int limit) {
+        TaskColumns.Scan scan = TaskColumns.Scan.of(filter);
+        lock.readLock().lock();
+        try {
+            return ready().ids(scan, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica a alteração às colunas após o commit; durante uma reconstrução, também às colunas em construção.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.type() == TaskChangeType.DELETED) {
+                remove(current, event.taskId());
+                remove(building, event.taskId());
+                if (removedWhileBuilding != null) {
+                    removedWhileBuilding.add(event.taskId());
+                }
+            } else {
+                upsert(current, event.task());
+                upsert(building, event.task());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inclui as tarefas de um lote da importação em massa, com uma única aquisição do lock para o lote inteiro.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (Task task : event.tasks()) {
+                upsert(current, task);
+                upsert(building, task);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reconstrói as colunas lendo apenas ID, status e datas das tarefas ativas, em lotes, e troca o índice em uso.
+     * A primeira execução acontece logo após a subida.
+     */
+    @Bulkhead(Workload.BULK)
+    @Scheduled(fixedDelayString = "${api.tasks.column-index.rebuild-interval-ms:900000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            TaskColumns previous = current;
+            building = new TaskColumns(previous != null ? previous.live() + previous.live() / 4 : LOAD_CHUNK);
+            removedWhileBuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            shards.runOnEach(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<TaskColumnRow> rows = taskStore.streamActiveColumns()) {
+                    List<TaskColumnRow> chunk = new ArrayList<>(LOAD_CHUNK);
+                    rows.forEach(row -> {
+                        chunk.add(row);
+                        if (chunk.size() == LOAD_CHUNK) {
+                            load(chunk);
+                        }
+                    });
+                    load(chunk);
+                }
+            }));
+            lock.writeLock().lock();
+            try {
+                current = building;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("Índice colunar de tarefas reconstruído em {} ms", (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reconstruir o índice colunar de tarefas; mantendo o índice anterior", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                building = null;
+                removedWhileBuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void load(List<TaskColumnRow> chunk) {
+        lock.writeLock().lock();
+        try {
+            for (TaskColumnRow row : chunk) {
+                if (!removedWhileBuilding.contains(row.id())) {
+                    building.insertIfAbsent(row.id(), row.status(), row.creationDate(), row.updateDate());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        chunk.clear();
+    }
+
+    private static void upsert(TaskColumns columns, Task task) {
+        if (columns != null && task != null) {
+            columns.upsert(task.id(), task.status(), task.creationDate(), task.updateDate());
+        }
+    }
+
+    private static void remove(TaskColumns columns, UUID id) {
+        if (columns != null) {
+            columns.remove(id);
+        }
+    }
+
+    private TaskColumns ready() {
+        if (current == null) {
+            throw new IllegalStateException("Índice colunar de tarefas ainda não montado");
+        }
+        return current;
+    }
+
+    private double rows() {
+        lock.readLock().lock();
+        try {
+            return current != null ? current.live() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double memoryBytes() {
+        lock.readLock().lock();
+        try {
+            return current != null ? current.memoryBytes() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
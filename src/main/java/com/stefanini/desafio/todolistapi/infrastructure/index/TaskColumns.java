@@ -0,0 +1,188 @@
+package com.stefanini.desafio.todolistapi.infrastructure.index;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskFilter;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Colunas das tarefas ativas em arrays primitivos: o ID em dois {@code long}, o status em um {@code byte} e as
+ * datas em nanossegundos desde a época (UTC; {@link Long#MIN_VALUE} quando nulas). Uma linha excluída fica
+ * marcada com {@link #REMOVED} até a próxima reconstrução. As varreduras percorrem os arrays em laços simples, sem desvio por linha, que o JIT vetoriza.
+ * Não é thread-safe: o {@link TaskColumnIndex} controla o acesso.
+ */
+final class TaskColumns {
+
+    static final byte REMOVED = -1;
+
+    private long[] idHigh;
+    private long[] idLow;
+    private byte[] status;
+    private long[] creation;
+    private long[] update;
+    private int size;
+    private int live;
+    private final Map<UUID, Integer> rows;
+
+    /**
+     * Filtro de uma varredura já convertido para as colunas: faixas {@code [from, to)} em nanossegundos.
+     * @param status O ordinal do status, ou {@link #REMOVED} para qualquer status.
+     */
+    record Scan(byte status, long createdFrom, long createdTo, long updatedFrom, long updatedTo) {
+
+        static Scan of(TaskFilter filter) {
+            return new Scan(
+                    filter.status() != null ? (byte) filter.status().ordinal() : REMOVED,
+                    filter.createdFrom() != null ? toNanos(filter.createdFrom()) : Long.MIN_VALUE,
+                    filter.createdTo() != null ? toNanos(filter.createdTo()) : Long.MAX_VALUE,
+                    filter.updatedFrom() != null ? toNanos(filter.updatedFrom()) : Long.MIN_VALUE,
+                    filter.updatedTo() != null ? toNanos(filter.updatedTo()) : Long.MAX_VALUE);
+        }
+    }
+
+    TaskColumns(int capacity) {
+        int initial = Math.max(capacity, 16);
+        idHigh = new long[initial];
+        idLow = new long[initial];
+        status = new byte[initial];
+        creation = new long[initial];
+        update = new long[initial];
+        rows = new HashMap<>(initial * 4 / 3 + 1);
+    }
+
+    /** Inclui a tarefa ou substitui as colunas da linha existente. */
+    void upsert(UUID id, TaskStatus taskStatus, LocalDateTime creationDate, LocalDateTime updateDate) {
+        Integer row = rows.get(id);
+        if (row == null) {
+            ensureCapacity();
+            row = size++;
+            rows.put(id, row);
+            idHigh[row] = id.getMostSignificantBits();
+            idLow[row] = id.getLeastSignificantBits();
+            live++;
+        }
+        status[row] = (byte) taskStatus.ordinal();
+        creation[row] = toNanos(creationDate);
+        update[row] = toNanos(updateDate);
+    }
+
+    /** Inclui a tarefa apenas se ela ainda não estiver nas colunas (usado na carga, que pode ler uma versão antiga). */
+    void insertIfAbsent(UUID id, TaskStatus taskStatus, LocalDateTime creationDate, LocalDateTime updateDate) {
+        if (!rows.containsKey(id)) {
+            upsert(id, taskStatus, creationDate, updateDate);
+        }
+    }
+
+    void remove(UUID id) {
+        Integer row = rows.remove(id);
+        if (row != null) {
+            status[row] = REMOVED;
+            live--;
+        }
+    }
+
+    int live() {
+        return live;
+    }
+
+    /** Conta as linhas que atendem ao filtro. */
+    long count(Scan scan) {
+        byte statusCode = scan.status();
+        long createdFrom = scan.createdFrom();
+        long createdTo = scan.createdTo();
+        long updatedFrom = scan.updatedFrom();
+        long updatedTo = scan.updatedTo();
+        long count = 0;
+        if (statusCode == REMOVED) {
+            for (int i = 0; i < size; i++) {
+                long c = creation[i];
+                long u = update[i];
+                count += (status[i] != REMOVED) & (c >= createdFrom) & (c < createdTo)
+                        & (u >= updatedFrom) & (u < updatedTo) ? 1 : 0;
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                long c = creation[i];
+                long u = update[i];
+                count += (status[i] == statusCode) & (c >= createdFrom) & (c < createdTo)
+                        & (u >= updatedFrom) & (u < updatedTo) ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Lista os IDs que atendem ao filtro em ordem de criação (e de ID, no empate), até o limite.
+     * Mantém apenas as {@code limit} primeiras linhas em um heap, sem ordenar todas as que atendem ao filtro.
+     */
+    List<UUID> ids(Scan scan, int limit) {
+        byte statusCode = scan.status();
+        PriorityQueue<Integer> first = new PriorityQueue<>(Math.min(limit, 1024), (a, b) -> compareRows(b, a));
+        for (int i = 0; i < size; i++) {
+            byte s = status[i];
+            long c = creation[i];
+            long u = update[i];
+            boolean match = (statusCode == REMOVED ? s != REMOVED : s == statusCode)
+                    & (c >= scan.createdFrom()) & (c < scan.createdTo())
+                    & (u >= scan.updatedFrom()) & (u < scan.updatedTo());
+            if (match) {
+                if (first.size() < limit) {
+                    first.add(i);
+                } else if (compareRows(i, first.peek()) < 0) {
+                    first.poll();
+                    first.add(i);
+                }
+            }
+        }
+        List<UUID> ids = new ArrayList<>(first.size());
+        while (!first.isEmpty()) {
+            int row = first.poll();
+            ids.add(new UUID(idHigh[row], idLow[row]));
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    /** Memória ocupada pelos arrays (sem contar o mapa de IDs para linhas). */
+    long memoryBytes() {
+        return (long) idHigh.length * (Long.BYTES * 4 + 1);
+    }
+
+    static long toNanos(LocalDateTime date) {
+        if (date == null) {
+            return Long.MIN_VALUE;
+        }
+        return date.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + date.getNano();
+    }
+
+    private int compareRows(int a, int b) {
+        int byCreation = Long.compare(creation[a], creation[b]);
+        if (byCreation != 0) {
+            return byCreation;
+        }
+        // Mesma ordem de UUID.compareTo, usada na paginação por cursor
+        int byHigh = Long.compare(idHigh[a], idHigh[b]);
+        return byHigh != 0 ? byHigh : Long.compare(idLow[a], idLow[b]);
+    }
+
+    private void ensureCapacity() {
+        if (size < idHigh.length) {
+            return;
+        }
+        int capacity = idHigh.length + (idHigh.length >> 1);
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        status = Arrays.copyOf(status, capacity);
+        creation = Arrays.copyOf(creation, capacity);
+        update = Arrays.copyOf(update, capacity);
+    }
+}
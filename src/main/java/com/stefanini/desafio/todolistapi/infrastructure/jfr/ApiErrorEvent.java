@@ -0,0 +1,28 @@
+package com.stefanini.desafio.todolistapi.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de cada exceção tratada pelo {@code CustomExceptionHandler}, com a duração do tratamento e o status HTTP.
+ */
+@Name("todolist.ApiError")
+@Label("Erro da API")
+@Category({"Todo List API", "Erros"})
+@Description("Exceção convertida em resposta de erro pelo CustomExceptionHandler")
+@StackTrace(false)
+public class ApiErrorEvent extends Event {
+
+    @Label("Exceção")
+    public String exception;
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("Status HTTP")
+    public int status;
+}
@@ -0,0 +1,102 @@
+package com.stefanini.desafio.todolistapi.infrastructure.jfr;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskPage;
+import com.stefanini.desafio.todolistapi.infrastructure.config.AspectOrder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Emite os eventos JFR {@link TaskOperationEvent} (operações do {@code TaskService}) e {@link ApiErrorEvent}
+ * (handlers do {@code CustomExceptionHandler}). Sem gravação ativa o custo é apenas a checagem de
+ * {@code isEnabled()}, já que o evento não escapa do método e a alocação é eliminada pelo JIT.
+ * Roda logo depois do tracing ({@link AspectOrder}), então a duração inclui a espera no bulkhead e o commit.
+ */
+@Aspect
+@Order(AspectOrder.FLIGHT_RECORDER)
+public class FlightRecorderEventAspect {
+
+    @Around("execution(public * com.stefanini.desafio.todolistapi.domain.service.TaskService.*(..))")
+    public Object recordTaskOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        TaskOperationEvent event = new TaskOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            event.success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.taskId = taskId(joinPoint.getArgs(), result);
+                event.rows = rows(result);
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(@org.springframework.web.bind.annotation.ExceptionHandler * *(..)) "
+            + "&& target(com.stefanini.desafio.todolistapi.application.exception.CustomExceptionHandler)")
+    public Object recordApiError(ProceedingJoinPoint joinPoint) throws Throwable {
+        ApiErrorEvent event = new ApiErrorEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object[] args = joinPoint.getArgs();
+                event.exception = args.length > 0 && args[0] != null ? args[0].getClass().getName() : null;
+                event.handler = joinPoint.getSignature().getName();
+                event.status = result instanceof ResponseEntity<?> response ? response.getStatusCode().value() : 0;
+                event.commit();
+            }
+        }
+    }
+
+    private static String taskId(Object[] args, Object result) {
+        if (result instanceof Task task && task.id() != null) {
+            return task.id().toString();
+        }
+        for (Object arg : args) {
+            if (arg instanceof UUID id) {
+                return id.toString();
+            }
+            if (arg instanceof Task task && task.id() != null) {
+                return task.id().toString();
+            }
+        }
+        return null;
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof TaskPage page) {
+            return page.tasks().size();
+        }
+        if (result instanceof Task) {
+            return 1;
+        }
+        if (result instanceof Long count) {
+            return count;
+        }
+        return 0;
+    }
+}
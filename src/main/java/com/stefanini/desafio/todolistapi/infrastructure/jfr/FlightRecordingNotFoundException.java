@@ -0,0 +1,17 @@
+package com.stefanini.desafio.todolistapi.infrastructure.jfr;
+
+import com.stefanini.desafio.todolistapi.domain.service.StacklessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+@Getter
+public class FlightRecordingNotFoundException extends StacklessException {
+
+    private final long recordingId;
+
+    public FlightRecordingNotFoundException(long recordingId) {
+        this.recordingId = recordingId;
+    }
+}
@@ -0,0 +1,158 @@
+package com.stefanini.desafio.todolistapi.infrastructure.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gravações do Java Flight Recorder sob demanda, para investigar picos de latência na própria instância: cada
+ * gravação inclui os eventos do JDK (GC, locks, alocação, amostras de CPU) e os eventos {@link TaskOperationEvent} e
+ * {@link ApiErrorEvent} da aplicação.
+ * <p>
+ * As gravações vão para disco (limitadas por {@code max-size}) e param sozinhas ao fim da duração (no máximo
+ * {@code max-duration}); ficam disponíveis para download até serem excluídas. O número de gravações mantidas é
+ * limitado por {@code max-recordings}.
+ */
+@Service
+public class FlightRecordingService {
+
+    private static final String NAME_PREFIX = "todolist-";
+
+    private final boolean enabled;
+    private final int maxRecordings;
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    public FlightRecordingService(
+            @Value("${api.jfr.enabled:true}") boolean enabled,
+            @Value("${api.jfr.max-recordings:2}") int maxRecordings,
+            @Value("${api.jfr.default-duration:1m}") Duration defaultDuration,
+            @Value("${api.jfr.max-duration:30m}") Duration maxDuration,
+            @Value("${api.jfr.max-size:256MB}") DataSize maxSize) {
+        this.enabled = enabled;
+        this.maxRecordings = maxRecordings;
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Inicia uma gravação.
+     * @param settings A configuração do JDK a usar.
+     * @param duration A duração (opcional); limitada a {@code max-duration}.
+     * @return A gravação iniciada.
+     * @throws FlightRecordingUnavailableException se as gravações estiverem desligadas ou o limite for atingido.
+     */
+    public synchronized Recording start(FlightRecordingSettings settings, Duration duration) {
+        if (!enabled) {
+            throw new FlightRecordingUnavailableException("jfr.disabled", maxRecordings);
+        }
+        if (recordings.size() >= maxRecordings) {
+            throw new FlightRecordingUnavailableException("jfr.limit.reached", maxRecordings);
+        }
+        Duration requested = duration != null && duration.isPositive() ? duration : defaultDuration;
+        Recording recording = new Recording(configuration(settings));
+        recording.setName(NAME_PREFIX + settings.configurationName());
+        recording.setToDisk(true);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.setDuration(requested.compareTo(maxDuration) > 0 ? maxDuration : requested);
+        recording.enable(TaskOperationEvent.class).withoutThreshold();
+        recording.enable(ApiErrorEvent.class).withoutThreshold();
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        return recording;
+    }
+
+    /**
+     * @return As gravações mantidas, da mais antiga para a mais recente.
+     */
+    public List<Recording> findAll() {
+        return recordings.values().stream().sorted(Comparator.comparingLong(Recording::getId)).toList();
+    }
+
+    /**
+     * @param id O ID da gravação.
+     * @return A gravação.
+     * @throws FlightRecordingNotFoundException se a gravação não existir ou já tiver sido excluída.
+     */
+    public Recording find(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new FlightRecordingNotFoundException(id);
+        }
+        return recording;
+    }
+
+    /**
+     * Para uma gravação em andamento, mantendo os dados para download.
+     * @param id O ID da gravação.
+     * @return A gravação parada.
+     */
+    public Recording stop(long id) {
+        Recording recording = find(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return recording;
+    }
+
+    /**
+     * Copia os dados gravados até agora para um arquivo temporário (a gravação pode continuar em andamento).
+     * Quem chama deve excluir o arquivo depois de usá-lo.
+     * @param id O ID da gravação.
+     * @return O arquivo {@code .jfr}.
+     */
+    public Path dump(long id) {
+        Recording recording = find(id);
+        try {
+            Path file = Files.createTempFile(NAME_PREFIX + id + "-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Exclui uma gravação (parando-a, se necessário) e os seus dados em disco.
+     * @param id O ID da gravação.
+     */
+    public void delete(long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            throw new FlightRecordingNotFoundException(id);
+        }
+        recording.close();
+    }
+
+    @PreDestroy
+    void close() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+    }
+
+    private static Configuration configuration(FlightRecordingSettings settings) {
+        try {
+            return Configuration.getConfiguration(settings.configurationName());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Configuração JFR indisponível: " + settings.configurationName(), e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.stefanini.desafio.todolistapi.infrastructure.jfr;
+
+/**
+ * As configurações de gravação do JDK ({@code $JAVA_HOME/lib/jfr/*.jfc}).
+ */
+public enum FlightRecordingSettings {
+
+    /** Sobrecarga de ~1%, adequada para produção. */
+    DEFAULT("default"),
+    /** Amostragem mais frequente e eventos de alocação/locks mais detalhados (~2%), para investigações curtas. */
+    PROFILE("profile");
+
+    private final String configurationName;
+
+    FlightRecordingSettings(String configurationName) {
+        this.configurationName = configurationName;
+    }
+
+    public String configurationName() {
+        return configurationName;
+    }
+}
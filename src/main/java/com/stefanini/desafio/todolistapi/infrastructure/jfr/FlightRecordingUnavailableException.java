@@ -0,0 +1,23 @@
+package com.stefanini.desafio.todolistapi.infrastructure.jfr;
+
+import com.stefanini.desafio.todolistapi.domain.service.StacklessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Lançada quando uma nova gravação JFR é recusada (gravações desligadas ou limite de gravações atingido).
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+@Getter
+public class FlightRecordingUnavailableException extends StacklessException {
+
+    /** A chave da mensagem no messages.properties. */
+    private final String messageKey;
+    private final int maxRecordings;
+
+    public FlightRecordingUnavailableException(String messageKey, int maxRecordings) {
+        this.messageKey = messageKey;
+        this.maxRecordings = maxRecordings;
+    }
+}
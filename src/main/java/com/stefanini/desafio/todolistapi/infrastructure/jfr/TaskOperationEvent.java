@@ -0,0 +1,34 @@
+package com.stefanini.desafio.todolistapi.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de cada operação do {@code TaskService}, com a duração medida entre {@link #begin()} e {@link #commit()}.
+ * Permite cruzar, na mesma gravação, as operações lentas com as pausas de GC, a contenção de locks e a alocação
+ * das threads que as executaram. Sem gravação ativa, {@link #isEnabled()} é falso e nada é registrado.
+ */
+@Name("todolist.TaskOperation")
+@Label("Operação de Tarefa")
+@Category({"Todo List API", "Tarefas"})
+@Description("Operação do TaskService, com a tarefa envolvida e a quantidade de linhas retornadas")
+@StackTrace(false)
+public class TaskOperationEvent extends Event {
+
+    @Label("Operação")
+    public String operation;
+
+    @Label("ID da Tarefa")
+    public String taskId;
+
+    @Label("Linhas")
+    @Description("Tarefas retornadas ou contadas (0 para operações sem retorno)")
+    public long rows;
+
+    @Label("Sucesso")
+    public boolean success;
+}
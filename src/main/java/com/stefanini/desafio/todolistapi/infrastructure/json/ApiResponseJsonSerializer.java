@@ -0,0 +1,48 @@
+package com.stefanini.desafio.todolistapi.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.stefanini.desafio.todolistapi.application.dto.ApiResponse;
+
+import java.io.IOException;
+
+/**
+ * Serializador escrito à mão para o envelope {@link ApiResponse}: {@code message}, {@code data} (pelo serializador
+ * do tipo do conteúdo, ex: {@link TaskResponseJsonSerializer}) e {@code timestamp}, com a mesma saída do Jackson padrão.
+ */
+public class ApiResponseJsonSerializer extends StdSerializer<ApiResponse<?>> {
+
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+
+    private final LocalDateTimeJsonSerializer timestamps;
+
+    public ApiResponseJsonSerializer(LocalDateTimeJsonSerializer timestamps) {
+        super(ApiResponse.class, false);
+        this.timestamps = timestamps;
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+        generator.writeFieldName(MESSAGE);
+        generator.writeString(value.message());
+        generator.writeFieldName(DATA);
+        if (value.data() != null) {
+            provider.findValueSerializer(value.data().getClass()).serialize(value.data(), generator, provider);
+        } else {
+            generator.writeNull();
+        }
+        generator.writeFieldName(TIMESTAMP);
+        if (value.timestamp() != null) {
+            timestamps.serialize(value.timestamp(), generator, provider);
+        } else {
+            generator.writeNull();
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,140 @@
+package com.stefanini.desafio.todolistapi.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Serializa {@link LocalDateTime} sem passar pelo {@link DateTimeFormatter}, que é a parte mais cara da resposta de
+ * uma tarefa. No modo {@link Mode#ISO} o texto é idêntico ao do {@code jackson-datatype-jsr310}
+ * ({@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}: segundos sempre presentes e fração sem zeros à direita), montado
+ * dígito a dígito em um {@code char[]} reaproveitado por thread e entregue ao gerador (que copia os caracteres) sem
+ * criar uma String; a parte da data
+ * ({@code yyyy-MM-ddT}) vem de um cache por dia, já que as tarefas de uma página costumam compartilhar poucos dias.
+ * No modo {@link Mode#EPOCH_MILLIS} o valor é escrito como número (milissegundos desde a época no fuso informado).
+ * <p>
+ * Datas que o cliente devolve à API como parâmetro (ex: a marca d'água da sincronização) usam {@link Iso}, que
+ * mantém o ISO-8601 em qualquer modo: o número perderia a fração abaixo do milissegundo.
+ */
+public class LocalDateTimeJsonSerializer extends StdSerializer<LocalDateTime> {
+
+    public enum Mode {
+        /** Texto ISO-8601 sem fuso, como no Jackson padrão (ex: {@code 2025-01-31T10:15:30.5}). */
+        ISO,
+        /** Número de milissegundos desde 1970-01-01T00:00Z, convertendo a data local pelo fuso configurado. */
+        EPOCH_MILLIS
+    }
+
+    private static final int CACHE_SIZE = 512;
+    private static final int DATE_LENGTH = 11; // yyyy-MM-ddT
+    private static final int MAX_LENGTH = DATE_LENGTH + 18; // HH:mm:ss.nnnnnnnnn
+
+    /** Buffer da formatação, um por thread: o gerador copia os caracteres antes de {@code serialize} retornar. */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    /** Prefixos de data já formatados, por dia. Entradas imutáveis: uma corrida entre threads só refaz o prefixo. */
+    private static final DatePrefix[] DATE_CACHE = new DatePrefix[CACHE_SIZE];
+
+    private final Mode mode;
+    private final ZoneId zone;
+
+    private record DatePrefix(long epochDay, char[] chars) {
+    }
+
+    /**
+     * Sempre em ISO-8601, independente de {@code api.json.timestamps}; para uso em
+     * {@code @JsonSerialize(using = ...)} nos campos que voltam para a API.
+     */
+    public static class Iso extends LocalDateTimeJsonSerializer {
+
+        public Iso() {
+            super(Mode.ISO, ZoneId.systemDefault());
+        }
+    }
+
+    public LocalDateTimeJsonSerializer(Mode mode, ZoneId zone) {
+        super(LocalDateTime.class);
+        this.mode = mode;
+        this.zone = zone;
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (mode == Mode.EPOCH_MILLIS) {
+            generator.writeNumber(value.atZone(zone).toInstant().toEpochMilli());
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        int length = formatIso(value, buffer);
+        if (length < 0) {
+            generator.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        } else {
+            generator.writeString(buffer, 0, length);
+        }
+    }
+
+    /**
+     * Formata a data como {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     * @param value A data.
+     * @param buffer O destino, com ao menos 29 posições.
+     * @return A quantidade de caracteres escritos, ou -1 para anos fora de 0000..9999 (formatados pelo JDK).
+     */
+    static int formatIso(LocalDateTime value, char[] buffer) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        long epochDay = value.toLocalDate().toEpochDay();
+        int slot = (int) Math.floorMod(epochDay, (long) CACHE_SIZE);
+        DatePrefix prefix = DATE_CACHE[slot];
+        if (prefix == null || prefix.epochDay() != epochDay) {
+            char[] chars = new char[DATE_LENGTH];
+            digits4(chars, 0, year);
+            chars[4] = '-';
+            digits2(chars, 5, value.getMonthValue());
+            chars[7] = '-';
+            digits2(chars, 8, value.getDayOfMonth());
+            chars[10] = 'T';
+            prefix = new DatePrefix(epochDay, chars);
+            DATE_CACHE[slot] = prefix;
+        }
+        System.arraycopy(prefix.chars(), 0, buffer, 0, DATE_LENGTH);
+        int position = DATE_LENGTH;
+        digits2(buffer, position, value.getHour());
+        buffer[position + 2] = ':';
+        digits2(buffer, position + 3, value.getMinute());
+        buffer[position + 5] = ':';
+        digits2(buffer, position + 6, value.getSecond());
+        position += 8;
+
+        int nano = value.getNano();
+        if (nano == 0) {
+            return position;
+        }
+        buffer[position++] = '.';
+        int end = position + 9;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + nano % 10);
+            nano /= 10;
+        }
+        while (buffer[end - 1] == '0') {
+            end--;
+        }
+        return end;
+    }
+
+    private static void digits2(char[] buffer, int position, int value) {
+        buffer[position] = (char) ('0' + value / 10);
+        buffer[position + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void digits4(char[] buffer, int position, int value) {
+        digits2(buffer, position, value / 100);
+        digits2(buffer, position + 2, value % 100);
+    }
+}
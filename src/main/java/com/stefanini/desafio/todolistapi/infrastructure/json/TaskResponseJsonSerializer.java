@@ -0,0 +1,73 @@
+package com.stefanini.desafio.todolistapi.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.stefanini.desafio.todolistapi.application.dto.TaskResponse;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Serializador escrito à mão para {@link TaskResponse}, o payload das listagens: escreve os campos na ordem dos
+ * componentes do record, com os nomes já codificados ({@link SerializedString}), sem a introspecção e os acessos
+ * reflexivos do {@code BeanSerializer}. A saída é a mesma do Jackson padrão (campos nulos incluídos).
+ */
+public class TaskResponseJsonSerializer extends StdSerializer<TaskResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString CREATION_DATE = new SerializedString("creationDate");
+    private static final SerializableString UPDATE_DATE = new SerializedString("updateDate");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializableString REMINDER_DATE = new SerializedString("reminderDate");
+    private static final SerializableString OVERDUE_DATE = new SerializedString("overdueDate");
+
+    private final LocalDateTimeJsonSerializer timestamps;
+
+    public TaskResponseJsonSerializer(LocalDateTimeJsonSerializer timestamps) {
+        super(TaskResponse.class);
+        this.timestamps = timestamps;
+    }
+
+    @Override
+    public void serialize(TaskResponse value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+        generator.writeFieldName(ID);
+        if (value.id() != null) {
+            generator.writeString(value.id().toString());
+        } else {
+            generator.writeNull();
+        }
+        generator.writeFieldName(TITLE);
+        generator.writeString(value.title());
+        generator.writeFieldName(DESCRIPTION);
+        generator.writeString(value.description());
+        writeTimestamp(generator, provider, CREATION_DATE, value.creationDate());
+        writeTimestamp(generator, provider, UPDATE_DATE, value.updateDate());
+        generator.writeFieldName(STATUS);
+        if (value.status() != null) {
+            generator.writeString(value.status().name());
+        } else {
+            generator.writeNull();
+        }
+        writeTimestamp(generator, provider, DUE_DATE, value.dueDate());
+        writeTimestamp(generator, provider, REMINDER_DATE, value.reminderDate());
+        writeTimestamp(generator, provider, OVERDUE_DATE, value.overdueDate());
+        generator.writeEndObject();
+    }
+
+    private void writeTimestamp(JsonGenerator generator, SerializerProvider provider, SerializableString name,
+                                LocalDateTime value) throws IOException {
+        generator.writeFieldName(name);
+        if (value != null) {
+            timestamps.serialize(value, generator, provider);
+        } else {
+            generator.writeNull();
+        }
+    }
+}
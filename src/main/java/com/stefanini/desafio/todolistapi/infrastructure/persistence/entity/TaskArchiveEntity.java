@@ -0,0 +1,42 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.entity;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tasks_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskArchiveEntity {
+    // O ID é o mesmo da tarefa original, preservando links e referências dos clientes.
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "VARCHAR(MAX)")
+    private String description;
+
+    @Column(name = "creation_date", nullable = false)
+    private LocalDateTime creationDate;
+
+    @Column(name = "update_date")
+    private LocalDateTime updateDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Column(name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+}
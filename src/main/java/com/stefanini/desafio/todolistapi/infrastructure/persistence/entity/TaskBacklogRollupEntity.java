@@ -0,0 +1,33 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Quantidade de tarefas em um status ao fim de um dia (ou agora, para o dia corrente).
+ * Só existem linhas para os dias em que o total mudou; nos demais vale a linha anterior mais próxima.
+ */
+@Entity
+@Table(name = "task_backlog_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBacklogRollupEntity {
+
+    @EmbeddedId
+    private TaskBacklogRollupKey key;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Version
+    private Long version;
+
+    public TaskBacklogRollupEntity(TaskBacklogRollupKey key, long total) {
+        this(key, total, null);
+    }
+}
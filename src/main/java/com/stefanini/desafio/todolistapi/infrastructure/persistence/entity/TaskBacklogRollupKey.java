@@ -0,0 +1,26 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.entity;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TaskBacklogRollupKey implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate day;
+}
@@ -0,0 +1,43 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Rollup diário dos indicadores de tarefas, mantido de forma incremental pelo {@code TaskRollupRecorder}.
+ */
+@Entity
+@Table(name = "task_daily_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDailyRollupEntity {
+
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private long created;
+
+    @Column(nullable = false)
+    private long completed;
+
+    // QuantileSketch serializado com os tempos de conclusão (em segundos) das tarefas concluídas no dia
+    @Column(name = "completion_sketch", length = 8000)
+    private byte[] completionSketch;
+
+    // Nulo até a primeira gravação: duas instâncias criando o mesmo dia colidem na chave primária
+    @Version
+    private Long version;
+
+    public TaskDailyRollupEntity(LocalDate day) {
+        this(day, 0, 0, null, null);
+    }
+}
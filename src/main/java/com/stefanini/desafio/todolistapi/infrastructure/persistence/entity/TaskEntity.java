@@ -2,10 +2,11 @@ package com.stefanini.desafio.todolistapi.infrastructure.persistence.entity;
 
 import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -15,10 +16,9 @@ import java.util.UUID;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
-public class TaskEntity {
+public class TaskEntity implements Persistable<UUID> {
+    // Atribuído pela aplicação (e não pelo banco) para que o shard dono seja conhecido antes do INSERT.
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false)
@@ -36,4 +36,78 @@ public class TaskEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private TaskStatus status;
+
+    // Preenchida na exclusão lógica; a linha permanece como tombstone para a sincronização incremental.
+    @Column(name = "deleted_date")
+    private LocalDateTime deletedDate;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Column(name = "reminder_date")
+    private LocalDateTime reminderDate;
+
+    // Marcas de disparo do TaskDeadlineScheduler: preenchidas uma única vez, por uma atualização condicional.
+    @Column(name = "reminder_sent_date")
+    private LocalDateTime reminderSentDate;
+
+    @Column(name = "overdue_date")
+    private LocalDateTime overdueDate;
+
+    // Chave fracionária da ordem definida pelo usuário (ver FractionalIndex); não faz parte do domínio.
+    @Column(name = "rank_key")
+    private String rankKey;
+
+    // Com o ID atribuído antes do save, o Spring Data não distingue INSERT de UPDATE pelo ID: sem esta marca,
+    // cada criação viraria um merge, com um SELECT antes do INSERT. Limpa ao gravar ou carregar a entidade.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public TaskEntity(UUID id, String title, String description, LocalDateTime creationDate,
+                      LocalDateTime updateDate, TaskStatus status) {
+        this(id, title, description, creationDate, updateDate, status, null);
+    }
+
+    public TaskEntity(UUID id, String title, String description, LocalDateTime creationDate,
+                      LocalDateTime updateDate, TaskStatus status, LocalDateTime deletedDate) {
+        this(id, title, description, creationDate, updateDate, status, deletedDate, null, null, null, null, null);
+    }
+
+    public TaskEntity(UUID id, String title, String description, LocalDateTime creationDate,
+                      LocalDateTime updateDate, TaskStatus status, LocalDateTime deletedDate,
+                      LocalDateTime dueDate, LocalDateTime reminderDate, LocalDateTime reminderSentDate,
+                      LocalDateTime overdueDate, String rankKey) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.creationDate = creationDate;
+        this.updateDate = updateDate;
+        this.status = status;
+        this.deletedDate = deletedDate;
+        this.dueDate = dueDate;
+        this.reminderDate = reminderDate;
+        this.reminderSentDate = reminderSentDate;
+        this.overdueDate = overdueDate;
+        this.rankKey = rankKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PrePersist
+    void assignId() {
+        if (id == null) {
+            id = UUID.randomUUID();
+        }
+    }
+
+    @PostPersist
+    @PostLoad
+    void markStored() {
+        newEntity = false;
+    }
 }
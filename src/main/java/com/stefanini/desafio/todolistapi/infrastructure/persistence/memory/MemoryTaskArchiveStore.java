@@ -0,0 +1,76 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.memory;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskArchiveEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskArchiveStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Arquivo (camada fria) do perfil {@code memory}: sempre vazio. Com todas as tarefas em memória, não há tabela
+ * ativa a manter pequena, e o arquivamento fica desligado nesse perfil ({@code api.tasks.archive.enabled=false}).
+ * Ligá-lo impede a subida, em vez de fazer cada rodada do {@code TaskArchiveJob} falhar.
+ */
+@Component
+@Profile("memory")
+public class MemoryTaskArchiveStore implements TaskArchiveStore {
+
+    public MemoryTaskArchiveStore(@Value("${api.tasks.archive.enabled:false}") boolean archiveEnabled) {
+        if (archiveEnabled) {
+            throw new IllegalStateException("api.tasks.archive.enabled não é suportado no perfil memory");
+        }
+    }
+
+    @Override
+    public Optional<TaskArchiveEntity> findById(UUID id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public List<TaskArchiveEntity> findAllById(Iterable<UUID> ids) {
+        return List.of();
+    }
+
+    @Override
+    public List<TaskArchiveEntity> findAll() {
+        return List.of();
+    }
+
+    @Override
+    public List<TaskArchiveEntity> findAllProjected(Set<TaskField> fields) {
+        return List.of();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+    }
+
+    @Override
+    public long count() {
+        return 0;
+    }
+
+    @Override
+    public int copyFromTasks(Collection<UUID> ids, LocalDateTime archivedDate) {
+        return 0;
+    }
+
+    @Override
+    public int copyBackToTasks(UUID id) {
+        return 0;
+    }
+
+    @Override
+    public Stream<UUID> streamIds() {
+        return Stream.empty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.memory;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupKey;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskDailyRollupEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskBacklogRollupStore;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskDailyRollupStore;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Rollups de indicadores do perfil {@code memory}: mantidos apenas em memória, sem log, e recomeçados vazios a cada
+ * subida (os indicadores cobrem o período desde a subida). As leituras devolvem cópias, como as de um banco.
+ */
+@Component
+@Profile("memory")
+public class MemoryTaskRollupStore implements TaskDailyRollupStore, TaskBacklogRollupStore {
+
+    private final NavigableMap<LocalDate, TaskDailyRollupEntity> daily = new ConcurrentSkipListMap<>();
+    private final Map<TaskStatus, NavigableMap<LocalDate, Long>> backlog = new EnumMap<>(TaskStatus.class);
+
+    public MemoryTaskRollupStore() {
+        for (TaskStatus status : TaskStatus.values()) {
+            backlog.put(status, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    @Override
+    public Optional<TaskDailyRollupEntity> findById(LocalDate day) {
+        return Optional.ofNullable(daily.get(day)).map(MemoryTaskRollupStore::copy);
+    }
+
+    @Override
+    public List<TaskDailyRollupEntity> findDailyBetween(LocalDate from, LocalDate to) {
+        List<TaskDailyRollupEntity> result = new ArrayList<>();
+        for (TaskDailyRollupEntity rollup : daily.subMap(from, true, to, true).values()) {
+            result.add(copy(rollup));
+        }
+        return result;
+    }
+
+    @Override
+    public <S extends TaskDailyRollupEntity> S save(S entity) {
+        daily.put(entity.getDay(), copy(entity));
+        return entity;
+    }
+
+    @Override
+    public Optional<TaskBacklogRollupEntity> findById(TaskBacklogRollupKey key) {
+        return Optional.ofNullable(backlog.get(key.getStatus()).get(key.getDay()))
+                .map(total -> new TaskBacklogRollupEntity(key, total));
+    }
+
+    @Override
+    public List<TaskBacklogRollupEntity> findLatestBefore(TaskStatus status, LocalDate day, Limit limit) {
+        List<TaskBacklogRollupEntity> result = new ArrayList<>();
+        int max = limit.isLimited() ? limit.max() : Integer.MAX_VALUE;
+        for (Map.Entry<LocalDate, Long> entry : backlog.get(status).headMap(day, false).descendingMap().entrySet()) {
+            if (result.size() >= max) {
+                break;
+            }
+            result.add(new TaskBacklogRollupEntity(new TaskBacklogRollupKey(status, entry.getKey()), entry.getValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public List<TaskBacklogRollupEntity> findBacklogBetween(LocalDate from, LocalDate to) {
+        List<TaskBacklogRollupEntity> result = new ArrayList<>();
+        backlog.forEach((status, totals) -> totals.subMap(from, true, to, true).forEach((day, total) ->
+                result.add(new TaskBacklogRollupEntity(new TaskBacklogRollupKey(status, day), total))));
+        return result;
+    }
+
+    @Override
+    public int shiftAfter(TaskStatus status, LocalDate day, long delta) {
+        NavigableMap<LocalDate, Long> later = backlog.get(status).tailMap(day, false);
+        later.replaceAll((date, total) -> total + delta);
+        return later.size();
+    }
+
+    @Override
+    public <S extends TaskBacklogRollupEntity> S save(S entity) {
+        backlog.get(entity.getKey().getStatus()).put(entity.getKey().getDay(), entity.getTotal());
+        return entity;
+    }
+
+    private static TaskDailyRollupEntity copy(TaskDailyRollupEntity rollup) {
+        byte[] sketch = rollup.getCompletionSketch();
+        return new TaskDailyRollupEntity(rollup.getDay(), rollup.getCreated(), rollup.getCompleted(),
+                sketch != null ? sketch.clone() : null, rollup.getVersion());
+    }
+}
@@ -0,0 +1,703 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.memory;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskColumnRow;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskDeadline;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Armazenamento das tarefas em memória, com durabilidade garantida por um log de escrita antecipada
+ * ({@link TaskLog}) e por snapshots compactados ({@link TaskSnapshot}). Ativado pelo perfil {@code memory}.
+ * <p>
+ * Todo o conjunto de dados fica em um {@link ConcurrentHashMap} por ID, acompanhado de índices ordenados
+ * ({@link ConcurrentSkipListSet}) equivalentes aos índices do banco: por criação (apenas tarefas ativas, para a
+ * paginação por cursor), por data de alteração (inclusive tombstones, para a sincronização incremental), pelas
+ * datas de prazo e de lembrete ainda pendentes (para a carga do {@code TaskDeadlineScheduler}) e pela chave de
+ * ordenação definida pelo usuário (apenas tarefas ativas).
+ * As leituras não bloqueiam; as escritas de um mesmo ID são serializadas por um lock listrado, que também garante
+ * que a ordem no log é a mesma aplicada em memória. A escrita fica visível assim que aplicada e retorna depois que
+ * o seu lote do log estiver no disco.
+ * <p>
+ * As entidades guardadas nunca são alteradas: cada escrita grava uma cópia nova e cada leitura devolve uma cópia,
+ * então quem chama pode alterar o resultado livremente antes de salvá-lo. Não há rollback: uma escrita confirmada
+ * permanece mesmo que a transação do serviço falhe depois dela.
+ */
+@Component
+@Profile("memory")
+public class MemoryTaskStore implements TaskStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MemoryTaskStore.class);
+    private static final int LOCK_STRIPES = 64;
+
+    // Um ID nulo serve de chave de busca: fica antes de todas as tarefas com a mesma data.
+    private static final Comparator<IndexKey> KEY_ORDER = Comparator
+            .comparing(IndexKey::date, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(IndexKey::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+    private static final Comparator<RankKey> RANK_ORDER = Comparator
+            .comparing(RankKey::rank)
+            .thenComparing(RankKey::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final Map<UUID, TaskEntity> tasks = new ConcurrentHashMap<>();
+    private final NavigableSet<IndexKey> byCreation = new ConcurrentSkipListSet<>(KEY_ORDER);
+    private final NavigableSet<IndexKey> byUpdate = new ConcurrentSkipListSet<>(KEY_ORDER);
+    private final NavigableSet<IndexKey> byDueDate = new ConcurrentSkipListSet<>(KEY_ORDER);
+    private final NavigableSet<IndexKey> byReminderDate = new ConcurrentSkipListSet<>(KEY_ORDER);
+    private final NavigableSet<RankKey> byRank = new ConcurrentSkipListSet<>(RANK_ORDER);
+    private final AtomicLong activeCount = new AtomicLong();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private final Path directory;
+    private final long snapshotMinLogBytes;
+    private final TaskLog taskLog;
+
+    /**
+     * Entrada de um índice ordenado. A tarefa é resolvida pelo mapa na leitura; uma entrada cuja data não
+     * corresponde mais à versão atual da tarefa está em substituição e é ignorada.
+     */
+    private record IndexKey(LocalDateTime date, UUID id) {
+    }
+
+    /** Entrada do índice de ordenação, resolvida como as do {@link IndexKey}. */
+    private record RankKey(String rank, UUID id) {
+    }
+
+    public MemoryTaskStore(
+            @Value("${api.tasks.memory.directory:./data}") String directory,
+            @Value("${api.tasks.memory.fsync:true}") boolean fsync,
+            @Value("${api.tasks.memory.max-batch:1024}") int maxBatch,
+            @Value("${api.tasks.memory.snapshot-min-log-size:64MB}") DataSize snapshotMinLogSize) throws IOException {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.directory = Path.of(directory);
+        this.snapshotMinLogBytes = snapshotMinLogSize.toBytes();
+
+        long started = System.nanoTime();
+        Files.createDirectories(this.directory);
+        long fromSegment = TaskSnapshot.read(this.directory, this::apply);
+        long lastSegment = TaskLog.replay(this.directory, fromSegment,
+                buffer -> TaskRecords.apply(buffer, this::apply, this::applyRemove));
+        this.taskLog = TaskLog.open(this.directory, Math.max(lastSegment + 1, fromSegment), fsync, maxBatch);
+        log.info("Armazenamento em memória carregado de {}: {} tarefas em {} ms",
+                this.directory.toAbsolutePath(), tasks.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public <S extends TaskEntity> S save(S entity) {
+        if (entity.getId() == null) {
+            entity.setId(UUID.randomUUID());
+        }
+        TaskEntity stored = copy(entity);
+        CompletableFuture<Long> durable;
+        ReentrantLock lock = lockFor(stored.getId());
+        lock.lock();
+        try {
+            apply(stored);
+            durable = taskLog.append(TaskRecords.put(stored));
+        } finally {
+            lock.unlock();
+        }
+        TaskLog.await(durable);
+        return entity;
+    }
+
+    @Override
+    public int insertAll(List<TaskEntity> entities) {
+        List<CompletableFuture<Long>> durable = new ArrayList<>(entities.size());
+        for (TaskEntity entity : entities) {
+            TaskEntity stored = copy(entity);
+            ReentrantLock lock = lockFor(stored.getId());
+            lock.lock();
+            try {
+                apply(stored);
+                durable.add(taskLog.append(TaskRecords.put(stored)));
+            } finally {
+                lock.unlock();
+            }
+        }
+        // Os registros entram nos mesmos lotes do log; espera-se a durabilidade de todos uma única vez ao final
+        durable.forEach(TaskLog::await);
+        return entities.size();
+    }
+
+    @Override
+    public Optional<TaskEntity> findByIdAndDeletedDateIsNull(UUID id) {
+        return Optional.ofNullable(tasks.get(id))
+                .filter(task -> task.getDeletedDate() == null)
+                .map(MemoryTaskStore::copy);
+    }
+
+    @Override
+    public List<Task> findActiveTasks() {
+        return collect(byCreation, this::activeAt, task -> true, Integer.MAX_VALUE, MemoryTaskStore::toTask);
+    }
+
+    @Override
+    public Optional<Task> findActiveTaskById(UUID id) {
+        return Optional.ofNullable(tasks.get(id))
+                .filter(task -> task.getDeletedDate() == null)
+                .map(MemoryTaskStore::toTask);
+    }
+
+    @Override
+    public List<Task> findActiveTasksByIdIn(Collection<UUID> ids) {
+        List<Task> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            findActiveTaskById(id).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    @Override
+    public List<TaskEntity> findAllActiveProjected(Set<TaskField> fields) {
+        List<TaskEntity> result = new ArrayList<>();
+        for (IndexKey key : byCreation) {
+            TaskEntity task = activeAt(key);
+            if (task != null) {
+                result.add(project(task, fields));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<TaskEntity> findActiveProjectedById(UUID id, Set<TaskField> fields) {
+        return Optional.ofNullable(tasks.get(id))
+                .filter(task -> task.getDeletedDate() == null)
+                .map(task -> project(task, fields));
+    }
+
+    @Override
+    public List<TaskEntity> findChangedBetween(LocalDateTime since, LocalDateTime upTo, Limit limit) {
+        // (since, upTo] em chaves: a chave de busca com ID nulo fica antes de todas as tarefas do mesmo instante.
+        return collect(byUpdate.subSet(new IndexKey(since.plusNanos(1), null), true, new IndexKey(upTo.plusNanos(1), null), false),
+                this::updatedAt, task -> true, max(limit));
+    }
+
+    @Override
+    public List<Task> findActiveTaskPage(Limit limit) {
+        return collect(byCreation, this::activeAt, task -> true, max(limit), MemoryTaskStore::toTask);
+    }
+
+    @Override
+    public List<Task> findActiveTaskPageAfter(LocalDateTime creationDate, UUID id, Limit limit) {
+        return collect(byCreation.tailSet(new IndexKey(creationDate, id), false), this::activeAt, task -> true, max(limit),
+                MemoryTaskStore::toTask);
+    }
+
+    @Override
+    public List<TaskEntity> findByUpdateDate(LocalDateTime updateDate) {
+        return collect(byUpdate.subSet(new IndexKey(updateDate, null), true, new IndexKey(updateDate.plusNanos(1), null), false),
+                this::updatedAt, task -> true, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int purgeTombstonesDeletedBefore(LocalDateTime cutoff) {
+        return removeWhere(task -> task.getDeletedDate() != null && task.getDeletedDate().isBefore(cutoff),
+                tasks.values().stream().map(TaskEntity::getId).toList());
+    }
+
+    @Override
+    public List<TaskEntity> findArchivable(TaskStatus status, LocalDateTime cutoff, Limit limit) {
+        return collect(byUpdate.headSet(new IndexKey(cutoff, null), false), this::updatedAt,
+                task -> task.getDeletedDate() == null && task.getStatus() == status && task.getUpdateDate() != null,
+                max(limit));
+    }
+
+    @Override
+    public int deleteAllByIdIn(Collection<UUID> ids) {
+        return removeWhere(task -> true, ids);
+    }
+
+    @Override
+    public Stream<UUID> streamActiveIds() {
+        return tasks.values().stream()
+                .filter(task -> task.getDeletedDate() == null)
+                .map(TaskEntity::getId);
+    }
+
+    @Override
+    public List<UUID> findIdsChangedAfter(LocalDateTime since) {
+        return collect(byUpdate.tailSet(new IndexKey(since.plusNanos(1), null), true), this::updatedAt, task -> true,
+                Integer.MAX_VALUE, TaskEntity::getId);
+    }
+
+    @Override
+    public Stream<TaskColumnRow> streamActiveColumns() {
+        return tasks.values().stream()
+                .filter(task -> task.getDeletedDate() == null)
+                .map(task -> new TaskColumnRow(task.getId(), task.getStatus(), task.getCreationDate(), task.getUpdateDate()));
+    }
+
+    @Override
+    public List<TaskEntity> findByIdInAndDeletedDateIsNull(Collection<UUID> ids) {
+        List<TaskEntity> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            findByIdAndDeletedDateIsNull(id).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    @Override
+    public long countActiveMatching(TaskStatus status, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                    LocalDateTime updatedFrom, LocalDateTime updatedTo) {
+        return tasks.values().stream()
+                .filter(task -> task.getDeletedDate() == null)
+                .filter(matching(status, createdFrom, createdTo, updatedFrom, updatedTo))
+                .count();
+    }
+
+    @Override
+    public List<TaskEntity> findActiveMatching(TaskStatus status, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                               LocalDateTime updatedFrom, LocalDateTime updatedTo, Limit limit) {
+        return collect(byCreation, this::activeAt, matching(status, createdFrom, createdTo, updatedFrom, updatedTo), max(limit));
+    }
+
+    @Override
+    public long countByDeletedDateIsNull() {
+        return activeCount.get();
+    }
+
+    @Override
+    public List<TaskDeadline> findPendingDueDates(LocalDateTime afterDate, UUID afterId, LocalDateTime to, Limit limit) {
+        return collectDeadlines(byDueDate, afterDate, afterId, to, this::pendingDueAt, max(limit));
+    }
+
+    @Override
+    public List<TaskDeadline> findPendingReminders(LocalDateTime afterDate, UUID afterId, LocalDateTime to, Limit limit) {
+        return collectDeadlines(byReminderDate, afterDate, afterId, to, this::pendingReminderAt, max(limit));
+    }
+
+    @Override
+    public List<UUID> markOverdue(List<TaskDeadline> deadlines, LocalDateTime firedAt) {
+        return markWhere(deadlines, this::pendingDueAt, task -> {
+            task.setOverdueDate(firedAt);
+            task.setUpdateDate(firedAt);
+        });
+    }
+
+    @Override
+    public List<UUID> markReminded(List<TaskDeadline> reminders, LocalDateTime firedAt) {
+        return markWhere(reminders, this::pendingReminderAt, task -> task.setReminderSentDate(firedAt));
+    }
+
+    @Override
+    public List<TaskEntity> findRankedPage(Limit limit) {
+        return collect(byRank, this::rankedAt, task -> true, max(limit));
+    }
+
+    @Override
+    public List<TaskEntity> findRankedPageAfter(String rankKey, UUID id, Limit limit) {
+        return collect(byRank.tailSet(new RankKey(rankKey, id), false), this::rankedAt, task -> true, max(limit));
+    }
+
+    @Override
+    public List<TaskRank> findRanksByIdIn(Collection<UUID> ids) {
+        List<TaskRank> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            TaskEntity task = tasks.get(id);
+            if (task != null && task.getDeletedDate() == null) {
+                result.add(new TaskRank(id, task.getRankKey()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<TaskRank> findRanksAfter(String rankKey, Limit limit) {
+        return collectRanks(byRank.tailSet(new RankKey(rankKey, null), true), key -> key.rank().compareTo(rankKey) > 0, max(limit));
+    }
+
+    @Override
+    public List<TaskRank> findRanksFrom(String rankKey, Limit limit) {
+        return collectRanks(byRank.tailSet(new RankKey(rankKey, null), true), key -> true, max(limit));
+    }
+
+    @Override
+    public List<TaskRank> findRanksBefore(String rankKey, Limit limit) {
+        return collectRanks(byRank.headSet(new RankKey(rankKey, null), false).descendingSet(), key -> true, max(limit));
+    }
+
+    @Override
+    public List<TaskRank> findLastRanks(Limit limit) {
+        return collectRanks(byRank.descendingSet(), key -> true, max(limit));
+    }
+
+    @Override
+    public List<TaskRank> findRanksLongerThan(int length, Limit limit) {
+        return collectRanks(byRank, key -> key.rank().length() > length, max(limit));
+    }
+
+    @Override
+    public int updateRankKey(UUID id, String expected, String rankKey) {
+        CompletableFuture<Long> durable;
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            TaskEntity current = tasks.get(id);
+            if (current == null || !Objects.equals(expected, current.getRankKey())) {
+                return 0;
+            }
+            TaskEntity next = copy(current);
+            next.setRankKey(rankKey);
+            apply(next);
+            durable = taskLog.append(TaskRecords.put(next));
+        } finally {
+            lock.unlock();
+        }
+        TaskLog.await(durable);
+        return 1;
+    }
+
+    /**
+     * Compacta o log em um snapshot quando o segmento atual passar de {@code snapshot-min-log-size}.
+     * As escritas continuam durante a compactação: o que entrar depois da rotação do log fica no novo segmento.
+     */
+    @Scheduled(fixedDelayString = "${api.tasks.memory.snapshot-interval-ms:300000}",
+            initialDelayString = "${api.tasks.memory.snapshot-interval-ms:300000}")
+    public void snapshotIfNeeded() {
+        if (taskLog.segmentBytes() < snapshotMinLogBytes) {
+            return;
+        }
+        try {
+            snapshot();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Falha ao gravar o snapshot das tarefas; o log será mantido até a próxima tentativa", e);
+        }
+    }
+
+    /**
+     * Grava um snapshot com o estado atual e remove os segmentos do log que ele torna desnecessários.
+     * @return A quantidade de tarefas gravadas no snapshot.
+     */
+    public synchronized long snapshot() throws IOException {
+        long started = System.nanoTime();
+        long nextSegment = taskLog.rotate();
+        long count = TaskSnapshot.write(directory, nextSegment, tasks.values());
+        taskLog.deleteSegmentsBefore(nextSegment);
+        log.info("Snapshot das tarefas gravado: {} tarefas em {} ms", count, (System.nanoTime() - started) / 1_000_000);
+        return count;
+    }
+
+    @PreDestroy
+    public void close() {
+        taskLog.close();
+    }
+
+    /**
+     * Aplica a marcação às tarefas cujo prazo ainda está pendente com a mesma data (a atualização condicional da
+     * implementação JDBC), esperando a durabilidade de todas ao final.
+     */
+    private List<UUID> markWhere(List<TaskDeadline> deadlines, Function<IndexKey, TaskEntity> pending,
+                                 Consumer<TaskEntity> mark) {
+        List<UUID> marked = new ArrayList<>(deadlines.size());
+        List<CompletableFuture<Long>> durable = new ArrayList<>(deadlines.size());
+        for (TaskDeadline deadline : deadlines) {
+            ReentrantLock lock = lockFor(deadline.taskId());
+            lock.lock();
+            try {
+                TaskEntity current = pending.apply(new IndexKey(deadline.at(), deadline.taskId()));
+                if (current != null) {
+                    TaskEntity next = copy(current);
+                    mark.accept(next);
+                    apply(next);
+                    durable.add(taskLog.append(TaskRecords.put(next)));
+                    marked.add(deadline.taskId());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        durable.forEach(TaskLog::await);
+        return marked;
+    }
+
+    /** Remove as tarefas informadas que ainda satisfazem a condição, esperando a durabilidade de todas ao final. */
+    private int removeWhere(Predicate<TaskEntity> condition, Collection<UUID> ids) {
+        List<CompletableFuture<Long>> durable = new ArrayList<>();
+        for (UUID id : ids) {
+            ReentrantLock lock = lockFor(id);
+            lock.lock();
+            try {
+                TaskEntity current = tasks.get(id);
+                if (current != null && condition.test(current)) {
+                    applyRemove(id);
+                    durable.add(taskLog.append(TaskRecords.remove(id)));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        durable.forEach(TaskLog::await);
+        return durable.size();
+    }
+
+    /**
+     * Aplica o estado completo de uma tarefa (chamado com o lock do ID, ou na carga inicial).
+     * As novas entradas de índice entram antes do mapa e as antigas saem depois, para que uma leitura concorrente
+     * não deixe de ver a tarefa; enquanto as duas coexistem, a antiga é descartada na resolução.
+     */
+    private void apply(TaskEntity next) {
+        UUID id = next.getId();
+        IndexKey creation = next.getDeletedDate() == null ? new IndexKey(next.getCreationDate(), id) : null;
+        IndexKey update = new IndexKey(next.getUpdateDate(), id);
+        IndexKey due = pendingDueKey(next);
+        IndexKey reminder = pendingReminderKey(next);
+        RankKey rank = activeRankKey(next);
+        if (creation != null) {
+            byCreation.add(creation);
+        }
+        byUpdate.add(update);
+        addKey(byDueDate, due);
+        addKey(byReminderDate, reminder);
+        if (rank != null) {
+            byRank.add(rank);
+        }
+        TaskEntity previous = tasks.put(id, next);
+        activeCount.addAndGet(activeDelta(previous, next));
+        if (previous != null) {
+            boolean wasActive = previous.getDeletedDate() == null;
+            if (wasActive && (creation == null || !previous.getCreationDate().equals(next.getCreationDate()))) {
+                byCreation.remove(new IndexKey(previous.getCreationDate(), id));
+            }
+            if (!Objects.equals(previous.getUpdateDate(), next.getUpdateDate())) {
+                byUpdate.remove(new IndexKey(previous.getUpdateDate(), id));
+            }
+            removeStaleKey(byDueDate, pendingDueKey(previous), due);
+            removeStaleKey(byReminderDate, pendingReminderKey(previous), reminder);
+            RankKey previousRank = activeRankKey(previous);
+            if (previousRank != null && !previousRank.equals(rank)) {
+                byRank.remove(previousRank);
+            }
+        }
+    }
+
+    private void applyRemove(UUID id) {
+        TaskEntity previous = tasks.remove(id);
+        if (previous != null) {
+            activeCount.addAndGet(activeDelta(previous, null));
+            byCreation.remove(new IndexKey(previous.getCreationDate(), id));
+            byUpdate.remove(new IndexKey(previous.getUpdateDate(), id));
+            removeStaleKey(byDueDate, pendingDueKey(previous), null);
+            removeStaleKey(byReminderDate, pendingReminderKey(previous), null);
+            RankKey previousRank = activeRankKey(previous);
+            if (previousRank != null) {
+                byRank.remove(previousRank);
+            }
+        }
+    }
+
+    /** Chave do prazo no índice de prazos pendentes, ou nula se a tarefa não tiver prazo a disparar. */
+    private static IndexKey pendingDueKey(TaskEntity task) {
+        return task.getDueDate() != null && task.getOverdueDate() == null && task.getDeletedDate() == null
+                ? new IndexKey(task.getDueDate(), task.getId()) : null;
+    }
+
+    /** Chave do lembrete no índice de lembretes pendentes, ou nula se a tarefa não tiver lembrete a enviar. */
+    private static IndexKey pendingReminderKey(TaskEntity task) {
+        return task.getReminderDate() != null && task.getReminderSentDate() == null && task.getDeletedDate() == null
+                ? new IndexKey(task.getReminderDate(), task.getId()) : null;
+    }
+
+    /** Chave da tarefa no índice de ordenação, ou nula se ela estiver excluída ou sem chave. */
+    private static RankKey activeRankKey(TaskEntity task) {
+        return task.getRankKey() != null && task.getDeletedDate() == null ? new RankKey(task.getRankKey(), task.getId()) : null;
+    }
+
+    private static void addKey(NavigableSet<IndexKey> index, IndexKey key) {
+        if (key != null) {
+            index.add(key);
+        }
+    }
+
+    private static void removeStaleKey(NavigableSet<IndexKey> index, IndexKey previous, IndexKey next) {
+        if (previous != null && !previous.equals(next)) {
+            index.remove(previous);
+        }
+    }
+
+    private static int activeDelta(TaskEntity previous, TaskEntity next) {
+        int before = previous != null && previous.getDeletedDate() == null ? 1 : 0;
+        int after = next != null && next.getDeletedDate() == null ? 1 : 0;
+        return after - before;
+    }
+
+    /** Resolve uma entrada do índice de criação: a tarefa, se ainda estiver ativa e com essa data de criação. */
+    private TaskEntity activeAt(IndexKey key) {
+        TaskEntity task = tasks.get(key.id());
+        return task != null && task.getDeletedDate() == null && key.date().equals(task.getCreationDate()) ? task : null;
+    }
+
+    /** Resolve uma entrada do índice de alteração: a tarefa, se a sua versão atual tiver essa data de alteração. */
+    private TaskEntity updatedAt(IndexKey key) {
+        TaskEntity task = tasks.get(key.id());
+        return task != null && Objects.equals(key.date(), task.getUpdateDate()) ? task : null;
+    }
+
+    /** Resolve uma entrada do índice de ordenação: a tarefa, se ainda estiver ativa e com essa chave. */
+    private TaskEntity rankedAt(RankKey key) {
+        TaskEntity task = tasks.get(key.id());
+        return task != null && key.equals(activeRankKey(task)) ? task : null;
+    }
+
+    /** Resolve uma entrada do índice de prazos: a tarefa, se o prazo ainda estiver pendente com essa data. */
+    private TaskEntity pendingDueAt(IndexKey key) {
+        TaskEntity task = tasks.get(key.id());
+        return task != null && task.getStatus() != TaskStatus.CONCLUIDA && key.equals(pendingDueKey(task)) ? task : null;
+    }
+
+    /** Resolve uma entrada do índice de lembretes: a tarefa, se o lembrete ainda estiver pendente com essa data. */
+    private TaskEntity pendingReminderAt(IndexKey key) {
+        TaskEntity task = tasks.get(key.id());
+        return task != null && task.getStatus() != TaskStatus.CONCLUIDA && key.equals(pendingReminderKey(task)) ? task : null;
+    }
+
+    /**
+     * Percorre o índice de datas a partir de {@code (afterDate, afterId)}, exclusivo, até {@code to}, inclusivo.
+     * Como na consulta JPA, um {@code afterId} nulo exclui todas as entradas de {@code afterDate}.
+     */
+    private static List<TaskDeadline> collectDeadlines(NavigableSet<IndexKey> index, LocalDateTime afterDate, UUID afterId,
+                                                       LocalDateTime to, Function<IndexKey, TaskEntity> resolve, int max) {
+        List<TaskDeadline> result = new ArrayList<>();
+        IndexKey from = afterId != null ? new IndexKey(afterDate, afterId) : new IndexKey(afterDate.plusNanos(1), null);
+        IndexKey until = new IndexKey(to.plusNanos(1), null);
+        if (KEY_ORDER.compare(from, until) >= 0) {
+            return result;
+        }
+        for (IndexKey key : index.subSet(from, afterId == null, until, false)) {
+            if (result.size() >= max) {
+                break;
+            }
+            if (resolve.apply(key) != null) {
+                result.add(new TaskDeadline(key.id(), key.date()));
+            }
+        }
+        return result;
+    }
+
+    private List<TaskRank> collectRanks(Iterable<RankKey> index, Predicate<RankKey> condition, int max) {
+        List<TaskRank> result = new ArrayList<>();
+        for (RankKey key : index) {
+            if (result.size() >= max) {
+                break;
+            }
+            if (condition.test(key) && rankedAt(key) != null) {
+                result.add(new TaskRank(key.id(), key.rank()));
+            }
+        }
+        return result;
+    }
+
+    private static <K> List<TaskEntity> collect(Iterable<K> index, Function<K, TaskEntity> resolve,
+                                                Predicate<TaskEntity> condition, int max) {
+        return collect(index, resolve, condition, max, MemoryTaskStore::copy);
+    }
+
+    private static <K, T> List<T> collect(Iterable<K> index, Function<K, TaskEntity> resolve,
+                                          Predicate<TaskEntity> condition, int max, Function<TaskEntity, T> view) {
+        List<T> result = new ArrayList<>();
+        for (K key : index) {
+            if (result.size() >= max) {
+                break;
+            }
+            TaskEntity task = resolve.apply(key);
+            if (task != null && condition.test(task)) {
+                result.add(view.apply(task));
+            }
+        }
+        return result;
+    }
+
+    /** Mesma semântica das consultas JPA: filtro nulo não restringe e uma data nula não entra em nenhuma faixa. */
+    private static Predicate<TaskEntity> matching(TaskStatus status, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                  LocalDateTime updatedFrom, LocalDateTime updatedTo) {
+        return task -> (status == null || task.getStatus() == status)
+                && within(task.getCreationDate(), createdFrom, createdTo)
+                && within(task.getUpdateDate(), updatedFrom, updatedTo);
+    }
+
+    private static boolean within(LocalDateTime value, LocalDateTime from, LocalDateTime to) {
+        if (from != null && (value == null || value.isBefore(from))) {
+            return false;
+        }
+        return to == null || value != null && value.isBefore(to);
+    }
+
+    private ReentrantLock lockFor(UUID id) {
+        return locks[id.hashCode() & (LOCK_STRIPES - 1)];
+    }
+
+    private static int max(Limit limit) {
+        return limit.isLimited() ? limit.max() : Integer.MAX_VALUE;
+    }
+
+    private static TaskEntity copy(TaskEntity task) {
+        return new TaskEntity(task.getId(), task.getTitle(), task.getDescription(), task.getCreationDate(),
+                task.getUpdateDate(), task.getStatus(), task.getDeletedDate(), task.getDueDate(), task.getReminderDate(),
+                task.getReminderSentDate(), task.getOverdueDate(), task.getRankKey());
+    }
+
+    /** Leitura direto no objeto de domínio, como a projeção {@code SELECT_TASK} da implementação JPA. */
+    private static Task toTask(TaskEntity task) {
+        return new Task(task.getId(), task.getTitle(), task.getDescription(), task.getCreationDate(), task.getUpdateDate(),
+                task.getStatus(), task.getDueDate(), task.getReminderDate(), task.getOverdueDate());
+    }
+
+    /** Cópia parcial com apenas os campos solicitados (e o ID), como a projeção da implementação JPA. */
+    private static TaskEntity project(TaskEntity task, Set<TaskField> fields) {
+        TaskEntity entity = new TaskEntity();
+        entity.setId(task.getId());
+        for (TaskField field : fields) {
+            switch (field) {
+                case ID -> entity.setId(task.getId());
+                case TITLE -> entity.setTitle(task.getTitle());
+                case DESCRIPTION -> entity.setDescription(task.getDescription());
+                case CREATION_DATE -> entity.setCreationDate(task.getCreationDate());
+                case UPDATE_DATE -> entity.setUpdateDate(task.getUpdateDate());
+                case STATUS -> entity.setStatus(task.getStatus());
+                case DUE_DATE -> entity.setDueDate(task.getDueDate());
+                case REMINDER_DATE -> entity.setReminderDate(task.getReminderDate());
+                case OVERDUE_DATE -> entity.setOverdueDate(task.getOverdueDate());
+            }
+        }
+        return entity;
+    }
+}
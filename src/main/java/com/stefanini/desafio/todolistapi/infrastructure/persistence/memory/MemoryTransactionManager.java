@@ -0,0 +1,30 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.memory;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Gerenciador de transações do perfil {@code memory}: não há recurso transacional, então início, commit e rollback
+ * não fazem nada. Existe para que {@code @Transactional} e {@code TransactionTemplate} continuem funcionando sem
+ * banco. Cada escrita no {@link MemoryTaskStore} é atômica e durável por si só; não há rollback entre escritas.
+ */
+public class MemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+}
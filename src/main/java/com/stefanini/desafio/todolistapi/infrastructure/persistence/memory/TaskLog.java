@@ -0,0 +1,291 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Log de escrita antecipada (write-ahead log) em segmentos append-only.
+ * <p>
+ * As escritas entram em uma fila e uma única thread grava tudo o que estiver pendente de uma vez, com um só
+ * {@code fsync} por lote (group commit): sob carga, milhares de escritas concorrentes dividem o custo de uma
+ * sincronização com o disco. Quem escreve espera apenas a confirmação do lote em que o seu registro entrou.
+ * <p>
+ * A rotação para um novo segmento passa pela mesma fila, então todo registro enfileirado antes dela fica
+ * nos segmentos anteriores; é o ponto de corte usado pelos snapshots.
+ */
+final class TaskLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskLog.class);
+    private static final Pattern SEGMENT = Pattern.compile("tasks-(\\d{16})\\.wal");
+
+    private final Path directory;
+    private final boolean fsync;
+    private final int maxBatch;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong segmentBytes = new AtomicLong();
+    private final Thread flusher;
+
+    private FileChannel channel;
+    private long segment;
+    private volatile IOException failure;
+    private volatile boolean stopped;
+
+    /** Registro pendente, ou um marcador de rotação/encerramento quando {@code record} é nulo. */
+    private record Entry(ByteBuffer record, Marker marker, CompletableFuture<Long> done) {
+    }
+
+    private enum Marker { ROTATE, CLOSE }
+
+    private TaskLog(Path directory, long segment, boolean fsync, int maxBatch) throws IOException {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.maxBatch = maxBatch;
+        this.segment = segment;
+        this.channel = openSegment(segment);
+        this.flusher = Thread.ofPlatform().name("task-log-flusher").daemon().start(this::flushLoop);
+    }
+
+    /**
+     * Abre o log para escrita em um novo segmento.
+     * @param directory O diretório dos segmentos.
+     * @param segment O número do primeiro segmento a gravar (maior que o de todos os existentes).
+     * @param fsync Se verdadeiro, cada lote só é confirmado após o {@code fsync}.
+     * @param maxBatch O número máximo de registros por lote.
+     * @return O log aberto.
+     */
+    static TaskLog open(Path directory, long segment, boolean fsync, int maxBatch) throws IOException {
+        return new TaskLog(directory, segment, fsync, maxBatch);
+    }
+
+    /**
+     * Reaplica os registros dos segmentos a partir do número informado, em ordem.
+     * Um registro incompleto ou corrompido (escrita interrompida por queda) encerra a leitura do segmento,
+     * que é truncado nesse ponto.
+     * @param directory O diretório dos segmentos.
+     * @param fromSegment O primeiro segmento a reaplicar.
+     * @param apply Recebe cada registro, posicionado no seu início.
+     * @return O número do último segmento encontrado, ou {@code fromSegment - 1} se não houver nenhum.
+     */
+    static long replay(Path directory, long fromSegment, Consumer<ByteBuffer> apply) throws IOException {
+        long last = fromSegment - 1;
+        for (long number : segments(directory)) {
+            if (number < fromSegment) {
+                continue;
+            }
+            last = number;
+            Path file = segmentPath(directory, number);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long size = channel.size();
+                if (size == 0) {
+                    continue;
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                while (buffer.hasRemaining()) {
+                    int before = buffer.position();
+                    apply.accept(buffer);
+                    if (buffer.position() == before) {
+                        log.warn("Registro incompleto em {} na posição {}; truncando o segmento", file, before);
+                        channel.truncate(before);
+                        break;
+                    }
+                }
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Enfileira um registro para gravação.
+     * @param record O registro já codificado.
+     * @return Um future concluído quando o lote do registro estiver no disco.
+     */
+    CompletableFuture<Long> append(ByteBuffer record) {
+        return enqueue(new Entry(record, null, new CompletableFuture<>()));
+    }
+
+    /**
+     * Espera o registro ficar durável, propagando a falha de gravação como {@link UncheckedIOException}.
+     */
+    static void await(CompletableFuture<Long> durable) {
+        try {
+            durable.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Passa a gravar em um novo segmento, depois que todos os registros já enfileirados estiverem no disco.
+     * @return O número do novo segmento.
+     */
+    long rotate() {
+        return enqueue(new Entry(null, Marker.ROTATE, new CompletableFuture<>())).join();
+    }
+
+    /**
+     * @return Os bytes gravados no segmento atual (usado para decidir quando compactar com um snapshot).
+     */
+    long segmentBytes() {
+        return segmentBytes.get();
+    }
+
+    /**
+     * Remove os segmentos anteriores ao informado, já cobertos por um snapshot.
+     * @param segment O primeiro segmento a manter.
+     */
+    void deleteSegmentsBefore(long segment) throws IOException {
+        for (long number : segments(directory)) {
+            if (number < segment) {
+                Files.deleteIfExists(segmentPath(directory, number));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (stopped || failure != null) {
+            return;
+        }
+        enqueue(new Entry(null, Marker.CLOSE, new CompletableFuture<>())).exceptionally(e -> -1L).join();
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<Long> enqueue(Entry entry) {
+        if (failure != null) {
+            throw new UncheckedIOException("Log de tarefas indisponível após falha de gravação", failure);
+        }
+        if (stopped) {
+            throw new IllegalStateException("Log de tarefas encerrado");
+        }
+        queue.add(entry);
+        if (stopped) {
+            // O flusher pode ter encerrado entre a verificação e a inclusão na fila
+            entry.done().completeExceptionally(new IllegalStateException("Log de tarefas encerrado"));
+        }
+        return entry.done();
+    }
+
+    private void flushLoop() {
+        List<Entry> batch = new ArrayList<>(maxBatch);
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatch - 1);
+                running = writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (IOException e) {
+                failure = e;
+                log.error("Falha ao gravar o log de tarefas; novas escritas serão recusadas", e);
+                batch.forEach(entry -> entry.done().completeExceptionally(new UncheckedIOException(e)));
+                running = false;
+            }
+            batch.clear();
+        }
+        stopped = true;
+        for (Entry entry; (entry = queue.poll()) != null; ) {
+            entry.done().completeExceptionally(failure != null
+                    ? new UncheckedIOException(failure)
+                    : new IllegalStateException("Log de tarefas encerrado"));
+        }
+    }
+
+    /**
+     * Grava os registros do lote com uma escrita vetorizada e um {@code fsync}, tratando os marcadores em ordem.
+     * @return {@code false} quando o lote contém o marcador de encerramento.
+     */
+    private boolean writeBatch(List<Entry> batch) throws IOException {
+        int pendingFrom = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Entry entry = batch.get(i);
+            if (entry.marker() == null) {
+                continue;
+            }
+            flush(batch.subList(pendingFrom, i));
+            pendingFrom = i + 1;
+            if (entry.marker() == Marker.CLOSE) {
+                channel.close();
+                entry.done().complete(segment);
+                return false;
+            }
+            channel.close();
+            segment++;
+            channel = openSegment(segment);
+            segmentBytes.set(0);
+            entry.done().complete(segment);
+        }
+        flush(batch.subList(pendingFrom, batch.size()));
+        return true;
+    }
+
+    private void flush(List<Entry> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        ByteBuffer[] buffers = new ByteBuffer[records.size()];
+        long total = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = records.get(i).record();
+            total += buffers[i].remaining();
+        }
+        long written = 0;
+        while (written < total) {
+            written += channel.write(buffers);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        segmentBytes.addAndGet(total);
+        for (Entry entry : records) {
+            entry.done().complete(segment);
+        }
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(segmentPath(directory, number),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static Path segmentPath(Path directory, long number) {
+        return directory.resolve("tasks-%016d.wal".formatted(number));
+    }
+
+    private static List<Long> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SEGMENT.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
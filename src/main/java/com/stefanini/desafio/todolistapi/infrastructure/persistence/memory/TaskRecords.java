@@ -0,0 +1,172 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.memory;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Formato binário dos registros do log e do snapshot: {@code [tamanho][CRC32C][conteúdo]}.
+ * O conteúdo é um {@code PUT} (estado completo da tarefa) ou um {@code REMOVE} (remoção física). Como cada registro
+ * traz o estado completo, reaplicá-lo é idempotente, o que permite snapshots feitos sem bloquear as escritas.
+ * O {@code PUT_V2} acrescenta as datas de prazo e lembrete e o {@code PUT_V3}, a chave de ordenação; registros
+ * das versões anteriores continuam legíveis.
+ */
+final class TaskRecords {
+
+    /** Tamanho do cabeçalho de cada registro (tamanho + CRC). */
+    static final int HEADER_BYTES = 8;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte PUT_V2 = 3;
+    private static final byte PUT_V3 = 4;
+
+    private TaskRecords() {
+    }
+
+    static ByteBuffer put(TaskEntity task) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(PUT_V3);
+            writeUuid(out, task.getId());
+            writeString(out, task.getTitle());
+            writeString(out, task.getDescription());
+            writeDate(out, task.getCreationDate());
+            writeDate(out, task.getUpdateDate());
+            writeString(out, task.getStatus() != null ? task.getStatus().name() : null);
+            writeDate(out, task.getDeletedDate());
+            writeDate(out, task.getDueDate());
+            writeDate(out, task.getReminderDate());
+            writeDate(out, task.getReminderSentDate());
+            writeDate(out, task.getOverdueDate());
+            writeString(out, task.getRankKey());
+            return frame(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static ByteBuffer remove(UUID id) {
+        ByteBuffer payload = ByteBuffer.allocate(17);
+        payload.put(REMOVE).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        return frame(payload.array());
+    }
+
+    /**
+     * Lê o próximo registro do buffer e o aplica.
+     * @param buffer O buffer posicionado no início de um registro.
+     * @param put Recebe a tarefa de um registro {@code PUT}.
+     * @param remove Recebe o ID de um registro {@code REMOVE}.
+     * @return {@code false} se o registro estiver incompleto ou corrompido (o buffer volta ao início dele).
+     */
+    static boolean apply(ByteBuffer buffer, Consumer<TaskEntity> put, Consumer<UUID> remove) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_BYTES) {
+            return false;
+        }
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining()) {
+            buffer.position(start);
+            return false;
+        }
+        ByteBuffer payload = buffer.slice(buffer.position(), length);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            buffer.position(start);
+            return false;
+        }
+        buffer.position(buffer.position() + length);
+
+        byte type = payload.get();
+        if (type == REMOVE) {
+            remove.accept(readUuid(payload));
+        } else {
+            TaskEntity task = new TaskEntity();
+            task.setId(readUuid(payload));
+            task.setTitle(readString(payload));
+            task.setDescription(readString(payload));
+            task.setCreationDate(readDate(payload));
+            task.setUpdateDate(readDate(payload));
+            String status = readString(payload);
+            task.setStatus(status != null ? TaskStatus.valueOf(status) : null);
+            task.setDeletedDate(readDate(payload));
+            if (type == PUT_V2 || type == PUT_V3) {
+                task.setDueDate(readDate(payload));
+                task.setReminderDate(readDate(payload));
+                task.setReminderSentDate(readDate(payload));
+                task.setOverdueDate(readDate(payload));
+            }
+            if (type == PUT_V3) {
+                task.setRankKey(readString(payload));
+            }
+            put.accept(task);
+        }
+        return true;
+    }
+
+    private static ByteBuffer frame(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        record.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        return record.flip();
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDate(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDate(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+    }
+}
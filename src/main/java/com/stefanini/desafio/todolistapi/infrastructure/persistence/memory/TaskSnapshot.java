@@ -0,0 +1,126 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.memory;
+
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot compactado do estado em memória: um registro {@code PUT} por tarefa, precedido do número do primeiro
+ * segmento do log que ainda precisa ser reaplicado. É gravado em um arquivo temporário e publicado com um rename
+ * atômico, seguido da sincronização do diretório, então uma queda durante a gravação mantém o snapshot anterior.
+ * Na subida é lido via memory-mapped file.
+ */
+final class TaskSnapshot {
+
+    static final String FILE = "tasks.snapshot";
+
+    private static final int MAGIC = 0x54534E50; // "TSNP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private TaskSnapshot() {
+    }
+
+    /**
+     * Grava o snapshot das tarefas informadas.
+     * @param directory O diretório de dados.
+     * @param nextSegment O primeiro segmento do log não coberto pelo snapshot.
+     * @param tasks As tarefas (podem mudar durante a gravação: os registros posteriores estão no log).
+     * @return A quantidade de tarefas gravadas.
+     */
+    static long write(Path directory, long nextSegment, Iterable<TaskEntity> tasks) throws IOException {
+        Path temporary = directory.resolve(FILE + ".tmp");
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_BYTES);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+            for (TaskEntity task : tasks) {
+                ByteBuffer record = TaskRecords.put(task);
+                if (record.remaining() > buffer.remaining()) {
+                    drain(channel, buffer);
+                }
+                if (record.remaining() > buffer.capacity()) {
+                    writeFully(channel, record);
+                } else {
+                    buffer.put(record);
+                }
+                count++;
+            }
+            drain(channel, buffer);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putLong(nextSegment).putLong(count).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory(directory);
+        return count;
+    }
+
+    /**
+     * Grava em disco a entrada de diretório do rename. Sem isso, uma queda de energia pode desfazer o rename e
+     * manter a remoção dos segmentos do log cobertos pelo snapshot, perdendo escritas já confirmadas.
+     * No Windows um diretório não pode ser aberto como canal; lá o rename já é registrado no journal do NTFS.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        if (System.getProperty("os.name", "").startsWith("Windows")) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Carrega o snapshot, se existir.
+     * @param directory O diretório de dados.
+     * @param load Recebe cada tarefa do snapshot.
+     * @return O primeiro segmento do log a reaplicar (0 quando não há snapshot).
+     * @throws IOException se o snapshot estiver corrompido.
+     */
+    static long read(Path directory, Consumer<TaskEntity> load) throws IOException {
+        Path file = directory.resolve(FILE);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Snapshot de tarefas inválido: " + file);
+            }
+            long nextSegment = buffer.getLong();
+            long count = buffer.getLong();
+            for (long i = 0; i < count; i++) {
+                if (!TaskRecords.apply(buffer, load, id -> { })) {
+                    throw new IOException("Snapshot de tarefas corrompido no registro " + i + ": " + file);
+                }
+            }
+            return nextSegment;
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
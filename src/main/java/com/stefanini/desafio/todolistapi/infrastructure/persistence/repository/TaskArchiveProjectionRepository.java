@@ -0,0 +1,22 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskArchiveEntity;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Consulta com projeção dinâmica sobre o arquivo, no mesmo formato do {@link TaskProjectionRepository}.
+ * As entidades retornadas são parciais e não gerenciadas: servem apenas para leitura e nunca devem ser salvas.
+ */
+public interface TaskArchiveProjectionRepository {
+
+    /**
+     * Lista as tarefas arquivadas lendo apenas as colunas dos campos informados (o ID é sempre lido).
+     * Os campos de prazo não existem no arquivo e ficam nulos.
+     * @param fields Os campos a serem lidos.
+     * @return Uma lista de entidades parciais.
+     */
+    List<TaskArchiveEntity> findAllProjected(Set<TaskField> fields);
+}
@@ -0,0 +1,71 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskArchiveEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+class TaskArchiveProjectionRepositoryImpl implements TaskArchiveProjectionRepository {
+
+    /** Colunas presentes em {@code tasks_archive}; os prazos não são copiados para o arquivo. */
+    private static final Set<TaskField> ARCHIVED_COLUMNS = EnumSet.of(TaskField.ID, TaskField.TITLE,
+            TaskField.DESCRIPTION, TaskField.CREATION_DATE, TaskField.UPDATE_DATE, TaskField.STATUS);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskArchiveEntity> findAllProjected(Set<TaskField> fields) {
+        EnumSet<TaskField> columns = EnumSet.of(TaskField.ID);
+        columns.addAll(fields);
+        columns.retainAll(ARCHIVED_COLUMNS);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TaskArchiveEntity> root = query.from(TaskArchiveEntity.class);
+
+        List<Selection<?>> selections = new ArrayList<>(columns.size());
+        for (TaskField column : columns) {
+            selections.add(root.get(column.property()).alias(column.property()));
+        }
+        query.multiselect(selections);
+
+        List<Tuple> rows = entityManager.createQuery(query).getResultList();
+        List<TaskArchiveEntity> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            result.add(toPartialEntity(row, columns));
+        }
+        return result;
+    }
+
+    private TaskArchiveEntity toPartialEntity(Tuple row, Set<TaskField> columns) {
+        TaskArchiveEntity entity = new TaskArchiveEntity();
+        for (TaskField column : columns) {
+            Object value = row.get(column.property());
+            switch (column) {
+                case ID -> entity.setId((UUID) value);
+                case TITLE -> entity.setTitle((String) value);
+                case DESCRIPTION -> entity.setDescription((String) value);
+                case CREATION_DATE -> entity.setCreationDate((LocalDateTime) value);
+                case UPDATE_DATE -> entity.setUpdateDate((LocalDateTime) value);
+                case STATUS -> entity.setStatus((TaskStatus) value);
+                default -> {
+                }
+            }
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,12 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface TaskArchiveRepository extends JpaRepository<TaskArchiveEntity, UUID>, TaskArchiveStore,
+        TaskArchiveProjectionRepository {
+}
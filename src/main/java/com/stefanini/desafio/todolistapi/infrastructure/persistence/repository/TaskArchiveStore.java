@@ -0,0 +1,88 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskArchiveEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Fronteira de persistência do arquivo (camada fria) usada pelos serviços.
+ * Implementada pelo {@link TaskArchiveRepository} e, no perfil {@code memory}, por um arquivo sempre vazio.
+ */
+public interface TaskArchiveStore extends TaskArchiveProjectionRepository {
+
+    /**
+     * Busca uma tarefa arquivada pelo ID.
+     * @param id O UUID da tarefa.
+     * @return A tarefa arquivada, se existir.
+     */
+    Optional<TaskArchiveEntity> findById(UUID id);
+
+    /**
+     * Busca as tarefas arquivadas com os IDs informados.
+     * @param ids Os IDs das tarefas.
+     * @return As tarefas arquivadas encontradas, em qualquer ordem.
+     */
+    List<TaskArchiveEntity> findAllById(Iterable<UUID> ids);
+
+    /**
+     * Lista todas as tarefas arquivadas.
+     * @return Uma lista de entidades arquivadas.
+     */
+    List<TaskArchiveEntity> findAll();
+
+    /**
+     * Remove uma tarefa do arquivo (usado após restaurá-la para a tabela ativa).
+     * @param id O UUID da tarefa.
+     */
+    void deleteById(UUID id);
+
+    /**
+     * Conta as tarefas arquivadas.
+     * @return A quantidade de tarefas arquivadas.
+     */
+    long count();
+
+    /**
+     * Copia as tarefas informadas da tabela {@code tasks} para {@code tasks_archive} em um único INSERT ... SELECT,
+     * sem materializar as linhas na aplicação.
+     * @param ids Os IDs das tarefas a arquivar.
+     * @param archivedDate A data de arquivamento.
+     * @return A quantidade de linhas copiadas.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tasks_archive (id, title, description, creation_date, update_date, status, archived_date) " +
+            "SELECT id, title, description, creation_date, update_date, status, :archivedDate FROM tasks WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<UUID> ids, @Param("archivedDate") LocalDateTime archivedDate);
+
+    /**
+     * Copia uma tarefa arquivada de volta para a tabela {@code tasks} (usado antes de alterá-la ou excluí-la).
+     * @param id O ID da tarefa arquivada.
+     * @return 1 se a tarefa estava arquivada e foi copiada; 0 caso contrário.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tasks (id, title, description, creation_date, update_date, status) " +
+            "SELECT id, title, description, creation_date, update_date, status FROM tasks_archive WHERE id = :id",
+            nativeQuery = true)
+    int copyBackToTasks(@Param("id") UUID id);
+
+    /**
+     * Percorre os IDs das tarefas arquivadas sem carregar as entidades (usado para montar o filtro de IDs).
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * @return Um stream com os IDs das tarefas arquivadas.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.id FROM TaskArchiveEntity a")
+    Stream<UUID> streamIds();
+}
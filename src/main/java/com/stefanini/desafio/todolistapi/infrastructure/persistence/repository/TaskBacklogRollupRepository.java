@@ -0,0 +1,11 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskBacklogRollupRepository extends JpaRepository<TaskBacklogRollupEntity, TaskBacklogRollupKey>,
+        TaskBacklogRollupStore {
+}
@@ -0,0 +1,68 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskBacklogRollupKey;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fronteira de persistência do backlog diário por status ({@code task_backlog_rollups}).
+ * Implementada pelo {@link TaskBacklogRollupRepository} e, no perfil {@code memory}, pelo
+ * {@link com.stefanini.desafio.todolistapi.infrastructure.persistence.memory.MemoryTaskRollupStore}.
+ * Todas as consultas usam a chave primária {@code (status, rollup_date)}.
+ */
+public interface TaskBacklogRollupStore {
+
+    /**
+     * Busca o total de um status em um dia.
+     * @param key O status e o dia.
+     * @return O total, se ele mudou nesse dia.
+     */
+    Optional<TaskBacklogRollupEntity> findById(TaskBacklogRollupKey key);
+
+    /**
+     * Busca os totais mais recentes de um status anteriores a um dia (o valor em vigor no início do dia).
+     * @param status O status.
+     * @param day O dia (exclusivo).
+     * @param limit O número máximo de linhas (normalmente 1).
+     * @return As linhas, da mais recente para a mais antiga.
+     */
+    @Query("SELECT b FROM TaskBacklogRollupEntity b WHERE b.key.status = :status AND b.key.day < :day ORDER BY b.key.day DESC")
+    List<TaskBacklogRollupEntity> findLatestBefore(@Param("status") TaskStatus status, @Param("day") LocalDate day, Limit limit);
+
+    /**
+     * Lista os totais que mudaram em um período, de todos os status.
+     * @param from O primeiro dia (inclusivo).
+     * @param to O último dia (inclusivo).
+     * @return As linhas do período, em qualquer ordem.
+     */
+    @Query("SELECT b FROM TaskBacklogRollupEntity b WHERE b.key.day BETWEEN :from AND :to")
+    List<TaskBacklogRollupEntity> findBacklogBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Aplica uma variação aos totais de um status gravados para dias posteriores ao informado. Só há linhas
+     * posteriores quando um lote atrasado (ex: gravado logo após a meia-noite) chega depois do dia seguinte.
+     * @param status O status.
+     * @param day O dia da variação (exclusivo).
+     * @param delta A variação do total.
+     * @return A quantidade de linhas alteradas.
+     */
+    @Modifying
+    @Query("UPDATE TaskBacklogRollupEntity b SET b.total = b.total + :delta, b.version = b.version + 1 " +
+            "WHERE b.key.status = :status AND b.key.day > :day")
+    int shiftAfter(@Param("status") TaskStatus status, @Param("day") LocalDate day, @Param("delta") long delta);
+
+    /**
+     * Grava o total, inserindo-o ou atualizando-o com verificação de versão.
+     * @param entity O total a gravar.
+     * @return O total gravado.
+     */
+    <S extends TaskBacklogRollupEntity> S save(S entity);
+}
@@ -0,0 +1,18 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+
+import java.util.List;
+
+/**
+ * Inclusão de tarefas em lote, sem passar pelo contexto de persistência do JPA (usada pela importação em massa).
+ */
+public interface TaskBatchRepository {
+
+    /**
+     * Insere as tarefas em um único lote JDBC, na transação corrente. As entidades devem ter ID e datas preenchidos.
+     * @param tasks As tarefas a inserir.
+     * @return A quantidade de tarefas inseridas.
+     */
+    int insertAll(List<TaskEntity> tasks);
+}
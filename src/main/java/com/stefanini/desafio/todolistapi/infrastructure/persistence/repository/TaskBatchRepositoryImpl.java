@@ -0,0 +1,36 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+class TaskBatchRepositoryImpl implements TaskBatchRepository {
+
+    private static final String INSERT = "INSERT INTO tasks (id, title, description, creation_date, update_date, status, due_date, reminder_date, rank_key) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    TaskBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertAll(List<TaskEntity> tasks) {
+        jdbcTemplate.batchUpdate(INSERT, tasks, tasks.size(), (statement, task) -> {
+            // Como texto, o UUID é aceito tanto pelo uniqueidentifier do SQL Server quanto pelo uuid do H2
+            statement.setString(1, task.getId().toString());
+            statement.setString(2, task.getTitle());
+            statement.setString(3, task.getDescription());
+            statement.setTimestamp(4, Timestamp.valueOf(task.getCreationDate()));
+            statement.setTimestamp(5, task.getUpdateDate() != null ? Timestamp.valueOf(task.getUpdateDate()) : null);
+            statement.setString(6, task.getStatus().name());
+            statement.setTimestamp(7, task.getDueDate() != null ? Timestamp.valueOf(task.getDueDate()) : null);
+            statement.setTimestamp(8, task.getReminderDate() != null ? Timestamp.valueOf(task.getReminderDate()) : null);
+            statement.setString(9, task.getRankKey());
+        });
+        return tasks.size();
+    }
+}
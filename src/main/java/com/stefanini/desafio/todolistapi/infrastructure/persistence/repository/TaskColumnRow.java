@@ -0,0 +1,12 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Colunas de uma tarefa lidas para o índice colunar, sem materializar a entidade (nem ler título e descrição).
+ */
+public record TaskColumnRow(UUID id, TaskStatus status, LocalDateTime creationDate, LocalDateTime updateDate) {
+}
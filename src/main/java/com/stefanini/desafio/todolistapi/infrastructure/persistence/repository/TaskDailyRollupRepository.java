@@ -0,0 +1,11 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskDailyRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface TaskDailyRollupRepository extends JpaRepository<TaskDailyRollupEntity, LocalDate>, TaskDailyRollupStore {
+}
@@ -0,0 +1,40 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskDailyRollupEntity;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fronteira de persistência dos rollups diários de indicadores ({@code task_daily_rollups}).
+ * Implementada pelo {@link TaskDailyRollupRepository} e, no perfil {@code memory}, pelo
+ * {@link com.stefanini.desafio.todolistapi.infrastructure.persistence.memory.MemoryTaskRollupStore}.
+ */
+public interface TaskDailyRollupStore {
+
+    /**
+     * Busca o rollup de um dia.
+     * @param day O dia.
+     * @return O rollup, se o dia já teve alguma alteração.
+     */
+    Optional<TaskDailyRollupEntity> findById(LocalDate day);
+
+    /**
+     * Lista os rollups de um período, pela chave primária.
+     * @param from O primeiro dia (inclusivo).
+     * @param to O último dia (inclusivo).
+     * @return Os rollups existentes no período, em ordem de dia.
+     */
+    @Query("SELECT r FROM TaskDailyRollupEntity r WHERE r.day BETWEEN :from AND :to ORDER BY r.day ASC")
+    List<TaskDailyRollupEntity> findDailyBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Grava o rollup, inserindo-o ou atualizando-o com verificação de versão.
+     * @param entity O rollup a gravar.
+     * @return O rollup gravado.
+     */
+    <S extends TaskDailyRollupEntity> S save(S entity);
+}
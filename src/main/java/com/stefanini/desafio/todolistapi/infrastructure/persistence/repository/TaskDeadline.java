@@ -0,0 +1,11 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Prazo (ou lembrete) pendente de uma tarefa, lido pelo índice de datas sem materializar a entidade.
+ * A data também serve de versão: o disparo só vale se a tarefa ainda tiver exatamente essa data.
+ */
+public record TaskDeadline(UUID taskId, LocalDateTime at) {
+}
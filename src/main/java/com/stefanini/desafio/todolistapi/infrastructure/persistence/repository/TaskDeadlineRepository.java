@@ -0,0 +1,31 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Registro dos disparos de prazos e lembretes (usado pelo {@code TaskDeadlineScheduler}).
+ * Cada marcação é uma atualização condicional: só altera a tarefa se o prazo ainda estiver pendente e com a mesma
+ * data, então disparos repetidos (após um reinício ou em outra instância) não têm efeito.
+ */
+public interface TaskDeadlineRepository {
+
+    /**
+     * Marca as tarefas como atrasadas, renovando a data de alteração, em um único lote JDBC na transação corrente.
+     * Tarefas concluídas, excluídas, já marcadas ou com outro prazo são ignoradas.
+     * @param deadlines Os prazos vencidos.
+     * @param firedAt O instante do disparo.
+     * @return Os IDs das tarefas efetivamente marcadas.
+     */
+    List<UUID> markOverdue(List<TaskDeadline> deadlines, LocalDateTime firedAt);
+
+    /**
+     * Registra o envio dos lembretes, sem alterar a data de alteração das tarefas.
+     * Tarefas concluídas, excluídas, já lembradas ou com outro horário de lembrete são ignoradas.
+     * @param reminders Os lembretes vencidos.
+     * @param firedAt O instante do disparo.
+     * @return Os IDs das tarefas efetivamente lembradas.
+     */
+    List<UUID> markReminded(List<TaskDeadline> reminders, LocalDateTime firedAt);
+}
@@ -0,0 +1,64 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class TaskDeadlineRepositoryImpl implements TaskDeadlineRepository {
+
+    private static final String MARK_OVERDUE = "UPDATE tasks SET overdue_date = ?, update_date = ? " +
+            "WHERE id = ? AND due_date = ? AND overdue_date IS NULL AND deleted_date IS NULL AND status <> 'CONCLUIDA'";
+    private static final String MARK_REMINDED = "UPDATE tasks SET reminder_sent_date = ? " +
+            "WHERE id = ? AND reminder_date = ? AND reminder_sent_date IS NULL AND deleted_date IS NULL AND status <> 'CONCLUIDA'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    TaskDeadlineRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<UUID> markOverdue(List<TaskDeadline> deadlines, LocalDateTime firedAt) {
+        Timestamp fired = Timestamp.valueOf(firedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(MARK_OVERDUE, deadlines, deadlines.size(), (statement, deadline) -> {
+            statement.setTimestamp(1, fired);
+            statement.setTimestamp(2, fired);
+            statement.setString(3, deadline.taskId().toString());
+            statement.setTimestamp(4, Timestamp.valueOf(deadline.at()));
+        });
+        return updated(deadlines, counts);
+    }
+
+    @Override
+    public List<UUID> markReminded(List<TaskDeadline> reminders, LocalDateTime firedAt) {
+        Timestamp fired = Timestamp.valueOf(firedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(MARK_REMINDED, reminders, reminders.size(), (statement, reminder) -> {
+            statement.setTimestamp(1, fired);
+            statement.setString(2, reminder.taskId().toString());
+            statement.setTimestamp(3, Timestamp.valueOf(reminder.at()));
+        });
+        return updated(reminders, counts);
+    }
+
+    /**
+     * Seleciona as linhas que a atualização condicional alterou. Um driver que não informa a contagem por comando
+     * ({@code SUCCESS_NO_INFO}) faz a linha ser tratada como não disparada, para nunca disparar duas vezes.
+     */
+    private static List<UUID> updated(List<TaskDeadline> deadlines, int[][] counts) {
+        List<UUID> ids = new ArrayList<>(deadlines.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0) {
+                    ids.add(deadlines.get(index).taskId());
+                }
+                index++;
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,32 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Consultas com projeção dinâmica: apenas as colunas dos campos solicitados entram no SELECT,
+ * evitando ler colunas grandes como {@code description VARCHAR(MAX)} quando o cliente não as usa.
+ * As entidades retornadas são parciais e não gerenciadas: servem apenas para leitura e nunca devem ser salvas.
+ */
+public interface TaskProjectionRepository {
+
+    /**
+     * Lista as tarefas ativas lendo apenas as colunas dos campos informados (o ID é sempre lido).
+     * @param fields Os campos a serem lidos.
+     * @return Uma lista de entidades parciais.
+     */
+    List<TaskEntity> findAllActiveProjected(Set<TaskField> fields);
+
+    /**
+     * Busca uma tarefa ativa pelo ID lendo apenas as colunas dos campos informados (o ID é sempre lido).
+     * @param id O UUID da tarefa.
+     * @param fields Os campos a serem lidos.
+     * @return A entidade parcial, se existir e não estiver excluída.
+     */
+    Optional<TaskEntity> findActiveProjectedById(UUID id, Set<TaskField> fields);
+}
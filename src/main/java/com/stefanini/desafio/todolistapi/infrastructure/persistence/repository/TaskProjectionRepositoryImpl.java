@@ -0,0 +1,81 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskEntity> findAllActiveProjected(Set<TaskField> fields) {
+        return query(fields, null);
+    }
+
+    @Override
+    public Optional<TaskEntity> findActiveProjectedById(UUID id, Set<TaskField> fields) {
+        return query(fields, id).stream().findFirst();
+    }
+
+    private List<TaskEntity> query(Set<TaskField> fields, UUID id) {
+        EnumSet<TaskField> columns = EnumSet.of(TaskField.ID);
+        columns.addAll(fields);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TaskEntity> root = query.from(TaskEntity.class);
+
+        List<Selection<?>> selections = new ArrayList<>(columns.size());
+        for (TaskField column : columns) {
+            selections.add(root.get(column.property()).alias(column.property()));
+        }
+        query.multiselect(selections);
+
+        Predicate active = cb.isNull(root.get("deletedDate"));
+        query.where(id == null ? active : cb.and(active, cb.equal(root.get("id"), id)));
+
+        List<Tuple> rows = entityManager.createQuery(query).getResultList();
+        List<TaskEntity> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            result.add(toPartialEntity(row, columns));
+        }
+        return result;
+    }
+
+    private TaskEntity toPartialEntity(Tuple row, Set<TaskField> columns) {
+        TaskEntity entity = new TaskEntity();
+        for (TaskField column : columns) {
+            Object value = row.get(column.property());
+            switch (column) {
+                case ID -> entity.setId((UUID) value);
+                case TITLE -> entity.setTitle((String) value);
+                case DESCRIPTION -> entity.setDescription((String) value);
+                case CREATION_DATE -> entity.setCreationDate((LocalDateTime) value);
+                case UPDATE_DATE -> entity.setUpdateDate((LocalDateTime) value);
+                case STATUS -> entity.setStatus((TaskStatus) value);
+                case DUE_DATE -> entity.setDueDate((LocalDateTime) value);
+                case REMINDER_DATE -> entity.setReminderDate((LocalDateTime) value);
+                case OVERDUE_DATE -> entity.setOverdueDate((LocalDateTime) value);
+            }
+        }
+        return entity;
+    }
+}
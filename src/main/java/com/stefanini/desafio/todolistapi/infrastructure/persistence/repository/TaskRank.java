@@ -0,0 +1,10 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import java.util.UUID;
+
+/**
+ * Posição de uma tarefa na ordem definida pelo usuário, lida pelo índice {@code (rank_key, id)} sem materializar
+ * a entidade. A chave também serve de versão: o rebalanceamento só troca a chave se ela ainda for a mesma.
+ */
+public record TaskRank(UUID taskId, String rankKey) {
+}
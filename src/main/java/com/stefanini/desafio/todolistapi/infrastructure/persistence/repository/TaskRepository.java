@@ -9,7 +9,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
+public interface TaskRepository extends JpaRepository<TaskEntity, UUID>, TaskProjectionRepository, TaskBatchRepository,
+        TaskDeadlineRepository, TaskStore {
 
     /**
      * Encontra todas as tarefas que correspondem a um determinado status.
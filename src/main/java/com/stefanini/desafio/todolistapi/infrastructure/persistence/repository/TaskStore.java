@@ -0,0 +1,338 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Fronteira de persistência das tarefas usada pelos serviços.
+ * Implementada pelo {@link TaskRepository} (Spring Data JPA, SQL Server) e, no perfil {@code memory},
+ * pelo {@link com.stefanini.desafio.todolistapi.infrastructure.persistence.memory.MemoryTaskStore}.
+ * As anotações de consulta valem apenas para a implementação JPA.
+ */
+public interface TaskStore extends TaskProjectionRepository, TaskBatchRepository, TaskDeadlineRepository {
+
+    /**
+     * Projeção das colunas da tarefa direto no objeto de domínio ({@code SELECT new}), usada pelas leituras:
+     * o Hibernate não materializa a entidade nem guarda o estado carregado para a verificação de alterações,
+     * e o {@code TaskMapper} não precisa de uma cópia intermediária. Os objetos retornados não são gerenciados.
+     */
+    String SELECT_TASK = "SELECT new com.stefanini.desafio.todolistapi.domain.model.Task(t.id, t.title, t.description, " +
+            "t.creationDate, t.updateDate, t.status, t.dueDate, t.reminderDate, t.overdueDate) FROM TaskEntity t ";
+
+    /**
+     * Grava a tarefa, inserindo-a ou substituindo a versão existente com o mesmo ID.
+     * @param entity A entidade a gravar.
+     * @return A entidade gravada.
+     */
+    <S extends TaskEntity> S save(S entity);
+
+    /**
+     * Busca uma tarefa ativa pelo ID, ignorando tombstones.
+     * @param id O UUID da tarefa.
+     * @return A entidade encontrada, se existir e não estiver excluída.
+     */
+    Optional<TaskEntity> findByIdAndDeletedDateIsNull(UUID id);
+
+    /**
+     * Lista as tarefas ativas já como objetos de domínio ({@link #SELECT_TASK}), para as listagens.
+     * @return Uma lista de tarefas não excluídas, em qualquer ordem.
+     */
+    @Query(SELECT_TASK + "WHERE t.deletedDate IS NULL")
+    List<Task> findActiveTasks();
+
+    /**
+     * Busca uma tarefa ativa pelo ID já como objeto de domínio ({@link #SELECT_TASK}), para as leituras.
+     * @param id O UUID da tarefa.
+     * @return A tarefa encontrada, se existir e não estiver excluída.
+     */
+    @Query(SELECT_TASK + "WHERE t.id = :id AND t.deletedDate IS NULL")
+    Optional<Task> findActiveTaskById(@Param("id") UUID id);
+
+    /**
+     * Busca as tarefas ativas com os IDs informados já como objetos de domínio ({@link #SELECT_TASK}).
+     * @param ids Os IDs das tarefas.
+     * @return As tarefas encontradas, em qualquer ordem.
+     */
+    @Query(SELECT_TASK + "WHERE t.id IN :ids AND t.deletedDate IS NULL")
+    List<Task> findActiveTasksByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Lista as tarefas (ativas e tombstones) alteradas no intervalo {@code (since, upTo]}, em ordem de alteração.
+     * Utiliza o índice {@code idx_task_update_date}.
+     * @param since A marca d'água exclusiva informada pelo cliente.
+     * @param upTo O limite superior inclusivo da janela de sincronização.
+     * @param limit O número máximo de linhas retornadas.
+     * @return Uma lista de entidades ordenada por {@code updateDate}.
+     */
+    @Query("SELECT t FROM TaskEntity t WHERE t.updateDate > :since AND t.updateDate <= :upTo ORDER BY t.updateDate ASC")
+    List<TaskEntity> findChangedBetween(@Param("since") LocalDateTime since, @Param("upTo") LocalDateTime upTo, Limit limit);
+
+    /**
+     * Primeira página das tarefas ativas em ordem de criação (paginação por cursor), já como objetos de domínio
+     * ({@link #SELECT_TASK}). Utiliza o índice {@code idx_task_creation_date_id}.
+     * @param limit O tamanho da página.
+     * @return Uma lista de tarefas ordenada por {@code creationDate} e {@code id}.
+     */
+    @Query(SELECT_TASK + "WHERE t.deletedDate IS NULL ORDER BY t.creationDate ASC, t.id ASC")
+    List<Task> findActiveTaskPage(Limit limit);
+
+    /**
+     * Página seguinte das tarefas ativas em ordem de criação, a partir da última tarefa entregue (keyset), já como
+     * objetos de domínio ({@link #SELECT_TASK}).
+     * @param creationDate A data de criação da última tarefa entregue.
+     * @param id O ID da última tarefa entregue, que desempata tarefas criadas no mesmo instante.
+     * @param limit O tamanho da página.
+     * @return Uma lista de tarefas ordenada por {@code creationDate} e {@code id}.
+     */
+    @Query(SELECT_TASK + "WHERE t.deletedDate IS NULL " +
+            "AND (t.creationDate > :creationDate OR (t.creationDate = :creationDate AND t.id > :id)) " +
+            "ORDER BY t.creationDate ASC, t.id ASC")
+    List<Task> findActiveTaskPageAfter(@Param("creationDate") LocalDateTime creationDate, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Lista todas as tarefas (ativas e tombstones) com exatamente a data de alteração informada.
+     * @param updateDate A data de alteração.
+     * @return Uma lista de entidades.
+     */
+    List<TaskEntity> findByUpdateDate(LocalDateTime updateDate);
+
+    /**
+     * Remove fisicamente os tombstones anteriores ao limite de retenção.
+     * @param cutoff A data limite; tombstones excluídos antes dela são removidos.
+     * @return A quantidade de linhas removidas.
+     */
+    @Modifying
+    @Query("DELETE FROM TaskEntity t WHERE t.deletedDate < :cutoff")
+    int purgeTombstonesDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Seleciona e bloqueia um lote de tarefas elegíveis ao arquivamento (status e última alteração anterior ao corte).
+     * O bloqueio pessimista impede que uma atualização concorrente se perca entre a cópia e a remoção do lote.
+     * @param status O status das tarefas a arquivar.
+     * @param cutoff A data de corte da última alteração.
+     * @param limit O tamanho máximo do lote.
+     * @return As entidades do lote, bloqueadas até o fim da transação.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TaskEntity t WHERE t.status = :status AND t.updateDate < :cutoff AND t.deletedDate IS NULL ORDER BY t.updateDate ASC")
+    List<TaskEntity> findArchivable(@Param("status") TaskStatus status, @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    /**
+     * Remove fisicamente as tarefas informadas (usado após copiá-las para o arquivo).
+     * @param ids Os IDs das tarefas a remover.
+     * @return A quantidade de linhas removidas.
+     */
+    @Modifying
+    @Query("DELETE FROM TaskEntity t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Percorre os IDs das tarefas ativas sem carregar as entidades (usado para montar o filtro de IDs).
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * @return Um stream com os IDs das tarefas não excluídas.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id FROM TaskEntity t WHERE t.deletedDate IS NULL")
+    Stream<UUID> streamActiveIds();
+
+    /**
+     * Lista os IDs das tarefas (ativas e tombstones) alteradas depois da data informada (usado na atualização
+     * incremental do filtro de IDs). Coberto pelo índice {@code idx_task_update_date}, que já traz o ID.
+     * @param since A data de alteração exclusiva.
+     * @return Os IDs alterados, em qualquer ordem.
+     */
+    @Query("SELECT t.id FROM TaskEntity t WHERE t.updateDate > :since")
+    List<UUID> findIdsChangedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * Percorre as colunas usadas pelo índice colunar das tarefas ativas, sem carregar as entidades.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * @return Um stream com ID, status e datas das tarefas não excluídas.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskColumnRow(" +
+            "t.id, t.status, t.creationDate, t.updateDate) FROM TaskEntity t WHERE t.deletedDate IS NULL")
+    Stream<TaskColumnRow> streamActiveColumns();
+
+    /**
+     * Busca as tarefas ativas com os IDs informados (hidratação do resultado do índice colunar).
+     * @param ids Os IDs das tarefas.
+     * @return As entidades encontradas, em qualquer ordem.
+     */
+    List<TaskEntity> findByIdInAndDeletedDateIsNull(Collection<UUID> ids);
+
+    /**
+     * Conta as tarefas ativas que atendem ao filtro (usado enquanto o índice colunar não está pronto).
+     * Parâmetros nulos não restringem; as faixas de data são {@code [from, to)}.
+     * @return A quantidade de tarefas.
+     */
+    @Query("SELECT COUNT(t) FROM TaskEntity t WHERE t.deletedDate IS NULL " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:createdFrom IS NULL OR t.creationDate >= :createdFrom) AND (:createdTo IS NULL OR t.creationDate < :createdTo) " +
+            "AND (:updatedFrom IS NULL OR t.updateDate >= :updatedFrom) AND (:updatedTo IS NULL OR t.updateDate < :updatedTo)")
+    long countActiveMatching(@Param("status") TaskStatus status,
+                             @Param("createdFrom") LocalDateTime createdFrom, @Param("createdTo") LocalDateTime createdTo,
+                             @Param("updatedFrom") LocalDateTime updatedFrom, @Param("updatedTo") LocalDateTime updatedTo);
+
+    /**
+     * Lista as tarefas ativas que atendem ao filtro em ordem de criação (usado enquanto o índice colunar não está pronto).
+     * Parâmetros nulos não restringem; as faixas de data são {@code [from, to)}.
+     * @return Uma lista de entidades ordenada por {@code creationDate} e {@code id}.
+     */
+    @Query("SELECT t FROM TaskEntity t WHERE t.deletedDate IS NULL " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:createdFrom IS NULL OR t.creationDate >= :createdFrom) AND (:createdTo IS NULL OR t.creationDate < :createdTo) " +
+            "AND (:updatedFrom IS NULL OR t.updateDate >= :updatedFrom) AND (:updatedTo IS NULL OR t.updateDate < :updatedTo) " +
+            "ORDER BY t.creationDate ASC, t.id ASC")
+    List<TaskEntity> findActiveMatching(@Param("status") TaskStatus status,
+                                        @Param("createdFrom") LocalDateTime createdFrom, @Param("createdTo") LocalDateTime createdTo,
+                                        @Param("updatedFrom") LocalDateTime updatedFrom, @Param("updatedTo") LocalDateTime updatedTo,
+                                        Limit limit);
+
+    /**
+     * Próxima página dos prazos pendentes até {@code to}, a partir da posição {@code (afterDate, afterId)} (keyset).
+     * Pendente é a tarefa ativa, não concluída e ainda não marcada como atrasada. Utiliza o índice filtrado
+     * {@code idx_task_due_date_id}.
+     * @param afterDate A data do último prazo lido.
+     * @param afterId O ID do último prazo lido, que desempata prazos no mesmo instante; nulo para começar depois de {@code afterDate}.
+     * @param to O limite superior inclusivo.
+     * @param limit O tamanho da página.
+     * @return Os prazos ordenados por data e ID.
+     */
+    @Query("SELECT new com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskDeadline(t.id, t.dueDate) " +
+            "FROM TaskEntity t WHERE t.overdueDate IS NULL AND t.deletedDate IS NULL " +
+            "AND t.status <> com.stefanini.desafio.todolistapi.domain.model.TaskStatus.CONCLUIDA " +
+            "AND (t.dueDate > :afterDate OR (t.dueDate = :afterDate AND t.id > :afterId)) AND t.dueDate <= :to " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskDeadline> findPendingDueDates(@Param("afterDate") LocalDateTime afterDate, @Param("afterId") UUID afterId,
+                                          @Param("to") LocalDateTime to, Limit limit);
+
+    /**
+     * Próxima página dos lembretes ainda não enviados até {@code to}, como {@link #findPendingDueDates}.
+     * Utiliza o índice filtrado {@code idx_task_reminder_date_id}.
+     * @return Os lembretes ordenados por data e ID.
+     */
+    @Query("SELECT new com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskDeadline(t.id, t.reminderDate) " +
+            "FROM TaskEntity t WHERE t.reminderSentDate IS NULL AND t.deletedDate IS NULL " +
+            "AND t.status <> com.stefanini.desafio.todolistapi.domain.model.TaskStatus.CONCLUIDA " +
+            "AND (t.reminderDate > :afterDate OR (t.reminderDate = :afterDate AND t.id > :afterId)) AND t.reminderDate <= :to " +
+            "ORDER BY t.reminderDate ASC, t.id ASC")
+    List<TaskDeadline> findPendingReminders(@Param("afterDate") LocalDateTime afterDate, @Param("afterId") UUID afterId,
+                                            @Param("to") LocalDateTime to, Limit limit);
+
+    /**
+     * Primeira página das tarefas ativas na ordem definida pelo usuário (paginação por cursor).
+     * Utiliza o índice filtrado {@code idx_task_rank_key_id}.
+     * @param limit O tamanho da página.
+     * @return Uma lista de entidades ordenada por {@code rankKey} e {@code id}.
+     */
+    @Query("SELECT t FROM TaskEntity t WHERE t.rankKey IS NOT NULL AND t.deletedDate IS NULL ORDER BY t.rankKey ASC, t.id ASC")
+    List<TaskEntity> findRankedPage(Limit limit);
+
+    /**
+     * Página seguinte das tarefas ativas na ordem definida pelo usuário, a partir da última tarefa entregue (keyset).
+     * @param rankKey A chave de ordenação da última tarefa entregue.
+     * @param id O ID da última tarefa entregue, que desempata chaves iguais.
+     * @param limit O tamanho da página.
+     * @return Uma lista de entidades ordenada por {@code rankKey} e {@code id}.
+     */
+    @Query("SELECT t FROM TaskEntity t WHERE t.rankKey IS NOT NULL AND t.deletedDate IS NULL " +
+            "AND (t.rankKey > :rankKey OR (t.rankKey = :rankKey AND t.id > :id)) " +
+            "ORDER BY t.rankKey ASC, t.id ASC")
+    List<TaskEntity> findRankedPageAfter(@Param("rankKey") String rankKey, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Busca as chaves de ordenação das tarefas ativas informadas.
+     * @param ids Os IDs das tarefas.
+     * @return As posições encontradas, em qualquer ordem; tarefas sem chave voltam com a chave nula.
+     */
+    @Query("SELECT new com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank(t.id, t.rankKey) " +
+            "FROM TaskEntity t WHERE t.id IN :ids AND t.deletedDate IS NULL")
+    List<TaskRank> findRanksByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Lista as posições seguintes a uma chave, em ordem crescente (vizinhos de baixo de uma posição).
+     * @param rankKey A chave de referência, exclusiva.
+     * @param limit O número máximo de posições.
+     * @return As posições ordenadas por {@code rankKey} e {@code id}.
+     */
+    @Query("SELECT new com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank(t.id, t.rankKey) " +
+            "FROM TaskEntity t WHERE t.rankKey > :rankKey AND t.deletedDate IS NULL ORDER BY t.rankKey ASC, t.id ASC")
+    List<TaskRank> findRanksAfter(@Param("rankKey") String rankKey, Limit limit);
+
+    /**
+     * Lista as posições a partir de uma chave, inclusive, em ordem crescente.
+     * @param rankKey A chave de referência, inclusiva.
+     * @param limit O número máximo de posições.
+     * @return As posições ordenadas por {@code rankKey} e {@code id}.
+     */
+    @Query("SELECT new com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank(t.id, t.rankKey) " +
+            "FROM TaskEntity t WHERE t.rankKey >= :rankKey AND t.deletedDate IS NULL ORDER BY t.rankKey ASC, t.id ASC")
+    List<TaskRank> findRanksFrom(@Param("rankKey") String rankKey, Limit limit);
+
+    /**
+     * Lista as posições anteriores a uma chave, em ordem decrescente (vizinhos de cima de uma posição).
+     * @param rankKey A chave de referência, exclusiva.
+     * @param limit O número máximo de posições.
+     * @return As posições ordenadas por {@code rankKey} e {@code id} decrescentes.
+     */
+    @Query("SELECT new com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank(t.id, t.rankKey) " +
+            "FROM TaskEntity t WHERE t.rankKey < :rankKey AND t.deletedDate IS NULL ORDER BY t.rankKey DESC, t.id DESC")
+    List<TaskRank> findRanksBefore(@Param("rankKey") String rankKey, Limit limit);
+
+    /**
+     * Lista as últimas posições da ordem, em ordem decrescente (usado para anexar tarefas ao fim da lista).
+     * @param limit O número máximo de posições.
+     * @return As posições ordenadas por {@code rankKey} e {@code id} decrescentes.
+     */
+    @Query("SELECT new com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank(t.id, t.rankKey) " +
+            "FROM TaskEntity t WHERE t.rankKey IS NOT NULL AND t.deletedDate IS NULL ORDER BY t.rankKey DESC, t.id DESC")
+    List<TaskRank> findLastRanks(Limit limit);
+
+    /**
+     * Lista as posições com chaves mais longas que o limite, candidatas ao rebalanceamento.
+     * Não há índice para o tamanho da chave: a consulta percorre o índice filtrado {@code idx_task_rank_key_id},
+     * estreito, e roda apenas em segundo plano.
+     * @param length O tamanho a partir do qual a chave é considerada longa, exclusivo.
+     * @param limit O número máximo de posições.
+     * @return As posições encontradas, em qualquer ordem.
+     */
+    @Query("SELECT new com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank(t.id, t.rankKey) " +
+            "FROM TaskEntity t WHERE t.rankKey IS NOT NULL AND t.deletedDate IS NULL AND LENGTH(t.rankKey) > :length")
+    List<TaskRank> findRanksLongerThan(@Param("length") int length, Limit limit);
+
+    /**
+     * Troca a chave de ordenação de uma tarefa se ela ainda tiver a chave esperada, sem renovar a data de
+     * alteração (a ordem visível não muda). Uma tarefa movida no meio do rebalanceamento mantém a nova posição.
+     * @param id O ID da tarefa.
+     * @param expected A chave lida antes do rebalanceamento.
+     * @param rankKey A nova chave.
+     * @return 1 se a chave foi trocada; 0 caso contrário.
+     */
+    @Modifying
+    @Query("UPDATE TaskEntity t SET t.rankKey = :rankKey WHERE t.id = :id AND t.rankKey = :expected")
+    int updateRankKey(@Param("id") UUID id, @Param("expected") String expected, @Param("rankKey") String rankKey);
+
+    /**
+     * Conta as tarefas ativas (não excluídas).
+     * @return A quantidade de tarefas ativas.
+     */
+    long countByDeletedDateIsNull();
+}
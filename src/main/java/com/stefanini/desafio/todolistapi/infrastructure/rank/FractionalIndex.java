@@ -0,0 +1,272 @@
+package com.stefanini.desafio.todolistapi.infrastructure.rank;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Chaves de ordenação fracionárias (lexicográficas): entre duas chaves sempre existe outra, então mover um item
+ * altera apenas a chave dele, sem renumerar os vizinhos.
+ * <p>
+ * Uma chave é uma parte inteira seguida de uma parte fracionária, ambas em base 62 ({@code 0-9A-Za-z}, na ordem
+ * ASCII). O primeiro caractere da parte inteira indica o seu tamanho ({@code a} = 1 dígito, {@code b} = 2, ...;
+ * {@code Z}, {@code Y}, ... para os inteiros negativos), de modo que anexar ao fim ou ao início só incrementa a
+ * parte inteira e mantém a chave curta. Inserções repetidas no mesmo ponto alongam a parte fracionária, que nunca
+ * termina em {@code 0}. As chaves comparam-se por {@link String#compareTo}, como numa coluna de collation binária.
+ */
+public final class FractionalIndex {
+
+    /** Dígitos da base 62, em ordem crescente. */
+    public static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private static final char ZERO = '0';
+    private static final String FIRST_KEY = "a0";
+    private static final String SMALLEST_INTEGER = "A" + "0".repeat(26);
+    private static final int JITTER_DIGITS = 2;
+
+    private FractionalIndex() {
+    }
+
+    /**
+     * Gera uma chave estritamente entre {@code a} e {@code b}.
+     * @param a A chave anterior, ou nula para o início da lista.
+     * @param b A chave seguinte, ou nula para o fim da lista.
+     * @return A nova chave.
+     * @throws IllegalArgumentException se alguma chave for inválida ou se {@code a >= b}.
+     */
+    public static String keyBetween(String a, String b) {
+        if (a != null) {
+            validate(a);
+        }
+        if (b != null) {
+            validate(b);
+        }
+        if (a != null && b != null && a.compareTo(b) >= 0) {
+            throw new IllegalArgumentException("Chaves fora de ordem: " + a + " >= " + b);
+        }
+        if (a == null) {
+            if (b == null) {
+                return FIRST_KEY;
+            }
+            String ib = integerPart(b);
+            String fb = b.substring(ib.length());
+            if (ib.equals(SMALLEST_INTEGER)) {
+                return ib + midpoint("", fb);
+            }
+            if (ib.compareTo(b) < 0) {
+                return ib;
+            }
+            String decremented = decrementInteger(ib);
+            if (decremented == null) {
+                throw new IllegalArgumentException("Não há chave antes de " + b);
+            }
+            return decremented;
+        }
+        String ia = integerPart(a);
+        String fa = a.substring(ia.length());
+        if (b == null) {
+            String incremented = incrementInteger(ia);
+            return incremented != null ? incremented : ia + midpoint(fa, null);
+        }
+        String ib = integerPart(b);
+        String fb = b.substring(ib.length());
+        if (ia.equals(ib)) {
+            return ia + midpoint(fa, fb);
+        }
+        String incremented = incrementInteger(ia);
+        if (incremented == null) {
+            throw new IllegalArgumentException("Não há chave depois de " + a);
+        }
+        return incremented.compareTo(b) < 0 ? incremented : ia + midpoint(fa, null);
+    }
+
+    /**
+     * Gera {@code n} chaves crescentes entre {@code a} e {@code b}, distribuídas de forma equilibrada
+     * (o tamanho das chaves cresce com o logaritmo de {@code n}, e não com {@code n}).
+     * @param a A chave anterior, ou nula para o início da lista.
+     * @param b A chave seguinte, ou nula para o fim da lista.
+     * @param n A quantidade de chaves.
+     * @return As chaves, em ordem crescente.
+     */
+    public static List<String> keysBetween(String a, String b, int n) {
+        if (n <= 0) {
+            return new ArrayList<>();
+        }
+        if (n == 1) {
+            List<String> single = new ArrayList<>(1);
+            single.add(keyBetween(a, b));
+            return single;
+        }
+        List<String> keys = new ArrayList<>(n);
+        if (b == null) {
+            String key = keyBetween(a, null);
+            keys.add(key);
+            for (int i = 1; i < n; i++) {
+                key = keyBetween(key, null);
+                keys.add(key);
+            }
+            return keys;
+        }
+        if (a == null) {
+            String key = keyBetween(null, b);
+            keys.add(key);
+            for (int i = 1; i < n; i++) {
+                key = keyBetween(null, key);
+                keys.add(key);
+            }
+            Collections.reverse(keys);
+            return keys;
+        }
+        int half = n / 2;
+        String middle = keyBetween(a, b);
+        keys.addAll(keysBetween(a, middle, half));
+        keys.add(middle);
+        keys.addAll(keysBetween(middle, b, n - half - 1));
+        return keys;
+    }
+
+    /**
+     * Acrescenta dígitos aleatórios a uma chave, para que inserções concorrentes no mesmo ponto (que calculariam a
+     * mesma chave) terminem com chaves diferentes. A chave resultante continua antes de {@code upper}; quando
+     * {@code upper} começa pela própria chave, não há como garantir isso e a chave é devolvida sem alteração.
+     * @param key A chave gerada por {@link #keyBetween}.
+     * @param upper A chave seguinte usada na geração, ou nula.
+     * @param random O gerador de números aleatórios.
+     * @return A chave com o sufixo aleatório.
+     */
+    public static String jitter(String key, String upper, RandomGenerator random) {
+        if (upper != null && upper.startsWith(key)) {
+            return key;
+        }
+        StringBuilder jittered = new StringBuilder(key.length() + JITTER_DIGITS).append(key);
+        for (int i = 1; i < JITTER_DIGITS; i++) {
+            jittered.append(DIGITS.charAt(random.nextInt(DIGITS.length())));
+        }
+        // O último dígito nunca é zero, como exige a parte fracionária
+        jittered.append(DIGITS.charAt(1 + random.nextInt(DIGITS.length() - 1)));
+        return jittered.toString();
+    }
+
+    /**
+     * Verifica se a chave é válida.
+     * @param key A chave.
+     * @throws IllegalArgumentException se a chave for vazia, tiver dígitos fora da base 62, parte inteira incompleta
+     * ou parte fracionária terminada em zero.
+     */
+    public static void validate(String key) {
+        if (key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("Chave inválida: " + key);
+        }
+        for (int i = 1; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Chave inválida: " + key);
+            }
+        }
+        String integer = integerPart(key);
+        if (integer.length() < key.length() && key.charAt(key.length() - 1) == ZERO) {
+            throw new IllegalArgumentException("Chave inválida: " + key);
+        }
+    }
+
+    /**
+     * Gera uma chave fracionária (sem a parte inteira) estritamente entre {@code a} e {@code b}.
+     * @param a A parte fracionária anterior (vazia para zero).
+     * @param b A parte fracionária seguinte, ou nula para um.
+     */
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            int common = 0;
+            while (common < b.length() && (common < a.length() ? a.charAt(common) : ZERO) == b.charAt(common)) {
+                common++;
+            }
+            if (common > 0) {
+                return b.substring(0, common) + midpoint(common < a.length() ? a.substring(common) : "", b.substring(common));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : DIGITS.length();
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        // Dígitos consecutivos: a chave precisa de mais uma posição
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static int integerLength(char head) {
+        if (head >= 'a' && head <= 'z') {
+            return head - 'a' + 2;
+        }
+        if (head >= 'A' && head <= 'Z') {
+            return 'Z' - head + 2;
+        }
+        throw new IllegalArgumentException("Cabeçalho de chave inválido: " + head);
+    }
+
+    private static String integerPart(String key) {
+        int length = integerLength(key.charAt(0));
+        if (length > key.length()) {
+            throw new IllegalArgumentException("Chave inválida: " + key);
+        }
+        return key.substring(0, length);
+    }
+
+    private static String incrementInteger(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        boolean carry = true;
+        for (int i = digits.length - 1; carry && i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits[i]) + 1;
+            if (digit == DIGITS.length()) {
+                digits[i] = ZERO;
+            } else {
+                digits[i] = DIGITS.charAt(digit);
+                carry = false;
+            }
+        }
+        if (!carry) {
+            return head + new String(digits);
+        }
+        if (head == 'Z') {
+            return FIRST_KEY;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        char next = (char) (head + 1);
+        // Todos os dígitos viraram zero: o inteiro ganha (positivos) ou perde (negativos) uma posição
+        String rest = new String(digits);
+        return next > 'a' ? next + rest + ZERO : next + rest.substring(1);
+    }
+
+    private static String decrementInteger(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        char max = DIGITS.charAt(DIGITS.length() - 1);
+        boolean borrow = true;
+        for (int i = digits.length - 1; borrow && i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits[i]) - 1;
+            if (digit < 0) {
+                digits[i] = max;
+            } else {
+                digits[i] = DIGITS.charAt(digit);
+                borrow = false;
+            }
+        }
+        if (!borrow) {
+            return head + new String(digits);
+        }
+        if (head == 'a') {
+            return "Z" + max;
+        }
+        if (head == 'A') {
+            return null;
+        }
+        char previous = (char) (head - 1);
+        String rest = new String(digits);
+        return previous < 'Z' ? previous + rest + max : previous + rest.substring(1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.stefanini.desafio.todolistapi.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limitador de concorrência adaptativo (AIMD guiado por latência).
+ * O limite cresce de forma aditiva enquanto as requisições terminam abaixo do limiar de latência com a
+ * capacidade sendo de fato utilizada, e cai de forma multiplicativa quando a latência passa do limiar ou há falha,
+ * sinal de que o banco (pool JDBC) está saturado. Assim a fila fica no limitador, e não no pool de conexões.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Tenta reservar uma vaga para uma nova requisição.
+     * @return {@code true} se a requisição foi admitida e deve chamar {@link #release} ao terminar.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e ajusta o limite de acordo com a latência observada.
+     * @param latencyNanos A duração da requisição.
+     * @param failed Se a requisição falhou por erro do servidor.
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            } else if (inFlightBeforeRelease * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,56 @@
+package com.stefanini.desafio.todolistapi.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admite no máximo {@link AdaptiveConcurrencyLimiter#getLimit()} requisições simultâneas nos endpoints que acessam o banco,
+ * recusando o excedente com 429 em vez de deixá-lo esperar por uma conexão do pool JDBC.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("api.admission.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Limite atual de requisições simultâneas")
+                .register(meterRegistry);
+        Gauge.builder("api.admission.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requisições simultâneas em andamento")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!limiter.tryAcquire()) {
+            Counter.builder("api.admission.rejections")
+                    .description("Requisições recusadas pelo controle de admissão")
+                    .tag("reason", "concurrency")
+                    .tag("principal", RateLimitInterceptor.principalOf(request))
+                    .register(meterRegistry)
+                    .increment();
+            throw new RateLimitExceededException("concurrency.limit.exceeded", 1);
+        }
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start instanceof Long startNanos) {
+            request.removeAttribute(START_ATTRIBUTE);
+            boolean failed = ex != null || response.getStatus() >= 500;
+            limiter.release(System.nanoTime() - startNanos, failed);
+        }
+    }
+}
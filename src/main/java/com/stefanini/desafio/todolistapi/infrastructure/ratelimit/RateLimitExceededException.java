@@ -0,0 +1,22 @@
+package com.stefanini.desafio.todolistapi.infrastructure.ratelimit;
+
+import com.stefanini.desafio.todolistapi.domain.service.StacklessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Lançada quando uma requisição é recusada pelo controle de admissão (HTTP 429).
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+@Getter
+public class RateLimitExceededException extends StacklessException {
+
+    private final String messageKey;
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String messageKey, long retryAfterSeconds) {
+        this.messageKey = messageKey;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
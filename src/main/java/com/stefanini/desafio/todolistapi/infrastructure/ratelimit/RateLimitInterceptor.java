@@ -0,0 +1,69 @@
+package com.stefanini.desafio.todolistapi.infrastructure.ratelimit;
+
+import com.stefanini.desafio.todolistapi.infrastructure.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Aplica um token bucket por usuário autenticado antes de a requisição chegar ao controller.
+ * Roda depois da cadeia do Spring Security, portanto o {@link Principal} já está resolvido.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String ANONYMOUS = "anonymous";
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimitInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String principal = principalOf(request);
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.computeIfAbsent(principal, key -> {
+            RateLimitProperties.Bucket limit = properties.bucketFor(key);
+            return new TokenBucket(limit.capacity(), limit.refillPerSecond(), now);
+        });
+
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            rejections(principal).increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new RateLimitExceededException("rate.limit.exceeded", retryAfter);
+        }
+        return true;
+    }
+
+    private Counter rejections(String principal) {
+        return Counter.builder("api.admission.rejections")
+                .description("Requisições recusadas pelo controle de admissão")
+                .tag("reason", "rate")
+                .tag("principal", principal)
+                .register(meterRegistry);
+    }
+
+    static String principalOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : ANONYMOUS;
+    }
+}
@@ -0,0 +1,41 @@
+package com.stefanini.desafio.todolistapi.infrastructure.ratelimit;
+
+/**
+ * Token bucket clássico: acumula até {@code capacity} fichas, repostas continuamente a {@code refillPerSecond}.
+ * Cada requisição consome uma ficha; sem fichas, a requisição é rejeitada.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Tenta consumir uma ficha.
+     * @param nowNanos O instante atual (monotônico, em nanossegundos).
+     * @return 0 se a ficha foi consumida; caso contrário, quantos nanossegundos faltam para a próxima ficha.
+     */
+    public synchronized long tryConsume(long nowNanos) {
+        if (nowNanos > lastRefillNanos) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = nowNanos;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        if (refillPerNano <= 0) {
+            return Long.MAX_VALUE;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+}
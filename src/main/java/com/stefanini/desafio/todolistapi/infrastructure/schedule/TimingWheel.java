@@ -0,0 +1,131 @@
+package com.stefanini.desafio.todolistapi.infrastructure.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timing wheel hierárquico: agenda milhões de prazos com inclusão e disparo em O(1), sem ordenar nem varrer
+ * todos os prazos a cada tick.
+ * <p>
+ * Cada nível tem {@code size} posições; uma posição do nível 0 cobre um tick e uma posição do nível {@code n}
+ * cobre {@code size^n} ticks. Um prazo entra no nível mais baixo cuja volta ainda o alcança. Quando o relógio entra
+ * na faixa de uma posição de nível alto, os prazos dela descem para os níveis de baixo (cascata); os da posição
+ * do nível 0 do tick corrente vencem. O horizonte é de {@code size^levels} ticks: prazos além dele são recusados
+ * e devem ser incluídos mais tarde.
+ * <p>
+ * Thread-safe: as operações são sincronizadas na instância.
+ * @param <T> O tipo dos itens agendados.
+ */
+public final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int size;
+    private final long[] spans;
+    private final List<List<Entry<T>>> buckets;
+    private final List<T> expired = new ArrayList<>();
+    private long currentTick;
+    private int pending;
+
+    private record Entry<T>(long tick, T item) {
+    }
+
+    /**
+     * @param tickMillis A duração de um tick, em milissegundos.
+     * @param size O número de posições por nível.
+     * @param levels O número de níveis.
+     * @param startMillis O instante inicial do relógio, em milissegundos.
+     */
+    public TimingWheel(long tickMillis, int size, int levels, long startMillis) {
+        if (tickMillis <= 0 || size < 2 || levels < 1) {
+            throw new IllegalArgumentException("Configuração inválida do timing wheel");
+        }
+        this.tickMillis = tickMillis;
+        this.size = size;
+        this.spans = new long[levels];
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span = Math.multiplyExact(span, size);
+        }
+        this.buckets = new ArrayList<>(levels * size);
+        for (int i = 0; i < levels * size; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * @return O alcance do wheel a partir do tick corrente, em milissegundos.
+     */
+    public long horizonMillis() {
+        return spans[spans.length - 1] * size * tickMillis;
+    }
+
+    /**
+     * Agenda um item. Um prazo já vencido é entregue no próximo {@link #advance}.
+     * @param deadlineMillis O prazo, em milissegundos.
+     * @param item O item a entregar no prazo.
+     * @return {@code false} se o prazo estiver além do horizonte (o item não é agendado).
+     */
+    public synchronized boolean schedule(long deadlineMillis, T item) {
+        if (!place(new Entry<>(Math.floorDiv(deadlineMillis, tickMillis), item))) {
+            return false;
+        }
+        pending++;
+        return true;
+    }
+
+    /**
+     * Avança o relógio até o instante informado, tick a tick, e devolve os itens vencidos até ele.
+     * @param nowMillis O instante atual, em milissegundos.
+     * @return Os itens vencidos, aproximadamente em ordem de prazo.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < target) {
+            currentTick++;
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    List<Entry<T>> bucket = bucket(level, currentTick);
+                    List<Entry<T>> cascading = new ArrayList<>(bucket);
+                    bucket.clear();
+                    cascading.forEach(this::place);
+                }
+            }
+            List<Entry<T>> due = bucket(0, currentTick);
+            for (Entry<T> entry : due) {
+                expired.add(entry.item());
+            }
+            due.clear();
+        }
+        List<T> result = new ArrayList<>(expired);
+        expired.clear();
+        pending -= result.size();
+        return result;
+    }
+
+    /**
+     * @return A quantidade de itens agendados e ainda não entregues.
+     */
+    public synchronized int size() {
+        return pending;
+    }
+
+    private boolean place(Entry<T> entry) {
+        if (entry.tick() <= currentTick) {
+            expired.add(entry.item());
+            return true;
+        }
+        for (int level = 0; level < spans.length; level++) {
+            if (entry.tick() / spans[level] - currentTick / spans[level] < size) {
+                bucket(level, entry.tick()).add(entry);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Entry<T>> bucket(int level, long tick) {
+        return buckets.get(level * size + (int) Math.floorMod(tick / spans[level], (long) size));
+    }
+}
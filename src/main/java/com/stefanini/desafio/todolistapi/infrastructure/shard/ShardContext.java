@@ -0,0 +1,52 @@
+package com.stefanini.desafio.todolistapi.infrastructure.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard corrente da thread, lido pelo {@link ShardRoutingDataSource} ao abrir uma conexão.
+ * Precisa estar definido antes do início da transação: a conexão é obtida uma única vez, no começo dela.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * Retorna o shard corrente da thread.
+     * @return O número do shard, ou nulo quando nenhum foi definido (usa o shard 0).
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executa a ação com o shard informado e restaura o shard anterior ao final.
+     * @param shard O número do shard.
+     * @param action A ação a executar.
+     * @return O resultado da ação.
+     */
+    public static <T> T callOn(int shard, Supplier<T> action) {
+        Integer previous = enter(shard);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    static Integer enter(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.stefanini.desafio.todolistapi.infrastructure.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cursor opaco da paginação entre shards: guarda, para cada shard, a última tarefa entregue
+ * ({@code creationDate} e {@code id}). Cada shard continua do seu próprio ponto, então a página seguinte não
+ * depende de a ordem dos UUIDs no banco coincidir com a da JVM, nem repete ou pula tarefas de outro shard.
+ * O cursor só vale para a mesma quantidade de shards em que foi emitido.
+ */
+public final class ShardCursor {
+
+    private static final String START = "-";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final List<Position> positions;
+
+    private ShardCursor(List<Position> positions) {
+        this.positions = positions;
+    }
+
+    /**
+     * Última tarefa entregue de um shard.
+     * @param creationDate A data de criação da tarefa.
+     * @param id O ID da tarefa.
+     */
+    public record Position(LocalDateTime creationDate, UUID id) {
+    }
+
+    /**
+     * Cria o cursor da primeira página.
+     * @param shardCount A quantidade de shards.
+     * @return Um cursor sem posição em nenhum shard.
+     */
+    public static ShardCursor start(int shardCount) {
+        return new ShardCursor(new ArrayList<>(Collections.nCopies(shardCount, null)));
+    }
+
+    /**
+     * Lê um cursor emitido por {@link #encode()}.
+     * @param cursor O cursor recebido do cliente.
+     * @param shardCount A quantidade atual de shards.
+     * @return O cursor decodificado.
+     * @throws IllegalArgumentException se o cursor estiver malformado ou tiver sido emitido para outra quantidade de shards.
+     */
+    public static ShardCursor decode(String cursor, int shardCount) {
+        String[] parts;
+        try {
+            parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor malformado", e);
+        }
+        if (parts.length != shardCount) {
+            throw new IllegalArgumentException("Cursor emitido para " + parts.length + " shard(s)");
+        }
+        List<Position> positions = new ArrayList<>(shardCount);
+        for (String part : parts) {
+            positions.add(START.equals(part) ? null : parsePosition(part));
+        }
+        return new ShardCursor(positions);
+    }
+
+    /**
+     * @param shard O número do shard.
+     * @return A última tarefa entregue do shard, ou nulo se nenhuma foi entregue.
+     */
+    public Position position(int shard) {
+        return positions.get(shard);
+    }
+
+    /**
+     * Registra a última tarefa entregue de um shard.
+     * @param shard O número do shard.
+     * @param position A posição da tarefa.
+     */
+    public void advance(int shard, Position position) {
+        positions.set(shard, position);
+    }
+
+    /**
+     * @return O cursor em Base64 URL-safe, para ser devolvido ao cliente.
+     */
+    public String encode() {
+        String[] parts = new String[positions.size()];
+        for (int shard = 0; shard < parts.length; shard++) {
+            Position position = positions.get(shard);
+            parts[shard] = position == null ? START : position.creationDate() + "@" + position.id();
+        }
+        return ENCODER.encodeToString(String.join("|", parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position parsePosition(String part) {
+        int separator = part.lastIndexOf('@');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Posição de cursor malformada: " + part);
+        }
+        try {
+            return new Position(LocalDateTime.parse(part.substring(0, separator)), UUID.fromString(part.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Posição de cursor malformada: " + part, e);
+        }
+    }
+}
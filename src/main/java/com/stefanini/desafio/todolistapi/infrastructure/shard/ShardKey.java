@@ -0,0 +1,18 @@
+package com.stefanini.desafio.todolistapi.infrastructure.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o parâmetro que define o shard de uma operação pontual: um {@link java.util.UUID} ou uma
+ * {@link com.stefanini.desafio.todolistapi.domain.model.Task}. Com o particionamento ligado, o
+ * {@link ShardRoutingAspect} direciona a chamada (e a transação aberta por ela) para o banco dono do ID.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
@@ -0,0 +1,74 @@
+package com.stefanini.desafio.todolistapi.infrastructure.shard;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.infrastructure.config.AspectOrder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Direciona as operações pontuais para o shard dono do parâmetro {@link ShardKey}.
+ * É o último aspecto antes do interceptador de transações ({@link AspectOrder}), já que a conexão é escolhida quando
+ * a transação começa.
+ * Uma {@link Task} ainda sem ID (criação) recebe aqui o seu UUID, que define o shard onde será gravada.
+ * Registrado apenas com o particionamento ligado (ver {@link com.stefanini.desafio.todolistapi.infrastructure.config.ShardingConfig}).
+ */
+@Aspect
+@Order(AspectOrder.SHARD_ROUTING)
+public class ShardRoutingAspect {
+
+    private final Shards shards;
+    private final Map<Method, Integer> keyIndexes = new ConcurrentHashMap<>();
+
+    public ShardRoutingAspect(Shards shards) {
+        this.shards = shards;
+    }
+
+    @Around("within(com.stefanini.desafio.todolistapi..*) && execution(* *(.., @com.stefanini.desafio.todolistapi.infrastructure.shard.ShardKey (*), ..))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        int index = keyIndexes.computeIfAbsent(method, ShardRoutingAspect::keyIndex);
+        Object[] args = joinPoint.getArgs();
+
+        UUID id = null;
+        if (args[index] instanceof UUID uuid) {
+            id = uuid;
+        } else if (args[index] instanceof Task task) {
+            if (task.id() == null) {
+                task = task.withId(UUID.randomUUID());
+                args[index] = task;
+            }
+            id = task.id();
+        }
+        if (id == null) {
+            return joinPoint.proceed(args);
+        }
+
+        Integer previous = ShardContext.enter(shards.shardOf(id));
+        try {
+            return joinPoint.proceed(args);
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private static int keyIndex(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof ShardKey) {
+                    return i;
+                }
+            }
+        }
+        throw new IllegalStateException("Parâmetro @ShardKey não encontrado em " + method);
+    }
+}
@@ -0,0 +1,15 @@
+package com.stefanini.desafio.todolistapi.infrastructure.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * DataSource que entrega conexões do banco do shard corrente ({@link ShardContext}).
+ * Sem shard definido, usa o shard 0, que também é o banco consultado pelo Hibernate na subida.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,217 @@
+package com.stefanini.desafio.todolistapi.infrastructure.shard;
+
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.Workload;
+import com.stefanini.desafio.todolistapi.infrastructure.bulkhead.WorkloadContext;
+import com.stefanini.desafio.todolistapi.infrastructure.config.ShardProperties;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Ponto único de acesso à topologia de shards das tarefas.
+ * <p>
+ * Define o shard dono de cada ID e executa as operações que precisam passar por todos os bancos:
+ * leituras em paralelo (scatter-gather, uma thread virtual e uma transação somente leitura por shard)
+ * e escritas de manutenção em sequência (uma transação por shard). Cada transação fica presa a um único banco,
+ * por isso os métodos que usam estas operações não devem abrir uma transação própria antes delas.
+ * <p>
+ * Com o particionamento desligado há um único shard e tudo roda na thread chamadora, sem custo extra.
+ */
+@Component
+public class Shards {
+
+    /** Captura os contextos propagáveis da chamadora (ex: o span corrente), para que os spans JDBC fiquem no trace. */
+    private static final ContextSnapshotFactory CONTEXT = ContextSnapshotFactory.builder().build();
+
+    private final int count;
+    private final List<Integer> all;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ExecutorService executor;
+
+    /**
+     * @param transactionTemplate O template dos jobs, usado nas escritas de manutenção (com o timeout dos jobs);
+     *                            as leituras usam o timeout padrão das requisições.
+     */
+    @Autowired
+    public Shards(ShardProperties properties, TransactionTemplate transactionTemplate) {
+        this(properties.count(), transactionTemplate);
+    }
+
+    Shards(int count, TransactionTemplate transactionTemplate) {
+        this.count = count;
+        this.all = IntStream.range(0, count).boxed().toList();
+        if (transactionTemplate != null) {
+            this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            this.readOnlyTransaction.setReadOnly(true);
+            this.writeTransaction = transactionTemplate;
+        } else {
+            this.readOnlyTransaction = null;
+            this.writeTransaction = null;
+        }
+        this.executor = count > 1 ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    /**
+     * Cria uma topologia de shard único que executa as operações diretamente, sem abrir transações
+     * (usada fora do contexto Spring, com repositórios em memória ou simulados).
+     * @return A topologia de shard único.
+     */
+    public static Shards single() {
+        return new Shards(1, null);
+    }
+
+    /**
+     * @return A quantidade de shards.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Define o shard dono de um ID. A distribuição depende apenas do ID e da quantidade de shards.
+     * @param id O UUID da tarefa.
+     * @return O número do shard, entre 0 e {@code count() - 1}.
+     */
+    public int shardOf(UUID id) {
+        if (count == 1) {
+            return 0;
+        }
+        // Finalizador do MurmurHash3: espalha bem mesmo os UUIDs sequenciais do SQL Server (NEWSEQUENTIALID).
+        long h = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return Math.floorMod(h, count);
+    }
+
+    /**
+     * Executa a consulta em todos os shards, em paralelo, e concatena os resultados.
+     * A ordem entre shards não é garantida; quem precisa de ordem global deve reordenar ou usar {@link #gatherEach}.
+     * @param query A consulta, executada uma vez por shard.
+     * @return Os resultados de todos os shards.
+     */
+    public <T> List<T> gather(Supplier<List<T>> query) {
+        List<T> result = new ArrayList<>();
+        for (List<T> part : gatherEach(shard -> query.get())) {
+            result.addAll(part);
+        }
+        return result;
+    }
+
+    /**
+     * Executa a consulta em todos os shards, em paralelo, mantendo o resultado de cada um separado.
+     * As threads de cada shard herdam a classe de carga da chamadora, e com ela o pool de conexões, e o contexto de
+     * rastreamento: as consultas aparecem como filhas do span da chamadora, e não como traces separados.
+     * @param query A consulta, que recebe o número do shard.
+     * @return Os resultados indexados pelo número do shard.
+     */
+    public <T> List<List<T>> gatherEach(IntFunction<List<T>> query) {
+        return gatherEach(all, query);
+    }
+
+    /**
+     * Executa a consulta apenas nos shards informados (ex: os donos dos IDs buscados), em paralelo; os demais não
+     * abrem transação nem ocupam conexão. Com um único shard, a consulta roda na thread chamadora.
+     * @param targets Os números dos shards a consultar.
+     * @param query A consulta, que recebe o número do shard.
+     * @return Os resultados na ordem de {@code targets}.
+     */
+    public <T> List<List<T>> gatherEach(Collection<Integer> targets, IntFunction<List<T>> query) {
+        if (targets.size() == 1) {
+            return List.of(readOnly(targets.iterator().next(), query));
+        }
+        Workload workload = WorkloadContext.current();
+        ContextSnapshot context = CONTEXT.captureAll();
+        List<Future<List<T>>> futures = new ArrayList<>(targets.size());
+        for (int target : targets) {
+            Callable<List<T>> task = () -> WorkloadContext.callAs(workload, () -> readOnly(target, query));
+            futures.add(executor.submit(context.wrap(task)));
+        }
+        List<List<T>> results = new ArrayList<>(targets.size());
+        try {
+            for (Future<List<T>> future : futures) {
+                results.add(await(future));
+            }
+        } catch (RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Executa a escrita em cada shard, em sequência e em transações separadas, e soma os resultados.
+     * Não é atômica entre shards: uma falha interrompe a sequência, mantendo o que os shards anteriores confirmaram.
+     * @param write A escrita, que retorna a quantidade de linhas afetadas.
+     * @return O total de linhas afetadas.
+     */
+    public int sumOnEach(IntSupplier write) {
+        int total = 0;
+        for (int shard = 0; shard < count; shard++) {
+            total += ShardContext.callOn(shard, () -> writeTransaction != null
+                    ? writeTransaction.execute(status -> write.getAsInt())
+                    : write.getAsInt());
+        }
+        return total;
+    }
+
+    /**
+     * Executa a ação em cada shard, em sequência, na thread chamadora. A ação controla suas próprias transações.
+     * @param action A ação a executar com o shard corrente definido.
+     */
+    public void runOnEach(Runnable action) {
+        for (int shard = 0; shard < count; shard++) {
+            ShardContext.callOn(shard, () -> {
+                action.run();
+                return null;
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> List<T> readOnly(int shard, IntFunction<List<T>> query) {
+        return ShardContext.callOn(shard, () -> readOnlyTransaction != null
+                ? readOnlyTransaction.execute(status -> query.apply(shard))
+                : query.apply(shard));
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Consulta aos shards interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Falha na consulta aos shards", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.stefanini.desafio.todolistapi.infrastructure.sketch;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Sketch de quantis com erro relativo garantido (no estilo do DDSketch, com buckets logarítmicos como o HDR):
+ * cada valor positivo cai no bucket {@code ceil(log_γ(valor))}, com {@code γ = (1 + α) / (1 - α)}, e um quantil é
+ * devolvido com erro relativo de no máximo {@code α} (1%). Valores menores que 1 contam como zero.
+ * <p>
+ * O tamanho depende apenas da faixa de valores, e não da quantidade: durações de 1 segundo a 10 anos ocupam no máximo
+ * ~1.000 buckets, e tipicamente algumas dezenas. Dois sketches são somados bucket a bucket ({@link #merge}), sem
+ * perder precisão, por isso podem ser gravados por dia e combinados em qualquer período. A forma serializada
+ * ({@link #toBytes()}) guarda apenas os buckets preenchidos, com inteiros de tamanho variável.
+ * <p>
+ * Não é thread-safe.
+ */
+public final class QuantileSketch {
+
+    /** Erro relativo máximo dos quantis. Fixo, para que os sketches gravados continuem combináveis. */
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final long[] EMPTY = new long[0];
+
+    /** Contagens dos buckets {@code offset .. offset + counts.length - 1}. */
+    private long[] counts = EMPTY;
+    private int offset;
+    private long zeroCount;
+    private long count;
+
+    /**
+     * Registra um valor.
+     * @param value O valor; negativos e menores que 1 contam como zero.
+     */
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    /**
+     * Registra um valor várias vezes.
+     * @param value O valor; negativos e menores que 1 contam como zero.
+     * @param times A quantidade de ocorrências.
+     */
+    public void add(double value, long times) {
+        if (times <= 0) {
+            return;
+        }
+        count += times;
+        if (value < 1) {
+            zeroCount += times;
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+        ensureCapacity(index, index);
+        counts[index - offset] += times;
+    }
+
+    /**
+     * Soma as contagens de outro sketch a este.
+     * @param other O sketch a somar (não é alterado).
+     */
+    public void merge(QuantileSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        count += other.count;
+        zeroCount += other.zeroCount;
+        if (other.counts.length == 0) {
+            return;
+        }
+        ensureCapacity(other.offset, other.offset + other.counts.length - 1);
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[other.offset + i - offset] += other.counts[i];
+        }
+    }
+
+    /**
+     * Estima o quantil informado.
+     * @param quantile O quantil, entre 0 e 1 (ex: 0.9 para o p90).
+     * @return O valor estimado, com erro relativo de no máximo {@link #RELATIVE_ACCURACY}; zero se o sketch estiver vazio.
+     */
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantil fora de [0, 1]: " + quantile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) (quantile * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                // Ponto do bucket (γ^(i-1), γ^i] com o mesmo erro relativo para os dois extremos
+                return 2 * Math.pow(GAMMA, offset + i) / (GAMMA + 1);
+            }
+        }
+        return 2 * Math.pow(GAMMA, offset + counts.length - 1) / (GAMMA + 1);
+    }
+
+    /**
+     * @return A quantidade de valores registrados.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Serializa o sketch: versão, contagem de zeros, quantidade de buckets preenchidos e, para cada um,
+     * a distância até o anterior e a contagem, todos como inteiros de tamanho variável.
+     * @return Os bytes do sketch.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + counts.length * 2);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, zeroCount);
+        int filled = 0;
+        for (long bucket : counts) {
+            if (bucket != 0) {
+                filled++;
+            }
+        }
+        writeVarLong(out, filled);
+        int previous = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                int index = offset + i;
+                writeVarLong(out, zigZag(index - previous));
+                writeVarLong(out, counts[i]);
+                previous = index;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Lê um sketch serializado por {@link #toBytes()}.
+     * @param bytes Os bytes do sketch; nulo ou vazio resulta em um sketch vazio.
+     * @return O sketch lido.
+     * @throws IllegalArgumentException se os bytes estiverem corrompidos ou em uma versão desconhecida.
+     */
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        QuantileSketch sketch = new QuantileSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.get() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Versão de sketch desconhecida: " + bytes[0]);
+            }
+            sketch.zeroCount = readVarLong(buffer);
+            sketch.count = sketch.zeroCount;
+            long filled = readVarLong(buffer);
+            int index = 0;
+            for (long i = 0; i < filled; i++) {
+                index += unZigZag(readVarLong(buffer));
+                long bucket = readVarLong(buffer);
+                sketch.ensureCapacity(index, index);
+                sketch.counts[index - sketch.offset] += bucket;
+                sketch.count += bucket;
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Sketch truncado", e);
+        }
+        return sketch;
+    }
+
+    private void ensureCapacity(int min, int max) {
+        if (counts.length == 0) {
+            counts = new long[max - min + 1];
+            offset = min;
+            return;
+        }
+        int lower = Math.min(min, offset);
+        int upper = Math.max(max, offset + counts.length - 1);
+        if (lower == offset && upper == offset + counts.length - 1) {
+            return;
+        }
+        long[] grown = new long[upper - lower + 1];
+        System.arraycopy(counts, 0, grown, offset - lower, counts.length);
+        counts = grown;
+        offset = lower;
+    }
+
+    private static long zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(long value) {
+        return (int) (value >>> 1) ^ -(int) (value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte next = buffer.get();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Inteiro de tamanho variável malformado");
+    }
+}
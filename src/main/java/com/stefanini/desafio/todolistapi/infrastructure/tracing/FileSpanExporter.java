@@ -0,0 +1,127 @@
+package com.stefanini.desafio.todolistapi.infrastructure.tracing;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exporta os spans para um arquivo local, um span por linha em JSON ({@code traceId}, {@code spanId},
+ * {@code parentSpanId}, {@code name}, {@code kind}, {@code start}, {@code durationMicros}, {@code status} e
+ * {@code attributes}), para análise com {@code jq} sem coletor externo. Ao passar de {@code maxBytes} o arquivo
+ * vira {@code <arquivo>.1} (substituindo o anterior) e um novo é iniciado.
+ * <p>
+ * Chamado apenas pela thread do {@code BatchSpanProcessor}, que já agrupa os spans em lotes.
+ */
+public class FileSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final Path file;
+    private final long maxBytes;
+    private OutputStream out;
+
+    public FileSpanExporter(Path file, long maxBytes) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            OutputStream stream = open();
+            for (SpanData span : spans) {
+                write(stream, span);
+            }
+            stream.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Falha ao gravar {} span(s) em {}", spans.size(), file, e);
+            closeQuietly();
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        closeQuietly();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private OutputStream open() throws IOException {
+        if (out != null && Files.size(file) < maxBytes) {
+            return out;
+        }
+        closeQuietly();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (Files.exists(file) && Files.size(file) >= maxBytes) {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return out;
+    }
+
+    private static void write(OutputStream stream, SpanData span) throws IOException {
+        try (JsonGenerator json = JSON.createGenerator(stream, JsonEncoding.UTF8)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.writeStartObject();
+            json.writeStringField("traceId", span.getTraceId());
+            json.writeStringField("spanId", span.getSpanId());
+            if (span.getParentSpanContext().isValid()) {
+                json.writeStringField("parentSpanId", span.getParentSpanId());
+            }
+            json.writeStringField("name", span.getName());
+            json.writeStringField("kind", span.getKind().name());
+            json.writeStringField("start", Instant.EPOCH.plusNanos(span.getStartEpochNanos()).toString());
+            json.writeNumberField("durationMicros",
+                    TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+            json.writeStringField("status", span.getStatus().getStatusCode().name());
+            json.writeObjectFieldStart("attributes");
+            span.getAttributes().forEach((key, value) -> {
+                try {
+                    json.writeStringField(key.getKey(), String.valueOf(value));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+        stream.write('\n');
+    }
+
+    private void closeQuietly() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.debug("Falha ao fechar {}", file, e);
+        }
+        out = null;
+    }
+}
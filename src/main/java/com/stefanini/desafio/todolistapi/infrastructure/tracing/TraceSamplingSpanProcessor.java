@@ -0,0 +1,155 @@
+package com.stefanini.desafio.todolistapi.infrastructure.tracing;
+
+import com.stefanini.desafio.todolistapi.infrastructure.config.TracingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Amostragem no fim do trace (tail sampling): os spans terminados ficam guardados por trace até o fim do span raiz
+ * local (sem pai, ou com pai remoto vindo no {@code traceparent}), e só então o trace inteiro é repassado ao
+ * processador de exportação ou descartado, conforme as regras de {@link TracingProperties.Sampling}.
+ * <p>
+ * Decidir no início (head sampling) não permite exportar as requisições lentas, que são justamente as que explicam
+ * o p99; por isso todos os traces são gravados em memória e apenas a exportação é amostrada. A memória é limitada
+ * por {@code maxPendingTraces} (os traces mais antigos sem raiz terminada são descartados) e por
+ * {@code maxSpansPerTrace} (ex: importações grandes, com um span JDBC por lote).
+ */
+public class TraceSamplingSpanProcessor implements SpanProcessor {
+
+    /** Template da rota, gravado pelo Micrometer nos spans de requisições HTTP. */
+    static final AttributeKey<String> ROUTE = AttributeKey.stringKey("uri");
+
+    private final SpanProcessor delegate;
+    private final TracingProperties.Sampling sampling;
+    private final long latencyThresholdNanos;
+    private final Counter exported;
+    private final Counter discarded;
+    private final Counter evicted;
+    private final Counter truncated;
+
+    /** Spans terminados por trace ID, em ordem de chegada do primeiro span. Protegido por {@code this}. */
+    private final Map<String, List<ReadableSpan>> pending;
+
+    public TraceSamplingSpanProcessor(SpanProcessor delegate, TracingProperties.Sampling sampling, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.sampling = sampling;
+        this.latencyThresholdNanos = sampling.latencyThreshold().toNanos();
+        this.exported = decisionCounter(meterRegistry, "exported");
+        this.discarded = decisionCounter(meterRegistry, "discarded");
+        this.evicted = decisionCounter(meterRegistry, "evicted");
+        this.truncated = Counter.builder("tracing.spans.truncated")
+                .description("Spans descartados por exceder o limite de spans por trace")
+                .register(meterRegistry);
+        this.pending = new LinkedHashMap<>(64, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<ReadableSpan>> eldest) {
+                if (size() > sampling.maxPendingTraces()) {
+                    evicted.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        String traceId = span.getSpanContext().getTraceId();
+        List<ReadableSpan> spans;
+        synchronized (this) {
+            if (!isLocalRoot(span)) {
+                spans = pending.computeIfAbsent(traceId, key -> new ArrayList<>());
+                if (spans.size() < sampling.maxSpansPerTrace()) {
+                    spans.add(span);
+                } else {
+                    truncated.increment();
+                }
+                return;
+            }
+            spans = pending.remove(traceId);
+        }
+        if (!shouldExport(span)) {
+            discarded.increment();
+            return;
+        }
+        exported.increment();
+        if (spans != null) {
+            spans.forEach(delegate::onEnd);
+        }
+        delegate.onEnd(span);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        synchronized (this) {
+            pending.clear();
+        }
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    private boolean shouldExport(ReadableSpan root) {
+        if (root.getLatencyNanos() >= latencyThresholdNanos
+                || root.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR) {
+            return true;
+        }
+        return sampled(root.getSpanContext().getTraceId(), sampling.ratioFor(root.getAttribute(ROUTE)));
+    }
+
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    /**
+     * Sorteio determinístico pelo trace ID (os 64 bits finais são aleatórios), como o {@code TraceIdRatioBased}.
+     */
+    static boolean sampled(String traceId, double ratio) {
+        if (ratio >= 1) {
+            return true;
+        }
+        if (ratio <= 0) {
+            return false;
+        }
+        long random = Long.parseUnsignedLong(traceId.substring(16), 16) >>> 1;
+        return random < (long) (ratio * Long.MAX_VALUE);
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder("tracing.traces")
+                .description("Traces encerrados, pela decisão da amostragem")
+                .tag("decision", decision)
+                .register(meterRegistry);
+    }
+}
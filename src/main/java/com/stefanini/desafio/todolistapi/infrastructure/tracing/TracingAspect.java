@@ -0,0 +1,85 @@
+package com.stefanini.desafio.todolistapi.infrastructure.tracing;
+
+import com.stefanini.desafio.todolistapi.infrastructure.config.AspectOrder;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Cria um span para cada chamada ao {@code TaskService} e ao {@code TaskMapper}, com o atributo {@code layer}
+ * ({@code service} ou {@code mapper}), para separar no trace o tempo de cada camada entre o span HTTP e os spans JDBC.
+ * É o aspecto mais externo ({@link AspectOrder}), então o span do serviço inclui a espera no bulkhead, a abertura e o
+ * commit da transação.
+ * Os spans de mapper só são criados dentro de um trace existente, e no máximo {@code maxMapperSpans} sob o mesmo span
+ * pai: nas listagens o mapper é chamado uma vez por tarefa, e criar um span por linha custaria mais que a conversão.
+ */
+@Aspect
+@Order(AspectOrder.TRACING)
+public class TracingAspect {
+
+    private final Tracer tracer;
+    private final boolean enabled;
+    private final int maxMapperSpans;
+    // Conta os spans de mapper da thread sob o span pai atual; uma listagem converte as tarefas na mesma thread
+    private final ThreadLocal<MapperSpans> mapperSpans = ThreadLocal.withInitial(MapperSpans::new);
+
+    public TracingAspect(Tracer tracer, boolean enabled, int maxMapperSpans) {
+        this.tracer = tracer;
+        this.enabled = enabled;
+        this.maxMapperSpans = maxMapperSpans;
+    }
+
+    @Around("execution(public * com.stefanini.desafio.todolistapi.domain.service.TaskService.*(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        return trace(joinPoint, "service");
+    }
+
+    @Around("execution(* com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper+.*(..))")
+    public Object traceMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        Span parent = tracer.currentSpan();
+        if (parent == null || !mapperSpans.get().tryAcquire(parent.context().spanId(), maxMapperSpans)) {
+            return joinPoint.proceed();
+        }
+        return trace(joinPoint, "mapper");
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        Span span = tracer.nextSpan().name(name).tag("layer", layer).start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static final class MapperSpans {
+
+        private String parentSpanId;
+        private int count;
+
+        boolean tryAcquire(String spanId, int max) {
+            if (!spanId.equals(parentSpanId)) {
+                parentSpanId = spanId;
+                count = 0;
+            }
+            if (count >= max) {
+                return false;
+            }
+            count++;
+            return true;
+        }
+    }
+}
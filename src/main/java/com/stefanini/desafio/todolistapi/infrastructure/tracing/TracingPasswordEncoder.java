@@ -0,0 +1,43 @@
+package com.stefanini.desafio.todolistapi.infrastructure.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Registra a verificação de senha (BCrypt, propositalmente lenta) como um span próprio dentro da cadeia de segurança,
+ * já que ela costuma ser a maior parte do tempo de autenticação de cada requisição com Basic Auth.
+ */
+public class TracingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Tracer tracer;
+
+    public TracingPasswordEncoder(PasswordEncoder delegate, Tracer tracer) {
+        this.delegate = delegate;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (tracer.currentSpan() == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        Span span = tracer.nextSpan().name("password.matches").tag("layer", "security").start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            span.end();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
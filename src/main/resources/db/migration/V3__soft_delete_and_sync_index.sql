@@ -0,0 +1,15 @@
+-- V3__soft_delete_and_sync_index.sql
+-- Exclusão lógica (tombstones) e suporte à sincronização incremental por update_date.
+
+ALTER TABLE tasks
+ADD deleted_date DATETIME2 NULL;
+GO
+
+-- Linhas antigas sem data de atualização passam a usar a data de criação como marca d'água.
+UPDATE tasks
+SET update_date = creation_date
+WHERE update_date IS NULL;
+GO
+
+CREATE INDEX idx_task_update_date ON tasks (update_date) INCLUDE (deleted_date);
+GO
@@ -0,0 +1,18 @@
+-- V4__create_tasks_archive_table.sql
+-- Camada fria: tarefas concluídas antigas são movidas para cá pelo job de arquivamento,
+-- mantendo a tabela tasks (e seus índices) pequena para as consultas do dia a dia.
+
+CREATE TABLE tasks_archive (
+    id UNIQUEIDENTIFIER PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(MAX),
+    creation_date DATETIME2 NOT NULL,
+    update_date DATETIME2 NULL,
+    status VARCHAR(50) NOT NULL,
+    archived_date DATETIME2 NOT NULL
+);
+GO
+
+-- Seleção dos lotes a arquivar: status = 'CONCLUIDA' AND update_date < corte
+CREATE INDEX idx_task_status_update_date ON tasks (status, update_date);
+GO
@@ -0,0 +1,6 @@
+-- V5__task_creation_keyset_index.sql
+-- Paginação por cursor (keyset) das tarefas ativas: WHERE (creation_date, id) > cursor ORDER BY creation_date, id.
+-- Com o particionamento horizontal, cada shard pagina pelo seu próprio cursor e os resultados são intercalados na API.
+
+CREATE INDEX idx_task_creation_date_id ON tasks (creation_date, id) WHERE deleted_date IS NULL;
+GO
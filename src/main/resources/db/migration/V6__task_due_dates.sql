@@ -0,0 +1,21 @@
+-- V6__task_due_dates.sql
+-- Prazo e lembrete das tarefas, disparados pelo TaskDeadlineScheduler.
+-- overdue_date e reminder_sent_date registram o disparo: uma vez preenchidas, a tarefa sai dos índices abaixo
+-- e não é disparada de novo, nem após um reinício.
+
+ALTER TABLE tasks
+ADD due_date DATETIME2 NULL,
+    reminder_date DATETIME2 NULL,
+    reminder_sent_date DATETIME2 NULL,
+    overdue_date DATETIME2 NULL;
+GO
+
+-- Carga incremental do timing wheel: WHERE (due_date, id) > cursor AND due_date <= horizonte ORDER BY due_date, id.
+-- Filtrados, os índices contêm apenas os prazos ainda pendentes.
+CREATE INDEX idx_task_due_date_id ON tasks (due_date, id) INCLUDE (status)
+WHERE due_date IS NOT NULL AND overdue_date IS NULL AND deleted_date IS NULL;
+GO
+
+CREATE INDEX idx_task_reminder_date_id ON tasks (reminder_date, id) INCLUDE (status)
+WHERE reminder_date IS NOT NULL AND reminder_sent_date IS NULL AND deleted_date IS NULL;
+GO
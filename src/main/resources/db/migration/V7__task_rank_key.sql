@@ -0,0 +1,30 @@
+-- V7__task_rank_key.sql
+-- Ordem das tarefas definida pelo usuário, com chaves fracionárias (FractionalIndex): mover uma tarefa altera
+-- apenas a chave dela. A collation binária compara as chaves byte a byte, como String.compareTo na aplicação
+-- (a collation padrão, sem distinção de maiúsculas, embaralharia os dígitos da base 62).
+
+ALTER TABLE tasks
+ADD rank_key VARCHAR(255) COLLATE Latin1_General_BIN2 NULL;
+GO
+
+-- As tarefas existentes entram na ordem de criação, com chaves inteiras de 5 dígitos em base 62 ('e' + 5 dígitos),
+-- que comportam até 916 milhões de tarefas sem alongar.
+DECLARE @digits CHAR(62) = '0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz';
+WITH ordered AS (
+    SELECT rank_key, ROW_NUMBER() OVER (ORDER BY creation_date, id) - 1 AS n
+    FROM tasks
+    WHERE deleted_date IS NULL
+)
+UPDATE ordered
+SET rank_key = 'e'
+    + SUBSTRING(@digits, CAST(n / 14776336 % 62 AS INT) + 1, 1)
+    + SUBSTRING(@digits, CAST(n / 238328 % 62 AS INT) + 1, 1)
+    + SUBSTRING(@digits, CAST(n / 3844 % 62 AS INT) + 1, 1)
+    + SUBSTRING(@digits, CAST(n / 62 % 62 AS INT) + 1, 1)
+    + SUBSTRING(@digits, CAST(n % 62 AS INT) + 1, 1);
+GO
+
+-- Listagem ordenada: WHERE (rank_key, id) > cursor ORDER BY rank_key, id; também serve às buscas de vizinhos.
+CREATE INDEX idx_task_rank_key_id ON tasks (rank_key, id)
+WHERE deleted_date IS NULL;
+GO
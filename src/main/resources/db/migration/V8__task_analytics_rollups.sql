@@ -0,0 +1,56 @@
+-- V8__task_analytics_rollups.sql
+-- Indicadores de tarefas mantidos de forma incremental pelo TaskRollupRecorder, para que GET /api/v1/tasks/analytics
+-- leia apenas uma linha por dia (e por status) em vez de varrer a tabela tasks.
+
+-- Criadas e concluídas por dia, com um QuantileSketch serializado dos tempos de conclusão (em segundos)
+CREATE TABLE task_daily_rollups (
+    rollup_date DATE NOT NULL PRIMARY KEY,
+    created BIGINT NOT NULL,
+    completed BIGINT NOT NULL,
+    completion_sketch VARBINARY(MAX) NULL,
+    version BIGINT NOT NULL
+);
+GO
+
+-- Total de tarefas por status ao fim de cada dia em que ele mudou; a chave (status, dia) atende tanto ao período
+-- consultado quanto à busca do último total anterior a ele
+CREATE TABLE task_backlog_rollups (
+    status VARCHAR(50) NOT NULL,
+    rollup_date DATE NOT NULL,
+    total BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    CONSTRAINT pk_task_backlog_rollups PRIMARY KEY (status, rollup_date)
+);
+GO
+
+-- Histórico das tarefas existentes (inclusive as arquivadas): criações pelo dia de criação e conclusões pelo dia da
+-- última alteração das tarefas concluídas, uma aproximação, já que o momento da conclusão não era registrado.
+-- Os dias históricos ficam sem sketch de tempo de conclusão.
+INSERT INTO task_daily_rollups (rollup_date, created, completed, completion_sketch, version)
+SELECT rollup_date, SUM(created), SUM(completed), NULL, 0
+FROM (
+    SELECT CAST(creation_date AS DATE) AS rollup_date, 1 AS created, 0 AS completed
+    FROM tasks WHERE deleted_date IS NULL
+    UNION ALL
+    SELECT CAST(update_date AS DATE), 0, 1
+    FROM tasks WHERE deleted_date IS NULL AND status = 'CONCLUIDA' AND update_date IS NOT NULL
+    UNION ALL
+    SELECT CAST(creation_date AS DATE), 1, 0
+    FROM tasks_archive
+    UNION ALL
+    SELECT CAST(update_date AS DATE), 0, 1
+    FROM tasks_archive WHERE status = 'CONCLUIDA' AND update_date IS NOT NULL
+) history
+GROUP BY rollup_date;
+GO
+
+-- Backlog atual, como ponto de partida das variações seguintes
+INSERT INTO task_backlog_rollups (status, rollup_date, total, version)
+SELECT status, CAST(SYSDATETIME() AS DATE), COUNT(*), 0
+FROM (
+    SELECT status FROM tasks WHERE deleted_date IS NULL
+    UNION ALL
+    SELECT status FROM tasks_archive
+) current_tasks
+GROUP BY status;
+GO
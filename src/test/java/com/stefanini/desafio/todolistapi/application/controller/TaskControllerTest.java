@@ -1,14 +1,36 @@
 package com.stefanini.desafio.todolistapi.application.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.stefanini.desafio.todolistapi.application.dto.TaskLookupRequest;
 import com.stefanini.desafio.todolistapi.application.dto.TaskRequest;
 import com.stefanini.desafio.todolistapi.application.dto.TaskResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskSyncResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskTombstoneResponse;
 import com.stefanini.desafio.todolistapi.application.exception.CustomAuthenticationEntryPoint;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportFormat;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportJob;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportNotFoundException;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportQueueFullException;
+import com.stefanini.desafio.todolistapi.application.imports.TaskImportService;
+import com.stefanini.desafio.todolistapi.application.stream.TaskEventBroadcaster;
 import com.stefanini.desafio.todolistapi.application.exception.CustomExceptionHandler;
+import com.stefanini.desafio.todolistapi.application.exception.ErrorMessages;
 import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskChanges;
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.domain.model.TaskFilter;
+import com.stefanini.desafio.todolistapi.domain.model.TaskPage;
 import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.domain.service.InvalidAnalyticsRangeException;
+import com.stefanini.desafio.todolistapi.domain.service.InvalidTaskCursorException;
+import com.stefanini.desafio.todolistapi.domain.service.TaskAnalyticsService;
 import com.stefanini.desafio.todolistapi.domain.service.TaskNotFoundException;
+import com.stefanini.desafio.todolistapi.domain.service.TaskReadCoalescer;
 import com.stefanini.desafio.todolistapi.domain.service.TaskService;
+import com.stefanini.desafio.todolistapi.domain.service.TaskSyncService;
+import com.stefanini.desafio.todolistapi.infrastructure.config.ContentNegotiationConfig;
 import com.stefanini.desafio.todolistapi.infrastructure.config.SecurityConfig;
 import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -18,23 +40,43 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.aot.DisabledInAotMode;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TaskController.class)
-@Import({SecurityConfig.class, CustomAuthenticationEntryPoint.class, CustomExceptionHandler.class})
+@Import({SecurityConfig.class, CustomAuthenticationEntryPoint.class, CustomExceptionHandler.class, ErrorMessages.class, ContentNegotiationConfig.class, TaskReadCoalescer.class})
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
 class TaskControllerTest {
 
     @Autowired
@@ -49,6 +91,18 @@ class TaskControllerTest {
     @MockBean
     private TaskMapper taskMapper;
 
+    @MockBean
+    private TaskEventBroadcaster taskEventBroadcaster;
+
+    @MockBean
+    private TaskSyncService taskSyncService;
+
+    @MockBean
+    private TaskImportService taskImportService;
+
+    @MockBean
+    private TaskAnalyticsService taskAnalyticsService;
+
     @Test
     @DisplayName("Deve criar tarefa com sucesso (201 Created)")
     @WithMockUser(username = "stefuser", roles = "USER")
@@ -104,6 +158,286 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[0].title").value("Tarefa 1"));
     }
 
+    @Test
+    @DisplayName("Deve incluir as tarefas arquivadas quando 'includeArchived' for verdadeiro (200 OK)")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void findAll_IncludeArchived() throws Exception {
+        // Arrange
+        Task active = new Task(UUID.randomUUID(), "Ativa", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
+        Task archived = new Task(UUID.randomUUID(), "Arquivada", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.CONCLUIDA);
+
+        when(taskService.findAllTasks()).thenReturn(List.of(active));
+        when(taskService.findArchivedTasks()).thenReturn(List.of(archived));
+        when(taskMapper.toResponse(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            return new TaskResponse(task.id(), task.title(), task.description(), task.creationDate(), task.updateDate(), task.status());
+        });
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].title").value("Arquivada"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar uma página de tarefas e o cursor da próxima no header X-Next-Cursor (200 OK)")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void findAll_Paged() throws Exception {
+        // Arrange
+        Task task = new Task(UUID.randomUUID(), "Primeira", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
+        when(taskService.findTaskPage("cursor-anterior", 1)).thenReturn(new TaskPage(List.of(task), "cursor-seguinte"));
+        when(taskMapper.toResponse(task)).thenReturn(new TaskResponse(task.id(), task.title(), null, task.creationDate(), task.updateDate(), task.status()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks").param("limit", "1").param("cursor", "cursor-anterior"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "cursor-seguinte"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Primeira"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para um cursor de paginação inválido")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void findAll_InvalidCursor() throws Exception {
+        // Arrange
+        when(taskService.findTaskPage(eq("invalido"), any(Integer.class))).thenThrow(new InvalidTaskCursorException("invalido"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks").param("cursor", "invalido"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas os campos solicitados em 'fields' (200 OK)")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void findAll_SparseFields() throws Exception {
+        // Arrange
+        Set<TaskField> fields = EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.STATUS);
+        Task partialTask = new Task(UUID.randomUUID(), "Tarefa Parcial", null, null, null, TaskStatus.PENDENTE);
+        Map<String, Object> sparse = new LinkedHashMap<>();
+        sparse.put("id", partialTask.id());
+        sparse.put("title", partialTask.title());
+        sparse.put("status", partialTask.status());
+
+        when(taskService.findAllTasks(fields)).thenReturn(List.of(partialTask));
+        when(taskMapper.toSparseResponse(partialTask, fields)).thenReturn(sparse);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks").param("fields", "id, title,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Tarefa Parcial"))
+                .andExpect(jsonPath("$[0].status").value("PENDENTE"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].creationDate").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar 'fields' também às tarefas arquivadas quando 'includeArchived' for verdadeiro (200 OK)")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void findAll_SparseFieldsIncludeArchived() throws Exception {
+        // Arrange
+        Set<TaskField> fields = EnumSet.of(TaskField.ID, TaskField.TITLE);
+        Task active = new Task(UUID.randomUUID(), "Ativa", null, null, null, null);
+        Task archived = new Task(UUID.randomUUID(), "Arquivada", null, null, null, null);
+
+        when(taskService.findAllTasks(fields)).thenReturn(List.of(active));
+        when(taskService.findArchivedTasks(fields)).thenReturn(List.of(archived));
+        when(taskMapper.toSparseResponse(any(Task.class), eq(fields))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            Map<String, Object> sparse = new LinkedHashMap<>();
+            sparse.put("id", task.id());
+            sparse.put("title", task.title());
+            return sparse;
+        });
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks").param("fields", "id,title").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].title").value("Arquivada"))
+                .andExpect(jsonPath("$[1].status").doesNotExist());
+
+        verify(taskService, never()).findArchivedTasks();
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando 'fields' contém campo desconhecido")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void findAll_InvalidFields() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks").param("fields", "id,senha"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bad Request"))
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    @DisplayName("Deve listar tarefas em CBOR quando solicitado pelo header Accept")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void findAll_Cbor() throws Exception {
+        // Arrange
+        Task domainTask = new Task(UUID.randomUUID(), "Tarefa Binária", "Desc", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
+        TaskResponse response = new TaskResponse(domainTask.id(), domainTask.title(), domainTask.description(), domainTask.creationDate(), domainTask.updateDate(), domainTask.status());
+
+        when(taskService.findAllTasks()).thenReturn(List.of(domainTask));
+        when(taskMapper.toResponse(any(Task.class))).thenReturn(response);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/cbor"))
+                .andReturn();
+
+        // Assert
+        JsonNode body = new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Tarefa Binária", body.get(0).get("title").asText());
+        assertEquals("PENDENTE", body.get(0).get("status").asText());
+    }
+
+    @Test
+    @DisplayName("Deve abrir o stream SSE repassando o Last-Event-ID")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void stream_Success() throws Exception {
+        // Arrange
+        when(taskEventBroadcaster.subscribe("abc-10")).thenReturn(new SseEmitter());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks/stream")
+                        .header("Last-Event-ID", "abc-10")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @DisplayName("Deve retornar alterações e tombstones na sincronização incremental (200 OK)")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void sync_Success() throws Exception {
+        // Arrange
+        LocalDateTime since = LocalDateTime.of(2025, 1, 10, 8, 30);
+        LocalDateTime watermark = since.plusHours(1);
+        UUID deletedId = UUID.randomUUID();
+        TaskChanges changes = new TaskChanges(List.of(), List.of(), watermark, false, false, null);
+        TaskSyncResponse response = new TaskSyncResponse(List.of(), List.of(new TaskTombstoneResponse(deletedId, watermark)), watermark, false, false, null);
+
+        when(taskSyncService.findChangesSince(since, null, 100)).thenReturn(changes);
+        when(taskMapper.toResponse(changes)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks/sync")
+                        .param("since", "2025-01-10T08:30:00")
+                        .param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted[0].id").value(deletedId.toString()))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.watermark").exists());
+    }
+
+    @Test
+    @DisplayName("Deve contar as tarefas pelos filtros de status e data (200 OK)")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void count_Success() throws Exception {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.CONCLUIDA, LocalDateTime.of(2025, 1, 1, 0, 0), null, null, null);
+        when(taskService.countTasks(filter)).thenReturn(7L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks/count")
+                        .param("status", "CONCLUIDA")
+                        .param("createdFrom", "2025-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(7));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 quando o período dos indicadores é inválido")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void analytics_InvalidRange() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 1, 1);
+        when(taskAnalyticsService.analytics(from, to)).thenThrow(new InvalidAnalyticsRangeException(366));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks/analytics")
+                        .param("from", "2025-02-01")
+                        .param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("366")));
+    }
+
+    @Test
+    @DisplayName("Deve agendar a importação em massa e apontar o acompanhamento no Location (202 Accepted)")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void importTasks_Accepted() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "tarefas.csv", "text/csv", "title\nA\n".getBytes());
+        UUID jobId = UUID.randomUUID();
+        TaskImportJob job = new TaskImportJob(jobId, "tarefas.csv", TaskImportFormat.CSV, Path.of("upload"), Path.of("errors.csv"));
+        when(taskImportService.submit(any(), eq(null))).thenReturn(job);
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/v1/tasks/import").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/v1/tasks/import/" + jobId))
+                .andExpect(jsonPath("$.id").value(jobId.toString()))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.format").value("CSV"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar a importação com a fila cheia (503 Service Unavailable)")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void importTasks_QueueFull() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "tarefas.csv", "text/csv", "title\nA\n".getBytes());
+        when(taskImportService.submit(any(), eq(null))).thenThrow(new TaskImportQueueFullException(8, 60));
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/v1/tasks/import").file(file))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "60"))
+                .andExpect(jsonPath("$.message").value(containsString("8 aguardando")));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 404 ao consultar uma importação inexistente")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void importStatus_NotFound() throws Exception {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        when(taskImportService.findJob(jobId)).thenThrow(new TaskImportNotFoundException(jobId));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks/import/{jobId}", jobId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Importação com o ID '" + jobId + "' não foi encontrada."));
+    }
+
+    @Test
+    @DisplayName("Deve retornar as tarefas filtradas por status (200 OK)")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void search_Success() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Task domainTask = new Task(id, "Filtrada", "Desc", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.EM_ANDAMENTO);
+        TaskResponse response = new TaskResponse(id, domainTask.title(), domainTask.description(), domainTask.creationDate(), domainTask.updateDate(), domainTask.status());
+
+        when(taskService.findTasks(new TaskFilter(TaskStatus.EM_ANDAMENTO, null, null, null, null), 20)).thenReturn(List.of(domainTask));
+        when(taskMapper.toResponse(domainTask)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks/search")
+                        .param("status", "EM_ANDAMENTO")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id.toString()))
+                .andExpect(jsonPath("$[0].title").value("Filtrada"));
+    }
+
     @Test
     @DisplayName("Deve buscar tarefa por ID com sucesso (200 OK)")
     @WithMockUser(username = "stefuser", roles = "USER")
@@ -122,6 +456,25 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("Tarefa Busca"));
     }
 
+    @Test
+    @DisplayName("Deve retornar a tarefa completa quando 'fields' vier vazio (200 OK)")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void findById_BlankFields() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Task domainTask = new Task(id, "Tarefa Completa", "Desc", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
+        TaskResponse response = new TaskResponse(id, domainTask.title(), domainTask.description(), domainTask.creationDate(), domainTask.updateDate(), domainTask.status());
+
+        when(taskService.findTaskById(id)).thenReturn(domainTask);
+        when(taskMapper.toResponse(domainTask)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasks/{id}", id).param("fields", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Tarefa Completa"))
+                .andExpect(jsonPath("$.description").value("Desc"));
+    }
+
     @Test
     @DisplayName("Deve retornar 404 ao buscar ID inexistente")
     @WithMockUser(username = "stefuser", roles = "USER")
@@ -146,7 +499,7 @@ class TaskControllerTest {
         Task updatedTask = new Task(id, "Título Atualizado", "Desc Atualizada", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.CONCLUIDA);
         TaskResponse response = new TaskResponse(id, updatedTask.title(), updatedTask.description(), updatedTask.creationDate(), updatedTask.updateDate(), updatedTask.status());
 
-        when(taskService.updateTask(eq(id), eq(request.title()), eq(request.description()), any())).thenReturn(updatedTask);
+        when(taskService.updateTask(eq(id), eq(request.title()), eq(request.description()), any(), any(), any())).thenReturn(updatedTask);
         when(taskMapper.toResponse(updatedTask)).thenReturn(response);
 
         // Act & Assert
@@ -185,6 +538,52 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.error").value("Not Found"));
     }
     
+    @Test
+    @DisplayName("Deve retornar erro 400 ao buscar várias tarefas com a lista de IDs vazia")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void lookup_EmptyIds() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/tasks/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation Failed"))
+                .andExpect(jsonPath("$.details[0]").value("ids: Informe de 1 a 500 IDs de tarefas."));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 ao buscar mais de 500 tarefas de uma vez")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void lookup_TooManyIds() throws Exception {
+        // Arrange
+        List<UUID> ids = IntStream.range(0, TaskLookupRequest.MAX_IDS + 1).mapToObj(i -> UUID.randomUUID()).toList();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/tasks/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskLookupRequest(ids))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("ids: Informe de 1 a 500 IDs de tarefas."));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 ao buscar várias tarefas com um ID nulo na lista")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void lookup_NullId() throws Exception {
+        // Arrange
+        String body = "{\"ids\":[\"" + UUID.randomUUID() + "\",null]}";
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/tasks/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("ids[1]: A lista de IDs de tarefas não pode conter valores nulos."));
+        verifyNoInteractions(taskService);
+    }
+
     @Test
     @DisplayName("Deve retornar 401 Unauthorized quando não autenticado")
     void create_Unauthorized() throws Exception {
@@ -0,0 +1,62 @@
+package com.stefanini.desafio.todolistapi.application.exception;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ErrorMessagesTest {
+
+    private ResourceBundleMessageSource messageSource;
+    private ErrorMessages errorMessages;
+
+    @BeforeEach
+    void setUp() {
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        errorMessages = new ErrorMessages(messageSource);
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo texto que o MessageSource para as mensagens de erro")
+    void get_MatchesMessageSource() {
+        // Arrange
+        Locale locale = LocaleContextHolder.getLocale();
+        UUID id = UUID.randomUUID();
+
+        // Act & Assert
+        assertEquals(messageSource.getMessage("task.not.found", new Object[]{id}, locale),
+                errorMessages.get("task.not.found", id));
+        assertEquals(messageSource.getMessage("task.fields.invalid", new Object[]{"senha", "id,title"}, locale),
+                errorMessages.get("task.fields.invalid", "senha", "id,title"));
+        assertEquals(messageSource.getMessage("rate.limit.exceeded", new Object[]{5L}, locale),
+                errorMessages.get("rate.limit.exceeded", 5L));
+        assertEquals(messageSource.getMessage("auth.invalid.credentials", null, locale),
+                errorMessages.get("auth.invalid.credentials"));
+        assertEquals("Falha ao converter 'id' com o valor: 'abc'",
+                errorMessages.get("argument.type.mismatch", "id", "abc"));
+    }
+
+    @Test
+    @DisplayName("Deve delegar ao MessageSource os padrões com formatação de tipo")
+    void get_UnsupportedPatternFallsBack() {
+        // Arrange
+        StaticMessageSource staticSource = new StaticMessageSource();
+        staticSource.addMessage("valor", LocaleContextHolder.getLocale(), "Total: {0,number,#.00} ''ok''");
+        ErrorMessages messages = new ErrorMessages(staticSource);
+
+        // Act
+        String result = messages.get("valor", 2);
+
+        // Assert
+        assertEquals(staticSource.getMessage("valor", new Object[]{2}, LocaleContextHolder.getLocale()), result);
+    }
+}
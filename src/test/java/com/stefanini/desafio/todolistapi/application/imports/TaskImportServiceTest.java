@@ -0,0 +1,202 @@
+package com.stefanini.desafio.todolistapi.application.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stefanini.desafio.todolistapi.application.exception.ErrorMessages;
+import com.stefanini.desafio.todolistapi.domain.event.TasksImportedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.domain.service.TaskRanking;
+import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskStore taskStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path directory;
+
+    private TaskImportService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("ISO-8859-1");
+        service = new TaskImportService(taskStore, new TransactionTemplate(transactionManager), Shards.single(),
+                Mappers.getMapper(TaskMapper.class), Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), new ErrorMessages(messageSource), eventPublisher,
+                new TaskRanking(taskStore, Shards.single()), Clock.systemDefaultZone(), directory.toString(), 2, 2, 1, 4, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve importar um CSV em lotes, com campos entre aspas e quebras de linha")
+    void run_ImportsCsvInChunks() throws IOException {
+        // Arrange
+        TaskImportJob job = job(TaskImportFormat.CSV, """
+                title,description,status
+                Comprar café,"Extra forte, moído",PENDENTE
+                "Revisar ""PR""\","Linha 1
+                Linha 2",concluida
+                Ligar para o cliente,,
+                """);
+        when(taskStore.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // Act
+        service.run(job);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskEntity>> batches = ArgumentCaptor.forClass(List.class);
+        verify(taskStore, times(2)).insertAll(batches.capture());
+        List<TaskEntity> first = batches.getAllValues().get(0);
+        assertThat(first).extracting(TaskEntity::getTitle).containsExactly("Comprar café", "Revisar \"PR\"");
+        assertThat(first.get(0).getDescription()).isEqualTo("Extra forte, moído");
+        assertThat(first.get(1).getDescription()).isEqualTo("Linha 1\nLinha 2");
+        assertThat(first).extracting(TaskEntity::getRankKey).doesNotContainNull().isSorted();
+        assertThat(first.get(1).getStatus()).isEqualTo(TaskStatus.CONCLUIDA);
+        assertThat(first).allSatisfy(task -> assertThat(task.getId()).isNotNull());
+        assertThat(batches.getAllValues().get(1).get(0).getStatus()).isEqualTo(TaskStatus.PENDENTE);
+        verify(eventPublisher, times(2)).publishEvent(any(TasksImportedEvent.class));
+
+        assertThat(job.getStatus()).isEqualTo(TaskImportStatus.COMPLETED);
+        assertThat(job.getRowsRead().get()).isEqualTo(3);
+        assertThat(job.getImported().get()).isEqualTo(3);
+        assertThat(job.getRejected().get()).isZero();
+        assertThat(job.getUpload()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar registros inválidos e listá-los no relatório de erros com a linha do arquivo")
+    void run_ReportsRejectedRows() throws IOException {
+        // Arrange
+        TaskImportJob job = job(TaskImportFormat.CSV, """
+                title,description,status
+                ,Sem título,PENDENTE
+                Tarefa válida,Descrição,
+                Status errado,Descrição,ARQUIVADA
+                Colunas a mais,a,b,c
+                """);
+
+        // Act
+        service.run(job);
+
+        // Assert
+        verify(taskStore).insertAll(argThat(list -> list.size() == 1));
+        assertThat(job.getStatus()).isEqualTo(TaskImportStatus.COMPLETED);
+        assertThat(job.getImported().get()).isEqualTo(1);
+        assertThat(job.getRejected().get()).isEqualTo(3);
+        List<String> report = Files.readAllLines(job.getErrorReport());
+        assertThat(report).hasSize(4);
+        assertThat(report.get(0)).isEqualTo("linha,erro");
+        assertThat(report.get(1)).startsWith("2,\"title: ");
+        assertThat(report.get(2)).startsWith("4,\"Status inválido: 'ARQUIVADA'");
+        assertThat(report.get(3)).startsWith("5,\"Quantidade de colunas inválida: esperadas 3, encontradas 4");
+    }
+
+    @Test
+    @DisplayName("Deve importar NDJSON e rejeitar as linhas que não são objetos JSON")
+    void run_ImportsNdjson() throws IOException {
+        // Arrange
+        TaskImportJob job = job(TaskImportFormat.NDJSON, """
+                {"title":"Primeira","description":"Desc","extra":1}
+
+                {"title":"Segunda","status":"EM_ANDAMENTO"}
+                {"title":
+                """);
+
+        // Act
+        service.run(job);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskEntity>> batches = ArgumentCaptor.forClass(List.class);
+        verify(taskStore).insertAll(batches.capture());
+        assertThat(batches.getValue()).extracting(TaskEntity::getStatus)
+                .containsExactly(TaskStatus.PENDENTE, TaskStatus.EM_ANDAMENTO);
+        assertThat(job.getImported().get()).isEqualTo(2);
+        assertThat(job.getRejected().get()).isEqualTo(1);
+        assertThat(Files.readAllLines(job.getErrorReport()).get(1)).startsWith("4,\"JSON inválido");
+    }
+
+    @Test
+    @DisplayName("Deve falhar a importação quando o cabeçalho CSV não tem a coluna title")
+    void run_FailsOnInvalidHeader() throws IOException {
+        // Arrange
+        TaskImportJob job = job(TaskImportFormat.CSV, "titulo,descricao\nA,B\n");
+
+        // Act
+        service.run(job);
+
+        // Assert
+        verifyNoInteractions(taskStore);
+        assertThat(job.getStatus()).isEqualTo(TaskImportStatus.FAILED);
+        assertThat(job.getFailure()).startsWith("Cabeçalho CSV inválido");
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve recusar arquivos de formato desconhecido")
+    void submit_RejectsUnknownFormat() {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "tarefas.txt", "text/plain", "a".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.submit(file, null))
+                .isInstanceOf(InvalidImportFileException.class)
+                .extracting("messageKey").isEqualTo("import.file.format.unsupported");
+    }
+
+    private TaskImportJob job(TaskImportFormat format, String content) throws IOException {
+        UUID id = UUID.randomUUID();
+        Path upload = Files.writeString(directory.resolve(id + ".upload"), content, StandardCharsets.UTF_8);
+        Path errors = Files.writeString(directory.resolve(id + "-errors.csv"), "linha,erro\n", StandardCharsets.UTF_8);
+        return new TaskImportJob(id, "tarefas", format, upload, errors);
+    }
+}
@@ -0,0 +1,181 @@
+package com.stefanini.desafio.todolistapi.application.stream;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventBroadcasterTest {
+
+    private final TaskMapper mapper = Mappers.getMapper(TaskMapper.class);
+    private final ManualExecutor executor = new ManualExecutor();
+
+    @Test
+    @DisplayName("Deve enviar eventos publicados aos assinantes com ID e nome")
+    void publish_DeliversToSubscriber() {
+        TaskEventBroadcaster broadcaster = broadcaster(8, StreamOverflowPolicy.DROP_OLDEST);
+        CapturingEmitter emitter = new CapturingEmitter();
+        broadcaster.subscribe(emitter, null);
+
+        broadcaster.onTaskChanged(TaskChangedEvent.created(task("Nova"), LocalDateTime.now()));
+        executor.runAll();
+
+        assertThat(emitter.events).hasSize(1);
+        assertThat(emitter.events.getFirst()).contains("event:task-created").contains("id:").contains("Nova");
+    }
+
+    @Test
+    @DisplayName("Deve retomar a partir do Last-Event-ID reenviando apenas eventos posteriores")
+    void subscribe_ResumesFromLastEventId() {
+        TaskEventBroadcaster broadcaster = broadcaster(8, StreamOverflowPolicy.DROP_OLDEST);
+        CapturingEmitter first = new CapturingEmitter();
+        broadcaster.subscribe(first, null);
+
+        broadcaster.onTaskChanged(TaskChangedEvent.created(task("Um"), LocalDateTime.now()));
+        broadcaster.onTaskChanged(TaskChangedEvent.created(task("Dois"), LocalDateTime.now()));
+        broadcaster.onTaskChanged(TaskChangedEvent.created(task("Três"), LocalDateTime.now()));
+        executor.runAll();
+
+        String firstId = extractId(first.events.getFirst());
+        CapturingEmitter resumed = new CapturingEmitter();
+        broadcaster.subscribe(resumed, firstId);
+        executor.runAll();
+
+        assertThat(resumed.events).hasSize(2);
+        assertThat(resumed.events.get(0)).contains("Dois");
+        assertThat(resumed.events.get(1)).contains("Três");
+    }
+
+    @Test
+    @DisplayName("Deve enviar reset quando o Last-Event-ID pertence a outra execução do servidor")
+    void subscribe_UnknownEpoch_SendsReset() {
+        TaskEventBroadcaster broadcaster = broadcaster(8, StreamOverflowPolicy.DROP_OLDEST);
+        broadcaster.onTaskChanged(TaskChangedEvent.created(task("Um"), LocalDateTime.now()));
+
+        CapturingEmitter emitter = new CapturingEmitter();
+        broadcaster.subscribe(emitter, "epocaantiga-42");
+        executor.runAll();
+
+        assertThat(emitter.events).hasSize(1);
+        assertThat(emitter.events.getFirst()).contains("event:reset");
+    }
+
+    @Test
+    @DisplayName("Deve enviar reset, sem derrubar o cliente, quando os eventos perdidos não cabem no buffer")
+    void subscribe_GapLargerThanBuffer_SendsReset() {
+        TaskEventBroadcaster broadcaster = broadcaster(2, StreamOverflowPolicy.DISCONNECT);
+        CapturingEmitter first = new CapturingEmitter();
+        broadcaster.subscribe(first, null);
+        broadcaster.onTaskChanged(TaskChangedEvent.created(task("Um"), LocalDateTime.now()));
+        executor.runAll();
+        for (int i = 0; i < 3; i++) {
+            broadcaster.onTaskChanged(TaskChangedEvent.deleted(UUID.randomUUID(), TaskStatus.PENDENTE, LocalDateTime.now()));
+            executor.runAll();
+        }
+
+        CapturingEmitter resumed = new CapturingEmitter();
+        broadcaster.subscribe(resumed, extractId(first.events.getFirst()));
+        executor.runAll();
+
+        assertThat(resumed.events).hasSize(1);
+        assertThat(resumed.events.getFirst()).contains("event:reset");
+        assertThat(broadcaster.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve descartar eventos excedentes e avisar o assinante lento com DROP_NEWEST")
+    void slowSubscriber_DropNewest_ReportsOverflow() {
+        TaskEventBroadcaster broadcaster = broadcaster(2, StreamOverflowPolicy.DROP_NEWEST);
+        CapturingEmitter emitter = new CapturingEmitter();
+        broadcaster.subscribe(emitter, null);
+
+        for (int i = 0; i < 5; i++) {
+            broadcaster.onTaskChanged(TaskChangedEvent.deleted(UUID.randomUUID(), TaskStatus.PENDENTE, LocalDateTime.now()));
+        }
+        executor.runAll();
+
+        assertThat(emitter.events).hasSize(3);
+        assertThat(emitter.events.getFirst()).contains("event:overflow").contains("3");
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o assinante lento com a política DISCONNECT")
+    void slowSubscriber_Disconnect_RemovesSubscriber() {
+        TaskEventBroadcaster broadcaster = broadcaster(1, StreamOverflowPolicy.DISCONNECT);
+        broadcaster.subscribe(new CapturingEmitter(), null);
+
+        broadcaster.onTaskChanged(TaskChangedEvent.deleted(UUID.randomUUID(), TaskStatus.PENDENTE, LocalDateTime.now()));
+        broadcaster.onTaskChanged(TaskChangedEvent.deleted(UUID.randomUUID(), TaskStatus.PENDENTE, LocalDateTime.now()));
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve enviar heartbeat apenas para assinantes sem eventos pendentes")
+    void heartbeat_SentWhenIdle() {
+        TaskEventBroadcaster broadcaster = broadcaster(8, StreamOverflowPolicy.DROP_OLDEST);
+        CapturingEmitter emitter = new CapturingEmitter();
+        broadcaster.subscribe(emitter, null);
+
+        broadcaster.heartbeat();
+        executor.runAll();
+
+        assertThat(emitter.events).hasSize(1);
+        assertThat(emitter.events.getFirst()).contains(":heartbeat");
+    }
+
+    private TaskEventBroadcaster broadcaster(int bufferSize, StreamOverflowPolicy policy) {
+        return new TaskEventBroadcaster(mapper, bufferSize, 16, policy, 60_000, executor);
+    }
+
+    private Task task(String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Task(UUID.randomUUID(), title, "Desc", now, now, TaskStatus.PENDENTE);
+    }
+
+    private String extractId(String event) {
+        int start = event.indexOf("id:") + 3;
+        return event.substring(start, event.indexOf('\n', start));
+    }
+
+    /** Executor que acumula as tarefas para que o teste controle quando o envio acontece. */
+    private static class ManualExecutor implements Executor {
+        private final List<Runnable> pending = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            pending.add(command);
+        }
+
+        void runAll() {
+            while (!pending.isEmpty()) {
+                pending.removeFirst().run();
+            }
+        }
+    }
+
+    /** Emitter que registra o texto de cada evento enviado em vez de escrever na resposta HTTP. */
+    private static class CapturingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+}
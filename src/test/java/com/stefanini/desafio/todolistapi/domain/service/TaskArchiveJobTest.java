@@ -0,0 +1,120 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskArchiveRepository;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRepository;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class TaskArchiveJobTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskArchiveJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new TaskArchiveJob(taskRepository, taskArchiveRepository, new TransactionTemplate(transactionManager),
+                Shards.single(), Clock.systemDefaultZone(), true, Duration.ofDays(90), 2, 5, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Deve arquivar em lotes até encontrar um lote incompleto")
+    void archiveCompletedTasks_Batches() {
+        // Arrange
+        TaskEntity a = task();
+        TaskEntity b = task();
+        TaskEntity c = task();
+        when(taskRepository.findArchivable(eq(TaskStatus.CONCLUIDA), any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(a, b), List.of(c));
+
+        // Act
+        int archived = job.archiveCompletedTasks();
+
+        // Assert
+        assertEquals(3, archived);
+        verify(taskArchiveRepository).copyFromTasks(eq(List.of(a.getId(), b.getId())), any(LocalDateTime.class));
+        verify(taskRepository).deleteAllByIdIn(List.of(c.getId()));
+        verify(taskRepository, times(2)).findArchivable(any(), any(), any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de lotes por execução")
+    void archiveCompletedTasks_MaxBatches() {
+        // Arrange
+        when(taskRepository.findArchivable(any(), any(), any())).thenAnswer(invocation -> List.of(task(), task()));
+
+        // Act
+        int archived = job.archiveCompletedTasks();
+
+        // Assert
+        assertEquals(10, archived);
+        verify(taskRepository, times(5)).deleteAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Não deve alterar o banco quando não houver tarefas elegíveis")
+    void archiveCompletedTasks_Nothing() {
+        // Arrange
+        when(taskRepository.findArchivable(any(), any(), any())).thenReturn(List.of());
+
+        // Act
+        int archived = job.archiveCompletedTasks();
+
+        // Assert
+        assertEquals(0, archived);
+        verifyNoInteractions(taskArchiveRepository);
+        verify(taskRepository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Não deve arquivar quando o job estiver desabilitado")
+    void archiveCompletedTasks_Disabled() {
+        // Arrange
+        TaskArchiveJob disabled = new TaskArchiveJob(taskRepository, taskArchiveRepository, new TransactionTemplate(transactionManager),
+                Shards.single(), Clock.systemDefaultZone(), false, Duration.ofDays(90), 2, 5, Duration.ZERO);
+
+        // Act
+        int archived = disabled.archiveCompletedTasks();
+
+        // Assert
+        assertEquals(0, archived);
+        verifyNoInteractions(taskRepository, taskArchiveRepository, transactionManager);
+    }
+
+    private static TaskEntity task() {
+        LocalDateTime old = LocalDateTime.now().minusDays(120);
+        return new TaskEntity(UUID.randomUUID(), "Concluída", null, old, old, TaskStatus.CONCLUIDA);
+    }
+}
@@ -0,0 +1,161 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.event.TaskDeadlinesFiredEvent;
+import com.stefanini.desafio.todolistapi.domain.model.DeadlineType;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskDeadline;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class TaskDeadlineSchedulerTest {
+
+    @Mock
+    private TaskStore taskStore;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private TaskDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(meterRegistry);
+        scheduler = new TaskDeadlineScheduler(taskStore, new TransactionTemplate(transactionManager), Shards.single(),
+                taskMapper, eventPublisher, Clock.systemDefaultZone(), provider, true, 1000, Duration.ofHours(1), 100, 1000);
+    }
+
+    @Test
+    @DisplayName("Deve carregar os prazos vencidos do índice e marcá-los como atrasados no primeiro tick")
+    void tick_FiresOverdueFromIndex() {
+        // Arrange
+        LocalDateTime due = LocalDateTime.now().minusMinutes(5);
+        UUID id = UUID.randomUUID();
+        TaskDeadline deadline = new TaskDeadline(id, due);
+        TaskEntity entity = new TaskEntity(id, "Entregar relatório", null, due.minusDays(1), due, TaskStatus.PENDENTE);
+        Task task = new Task(id, "Entregar relatório", null, due.minusDays(1), due, TaskStatus.PENDENTE, due, null, due);
+        when(taskStore.findPendingDueDates(any(), any(), any(), any())).thenReturn(List.of(deadline));
+        when(taskStore.markOverdue(eq(List.of(deadline)), any())).thenReturn(List.of(id));
+        when(taskStore.findByIdInAndDeletedDateIsNull(List.of(id))).thenReturn(List.of(entity));
+        when(taskMapper.toDomain(entity)).thenReturn(task);
+
+        // Act
+        scheduler.tick();
+
+        // Assert
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues().get(0)).isInstanceOfSatisfying(TaskDeadlinesFiredEvent.class, event -> {
+            assertThat(event.type()).isEqualTo(DeadlineType.OVERDUE);
+            assertThat(event.tasks()).containsExactly(task);
+        });
+        assertThat(events.getAllValues().get(1)).isInstanceOf(TaskChangedEvent.class);
+        assertThat(meterRegistry.counter("tasks.deadlines.fired", "type", "overdue").count()).isEqualTo(1.0);
+        assertThat(scheduler.scheduled(DeadlineType.OVERDUE)).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve publicar eventos para prazos que a atualização condicional descartou")
+    void tick_AlreadyFiredElsewhere() {
+        // Arrange
+        TaskDeadline deadline = new TaskDeadline(UUID.randomUUID(), LocalDateTime.now().minusMinutes(1));
+        when(taskStore.findPendingDueDates(any(), any(), any(), any())).thenReturn(List.of(deadline));
+        when(taskStore.markOverdue(eq(List.of(deadline)), any())).thenReturn(List.of());
+
+        // Act
+        scheduler.tick();
+
+        // Assert
+        verify(taskStore, never()).findByIdInAndDeletedDateIsNull(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Deve disparar o lembrete de uma tarefa alterada depois da carga do índice")
+    void onTaskChanged_SchedulesReminder() {
+        // Arrange
+        LocalDateTime reminder = LocalDateTime.now().minusSeconds(1);
+        UUID id = UUID.randomUUID();
+        Task task = new Task(id, "Reunião", null, reminder, reminder, TaskStatus.PENDENTE,
+                reminder.plusHours(2), reminder, null);
+        TaskEntity entity = new TaskEntity(id, "Reunião", null, reminder, reminder, TaskStatus.PENDENTE);
+        when(taskStore.markReminded(eq(List.of(new TaskDeadline(id, reminder))), any())).thenReturn(List.of(id));
+        when(taskStore.findByIdInAndDeletedDateIsNull(List.of(id))).thenReturn(List.of(entity));
+        when(taskMapper.toDomain(entity)).thenReturn(task);
+
+        // Act
+        scheduler.onTaskChanged(TaskChangedEvent.updated(task, LocalDateTime.now()));
+        scheduler.tick();
+
+        // Assert
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(events.capture());
+        assertThat(events.getValue()).isInstanceOfSatisfying(TaskDeadlinesFiredEvent.class,
+                event -> assertThat(event.type()).isEqualTo(DeadlineType.REMINDER));
+        verify(taskStore, never()).markOverdue(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve tentar de novo no próximo tick um lote que falhou")
+    void tick_RetriesFailedBatch() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDeadline deadline = new TaskDeadline(id, LocalDateTime.now().minusMinutes(1));
+        when(taskStore.findPendingDueDates(any(), any(), any(), any())).thenReturn(List.of(deadline), List.of());
+        when(taskStore.markOverdue(eq(List.of(deadline)), any()))
+                .thenThrow(new IllegalStateException("Banco indisponível"))
+                .thenReturn(List.of());
+
+        // Act
+        scheduler.tick();
+        scheduler.tick();
+
+        // Assert
+        verify(taskStore, times(2)).markOverdue(eq(List.of(deadline)), any());
+        assertThat(scheduler.scheduled(DeadlineType.OVERDUE)).isZero();
+    }
+}
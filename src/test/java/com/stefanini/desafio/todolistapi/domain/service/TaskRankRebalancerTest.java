@@ -0,0 +1,116 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.memory.MemoryTaskStore;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.memory.MemoryTransactionManager;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank;
+import com.stefanini.desafio.todolistapi.infrastructure.rank.FractionalIndex;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class TaskRankRebalancerTest {
+
+    private static final int MAX_KEY_LENGTH = 8;
+
+    @TempDir
+    private Path directory;
+
+    private MemoryTaskStore store;
+    private MeterRegistry meterRegistry;
+    private TaskRankRebalancer rebalancer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new MemoryTaskStore(directory.toString(), false, 1024, DataSize.ofMegabytes(64));
+        meterRegistry = new SimpleMeterRegistry();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(meterRegistry);
+        rebalancer = new TaskRankRebalancer(store, new TransactionTemplate(new MemoryTransactionManager()),
+                Shards.single(), provider, true, MAX_KEY_LENGTH, 4, 64, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Deve encurtar as chaves alongadas por inserções repetidas no mesmo ponto sem mudar a ordem")
+    void rebalance_ShortensKeysAndKeepsOrder() {
+        // Arrange
+        for (String rankKey : FractionalIndex.keysBetween(null, null, 10)) {
+            save(rankKey);
+        }
+        String upper = "a1";
+        for (int i = 0; i < 60; i++) {
+            upper = FractionalIndex.keyBetween("a0", upper);
+            save(upper);
+        }
+        List<UUID> before = order();
+        assertThat(longestKey()).isGreaterThan(MAX_KEY_LENGTH);
+
+        // Act
+        int updated = rebalancer.rebalance();
+
+        // Assert
+        assertThat(updated).isPositive();
+        assertThat(order()).isEqualTo(before);
+        assertThat(longestKey()).isLessThanOrEqualTo(MAX_KEY_LENGTH);
+        assertThat(meterRegistry.counter("tasks.rank.rebalanced").count()).isEqualTo(updated);
+    }
+
+    @Test
+    @DisplayName("Não deve alterar nenhuma chave quando todas estão dentro do limite")
+    void rebalance_NothingToDo() {
+        // Arrange
+        for (String rankKey : FractionalIndex.keysBetween(null, null, 5)) {
+            save(rankKey);
+        }
+
+        // Act
+        int updated = rebalancer.rebalance();
+
+        // Assert
+        assertThat(updated).isZero();
+    }
+
+    private void save(String rankKey) {
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity task = new TaskEntity(null, "Tarefa " + rankKey, null, now, now, TaskStatus.PENDENTE);
+        task.setRankKey(rankKey);
+        store.save(task);
+    }
+
+    private List<UUID> order() {
+        return store.findRanksFrom("0", Limit.of(1000)).stream().map(TaskRank::taskId).toList();
+    }
+
+    private int longestKey() {
+        return store.findRanksFrom("0", Limit.of(1000)).stream().mapToInt(rank -> rank.rankKey().length()).max().orElse(0);
+    }
+}
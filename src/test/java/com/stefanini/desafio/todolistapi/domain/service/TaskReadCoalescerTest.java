@@ -0,0 +1,147 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.event.TasksImportedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskLookup;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class TaskReadCoalescerTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(1);
+
+    @Mock
+    private TaskService taskService;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("Deve consultar o serviço a cada chamada quando o agrupamento estiver desligado")
+    void findTaskById_Disabled() {
+        // Arrange
+        TaskReadCoalescer coalescer = coalescer(false);
+        Task task = task(UUID.randomUUID());
+        when(taskService.findTaskById(task.id())).thenReturn(task);
+
+        // Act
+        coalescer.findTaskById(task.id());
+        coalescer.findTaskById(task.id());
+        coalescer.findAllTasks();
+
+        // Assert
+        verify(taskService, times(2)).findTaskById(task.id());
+        verify(taskService).findAllTasks();
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a leitura por ID dentro da janela de cache e consultar de novo após ela")
+    void findTaskById_CacheWindowExpires() {
+        // Arrange
+        TaskReadCoalescer coalescer = coalescer(true);
+        Task task = task(UUID.randomUUID());
+        when(taskService.findTaskById(task.id())).thenReturn(task);
+
+        // Act
+        coalescer.findTaskById(task.id());
+        now.addAndGet(WINDOW.toNanos() - 1);
+        Task cached = coalescer.findTaskById(task.id());
+        now.addAndGet(1);
+        coalescer.findTaskById(task.id());
+
+        // Assert
+        assertThat(cached).isSameAs(task);
+        verify(taskService, times(2)).findTaskById(task.id());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a tarefa e a listagem em cache quando uma tarefa for alterada")
+    void onTaskChanged_InvalidatesTaskAndList() {
+        // Arrange
+        TaskReadCoalescer coalescer = coalescer(true);
+        Task task = task(UUID.randomUUID());
+        when(taskService.findTaskById(task.id())).thenReturn(task);
+        when(taskService.findAllTasks()).thenReturn(List.of(task));
+        coalescer.findTaskById(task.id());
+        coalescer.findAllTasks();
+
+        // Act
+        coalescer.onTaskChanged(TaskChangedEvent.updated(task, task.updateDate()));
+        coalescer.findTaskById(task.id());
+        coalescer.findAllTasks();
+
+        // Assert
+        verify(taskService, times(2)).findTaskById(task.id());
+        verify(taskService, times(2)).findAllTasks();
+    }
+
+    @Test
+    @DisplayName("Deve descartar apenas a listagem em cache quando um lote for importado")
+    void onTasksImported_InvalidatesListOnly() {
+        // Arrange
+        TaskReadCoalescer coalescer = coalescer(true);
+        Task task = task(UUID.randomUUID());
+        when(taskService.findTaskById(task.id())).thenReturn(task);
+        when(taskService.findAllTasks()).thenReturn(List.of(task));
+        coalescer.findTaskById(task.id());
+        coalescer.findAllTasks();
+
+        // Act
+        coalescer.onTasksImported(new TasksImportedEvent(List.of(task(UUID.randomUUID()))));
+        coalescer.findTaskById(task.id());
+        coalescer.findAllTasks();
+
+        // Assert
+        verify(taskService).findTaskById(task.id());
+        verify(taskService, times(2)).findAllTasks();
+    }
+
+    @Test
+    @DisplayName("Deve buscar apenas os IDs fora do cache e manter a ordem do pedido na busca de várias tarefas")
+    void findTasksByIds_UsesCachedTasks() {
+        // Arrange
+        TaskReadCoalescer coalescer = coalescer(true);
+        Task cached = task(UUID.randomUUID());
+        Task loaded = task(UUID.randomUUID());
+        UUID unknown = UUID.randomUUID();
+        when(taskService.findTaskById(cached.id())).thenReturn(cached);
+        when(taskService.findTasksByIds(List.of(loaded.id(), unknown)))
+                .thenReturn(new TaskLookup(List.of(loaded), List.of(unknown)));
+        coalescer.findTaskById(cached.id());
+
+        // Act
+        TaskLookup lookup = coalescer.findTasksByIds(List.of(loaded.id(), cached.id(), unknown, cached.id()));
+
+        // Assert
+        assertThat(lookup.tasks()).containsExactly(loaded, cached);
+        assertThat(lookup.missing()).containsExactly(unknown);
+    }
+
+    private TaskReadCoalescer coalescer(boolean enabled) {
+        return new TaskReadCoalescer(taskService, new SimpleMeterRegistry(), enabled, WINDOW, now::get);
+    }
+
+    private static Task task(UUID id) {
+        LocalDateTime date = LocalDateTime.of(2025, 1, 1, 10, 0);
+        return new Task(id, "Tarefa", null, date, date, TaskStatus.PENDENTE);
+    }
+}
@@ -0,0 +1,122 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangeType;
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.event.TasksImportedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskAnalytics;
+import com.stefanini.desafio.todolistapi.domain.model.TaskDailyStats;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.memory.MemoryTaskRollupStore;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.memory.MemoryTransactionManager;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class TaskRollupRecorderTest {
+
+    private static final LocalDate DAY_1 = LocalDate.of(2025, 3, 1);
+    private static final LocalDate DAY_3 = LocalDate.of(2025, 3, 3);
+
+    private TaskRollupRecorder recorder;
+    private TaskAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        MemoryTaskRollupStore store = new MemoryTaskRollupStore();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        recorder = new TaskRollupRecorder(store, store, new TransactionTemplate(new MemoryTransactionManager()),
+                Shards.single(), provider, true);
+        analyticsService = new TaskAnalyticsService(store, store, Shards.single(), 366);
+    }
+
+    @Test
+    @DisplayName("Deve contar criações, conclusões e totais por status, repetindo o total nos dias sem alteração")
+    void analytics_CountsTransitionsAndCarriesBacklog() {
+        // Arrange
+        Task first = task(DAY_1.atTime(9, 0), TaskStatus.PENDENTE);
+        Task second = task(DAY_1.atTime(10, 0), TaskStatus.PENDENTE);
+        recorder.onTaskChanged(event(TaskChangeType.CREATED, first, null, first.creationDate()));
+        recorder.onTaskChanged(event(TaskChangeType.CREATED, second, null, second.creationDate()));
+        recorder.onTaskChanged(event(TaskChangeType.UPDATED, first, TaskStatus.PENDENTE, DAY_1.atTime(9, 30)));
+        recorder.flush();
+        // Conclusão dois dias depois, gravada em um segundo intervalo
+        Task done = new Task(first.id(), first.title(), null, first.creationDate(), first.updateDate(), TaskStatus.CONCLUIDA);
+        recorder.onTaskChanged(event(TaskChangeType.UPDATED, done, TaskStatus.PENDENTE, DAY_3.atTime(9, 0)));
+        recorder.flush();
+
+        // Act
+        TaskAnalytics analytics = analyticsService.analytics(DAY_1, DAY_3);
+
+        // Assert
+        List<TaskDailyStats> days = analytics.days();
+        assertThat(days).hasSize(3);
+        assertThat(days.get(0).created()).isEqualTo(2);
+        assertThat(days.get(0).backlog()).containsEntry(TaskStatus.PENDENTE, 2L).containsEntry(TaskStatus.CONCLUIDA, 0L);
+        assertThat(days.get(1).created()).isZero();
+        assertThat(days.get(1).backlog()).containsEntry(TaskStatus.PENDENTE, 2L);
+        assertThat(days.get(2).completed()).isEqualTo(1);
+        assertThat(days.get(2).backlog()).containsEntry(TaskStatus.PENDENTE, 1L).containsEntry(TaskStatus.CONCLUIDA, 1L);
+        long twoDays = 2 * 24 * 3600;
+        assertThat(analytics.completion().count()).isEqualTo(1);
+        assertThat(analytics.completion().p50Seconds()).isBetween((long) (twoDays * 0.99), (long) (twoDays * 1.01));
+    }
+
+    @Test
+    @DisplayName("Deve corrigir os totais dos dias seguintes quando um dia anterior é gravado depois")
+    void flush_LateDayShiftsLaterTotals() {
+        // Arrange
+        Task later = task(DAY_3.atTime(8, 0), TaskStatus.PENDENTE);
+        recorder.onTaskChanged(event(TaskChangeType.CREATED, later, null, later.creationDate()));
+        recorder.flush();
+        Task imported = task(DAY_1.atTime(8, 0), TaskStatus.PENDENTE);
+        recorder.onTasksImported(new TasksImportedEvent(List.of(imported)));
+        recorder.onTaskChanged(event(TaskChangeType.DELETED, null, TaskStatus.PENDENTE, DAY_3.atTime(12, 0)));
+
+        // Act
+        recorder.flush();
+        TaskAnalytics analytics = analyticsService.analytics(DAY_1, DAY_3);
+
+        // Assert
+        assertThat(analytics.days()).extracting(day -> day.backlog().get(TaskStatus.PENDENTE)).containsExactly(1L, 1L, 1L);
+        assertThat(analytics.days()).extracting(TaskDailyStats::created).containsExactly(1L, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar período invertido ou maior que o limite")
+    void analytics_InvalidRange() {
+        // Act & Assert
+        assertThatThrownBy(() -> analyticsService.analytics(DAY_3, DAY_1)).isInstanceOf(InvalidAnalyticsRangeException.class);
+        assertThatThrownBy(() -> analyticsService.analytics(DAY_1.minusYears(2), DAY_1))
+                .isInstanceOf(InvalidAnalyticsRangeException.class);
+    }
+
+    private static Task task(LocalDateTime creationDate, TaskStatus status) {
+        return new Task(UUID.randomUUID(), "Tarefa", null, creationDate, creationDate, status);
+    }
+
+    private static TaskChangedEvent event(TaskChangeType type, Task task, TaskStatus previousStatus, LocalDateTime occurredAt) {
+        UUID taskId = task != null ? task.id() : UUID.randomUUID();
+        return new TaskChangedEvent(type, taskId, task, previousStatus, occurredAt);
+    }
+}
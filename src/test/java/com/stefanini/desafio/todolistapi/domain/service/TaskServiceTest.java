@@ -1,20 +1,40 @@
 package com.stefanini.desafio.todolistapi.domain.service;
 
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangeType;
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
 import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.domain.model.TaskFilter;
+import com.stefanini.desafio.todolistapi.domain.model.TaskLookup;
+import com.stefanini.desafio.todolistapi.domain.model.TaskPage;
 import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
 import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import com.stefanini.desafio.todolistapi.infrastructure.filter.TaskIdFilter;
+import com.stefanini.desafio.todolistapi.infrastructure.index.TaskColumnIndex;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskArchiveEntity;
 import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskArchiveRepository;
 import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRepository;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.aot.DisabledInAotMode;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,49 +42,81 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
 class TaskServiceTest {
 
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskIdFilter taskIdFilter;
+
+    @Spy
+    private Shards shards = Shards.single();
+
+    @Mock
+    private TaskColumnIndex taskColumnIndex;
+
+    @Mock
+    private TaskRanking taskRanking;
+
+    @Spy
+    private Clock clock = Clock.systemDefaultZone();
+
     @InjectMocks
     private TaskService taskService;
 
+    @BeforeEach
+    void setUp() {
+        // Por padrão o filtro de IDs deixa todas as consultas seguirem para o repositório
+        lenient().when(taskIdFilter.mightContain(any(UUID.class))).thenReturn(true);
+    }
+
     @Test
-    @DisplayName("Deve criar uma tarefa com sucesso")
+    @DisplayName("Deve criar uma tarefa com sucesso, com as datas de criação e de atualização no mesmo instante")
     void createTask_Success() {
         // Arrange
         Task taskInput = new Task(null, "Comprar café", "Comprar pó de café extra forte", null, null, TaskStatus.PENDENTE);
         TaskEntity entityInput = new TaskEntity();
         TaskEntity entitySaved = new TaskEntity(UUID.randomUUID(), "Comprar café", "Comprar pó de café extra forte", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
-        Task taskOutput = new Task(entitySaved.getId(), "Comprar café", "Comprar pó de café extra forte", entitySaved.getCreationDate(), entitySaved.getUpdateDate(), TaskStatus.PENDENTE);
 
-        when(taskMapper.toEntity(taskInput)).thenReturn(entityInput);
+        when(taskMapper.toEntity(any(Task.class))).thenReturn(entityInput);
         when(taskRepository.save(entityInput)).thenReturn(entitySaved);
-        when(taskMapper.toDomain(entitySaved)).thenReturn(taskOutput);
 
         // Act
         Task result = taskService.createTask(taskInput);
 
         // Assert
         assertNotNull(result);
-        assertEquals(taskOutput.id(), result.id());
+        assertEquals(entitySaved.getId(), result.id());
         assertEquals("Comprar café", result.title());
+        assertNotNull(result.creationDate());
+        assertEquals(result.creationDate(), result.updateDate());
         verify(taskRepository, times(1)).save(entityInput);
+        verify(taskMapper, never()).toDomain(any(TaskEntity.class));
+
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TaskChangeType.CREATED, event.getValue().type());
+        assertEquals(entitySaved.getId(), event.getValue().taskId());
     }
 
     @Test
     @DisplayName("Deve listar todas as tarefas")
     void findAllTasks_Success() {
         // Arrange
-        TaskEntity entity = new TaskEntity(UUID.randomUUID(), "Estudar Spring Boot", "Revisar conceitos de JPA", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
-        Task task = new Task(entity.getId(), "Estudar Spring Boot", "Revisar conceitos de JPA", entity.getCreationDate(), entity.getUpdateDate(), TaskStatus.PENDENTE);
+        Task task = new Task(UUID.randomUUID(), "Estudar Spring Boot", "Revisar conceitos de JPA", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
 
-        when(taskRepository.findAll()).thenReturn(List.of(entity));
-        when(taskMapper.toDomain(entity)).thenReturn(task);
+        when(taskRepository.findActiveTasks()).thenReturn(List.of(task));
 
         // Act
         List<Task> result = taskService.findAllTasks();
@@ -74,7 +126,27 @@ class TaskServiceTest {
         assertEquals(1, result.size());
         assertEquals(task.id(), result.getFirst().id());
         assertEquals("Estudar Spring Boot", result.getFirst().title());
-        verify(taskRepository, times(1)).findAll();
+        verify(taskRepository, times(1)).findActiveTasks();
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    @DisplayName("Deve listar tarefas com projeção apenas dos campos solicitados")
+    void findAllTasks_WithFields() {
+        // Arrange
+        Set<TaskField> fields = EnumSet.of(TaskField.TITLE);
+        TaskEntity partial = new TaskEntity(UUID.randomUUID(), "Parcial", null, null, null, null);
+        Task task = new Task(partial.getId(), "Parcial", null, null, null, null);
+
+        when(taskRepository.findAllActiveProjected(fields)).thenReturn(List.of(partial));
+        when(taskMapper.toDomain(partial)).thenReturn(task);
+
+        // Act
+        List<Task> result = taskService.findAllTasks(fields);
+
+        // Assert
+        assertEquals(List.of(task), result);
+        verify(taskRepository, never()).findActiveTasks();
     }
 
     @Test
@@ -82,11 +154,9 @@ class TaskServiceTest {
     void findTaskById_Success() {
         // Arrange
         UUID id = UUID.randomUUID();
-        TaskEntity entity = new TaskEntity(id, "Pagar contas", "Pagar conta de luz e internet", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
-        Task task = new Task(id, "Pagar contas", "Pagar conta de luz e internet", entity.getCreationDate(), entity.getUpdateDate(), TaskStatus.PENDENTE);
+        Task task = new Task(id, "Pagar contas", "Pagar conta de luz e internet", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
 
-        when(taskRepository.findById(id)).thenReturn(Optional.of(entity));
-        when(taskMapper.toDomain(entity)).thenReturn(task);
+        when(taskRepository.findActiveTaskById(id)).thenReturn(Optional.of(task));
 
         // Act
         Task result = taskService.findTaskById(id);
@@ -95,7 +165,7 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals(id, result.id());
         assertEquals("Pagar contas", result.title());
-        verify(taskRepository, times(1)).findById(id);
+        verify(taskRepository, times(1)).findActiveTaskById(id);
     }
 
     @Test
@@ -103,11 +173,93 @@ class TaskServiceTest {
     void findTaskById_NotFound() {
         // Arrange
         UUID id = UUID.randomUUID();
-        when(taskRepository.findById(id)).thenReturn(Optional.empty());
+        when(taskRepository.findActiveTaskById(id)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        TaskNotFoundException ex = assertThrows(TaskNotFoundException.class, () -> taskService.findTaskById(id));
+        assertEquals(id, ex.getTaskId());
+        assertEquals(0, ex.getStackTrace().length);
+        verify(taskRepository, times(1)).findActiveTaskById(id);
+        verify(taskIdFilter).recordFalsePositive(id);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 sem consultar o banco quando o filtro descarta o ID")
+    void findTaskById_RejectedByFilter() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(taskIdFilter.mightContain(id)).thenReturn(false);
 
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> taskService.findTaskById(id));
-        verify(taskRepository, times(1)).findById(id);
+        assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(id));
+        verifyNoInteractions(taskRepository, taskArchiveRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar no arquivo a tarefa que não está na tabela ativa")
+    void findTaskById_Archived() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskArchiveEntity archived = new TaskArchiveEntity(id, "Antiga", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.CONCLUIDA, LocalDateTime.now());
+        Task task = new Task(id, "Antiga", null, archived.getCreationDate(), archived.getUpdateDate(), TaskStatus.CONCLUIDA);
+
+        when(taskRepository.findActiveTaskById(id)).thenReturn(Optional.empty());
+        when(taskArchiveRepository.findById(id)).thenReturn(Optional.of(archived));
+        when(taskMapper.toDomain(archived)).thenReturn(task);
+
+        // Act
+        Task result = taskService.findTaskById(id);
+
+        // Assert
+        assertEquals(task, result);
+    }
+
+    @Test
+    @DisplayName("Deve buscar várias tarefas na ordem do pedido, com as arquivadas e os IDs sem tarefa")
+    void findTasksByIds_PreservesOrderAndReportsMissing() {
+        // Arrange
+        UUID active = UUID.randomUUID();
+        UUID archivedId = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        UUID rejected = UUID.randomUUID();
+        Task activeTask = new Task(active, "Ativa", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
+        TaskArchiveEntity archived = new TaskArchiveEntity(archivedId, "Antiga", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.CONCLUIDA, LocalDateTime.now());
+        Task archivedTask = new Task(archivedId, "Antiga", null, archived.getCreationDate(), archived.getUpdateDate(), TaskStatus.CONCLUIDA);
+
+        when(taskIdFilter.mightContain(rejected)).thenReturn(false);
+        when(taskRepository.findActiveTasksByIdIn(List.of(unknown, archivedId, active))).thenReturn(List.of(activeTask));
+        when(taskArchiveRepository.findAllById(List.of(unknown, archivedId))).thenReturn(List.of(archived));
+        when(taskMapper.toDomain(archived)).thenReturn(archivedTask);
+
+        // Act
+        TaskLookup result = taskService.findTasksByIds(List.of(unknown, archivedId, rejected, active, archivedId));
+
+        // Assert
+        assertEquals(List.of(archivedTask, activeTask), result.tasks());
+        assertEquals(List.of(unknown, rejected), result.missing());
+        verify(taskIdFilter, times(1)).recordFalsePositive(unknown);
+    }
+
+    @Test
+    @DisplayName("Deve restaurar do arquivo a tarefa arquivada antes de atualizá-la")
+    void updateTask_Archived() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskEntity restored = new TaskEntity(id, "Antiga", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.CONCLUIDA);
+        Task restoredTask = new Task(id, "Antiga", null, restored.getCreationDate(), restored.getUpdateDate(), TaskStatus.CONCLUIDA);
+
+        when(taskRepository.findByIdAndDeletedDateIsNull(id)).thenReturn(Optional.empty(), Optional.of(restored));
+        when(taskArchiveRepository.copyBackToTasks(id)).thenReturn(1);
+        when(taskMapper.toDomain(restored)).thenReturn(restoredTask);
+
+        // Act
+        Task result = taskService.updateTask(id, null, null, TaskStatus.PENDENTE);
+
+        // Assert
+        assertEquals(TaskStatus.PENDENTE, result.status());
+        verify(taskArchiveRepository).deleteById(id);
+        verify(taskRepository).save(restored);
     }
 
     @Test
@@ -119,11 +271,10 @@ class TaskServiceTest {
         Task existingTask = new Task(id, "Ler livro", "Ler 10 páginas", existingEntity.getCreationDate(), existingEntity.getUpdateDate(), TaskStatus.PENDENTE);
 
         // Mock do findById (chamado internamente pelo updateTask)
-        when(taskRepository.findById(id)).thenReturn(Optional.of(existingEntity));
+        when(taskRepository.findByIdAndDeletedDateIsNull(id)).thenReturn(Optional.of(existingEntity));
         when(taskMapper.toDomain(existingEntity)).thenReturn(existingTask);
 
         // Mock do save
-        when(taskMapper.toEntity(any(Task.class))).thenReturn(existingEntity); 
         when(taskRepository.save(any(TaskEntity.class))).thenReturn(existingEntity);
 
         // Act
@@ -135,8 +286,36 @@ class TaskServiceTest {
         assertEquals("Ler capítulo sobre Testes", result.description());
         assertEquals(TaskStatus.CONCLUIDA, result.status());
         
-        // Verifica se o save foi chamado
-        verify(taskRepository, times(1)).save(any(TaskEntity.class));
+        // Verifica se o save foi chamado com a entidade carregada, já alterada
+        assertEquals("Ler livro técnico", existingEntity.getTitle());
+        verify(taskRepository, times(1)).save(existingEntity);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve reabrir o prazo e manter o lembrete enviado ao alterar apenas a data de entrega")
+    void updateTask_NewDueDate() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity existingEntity = new TaskEntity(id, "Relatório", null, now, now, TaskStatus.PENDENTE);
+        existingEntity.setReminderSentDate(now.minusHours(2));
+        Task existingTask = new Task(id, "Relatório", null, now, now, TaskStatus.PENDENTE,
+                now.minusHours(1), now.minusHours(2), now.minusHours(1));
+
+        when(taskRepository.findByIdAndDeletedDateIsNull(id)).thenReturn(Optional.of(existingEntity));
+        when(taskMapper.toDomain(existingEntity)).thenReturn(existingTask);
+
+        // Act
+        Task result = taskService.updateTask(id, null, null, null, now.plusDays(1), null);
+
+        // Assert
+        assertEquals(now.plusDays(1), result.dueDate());
+        assertEquals(now.minusHours(2), result.reminderDate());
+        assertNull(result.overdueDate());
+        assertEquals(now.minusHours(2), existingEntity.getReminderSentDate());
+        assertEquals(now.plusDays(1), existingEntity.getDueDate());
+        verify(taskRepository).save(existingEntity);
     }
 
     @Test
@@ -144,7 +323,7 @@ class TaskServiceTest {
     void updateTask_NotFound() {
         // Arrange
         UUID id = UUID.randomUUID();
-        when(taskRepository.findById(id)).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndDeletedDateIsNull(id)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> 
@@ -153,6 +332,54 @@ class TaskServiceTest {
         
         // Garante que o save NUNCA foi chamado
         verify(taskRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve mover a tarefa para a chave calculada entre os vizinhos e publicar a atualização")
+    void moveTask_Success() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        UUID afterId = UUID.randomUUID();
+        UUID beforeId = UUID.randomUUID();
+        LocalDateTime created = LocalDateTime.now().minusDays(1);
+        TaskEntity entity = new TaskEntity(id, "Revisar PR", null, created, created, TaskStatus.PENDENTE);
+        entity.setRankKey("a5");
+        Task moved = new Task(id, "Revisar PR", null, created, LocalDateTime.now(), TaskStatus.PENDENTE);
+
+        when(taskRepository.findByIdAndDeletedDateIsNull(id)).thenReturn(Optional.of(entity));
+        when(taskRanking.between(id, afterId, beforeId)).thenReturn("a1V");
+        when(taskRepository.save(entity)).thenReturn(entity);
+        when(taskMapper.toDomain(entity)).thenReturn(moved);
+
+        // Act
+        Task result = taskService.moveTask(id, afterId, beforeId);
+
+        // Assert
+        assertEquals(moved, result);
+        assertEquals("a1V", entity.getRankKey());
+        assertTrue(entity.getUpdateDate().isAfter(created));
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TaskChangeType.UPDATED, event.getValue().type());
+    }
+
+    @Test
+    @DisplayName("Não deve gravar a tarefa quando os vizinhos informados não estão mais nessa ordem")
+    void moveTask_Conflict() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        UUID afterId = UUID.randomUUID();
+        UUID beforeId = UUID.randomUUID();
+        TaskEntity entity = new TaskEntity(id, "Revisar PR", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
+
+        when(taskRepository.findByIdAndDeletedDateIsNull(id)).thenReturn(Optional.of(entity));
+        when(taskRanking.between(id, afterId, beforeId)).thenThrow(new TaskPositionConflictException(id));
+
+        // Act & Assert
+        assertThrows(TaskPositionConflictException.class, () -> taskService.moveTask(id, afterId, beforeId));
+        verify(taskRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
@@ -161,16 +388,23 @@ class TaskServiceTest {
         // Arrange
         UUID id = UUID.randomUUID();
         TaskEntity existingEntity = new TaskEntity(id, "Fazer exercícios", "Ir para a academia", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
-        Task existingTask = new Task(id, "Fazer exercícios", "Ir para a academia", existingEntity.getCreationDate(), existingEntity.getUpdateDate(), TaskStatus.PENDENTE);
 
-        when(taskRepository.findById(id)).thenReturn(Optional.of(existingEntity));
-        when(taskMapper.toDomain(existingEntity)).thenReturn(existingTask);
+        when(taskRepository.findByIdAndDeletedDateIsNull(id)).thenReturn(Optional.of(existingEntity));
 
         // Act
         taskService.deleteTask(id);
 
-        // Assert
-        verify(taskRepository, times(1)).deleteById(id);
+        // Assert - exclusão lógica: a linha vira tombstone em vez de ser removida
+        verify(taskRepository, never()).deleteById(any());
+        verify(taskRepository, times(1)).save(existingEntity);
+        assertNotNull(existingEntity.getDeletedDate());
+        assertEquals(existingEntity.getDeletedDate(), existingEntity.getUpdateDate());
+
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TaskChangeType.DELETED, event.getValue().type());
+        assertEquals(id, event.getValue().taskId());
+        assertNull(event.getValue().task());
     }
 
     @Test
@@ -178,10 +412,123 @@ class TaskServiceTest {
     void deleteTask_NotFound() {
         // Arrange
         UUID id = UUID.randomUUID();
-        when(taskRepository.findById(id)).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndDeletedDateIsNull(id)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(id));
         verify(taskRepository, never()).deleteById(any());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve paginar as tarefas ativas por cursor, continuando da última tarefa entregue")
+    void findTaskPage_Success() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        Task first = new Task(UUID.randomUUID(), "Primeira", "Descrição 1", base, base, TaskStatus.PENDENTE);
+        Task second = new Task(UUID.randomUUID(), "Segunda", "Descrição 2", base.plusMinutes(1), base, TaskStatus.PENDENTE);
+        Task third = new Task(UUID.randomUUID(), "Terceira", "Descrição 3", base.plusMinutes(2), base, TaskStatus.PENDENTE);
+
+        when(taskRepository.findActiveTaskPage(Limit.of(3))).thenReturn(List.of(first, second, third));
+        when(taskRepository.findActiveTaskPageAfter(second.creationDate(), second.id(), Limit.of(3))).thenReturn(List.of(third));
+
+        // Act
+        TaskPage firstPage = taskService.findTaskPage(null, 2);
+        TaskPage lastPage = taskService.findTaskPage(firstPage.nextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of(first.id(), second.id()), firstPage.tasks().stream().map(Task::id).toList());
+        assertNotNull(firstPage.nextCursor());
+        assertEquals(List.of(third.id()), lastPage.tasks().stream().map(Task::id).toList());
+        assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar um cursor de paginação malformado")
+    void findTaskPage_InvalidCursor() {
+        // Act & Assert
+        assertThrows(InvalidTaskCursorException.class, () -> taskService.findTaskPage("nao-e-um-cursor", 10));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Deve contar as tarefas pelo índice colunar sem acessar o repositório")
+    void countTasks_FromColumnIndex() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.PENDENTE, null, null, null, null);
+        when(taskColumnIndex.isReady()).thenReturn(true);
+        when(taskColumnIndex.count(filter)).thenReturn(42L);
+
+        // Act
+        long count = taskService.countTasks(filter);
+
+        // Assert
+        assertEquals(42L, count);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar no repositório apenas os IDs selecionados pelo índice, mantendo a ordem do índice")
+    void findTasks_HydratesIdsFromColumnIndex() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.PENDENTE, null, null, null, null);
+        LocalDateTime now = LocalDateTime.now();
+        Task first = new Task(UUID.randomUUID(), "Primeira", null, now, now, TaskStatus.PENDENTE);
+        Task second = new Task(UUID.randomUUID(), "Segunda", null, now, now, TaskStatus.PENDENTE);
+        UUID archived = UUID.randomUUID();
+        List<UUID> ids = List.of(first.id(), archived, second.id());
+
+        when(taskColumnIndex.isReady()).thenReturn(true);
+        when(taskColumnIndex.findIds(filter, 10)).thenReturn(ids);
+        when(taskRepository.findActiveTasksByIdIn(ids)).thenReturn(List.of(second, first));
+
+        // Act
+        List<Task> result = taskService.findTasks(filter, 10);
+
+        // Assert
+        assertEquals(List.of(first.id(), second.id()), result.stream().map(Task::id).toList());
+        verify(taskRepository, never()).findActiveMatching(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve descartar as tarefas que saíram do filtro depois da última atualização do índice")
+    void findTasks_DropsTasksNoLongerMatching() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.PENDENTE, null, null, null, null);
+        LocalDateTime now = LocalDateTime.now();
+        Task pending = new Task(UUID.randomUUID(), "Pendente", null, now, now, TaskStatus.PENDENTE);
+        Task completedElsewhere = new Task(UUID.randomUUID(), "Concluída em outra réplica", null, now, now, TaskStatus.CONCLUIDA);
+        List<UUID> ids = List.of(pending.id(), completedElsewhere.id());
+
+        when(taskColumnIndex.isReady()).thenReturn(true);
+        when(taskColumnIndex.findIds(filter, 10)).thenReturn(ids);
+        when(taskRepository.findActiveTasksByIdIn(ids)).thenReturn(List.of(pending, completedElsewhere));
+
+        // Act
+        List<Task> result = taskService.findTasks(filter, 10);
+
+        // Assert
+        assertEquals(List.of(pending), result);
+    }
+
+    @Test
+    @DisplayName("Deve filtrar no repositório enquanto o índice colunar não estiver montado")
+    void findTasks_FallbackWhenColumnIndexNotReady() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.CONCLUIDA, null, null, null, null);
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity entity = new TaskEntity(UUID.randomUUID(), "Concluída", null, now, now, TaskStatus.CONCLUIDA);
+        Task task = new Task(entity.getId(), "Concluída", null, now, now, TaskStatus.CONCLUIDA);
+
+        when(taskColumnIndex.isReady()).thenReturn(false);
+        when(taskRepository.findActiveMatching(TaskStatus.CONCLUIDA, null, null, null, null, Limit.of(5))).thenReturn(List.of(entity));
+        when(taskMapper.toDomain(entity)).thenReturn(task);
+
+        // Act
+        List<Task> result = taskService.findTasks(filter, 5);
+
+        // Assert
+        assertEquals(List.of(task), result);
+        verify(taskColumnIndex, never()).findIds(any(), anyInt());
     }
 }
@@ -0,0 +1,168 @@
+package com.stefanini.desafio.todolistapi.domain.service;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskChanges;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRepository;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class TaskSyncServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private final TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+
+    private TaskSyncService taskSyncService;
+
+    @BeforeEach
+    void setUp() {
+        taskSyncService = new TaskSyncService(taskRepository, taskMapper, Shards.single(), Clock.systemDefaultZone(), Duration.ofDays(30), Duration.ZERO, 100);
+    }
+
+    @Test
+    @DisplayName("Deve retornar snapshot completo na primeira sincronização")
+    void findChangesSince_WithoutWatermark_ReturnsSnapshot() {
+        // Arrange
+        TaskEntity entity = entity(LocalDateTime.now().minusDays(90), null);
+        when(taskRepository.findActiveTaskPage(Limit.of(11))).thenReturn(List.of(taskMapper.toDomain(entity)));
+
+        // Act
+        TaskChanges changes = taskSyncService.findChangesSince(null, null, 10);
+
+        // Assert
+        assertTrue(changes.fullResync());
+        assertFalse(changes.hasMore());
+        assertNull(changes.snapshotCursor());
+        assertEquals(1, changes.tasks().size());
+        assertTrue(changes.deleted().isEmpty());
+        assertNotNull(changes.watermark());
+        verify(taskRepository, never()).findChangedBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve exigir snapshot completo quando a marca d'água é mais antiga que a retenção de tombstones")
+    void findChangesSince_ExpiredWatermark_ReturnsSnapshot() {
+        // Arrange
+        when(taskRepository.findActiveTaskPage(Limit.of(11))).thenReturn(List.of());
+
+        // Act
+        TaskChanges changes = taskSyncService.findChangesSince(LocalDateTime.now().minusDays(31), null, 10);
+
+        // Assert
+        assertTrue(changes.fullResync());
+    }
+
+    @Test
+    @DisplayName("Deve paginar o snapshot respeitando o limite e manter a marca d'água da primeira página")
+    void findChangesSince_Snapshot_PagedWithCursor() {
+        // Arrange
+        LocalDateTime created = LocalDateTime.now().minusDays(90);
+        Task first = taskMapper.toDomain(entity(created.plusMinutes(1), null));
+        Task second = taskMapper.toDomain(entity(created.plusMinutes(2), null));
+        Task third = taskMapper.toDomain(entity(created.plusMinutes(3), null));
+        when(taskRepository.findActiveTaskPage(Limit.of(3))).thenReturn(List.of(first, second, third));
+        when(taskRepository.findActiveTaskPageAfter(second.creationDate(), second.id(), Limit.of(3))).thenReturn(List.of(third));
+
+        // Act
+        TaskChanges firstPage = taskSyncService.findChangesSince(null, null, 2);
+        TaskChanges lastPage = taskSyncService.findChangesSince(null, firstPage.snapshotCursor(), 2);
+
+        // Assert
+        assertEquals(List.of(first.id(), second.id()), firstPage.tasks().stream().map(Task::id).toList());
+        assertTrue(firstPage.hasMore());
+        assertNotNull(firstPage.snapshotCursor());
+        assertEquals(List.of(third.id()), lastPage.tasks().stream().map(Task::id).toList());
+        assertTrue(lastPage.fullResync());
+        assertFalse(lastPage.hasMore());
+        assertNull(lastPage.snapshotCursor());
+        assertEquals(firstPage.watermark(), lastPage.watermark());
+    }
+
+    @Test
+    @DisplayName("Deve recusar um cursor de snapshot malformado")
+    void findChangesSince_InvalidSnapshotCursor() {
+        assertThrows(InvalidTaskCursorException.class, () -> taskSyncService.findChangesSince(null, "invalido", 10));
+    }
+
+    @Test
+    @DisplayName("Deve separar tarefas alteradas e tombstones na sincronização incremental")
+    void findChangesSince_ReturnsChangesAndTombstones() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        TaskEntity updated = entity(since.plusMinutes(1), null);
+        TaskEntity deleted = entity(since.plusMinutes(2), since.plusMinutes(2));
+        when(taskRepository.findChangedBetween(eq(since), any(LocalDateTime.class), eq(Limit.of(11))))
+                .thenReturn(List.of(updated, deleted));
+
+        // Act
+        TaskChanges changes = taskSyncService.findChangesSince(since, null, 10);
+
+        // Assert
+        assertFalse(changes.fullResync());
+        assertFalse(changes.hasMore());
+        assertEquals(List.of(updated.getId()), changes.tasks().stream().map(Task::id).toList());
+        assertEquals(1, changes.deleted().size());
+        assertEquals(deleted.getId(), changes.deleted().getFirst().id());
+        assertTrue(changes.watermark().isAfter(deleted.getUpdateDate()));
+    }
+
+    @Test
+    @DisplayName("Deve paginar sem dividir linhas com a mesma data de alteração")
+    void findChangesSince_FullPage_DoesNotSplitTies() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        LocalDateTime tie = since.plusMinutes(5);
+        TaskEntity first = entity(since.plusMinutes(1), null);
+        TaskEntity tied1 = entity(tie, null);
+        TaskEntity tied2 = entity(tie, null);
+        when(taskRepository.findChangedBetween(eq(since), any(LocalDateTime.class), eq(Limit.of(3))))
+                .thenReturn(List.of(first, tied1, tied2));
+
+        // Act
+        TaskChanges changes = taskSyncService.findChangesSince(since, null, 2);
+
+        // Assert
+        assertTrue(changes.hasMore());
+        assertEquals(List.of(first.getId()), changes.tasks().stream().map(Task::id).toList());
+        assertEquals(first.getUpdateDate(), changes.watermark());
+    }
+
+    @Test
+    @DisplayName("Deve expurgar tombstones mais antigos que a retenção")
+    void purgeExpiredTombstones() {
+        // Arrange
+        when(taskRepository.purgeTombstonesDeletedBefore(any(LocalDateTime.class))).thenReturn(3);
+
+        // Act & Assert
+        assertEquals(3, taskSyncService.purgeExpiredTombstones());
+    }
+
+    private TaskEntity entity(LocalDateTime updateDate, LocalDateTime deletedDate) {
+        return new TaskEntity(UUID.randomUUID(), "Tarefa", "Desc", updateDate.minusDays(1), updateDate, TaskStatus.PENDENTE, deletedDate);
+    }
+}
@@ -0,0 +1,109 @@
+package com.stefanini.desafio.todolistapi.infrastructure.breaker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CircuitBreaker breaker = new CircuitBreaker("database", 4, 2, 0.5, Duration.ofSeconds(10), 2,
+            now::get, registry);
+
+    @Test
+    @DisplayName("Deve abrir o circuito quando a taxa de falhas da janela chega ao limite")
+    void onFailure_ThresholdReached_Opens() {
+        // Arrange
+        call(true);
+        call(true);
+        call(false);
+
+        // Act
+        call(false);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(Duration.ofSeconds(10), breaker.remainingOpen());
+        assertEquals(1.0, registry.get("circuit.breaker.state").tag("name", "database").gauge().value());
+        assertEquals(1.0, registry.get("circuit.breaker.calls").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve calcular a taxa de falhas apenas com as últimas chamadas da janela")
+    void onFailure_OldCallsLeaveWindow_Opens() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        call(false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        // Act
+        call(false);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Deve fechar após as chamadas de teste terem sucesso e reabrir na primeira falha")
+    void halfOpen_TrialCalls_CloseOrReopen() {
+        // Arrange
+        call(false);
+        call(false);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Act & Assert
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire(), "Só as chamadas de teste passam com o circuito meio aberto");
+        breaker.onSuccess();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        call(true);
+        call(true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        call(false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(), "A janela recomeça vazia ao fechar");
+    }
+
+    @Test
+    @DisplayName("Deve devolver a vaga de teste de uma chamada ignorada, sem registrar resultado")
+    void onIgnored_HalfOpen_ReturnsPermit() {
+        // Arrange
+        call(false);
+        call(false);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+
+        // Act
+        breaker.onIgnored();
+
+        // Assert
+        assertTrue(breaker.tryAcquire(), "A vaga da chamada ignorada volta para as chamadas de teste");
+        assertFalse(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(2.0, registry.get("circuit.breaker.calls").tag("outcome", "failure").counter().count());
+        assertEquals(0.0, registry.get("circuit.breaker.calls").tag("outcome", "success").counter().count());
+    }
+
+    private void call(boolean success) {
+        assertTrue(breaker.tryAcquire());
+        if (success) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.stefanini.desafio.todolistapi.infrastructure.breaker;
+
+import com.stefanini.desafio.todolistapi.domain.service.TaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class DatabaseCircuitBreakerAspectTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CircuitBreaker breaker = new CircuitBreaker("database", 4, 2, 0.5, Duration.ofSeconds(10), 2,
+            now::get, registry);
+
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        // Limite zero: toda chamada que chega ao banco é lenta
+        DatabaseCircuitBreakerAspect aspect = new DatabaseCircuitBreakerAspect(breaker,
+                new StaleReadCache(100, now::get), true, Duration.ZERO, registry);
+        AspectJProxyFactory factory = new AspectJProxyFactory(mock(TaskService.class));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        taskService = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Não deve abrir o circuito por listagens BULK lentas e bem-sucedidas")
+    void guard_SlowBulkCalls_KeepCircuitClosed() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            taskService.findAllTasks();
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Deve abrir o circuito por chamadas interativas lentas")
+    void guard_SlowInteractiveCalls_OpenCircuit() {
+        // Act
+        taskService.findTaskById(UUID.randomUUID());
+        taskService.findTaskById(UUID.randomUUID());
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+}
@@ -0,0 +1,134 @@
+package com.stefanini.desafio.todolistapi.infrastructure.breaker;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaleReadCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final StaleReadCache cache = new StaleReadCache(10, now::get);
+
+    @Test
+    @DisplayName("Deve limitar os resultados pela soma das tarefas, descartando os lidos há mais tempo até sobrar folga")
+    void put_OverLimit_EvictsOldest() throws Exception {
+        // Arrange
+        StaleReadCache.Key oldest = key("findTaskById", UUID.randomUUID());
+        StaleReadCache.Key list = key("findAllTasks");
+        StaleReadCache.Key recent = key("findTaskById", UUID.randomUUID());
+        StaleReadCache.Key newest = key("findTaskById", UUID.randomUUID());
+        cache.put(oldest, task(UUID.randomUUID()));
+        now.addAndGet(1);
+        cache.put(list, tasks(8));
+        now.addAndGet(1);
+        cache.put(recent, task(UUID.randomUUID()));
+        now.addAndGet(1);
+        assertEquals(10, cache.weight());
+
+        // Act
+        cache.put(newest, task(UUID.randomUUID()));
+
+        // Assert
+        assertNull(cache.get(oldest));
+        assertNull(cache.get(list), "O descarte continua até a soma ficar em 90% do limite");
+        assertNotNull(cache.get(recent));
+        assertNotNull(cache.get(newest));
+        assertEquals(2, cache.weight());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar um resultado maior que o limite, descartando o anterior da mesma leitura")
+    void put_LargerThanLimit_NotStored() throws Exception {
+        // Arrange
+        StaleReadCache.Key list = key("findAllTasks");
+        cache.put(list, tasks(2));
+
+        // Act
+        cache.put(list, tasks(11));
+
+        // Assert
+        assertNull(cache.get(list));
+        assertEquals(0, cache.weight());
+    }
+
+    @Test
+    @DisplayName("Deve descartar as leituras que receberam o ID da tarefa alterada, inclusive em uma lista de IDs")
+    void onTaskChanged_RemovesReadsOfTask() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        StaleReadCache.Key byId = key("findTaskById", id);
+        StaleReadCache.Key other = key("findTaskById", UUID.randomUUID());
+        StaleReadCache.Key lookup = key("findTasksByIds", List.of(UUID.randomUUID(), id));
+        cache.put(byId, task(id));
+        cache.put(lookup, tasks(2));
+        cache.put(other, task(UUID.randomUUID()));
+        now.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        // Act
+        cache.onTaskChanged(TaskChangedEvent.deleted(id, TaskStatus.PENDENTE, LocalDateTime.now()));
+
+        // Assert
+        assertNull(cache.get(byId));
+        assertNull(cache.get(lookup));
+        assertEquals(Duration.ofSeconds(3), cache.age(cache.get(other)));
+        assertEquals(1, cache.weight());
+    }
+
+    @Test
+    @DisplayName("Deve descartar as listagens guardadas quando uma tarefa for alterada")
+    void onTaskChanged_RemovesListings() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        StaleReadCache.Key list = key("findAllTasks");
+        StaleReadCache.Key other = key("findTaskById", UUID.randomUUID());
+        cache.put(list, tasks(3));
+        cache.put(other, task(UUID.randomUUID()));
+
+        // Act
+        cache.onTaskChanged(TaskChangedEvent.deleted(id, TaskStatus.PENDENTE, LocalDateTime.now()));
+        cache.put(list, tasks(2));
+        cache.onTaskChanged(TaskChangedEvent.deleted(UUID.randomUUID(), TaskStatus.PENDENTE, LocalDateTime.now()));
+
+        // Assert
+        assertNull(cache.get(list));
+        assertNotNull(cache.get(other));
+        assertEquals(1, cache.weight());
+    }
+
+    private static StaleReadCache.Key key(String name, Object... args) throws NoSuchMethodException {
+        Method method = args.length == 0
+                ? Lookups.class.getDeclaredMethod(name)
+                : Lookups.class.getDeclaredMethod(name, args[0] instanceof List ? List.class : UUID.class);
+        return StaleReadCache.Key.of(method, args);
+    }
+
+    private static Task task(UUID id) {
+        return new Task(id, "Tarefa", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
+    }
+
+    private static List<Task> tasks(int count) {
+        return IntStream.range(0, count).mapToObj(i -> task(UUID.randomUUID())).toList();
+    }
+
+    /** Métodos usados apenas como chave das leituras. */
+    @SuppressWarnings("unused")
+    private interface Lookups {
+        Task findTaskById(UUID id);
+
+        List<Task> findAllTasks();
+
+        List<Task> findTasksByIds(List<UUID> ids);
+    }
+}
@@ -0,0 +1,99 @@
+package com.stefanini.desafio.todolistapi.infrastructure.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadBulkheadTest {
+
+    @Test
+    @DisplayName("Deve recusar a operação quando nenhuma vaga é liberada dentro da espera máxima")
+    void acquire_Full_RejectsAfterMaxWait() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WorkloadBulkhead bulkhead = new WorkloadBulkhead(Workload.BULK, WorkloadBulkhead.Origin.REQUEST, 1, Duration.ofMillis(20), registry);
+
+        bulkhead.acquire();
+        BulkheadFullException exception = assertThrows(BulkheadFullException.class, bulkhead::acquire);
+
+        assertEquals(Workload.BULK, exception.getWorkload());
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1, bulkhead.getActive());
+        assertEquals(1.0, registry.get("bulkhead.rejected").tag("workload", "bulk").tag("origin", "request").counter().count());
+        assertEquals(2, registry.get("bulkhead.wait").tag("workload", "bulk").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve manter a operação na fila até uma vaga ser liberada")
+    void acquire_Released_AdmitsWaitingOperation() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WorkloadBulkhead bulkhead = new WorkloadBulkhead(Workload.INTERACTIVE, WorkloadBulkhead.Origin.BACKGROUND, 1, Duration.ofSeconds(5), registry);
+        bulkhead.acquire();
+
+        CountDownLatch admitted = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread waiting = Thread.ofVirtual().start(() -> {
+            try {
+                bulkhead.acquire();
+                admitted.countDown();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        while (bulkhead.getQueueDepth() == 0 && waiting.isAlive()) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1.0, registry.get("bulkhead.queue.depth").tag("workload", "interactive").tag("origin", "background").gauge().value());
+
+        bulkhead.release();
+
+        assertTrue(admitted.await(5, TimeUnit.SECONDS));
+        assertNull(failure.get());
+        assertEquals(0, bulkhead.getQueueDepth());
+        assertEquals(1, bulkhead.getActive());
+    }
+
+    @Test
+    @DisplayName("Deve atender algumas listagens simultâneas com as vagas e a espera padrão da classe BULK")
+    void acquire_ConcurrentListings_AllAdmitted() throws InterruptedException {
+        // Arrange: api.bulkheads.bulk.max-concurrent=4 e max-wait=500ms
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WorkloadBulkhead bulkhead = new WorkloadBulkhead(Workload.BULK, WorkloadBulkhead.Origin.REQUEST, 4, Duration.ofMillis(500), registry);
+        int listings = 6;
+        CountDownLatch done = new CountDownLatch(listings);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // Act
+        for (int i = 0; i < listings; i++) {
+            Thread.ofVirtual().start(() -> {
+                try {
+                    bulkhead.acquire();
+                    try {
+                        admitted.incrementAndGet();
+                        Thread.sleep(50);
+                    } finally {
+                        bulkhead.release();
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNull(failure.get());
+        assertEquals(listings, admitted.get());
+        assertEquals(0.0, registry.get("bulkhead.rejected").tag("workload", "bulk").counter().count());
+    }
+}
@@ -0,0 +1,187 @@
+package com.stefanini.desafio.todolistapi.infrastructure.coalesce;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve executar uma única carga para chamadas concorrentes com a mesma chave")
+    void load_CoalescesConcurrentCalls() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = new SingleFlight<>("teste", Duration.ZERO, registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // Act
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> flight.load("chave", () -> {
+                loads.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "valor";
+            })));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> flight.load("chave", () -> {
+                    loads.incrementAndGet();
+                    return "outro";
+                })));
+            }
+            // Espera as demais chamadas se juntarem à carga em andamento antes de liberá-la
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced("in-flight") < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(coalesced("in-flight")).isEqualTo(callers - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve repassar a exceção da carga e não guardá-la para as chamadas seguintes")
+    void load_PropagatesFailure() {
+        // Arrange
+        SingleFlight<String, String> flight = new SingleFlight<>("teste", Duration.ofMinutes(1), registry);
+
+        // Act & Assert
+        assertThatThrownBy(() -> flight.load("chave", () -> {
+            throw new IllegalStateException("falhou");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("falhou");
+        assertThat(flight.load("chave", () -> "valor")).isEqualTo("valor");
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o resultado na janela de cache até a invalidação da chave")
+    void load_MicroCacheUntilInvalidated() {
+        // Arrange
+        SingleFlight<String, Integer> flight = new SingleFlight<>("teste", Duration.ofMinutes(1), registry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        int first = flight.load("chave", loads::incrementAndGet);
+        int cached = flight.load("chave", loads::incrementAndGet);
+        flight.invalidate("chave");
+        int afterInvalidation = flight.load("chave", loads::incrementAndGet);
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(cached).isEqualTo(1);
+        assertThat(afterInvalidation).isEqualTo(2);
+        assertThat(coalesced("micro-cache")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve deixar de entregar o resultado em cache ao fim da janela")
+    void load_MicroCacheExpires() {
+        // Arrange
+        AtomicLong now = new AtomicLong();
+        SingleFlight<String, Integer> flight = new SingleFlight<>("teste", Duration.ofSeconds(1), registry, now::get);
+        AtomicInteger loads = new AtomicInteger();
+        flight.load("chave", loads::incrementAndGet);
+
+        // Act
+        now.addAndGet(Duration.ofSeconds(1).toNanos() - 1);
+        Integer peeked = flight.peek("chave");
+        int cached = flight.load("chave", loads::incrementAndGet);
+        now.addAndGet(1);
+        Integer expired = flight.peek("chave");
+        int reloaded = flight.load("chave", loads::incrementAndGet);
+
+        // Assert
+        assertThat(peeked).isEqualTo(1);
+        assertThat(cached).isEqualTo(1);
+        assertThat(expired).isNull();
+        assertThat(reloaded).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar em cache o resultado de uma carga iniciada antes de uma invalidação")
+    void load_SkipsCacheWhenInvalidatedDuringLoad() {
+        // Arrange
+        SingleFlight<String, Integer> flight = new SingleFlight<>("teste", Duration.ofMinutes(1), registry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        flight.load("chave", () -> {
+            flight.invalidateAll();
+            return loads.incrementAndGet();
+        });
+        int next = flight.load("chave", loads::incrementAndGet);
+
+        // Assert
+        assertThat(next).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve entregar o resultado não compartilhável apenas a quem fez a carga, sem guardá-lo")
+    void load_UnshareableResultStaysWithLeader() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = new SingleFlight<>("teste", Duration.ofMinutes(1), registry);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<String> leader = executor.submit(() -> flight.load("chave", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "desatualizado";
+            }, () -> false));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> joiner = executor.submit(() -> flight.load("chave", () -> "atual"));
+            Thread.sleep(50);
+            release.countDown();
+
+            // Assert
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("desatualizado");
+            assertThat(joiner.get(5, TimeUnit.SECONDS)).isEqualTo("atual");
+            assertThat(flight.peek("chave")).isEqualTo("atual");
+            assertThat(coalesced("in-flight")).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double coalesced(String source) {
+        return registry.get("tasks.reads.coalesced").tag("source", source).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
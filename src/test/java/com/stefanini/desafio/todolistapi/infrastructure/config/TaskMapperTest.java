@@ -2,14 +2,18 @@ package com.stefanini.desafio.todolistapi.infrastructure.config;
 
 import com.stefanini.desafio.todolistapi.application.dto.TaskRequest;
 import com.stefanini.desafio.todolistapi.application.dto.TaskResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskSyncResponse;
 import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskChanges;
 import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.domain.model.TaskTombstone;
 import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,8 +34,8 @@ class TaskMapperTest {
         assertEquals("Título Teste", domain.title());
         assertEquals("Descrição Teste", domain.description());
         assertEquals(TaskStatus.PENDENTE, domain.status()); // Deve ter o valor default
-        assertNotNull(domain.creationDate()); // Deve ser gerado automaticamente
-        assertNotNull(domain.updateDate()); // Deve ser gerado automaticamente
+        assertNull(domain.creationDate()); // Atribuída pelo TaskService, com uma única leitura do relógio
+        assertNull(domain.updateDate());
     }
 
     @Test
@@ -89,4 +93,24 @@ class TaskMapperTest {
         assertEquals(now, entity.getUpdateDate());
         assertEquals(TaskStatus.CONCLUIDA, entity.getStatus());
     }
+
+    @Test
+    @DisplayName("Deve converter o resultado da sincronização para TaskSyncResponse corretamente")
+    void toResponse_FromChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        Task task = new Task(UUID.randomUUID(), "Título", "Desc", now, now, TaskStatus.PENDENTE);
+        TaskTombstone tombstone = new TaskTombstone(UUID.randomUUID(), now);
+        TaskChanges changes = new TaskChanges(List.of(task), List.of(tombstone), now, true, false, null);
+
+        TaskSyncResponse response = mapper.toResponse(changes);
+
+        assertNotNull(response);
+        assertEquals(1, response.tasks().size());
+        assertEquals(task.id(), response.tasks().getFirst().id());
+        assertEquals(tombstone.id(), response.deleted().getFirst().id());
+        assertEquals(now, response.deleted().getFirst().deletedDate());
+        assertEquals(now, response.watermark());
+        assertTrue(response.hasMore());
+        assertFalse(response.fullResync());
+    }
 }
@@ -0,0 +1,40 @@
+package com.stefanini.desafio.todolistapi.infrastructure.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Não deve produzir falsos negativos e deve respeitar a taxa de falsos positivos alvo")
+    void mightContain_NoFalseNegatives() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        List<UUID> inserted = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            inserted.add(id);
+            filter.put(id);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(inserted.stream().allMatch(filter::mightContain));
+        assertTrue(falsePositives < 2_000, "falsos positivos: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+        assertTrue(filter.memoryBytes() < 16 * 1024);
+    }
+}
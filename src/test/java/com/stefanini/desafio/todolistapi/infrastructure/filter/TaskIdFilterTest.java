@@ -0,0 +1,203 @@
+package com.stefanini.desafio.todolistapi.infrastructure.filter;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskArchiveRepository;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRepository;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class TaskIdFilterTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-01-01T10:00:00Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    private MeterRegistry meterRegistry;
+    private TaskIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(meterRegistry);
+        filter = new TaskIdFilter(taskRepository, taskArchiveRepository, new TransactionTemplate(transactionManager), provider, Shards.single(), clock, true, 1_000, 0.01,
+                1_000, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar qualquer ID enquanto o filtro não foi montado")
+    void mightContain_BeforeFirstBuild() {
+        assertTrue(filter.mightContain(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Deve descartar IDs desconhecidos após montar o filtro com as tarefas ativas e arquivadas")
+    void rebuild_RejectsUnknownIds() {
+        // Arrange
+        UUID active = UUID.randomUUID();
+        UUID archived = UUID.randomUUID();
+        when(taskRepository.countByDeletedDateIsNull()).thenReturn(1L);
+        when(taskArchiveRepository.count()).thenReturn(1L);
+        when(taskRepository.streamActiveIds()).thenReturn(Stream.of(active));
+        when(taskArchiveRepository.streamIds()).thenReturn(Stream.of(archived));
+
+        // Act
+        filter.rebuild();
+
+        // Assert
+        assertTrue(filter.mightContain(active));
+        assertTrue(filter.mightContain(archived));
+        assertFalse(filter.mightContain(UUID.randomUUID()));
+        assertEquals(1.0, meterRegistry.counter("tasks.id.filter.rejections").count());
+        assertTrue(meterRegistry.get("tasks.id.filter.memory").gauge().value() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve incluir no filtro as tarefas criadas após a montagem")
+    void onTaskChanged_AddsCreatedTask() {
+        // Arrange
+        when(taskRepository.streamActiveIds()).thenReturn(Stream.empty());
+        when(taskArchiveRepository.streamIds()).thenReturn(Stream.empty());
+        filter.rebuild();
+        UUID id = UUID.randomUUID();
+
+        // Act
+        filter.onTaskChanged(TaskChangedEvent.created(
+                new Task(id, "Nova", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE), LocalDateTime.now()));
+
+        // Assert
+        assertTrue(filter.mightContain(id));
+    }
+
+    @Test
+    @DisplayName("Não deve contar como falso positivo o ID de uma tarefa excluída após a montagem")
+    void recordFalsePositive_IgnoresDeletedTasks() {
+        // Arrange
+        UUID deleted = UUID.randomUUID();
+        when(taskRepository.streamActiveIds()).thenReturn(Stream.of(deleted));
+        when(taskArchiveRepository.streamIds()).thenReturn(Stream.empty());
+        filter.rebuild();
+        filter.onTaskChanged(TaskChangedEvent.deleted(deleted, TaskStatus.PENDENTE, LocalDateTime.now()));
+
+        // Act
+        filter.recordFalsePositive(deleted);
+        filter.recordFalsePositive(UUID.randomUUID());
+
+        // Assert
+        assertEquals(1.0, meterRegistry.counter("tasks.id.filter.false.positives").count());
+    }
+
+    @Test
+    @DisplayName("Deve manter o filtro anterior quando a reconstrução falhar")
+    void rebuild_FailureKeepsPreviousFilter() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(taskRepository.streamActiveIds()).thenReturn(Stream.of(id)).thenThrow(new IllegalStateException("banco indisponível"));
+        when(taskArchiveRepository.streamIds()).thenReturn(Stream.empty());
+        filter.rebuild();
+
+        // Act
+        filter.rebuild();
+
+        // Assert
+        assertTrue(filter.mightContain(id));
+        assertFalse(filter.mightContain(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Deve incluir na atualização incremental os IDs criados por outras réplicas desde a montagem")
+    void catchUp_AddsTasksFromOtherReplicas() {
+        // Arrange
+        when(taskRepository.streamActiveIds()).thenReturn(Stream.empty());
+        when(taskArchiveRepository.streamIds()).thenReturn(Stream.empty());
+        filter.rebuild();
+        UUID remote = UUID.randomUUID();
+        when(taskRepository.findIdsChangedAfter(LocalDateTime.of(2025, 1, 1, 9, 59, 55))).thenReturn(List.of(remote));
+
+        // Act
+        filter.catchUp();
+
+        // Assert
+        assertTrue(filter.mightContain(remote));
+        assertFalse(filter.mightContain(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Deve enviar ao banco as consultas de IDs fora do filtro quando a atualização incremental atrasar")
+    void mightContain_LaggingCatchUp() {
+        // Arrange
+        when(taskRepository.streamActiveIds()).thenReturn(Stream.empty());
+        when(taskArchiveRepository.streamIds()).thenReturn(Stream.empty());
+        filter.rebuild();
+        when(taskRepository.findIdsChangedAfter(any())).thenThrow(new IllegalStateException("banco indisponível"));
+        UUID unknown = UUID.randomUUID();
+
+        // Act
+        now.set(now.get().plusSeconds(3));
+        filter.catchUp();
+        boolean withinLag = filter.mightContain(unknown);
+        now.set(now.get().plusMillis(1));
+        boolean lagging = filter.mightContain(unknown);
+
+        // Assert
+        assertFalse(withinLag);
+        assertTrue(lagging);
+    }
+}
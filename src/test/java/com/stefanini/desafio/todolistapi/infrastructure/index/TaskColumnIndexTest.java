@@ -0,0 +1,134 @@
+package com.stefanini.desafio.todolistapi.infrastructure.index;
+
+import com.stefanini.desafio.todolistapi.domain.event.TaskChangedEvent;
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskFilter;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskColumnRow;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRepository;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class TaskColumnIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private TaskColumnIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(meterRegistry);
+        index = new TaskColumnIndex(taskRepository, new TransactionTemplate(transactionManager), provider, Shards.single(), true);
+    }
+
+    @Test
+    @DisplayName("Deve recusar consultas enquanto o índice não foi montado")
+    void count_BeforeFirstBuild() {
+        assertFalse(index.isReady());
+        assertThrows(IllegalStateException.class, () -> index.count(new TaskFilter(null, null, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("Deve contar as tarefas por status e faixa de criação após a montagem")
+    void count_ByStatusAndCreationRange() {
+        // Arrange
+        when(taskRepository.streamActiveColumns()).thenReturn(Stream.of(
+                row(TaskStatus.PENDENTE, BASE),
+                row(TaskStatus.PENDENTE, BASE.plusDays(1)),
+                row(TaskStatus.CONCLUIDA, BASE.plusDays(1)),
+                row(TaskStatus.PENDENTE, BASE.plusDays(2))));
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertTrue(index.isReady());
+        assertEquals(4, index.count(new TaskFilter(null, null, null, null, null)));
+        assertEquals(3, index.count(new TaskFilter(TaskStatus.PENDENTE, null, null, null, null)));
+        assertEquals(2, index.count(new TaskFilter(null, BASE.plusDays(1), BASE.plusDays(2), null, null)));
+        assertEquals(1, index.count(new TaskFilter(TaskStatus.PENDENTE, BASE.plusDays(1), BASE.plusDays(2), null, null)));
+        assertEquals(4.0, meterRegistry.get("tasks.column.index.rows").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve listar os IDs em ordem de criação respeitando o limite")
+    void findIds_SortedByCreation() {
+        // Arrange
+        TaskColumnRow third = row(TaskStatus.PENDENTE, BASE.plusHours(3));
+        TaskColumnRow first = row(TaskStatus.PENDENTE, BASE.plusHours(1));
+        TaskColumnRow second = row(TaskStatus.PENDENTE, BASE.plusHours(2));
+        TaskColumnRow done = row(TaskStatus.CONCLUIDA, BASE);
+        when(taskRepository.streamActiveColumns()).thenReturn(Stream.of(third, first, done, second));
+        index.rebuild();
+
+        // Act
+        List<UUID> ids = index.findIds(new TaskFilter(TaskStatus.PENDENTE, null, null, null, null), 2);
+
+        // Assert
+        assertEquals(List.of(first.id(), second.id()), ids);
+    }
+
+    @Test
+    @DisplayName("Deve acompanhar criações, alterações e exclusões após a montagem")
+    void onTaskChanged_UpdatesColumns() {
+        // Arrange
+        TaskColumnRow existing = row(TaskStatus.PENDENTE, BASE);
+        when(taskRepository.streamActiveColumns()).thenReturn(Stream.of(existing));
+        index.rebuild();
+        UUID created = UUID.randomUUID();
+        TaskFilter done = new TaskFilter(TaskStatus.CONCLUIDA, null, null, null, null);
+
+        // Act
+        index.onTaskChanged(TaskChangedEvent.created(new Task(created, "Nova", null, BASE, BASE, TaskStatus.PENDENTE), BASE));
+        index.onTaskChanged(TaskChangedEvent.updated(new Task(existing.id(), "Feita", null, BASE, BASE.plusDays(1), TaskStatus.CONCLUIDA), BASE.plusDays(1)));
+
+        // Assert
+        assertEquals(2, index.count(new TaskFilter(null, null, null, null, null)));
+        assertEquals(List.of(existing.id()), index.findIds(done, 10));
+        assertEquals(1, index.count(new TaskFilter(null, null, null, BASE.plusDays(1), null)));
+
+        index.onTaskChanged(TaskChangedEvent.deleted(existing.id(), TaskStatus.CONCLUIDA, BASE.plusDays(1)));
+        assertEquals(0, index.count(done));
+        assertEquals(List.of(created), index.findIds(new TaskFilter(null, null, null, null, null), 10));
+    }
+
+    private static TaskColumnRow row(TaskStatus status, LocalDateTime creationDate) {
+        return new TaskColumnRow(UUID.randomUUID(), status, creationDate, creationDate);
+    }
+}
@@ -0,0 +1,94 @@
+package com.stefanini.desafio.todolistapi.infrastructure.jfr;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.domain.service.TaskService;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class FlightRecordingServiceTest {
+
+    private FlightRecordingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FlightRecordingService(true, 1, Duration.ofMinutes(1), Duration.ofMinutes(5), DataSize.ofMegabytes(16));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("Deve gravar os eventos das operações do TaskService e entregar o arquivo .jfr")
+    void dump_ContainsTaskOperationEvents() throws IOException {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskService target = mock(TaskService.class);
+        when(target.findTaskById(id)).thenReturn(new Task(id, "Tarefa", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE));
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new FlightRecorderEventAspect());
+        TaskService taskService = factory.getProxy();
+        Recording recording = service.start(FlightRecordingSettings.DEFAULT, Duration.ofHours(1));
+
+        // Act
+        taskService.findTaskById(id);
+        service.stop(recording.getId());
+        Path file = service.dump(recording.getId());
+
+        // Assert
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("todolist.TaskOperation"))
+                    .toList();
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.getString("operation")).isEqualTo("findTaskById");
+                assertThat(event.getString("taskId")).isEqualTo(id.toString());
+                assertThat(event.getLong("rows")).isEqualTo(1);
+                assertThat(event.getBoolean("success")).isTrue();
+            });
+            assertThat(recording.getState()).isEqualTo(RecordingState.STOPPED);
+            assertThat(recording.getDuration()).isEqualTo(Duration.ofMinutes(5)); // limitada a max-duration
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar gravações acima do limite e liberar a vaga ao excluir")
+    void start_LimitReached() {
+        // Arrange
+        Recording recording = service.start(FlightRecordingSettings.DEFAULT, null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.start(FlightRecordingSettings.PROFILE, null))
+                .isInstanceOf(FlightRecordingUnavailableException.class);
+        service.delete(recording.getId());
+        assertThatThrownBy(() -> service.find(recording.getId())).isInstanceOf(FlightRecordingNotFoundException.class);
+        assertThat(service.start(FlightRecordingSettings.PROFILE, null).getState()).isEqualTo(RecordingState.RUNNING);
+    }
+}
@@ -0,0 +1,97 @@
+package com.stefanini.desafio.todolistapi.infrastructure.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.stefanini.desafio.todolistapi.application.dto.ApiResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskResponse;
+import com.stefanini.desafio.todolistapi.application.dto.TaskSyncResponse;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskJsonSerializersTest {
+
+    private final ObjectMapper reflective = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("Deve gerar o mesmo JSON do Jackson padrão para listas e para o envelope ApiResponse")
+    void serialize_SameOutputAsReflective() throws Exception {
+        // Arrange
+        ObjectMapper optimized = mapper(LocalDateTimeJsonSerializer.Mode.ISO);
+        Random random = new Random(42);
+        List<TaskResponse> tasks = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime date = LocalDateTime.of(1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    i % 4 == 0 ? 0 : random.nextInt(1_000_000_000));
+            tasks.add(new TaskResponse(UUID.randomUUID(), "Tarefa \"" + i + "\" ç", i % 2 == 0 ? null : "Descrição",
+                    date, date.plusNanos(500_000_000), TaskStatus.values()[i % 3], i % 3 == 0 ? date : null, null, null));
+        }
+        ApiResponse<TaskResponse> envelope = new ApiResponse<>("Tarefa criada", tasks.get(1));
+        ApiResponse<Object> empty = new ApiResponse<>("Sem conteúdo");
+        TypeReference<List<TaskResponse>> listType = new TypeReference<>() {
+        };
+
+        // Act
+        String list = optimized.writerFor(listType).writeValueAsString(tasks);
+        String single = optimized.writeValueAsString(envelope);
+
+        // Assert
+        assertThat(list).isEqualTo(reflective.writerFor(listType).writeValueAsString(tasks));
+        assertThat(single).isEqualTo(reflective.writeValueAsString(envelope));
+        assertThat(optimized.writeValueAsString(empty)).isEqualTo(reflective.writeValueAsString(empty));
+    }
+
+    @Test
+    @DisplayName("Deve escrever as datas como milissegundos desde a época no modo EPOCH_MILLIS")
+    void serialize_EpochMillis() throws Exception {
+        // Arrange
+        ObjectMapper optimized = mapper(LocalDateTimeJsonSerializer.Mode.EPOCH_MILLIS);
+        LocalDateTime date = LocalDateTime.of(2025, 1, 1, 0, 0, 0, 250_000_000);
+        TaskResponse task = new TaskResponse(UUID.randomUUID(), "Tarefa", null, date, date, TaskStatus.PENDENTE);
+
+        // Act
+        String json = optimized.writeValueAsString(task);
+
+        // Assert
+        assertThat(json).contains("\"creationDate\":1735689600250", "\"dueDate\":null");
+    }
+
+    @Test
+    @DisplayName("Deve manter a marca d'água da sincronização em ISO-8601 no modo EPOCH_MILLIS")
+    void serialize_EpochMillis_WatermarkStaysIso() throws Exception {
+        // Arrange
+        ObjectMapper optimized = mapper(LocalDateTimeJsonSerializer.Mode.EPOCH_MILLIS);
+        LocalDateTime watermark = LocalDateTime.of(2025, 1, 1, 0, 0, 0, 250_000_001);
+        TaskSyncResponse response = new TaskSyncResponse(List.of(), List.of(), watermark, false, false, null);
+
+        // Act
+        String json = optimized.writeValueAsString(response);
+
+        // Assert
+        assertThat(json).contains("\"watermark\":\"2025-01-01T00:00:00.250000001\"");
+    }
+
+    private static ObjectMapper mapper(LocalDateTimeJsonSerializer.Mode mode) {
+        LocalDateTimeJsonSerializer timestamps = new LocalDateTimeJsonSerializer(mode, ZoneOffset.UTC);
+        SimpleModule module = new SimpleModule()
+                .addSerializer(timestamps)
+                .addSerializer(new TaskResponseJsonSerializer(timestamps))
+                .addSerializer(new ApiResponseJsonSerializer(timestamps));
+        return new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(module)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,229 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.memory;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskDeadline;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.repository.TaskRank;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Limit;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryTaskStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private MemoryTaskStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recuperar inclusões, alterações e exclusões a partir do log após reabrir")
+    void reopen_RecoversFromLog() throws IOException {
+        // Arrange
+        store = open();
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity kept = store.save(new TaskEntity(null, "Mantida", "Descrição", now, now, TaskStatus.PENDENTE));
+        TaskEntity removed = store.save(new TaskEntity(null, "Removida", "Descrição", now, now, TaskStatus.PENDENTE));
+        kept.setStatus(TaskStatus.CONCLUIDA);
+        kept.setUpdateDate(now.plusSeconds(1));
+        store.save(kept);
+        store.deleteAllByIdIn(List.of(removed.getId()));
+
+        // Act
+        store.close();
+        store = open();
+
+        // Assert
+        assertThat(store.findByIdAndDeletedDateIsNull(kept.getId()))
+                .hasValueSatisfying(task -> assertThat(task.getStatus()).isEqualTo(TaskStatus.CONCLUIDA));
+        assertThat(store.findByIdAndDeletedDateIsNull(removed.getId())).isEmpty();
+        assertThat(store.countByDeletedDateIsNull()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o snapshot e reaplicar apenas o log gravado depois dele")
+    void snapshot_ThenReopen() throws IOException {
+        // Arrange
+        store = open();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 50; i++) {
+            store.save(new TaskEntity(null, "Tarefa " + i, "Descrição", now.plusSeconds(i), now, TaskStatus.PENDENTE));
+        }
+        store.snapshot();
+        TaskEntity afterSnapshot = store.save(new TaskEntity(null, "Depois do snapshot", null, now.plusMinutes(5), now, TaskStatus.PENDENTE));
+
+        // Act
+        store.close();
+        store = open();
+
+        // Assert
+        assertThat(Files.exists(directory.resolve(TaskSnapshot.FILE))).isTrue();
+        assertThat(walFiles()).hasSize(2); // o segmento posterior ao snapshot e o aberto nesta execução
+        assertThat(store.countByDeletedDateIsNull()).isEqualTo(51);
+        assertThat(store.findByIdAndDeletedDateIsNull(afterSnapshot.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve descartar um registro incompleto no fim do log e continuar gravando")
+    void reopen_TruncatesTornTail() throws IOException {
+        // Arrange
+        store = open();
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity task = store.save(new TaskEntity(null, "Íntegra", "Descrição", now, now, TaskStatus.PENDENTE));
+        store.close();
+        Path segment = walFiles().getLast();
+        Files.write(segment, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // Act
+        store = open();
+        TaskEntity next = store.save(new TaskEntity(null, "Nova", null, now, now, TaskStatus.PENDENTE));
+        store.close();
+        store = open();
+
+        // Assert
+        assertThat(store.findByIdAndDeletedDateIsNull(task.getId())).isPresent();
+        assertThat(store.findByIdAndDeletedDateIsNull(next.getId())).isPresent();
+        assertThat(store.countByDeletedDateIsNull()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve paginar em ordem de criação mantendo a tarefa alterada no índice")
+    void findActiveTaskPageAfter_Success() throws IOException {
+        // Arrange
+        store = open();
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<TaskEntity> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(store.save(new TaskEntity(null, "Tarefa " + i, null, base.plusSeconds(i), base, TaskStatus.PENDENTE)));
+        }
+        TaskEntity updated = saved.get(1);
+        updated.setTitle("Alterada");
+        store.save(updated);
+
+        // Act
+        List<Task> first = store.findActiveTaskPage(Limit.of(2));
+        List<Task> second = store.findActiveTaskPageAfter(first.getLast().creationDate(), first.getLast().id(), Limit.of(10));
+
+        // Assert
+        assertThat(first).extracting(Task::title).containsExactly("Tarefa 0", "Alterada");
+        assertThat(second).extracting(Task::title).containsExactly("Tarefa 2", "Tarefa 3", "Tarefa 4");
+    }
+
+    @Test
+    @DisplayName("Deve listar alterações e tombstones na janela de sincronização e expurgar tombstones antigos")
+    void findChangedBetween_IncludesTombstones() throws IOException {
+        // Arrange
+        store = open();
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        TaskEntity active = store.save(new TaskEntity(null, "Ativa", "Descrição longa", base, base.plusMinutes(1), TaskStatus.PENDENTE));
+        TaskEntity deleted = store.save(new TaskEntity(null, "Excluída", null, base, base.plusMinutes(2), TaskStatus.PENDENTE));
+        deleted.setDeletedDate(base.plusMinutes(2));
+        store.save(deleted);
+        store.save(new TaskEntity(null, "Fora da janela", null, base, base.plusMinutes(30), TaskStatus.PENDENTE));
+
+        // Act
+        List<TaskEntity> changes = store.findChangedBetween(base, base.plusMinutes(10), Limit.of(10));
+        int purged = store.purgeTombstonesDeletedBefore(base.plusMinutes(5));
+
+        // Assert
+        assertThat(changes).extracting(TaskEntity::getId).containsExactly(active.getId(), deleted.getId());
+        assertThat(store.findActiveTasks()).extracting(Task::id).doesNotContain(deleted.getId());
+        assertThat(store.findAllActiveProjected(EnumSet.of(TaskField.TITLE)))
+                .allSatisfy(task -> assertThat(task.getDescription()).isNull())
+                .hasSize(2);
+        assertThat(purged).isEqualTo(1);
+        assertThat(store.findByUpdateDate(base.plusMinutes(2))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve devolver um prazo já marcado como atrasado, nem depois de reabrir")
+    void markOverdue_SurvivesReopen() throws IOException {
+        // Arrange
+        store = open();
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity task = new TaskEntity(null, "Com prazo", null, now, now, TaskStatus.PENDENTE);
+        task.setDueDate(now.minusMinutes(1));
+        task = store.save(task);
+        List<TaskDeadline> pending = store.findPendingDueDates(now.minusDays(1), null, now, Limit.of(10));
+
+        // Act
+        List<UUID> marked = store.markOverdue(pending, now);
+        store.close();
+        store = open();
+
+        // Assert
+        assertThat(pending).containsExactly(new TaskDeadline(task.getId(), now.minusMinutes(1)));
+        assertThat(marked).containsExactly(task.getId());
+        assertThat(store.findPendingDueDates(now.minusDays(1), null, now, Limit.of(10))).isEmpty();
+        assertThat(store.markOverdue(pending, now)).isEmpty();
+        assertThat(store.findByIdAndDeletedDateIsNull(task.getId()))
+                .hasValueSatisfying(reopened -> assertThat(reopened.getOverdueDate()).isEqualTo(now));
+    }
+
+    @Test
+    @DisplayName("Deve paginar pela chave de ordenação e manter as chaves ao reabrir")
+    void rankedPage_SurvivesReopen() throws IOException {
+        // Arrange
+        store = open();
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (String rankKey : List.of("a2", "a0", "a1")) {
+            TaskEntity task = new TaskEntity(null, "Tarefa " + rankKey, null, now, now, TaskStatus.PENDENTE);
+            task.setRankKey(rankKey);
+            tasks.add(store.save(task));
+        }
+        store.save(new TaskEntity(null, "Sem chave", null, now, now, TaskStatus.PENDENTE));
+
+        // Act
+        store.close();
+        store = open();
+        List<TaskEntity> firstPage = store.findRankedPage(Limit.of(2));
+        TaskEntity last = firstPage.getLast();
+        List<TaskEntity> secondPage = store.findRankedPageAfter(last.getRankKey(), last.getId(), Limit.of(2));
+        int stale = store.updateRankKey(tasks.get(0).getId(), "a9", "a05");
+        int moved = store.updateRankKey(tasks.get(0).getId(), "a2", "a05");
+
+        // Assert
+        assertThat(firstPage).extracting(TaskEntity::getRankKey).containsExactly("a0", "a1");
+        assertThat(secondPage).extracting(TaskEntity::getRankKey).containsExactly("a2");
+        assertThat(stale).isZero();
+        assertThat(moved).isEqualTo(1);
+        assertThat(store.findRanksAfter("a0", Limit.of(10))).extracting(TaskRank::rankKey).containsExactly("a05", "a1");
+        assertThat(store.findRanksBefore("a1", Limit.of(10))).extracting(TaskRank::rankKey).containsExactly("a05", "a0");
+        assertThat(store.findLastRanks(Limit.of(1))).extracting(TaskRank::taskId).containsExactly(tasks.get(2).getId());
+    }
+
+    private MemoryTaskStore open() throws IOException {
+        return new MemoryTaskStore(directory.toString(), false, 1024, DataSize.ofMegabytes(64));
+    }
+
+    private List<Path> walFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".wal")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
+
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskArchiveEntity;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class TaskArchiveRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Test
+    @DisplayName("Deve selecionar apenas tarefas concluídas antes do corte para arquivamento")
+    void findArchivable_OnlyOldCompleted() {
+        // Arrange
+        LocalDateTime old = LocalDateTime.now().minusDays(120);
+        TaskEntity oldDone = entityManager.persist(new TaskEntity(null, "Antiga", null, old, old, TaskStatus.CONCLUIDA));
+        entityManager.persist(new TaskEntity(null, "Antiga pendente", null, old, old, TaskStatus.PENDENTE));
+        entityManager.persist(new TaskEntity(null, "Recente", null, LocalDateTime.now(), LocalDateTime.now(), TaskStatus.CONCLUIDA));
+        entityManager.flush();
+
+        // Act
+        List<TaskEntity> result = taskRepository.findArchivable(TaskStatus.CONCLUIDA, LocalDateTime.now().minusDays(90), Limit.of(10));
+
+        // Assert
+        assertThat(result).extracting(TaskEntity::getId).containsExactly(oldDone.getId());
+    }
+
+    @Test
+    @DisplayName("Deve mover tarefas para o arquivo e restaurá-las para a tabela ativa")
+    void copyFromTasks_AndBack() {
+        // Arrange
+        LocalDateTime old = LocalDateTime.now().minusDays(120);
+        UUID id = entityManager.persistAndFlush(new TaskEntity(null, "Arquivar", "Desc", old, old, TaskStatus.CONCLUIDA)).getId();
+        entityManager.clear();
+
+        // Act - arquivamento
+        int copied = taskArchiveRepository.copyFromTasks(List.of(id), LocalDateTime.now());
+        int removed = taskRepository.deleteAllByIdIn(List.of(id));
+
+        // Assert
+        assertThat(copied).isEqualTo(1);
+        assertThat(removed).isEqualTo(1);
+        assertThat(taskRepository.findById(id)).isEmpty();
+        TaskArchiveEntity archived = taskArchiveRepository.findById(id).orElseThrow();
+        assertThat(archived.getTitle()).isEqualTo("Arquivar");
+        assertThat(archived.getArchivedDate()).isNotNull();
+
+        // Act - restauração
+        int restored = taskArchiveRepository.copyBackToTasks(id);
+
+        // Assert
+        assertThat(restored).isEqualTo(1);
+        assertThat(taskRepository.findByIdAndDeletedDateIsNull(id)).isPresent();
+        assertThat(taskArchiveRepository.copyBackToTasks(UUID.randomUUID())).isZero();
+    }
+}
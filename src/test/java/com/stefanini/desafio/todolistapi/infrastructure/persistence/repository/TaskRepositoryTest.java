@@ -1,17 +1,23 @@
 package com.stefanini.desafio.todolistapi.infrastructure.persistence.repository;
 
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskField;
 import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
 import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import org.hibernate.Session;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -39,6 +45,25 @@ class TaskRepositoryTest {
         assertThat(savedTask.getTitle()).isEqualTo("Tarefa Teste");
     }
 
+    @Test
+    @DisplayName("Deve inserir com persist, sem merge, a tarefa com ID atribuído pela aplicação")
+    void save_AssignedId_Persists() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskEntity task = new TaskEntity(id, "Com ID", "Desc", LocalDateTime.now(), LocalDateTime.now(), TaskStatus.PENDENTE);
+
+        // Act
+        TaskEntity savedTask = taskRepository.save(task);
+
+        // Assert - o merge devolveria uma cópia gerenciada, carregada por um SELECT
+        assertThat(savedTask).isSameAs(task);
+        assertThat(savedTask.isNew()).isFalse();
+        entityManager.flush();
+        entityManager.clear();
+        TaskEntity found = taskRepository.findById(id).orElseThrow();
+        assertThat(found.isNew()).isFalse();
+    }
+
     @Test
     @DisplayName("Deve buscar tarefa por ID com sucesso")
     void findById_Success() {
@@ -100,4 +125,282 @@ class TaskRepositoryTest {
         TaskEntity deletedTask = entityManager.find(TaskEntity.class, persistedTask.getId());
         assertThat(deletedTask).isNull();
     }
+
+    @Test
+    @DisplayName("Deve ignorar tombstones nas buscas de tarefas ativas")
+    void findActive_IgnoresTombstones() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity active = entityManager.persist(new TaskEntity(null, "Ativa", "Desc", now, now, TaskStatus.PENDENTE));
+        TaskEntity deleted = entityManager.persist(new TaskEntity(null, "Excluída", "Desc", now, now, TaskStatus.PENDENTE, now));
+        entityManager.flush();
+
+        // Act & Assert
+        assertThat(taskRepository.findActiveTasks()).extracting(Task::title).containsExactly("Ativa");
+        assertThat(taskRepository.findByIdAndDeletedDateIsNull(active.getId())).isPresent();
+        assertThat(taskRepository.findByIdAndDeletedDateIsNull(deleted.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve projetar as tarefas ativas direto no objeto de domínio, sem entidades gerenciadas")
+    void findActiveTasks_ProjectsDomainTasks() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        TaskEntity first = new TaskEntity(null, "Primeira", "Desc", base, base, TaskStatus.PENDENTE);
+        first.setDueDate(base.plusDays(1));
+        entityManager.persist(first);
+        TaskEntity second = entityManager.persist(new TaskEntity(null, "Segunda", null, base.plusMinutes(1), base, TaskStatus.CONCLUIDA));
+        TaskEntity deleted = entityManager.persist(new TaskEntity(null, "Excluída", "Desc", base, base, TaskStatus.PENDENTE, base));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<Task> all = taskRepository.findActiveTasks();
+        List<Task> page = taskRepository.findActiveTaskPageAfter(first.getCreationDate(), first.getId(), Limit.of(10));
+
+        // Assert
+        assertThat(all).containsExactlyInAnyOrder(
+                new Task(first.getId(), "Primeira", "Desc", base, base, TaskStatus.PENDENTE, base.plusDays(1), null, null),
+                new Task(second.getId(), "Segunda", null, base.plusMinutes(1), base, TaskStatus.CONCLUIDA));
+        assertThat(page).extracting(Task::id).containsExactly(second.getId());
+        assertThat(taskRepository.findActiveTaskById(deleted.getId())).isEmpty();
+        assertThat(taskRepository.findActiveTasksByIdIn(List.of(first.getId(), deleted.getId())))
+                .extracting(Task::id).containsExactly(first.getId());
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve listar alterações na janela de sincronização, incluindo tombstones, em ordem de alteração")
+    void findChangedBetween_ReturnsOrderedWindow() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        entityManager.persist(new TaskEntity(null, "Antiga", "Desc", base, base, TaskStatus.PENDENTE));
+        entityManager.persist(new TaskEntity(null, "Excluída", "Desc", base, base.plusMinutes(2), TaskStatus.PENDENTE, base.plusMinutes(2)));
+        entityManager.persist(new TaskEntity(null, "Alterada", "Desc", base, base.plusMinutes(1), TaskStatus.CONCLUIDA));
+        entityManager.persist(new TaskEntity(null, "Futura", "Desc", base, base.plusMinutes(10), TaskStatus.PENDENTE));
+        entityManager.flush();
+
+        // Act
+        List<TaskEntity> changes = taskRepository.findChangedBetween(base, base.plusMinutes(5), Limit.of(10));
+
+        // Assert
+        assertThat(changes).extracting(TaskEntity::getTitle).containsExactly("Alterada", "Excluída");
+    }
+
+    @Test
+    @DisplayName("Deve expurgar apenas tombstones anteriores ao limite")
+    void purgeTombstonesDeletedBefore_RemovesOnlyExpired() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(new TaskEntity(null, "Expirada", "Desc", now, now, TaskStatus.PENDENTE, now.minusDays(40)));
+        entityManager.persist(new TaskEntity(null, "Recente", "Desc", now, now, TaskStatus.PENDENTE, now.minusDays(1)));
+        entityManager.persist(new TaskEntity(null, "Ativa", "Desc", now, now, TaskStatus.PENDENTE));
+        entityManager.flush();
+
+        // Act
+        int purged = taskRepository.purgeTombstonesDeletedBefore(now.minusDays(30));
+
+        // Assert
+        assertThat(purged).isEqualTo(1);
+        assertThat(taskRepository.findAll()).extracting(TaskEntity::getTitle).containsExactlyInAnyOrder("Recente", "Ativa");
+    }
+
+    @Test
+    @DisplayName("Deve ler apenas as colunas dos campos solicitados na projeção dinâmica")
+    void findAllActiveProjected_ReadsOnlySelectedColumns() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity active = entityManager.persist(new TaskEntity(null, "Projetada", "Descrição longa", now, now, TaskStatus.EM_ANDAMENTO));
+        entityManager.persist(new TaskEntity(null, "Excluída", "Desc", now, now, TaskStatus.PENDENTE, now));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<TaskEntity> projected = taskRepository.findAllActiveProjected(EnumSet.of(TaskField.TITLE, TaskField.STATUS));
+
+        // Assert
+        assertThat(projected).hasSize(1);
+        TaskEntity partial = projected.getFirst();
+        assertThat(partial.getId()).isEqualTo(active.getId());
+        assertThat(partial.getTitle()).isEqualTo("Projetada");
+        assertThat(partial.getStatus()).isEqualTo(TaskStatus.EM_ANDAMENTO);
+        assertThat(partial.getDescription()).isNull();
+        assertThat(partial.getCreationDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve buscar tarefa por ID com projeção dinâmica")
+    void findActiveProjectedById_Success() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity active = entityManager.persistFlushFind(new TaskEntity(null, "Por ID", "Desc", now, now, TaskStatus.PENDENTE));
+
+        // Act
+        Optional<TaskEntity> projected = taskRepository.findActiveProjectedById(active.getId(), EnumSet.of(TaskField.DESCRIPTION));
+
+        // Assert
+        assertThat(projected).isPresent();
+        assertThat(projected.get().getDescription()).isEqualTo("Desc");
+        assertThat(projected.get().getTitle()).isNull();
+        assertThat(taskRepository.findActiveProjectedById(UUID.randomUUID(), EnumSet.of(TaskField.TITLE))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve paginar as tarefas ativas por creationDate e ID a partir da última tarefa entregue")
+    void findActiveTaskPageAfter_Success() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        TaskEntity first = entityManager.persist(new TaskEntity(null, "Primeira", "Desc", base, base, TaskStatus.PENDENTE));
+        TaskEntity second = entityManager.persist(new TaskEntity(null, "Segunda", "Desc", base.plusMinutes(1), base, TaskStatus.PENDENTE));
+        TaskEntity third = entityManager.persist(new TaskEntity(null, "Terceira", "Desc", base.plusMinutes(2), base, TaskStatus.PENDENTE));
+        TaskEntity deleted = new TaskEntity(null, "Excluída", "Desc", base.plusMinutes(3), base, TaskStatus.PENDENTE);
+        deleted.setDeletedDate(base);
+        entityManager.persist(deleted);
+        entityManager.flush();
+
+        // Act
+        List<Task> firstPage = taskRepository.findActiveTaskPage(Limit.of(2));
+        List<Task> nextPage = taskRepository.findActiveTaskPageAfter(second.getCreationDate(), second.getId(), Limit.of(2));
+
+        // Assert
+        assertThat(firstPage).extracting(Task::id).containsExactly(first.getId(), second.getId());
+        assertThat(nextPage).extracting(Task::id).containsExactly(third.getId());
+    }
+
+    @Test
+    @DisplayName("Deve contar e filtrar tarefas ativas por status e faixa de criação, ignorando filtros nulos")
+    void findActiveMatching_Success() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        TaskEntity early = entityManager.persist(new TaskEntity(null, "Antiga", "Desc", base, base, TaskStatus.PENDENTE));
+        TaskEntity late = entityManager.persist(new TaskEntity(null, "Recente", "Desc", base.plusDays(1), base, TaskStatus.PENDENTE));
+        entityManager.persist(new TaskEntity(null, "Concluída", "Desc", base.plusDays(1), base, TaskStatus.CONCLUIDA));
+        TaskEntity deleted = new TaskEntity(null, "Excluída", "Desc", base.plusDays(1), base, TaskStatus.PENDENTE);
+        deleted.setDeletedDate(base);
+        entityManager.persist(deleted);
+        entityManager.flush();
+
+        // Act
+        long all = taskRepository.countActiveMatching(null, null, null, null, null);
+        long pendingFromSecondDay = taskRepository.countActiveMatching(TaskStatus.PENDENTE, base.plusDays(1), null, null, null);
+        List<TaskEntity> pending = taskRepository.findActiveMatching(TaskStatus.PENDENTE, null, null, null, null, Limit.of(10));
+        List<TaskColumnRow> columns;
+        try (Stream<TaskColumnRow> rows = taskRepository.streamActiveColumns()) {
+            columns = rows.toList();
+        }
+
+        // Assert
+        assertThat(all).isEqualTo(3);
+        assertThat(pendingFromSecondDay).isEqualTo(1);
+        assertThat(pending).extracting(TaskEntity::getId).containsExactly(early.getId(), late.getId());
+        assertThat(columns).hasSize(3).extracting(TaskColumnRow::id).contains(early.getId(), late.getId());
+    }
+
+    @Test
+    @DisplayName("Deve inserir tarefas em lote com os IDs atribuídos pela aplicação")
+    void insertAll_Success() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity first = new TaskEntity(UUID.randomUUID(), "Importada 1", "Desc", now, now, TaskStatus.PENDENTE);
+        TaskEntity second = new TaskEntity(UUID.randomUUID(), "Importada 2", null, now, now, TaskStatus.CONCLUIDA);
+
+        // Act
+        int inserted = taskRepository.insertAll(List.of(first, second));
+
+        // Assert
+        assertThat(inserted).isEqualTo(2);
+        assertThat(taskRepository.findByIdInAndDeletedDateIsNull(List.of(first.getId(), second.getId())))
+                .extracting(TaskEntity::getTitle)
+                .containsExactlyInAnyOrder("Importada 1", "Importada 2");
+    }
+
+    @Test
+    @DisplayName("Deve paginar os prazos pendentes por cursor e marcá-los como atrasados uma única vez")
+    void deadlines_KeysetAndConditionalMark() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        TaskEntity first = entityManager.persist(dueTask("Primeiro prazo", now.minusHours(2), TaskStatus.PENDENTE));
+        TaskEntity second = entityManager.persist(dueTask("Segundo prazo", now.minusHours(1), TaskStatus.EM_ANDAMENTO));
+        entityManager.persist(dueTask("Concluída", now.minusHours(1), TaskStatus.CONCLUIDA));
+        entityManager.persist(dueTask("Futura", now.plusDays(1), TaskStatus.PENDENTE));
+        entityManager.flush();
+
+        // Act
+        List<TaskDeadline> firstPage = taskRepository.findPendingDueDates(now.minusYears(1), null, now, Limit.of(1));
+        TaskDeadline last = firstPage.get(0);
+        List<TaskDeadline> secondPage = taskRepository.findPendingDueDates(last.at(), last.taskId(), now, Limit.of(10));
+        List<UUID> marked = taskRepository.markOverdue(List.of(firstPage.get(0), secondPage.get(0)), now);
+        List<UUID> markedAgain = taskRepository.markOverdue(List.of(firstPage.get(0), secondPage.get(0)), now);
+        entityManager.clear();
+
+        // Assert
+        assertThat(firstPage).extracting(TaskDeadline::taskId).containsExactly(first.getId());
+        assertThat(secondPage).extracting(TaskDeadline::taskId).containsExactly(second.getId());
+        assertThat(marked).containsExactly(first.getId(), second.getId());
+        assertThat(markedAgain).isEmpty();
+        assertThat(taskRepository.findById(first.getId())).get().extracting(TaskEntity::getOverdueDate).isEqualTo(now);
+        assertThat(taskRepository.findPendingDueDates(now.minusYears(1), null, now, Limit.of(10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve registrar o lembrete quando o horário foi alterado depois de agendado")
+    void markReminded_IgnoresChangedReminder() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        TaskEntity task = dueTask("Lembrete", now.plusHours(1), TaskStatus.PENDENTE);
+        task.setReminderDate(now.minusMinutes(5));
+        task = entityManager.persistAndFlush(task);
+
+        // Act
+        List<UUID> stale = taskRepository.markReminded(List.of(new TaskDeadline(task.getId(), now.minusMinutes(10))), now);
+        List<UUID> current = taskRepository.markReminded(List.of(new TaskDeadline(task.getId(), now.minusMinutes(5))), now);
+
+        // Assert
+        assertThat(stale).isEmpty();
+        assertThat(current).containsExactly(task.getId());
+    }
+
+    @Test
+    @DisplayName("Deve paginar pela chave de ordenação e trocar a chave apenas quando ela não mudou")
+    void rankedPage_KeysetAndConditionalUpdate() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity second = entityManager.persist(rankedTask("Segunda", "a1"));
+        TaskEntity first = entityManager.persist(rankedTask("Primeira", "a0"));
+        TaskEntity third = entityManager.persist(rankedTask("Terceira", "a2"));
+        entityManager.persist(new TaskEntity(null, "Excluída", null, now, now, TaskStatus.PENDENTE, now));
+        entityManager.flush();
+
+        // Act
+        List<TaskEntity> firstPage = taskRepository.findRankedPage(Limit.of(2));
+        TaskEntity last = firstPage.get(1);
+        List<TaskEntity> secondPage = taskRepository.findRankedPageAfter(last.getRankKey(), last.getId(), Limit.of(2));
+        int stale = taskRepository.updateRankKey(third.getId(), "a9", "a05");
+        int moved = taskRepository.updateRankKey(third.getId(), "a2", "a05");
+        entityManager.clear();
+
+        // Assert
+        assertThat(firstPage).extracting(TaskEntity::getId).containsExactly(first.getId(), second.getId());
+        assertThat(secondPage).extracting(TaskEntity::getId).containsExactly(third.getId());
+        assertThat(stale).isZero();
+        assertThat(moved).isEqualTo(1);
+        assertThat(taskRepository.findRanksAfter("a0", Limit.of(1))).extracting(TaskRank::taskId).containsExactly(third.getId());
+        assertThat(taskRepository.findRanksBefore("a1", Limit.of(10))).extracting(TaskRank::rankKey).containsExactly("a05", "a0");
+        assertThat(taskRepository.findLastRanks(Limit.of(1))).extracting(TaskRank::taskId).containsExactly(second.getId());
+        assertThat(taskRepository.findRanksByIdIn(List.of(third.getId()))).containsExactly(new TaskRank(third.getId(), "a05"));
+    }
+
+    private static TaskEntity rankedTask(String title, String rankKey) {
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity task = new TaskEntity(null, title, null, now, now, TaskStatus.PENDENTE);
+        task.setRankKey(rankKey);
+        return task;
+    }
+
+    private static TaskEntity dueTask(String title, LocalDateTime dueDate, TaskStatus status) {
+        LocalDateTime created = LocalDateTime.now().minusDays(1);
+        TaskEntity task = new TaskEntity(null, title, null, created, created, status);
+        task.setDueDate(dueDate);
+        return task;
+    }
 }
@@ -0,0 +1,80 @@
+package com.stefanini.desafio.todolistapi.infrastructure.rank;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FractionalIndexTest {
+
+    @Test
+    @DisplayName("Deve manter a ordem das chaves em inserções em posições aleatórias, no início e no fim")
+    void keyBetween_KeepsOrder() {
+        // Arrange
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        keys.add(FractionalIndex.keyBetween(null, null));
+
+        // Act
+        for (int i = 0; i < 5000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String lower = position > 0 ? keys.get(position - 1) : null;
+            String upper = position < keys.size() ? keys.get(position) : null;
+            keys.add(position, FractionalIndex.keyBetween(lower, upper));
+        }
+
+        // Assert
+        assertThat(keys).isSortedAccordingTo(Comparator.naturalOrder()).doesNotHaveDuplicates();
+        keys.forEach(FractionalIndex::validate);
+    }
+
+    @Test
+    @DisplayName("Deve distribuir várias chaves entre dois vizinhos com tamanho logarítmico")
+    void keysBetween_Balanced() {
+        // Arrange
+        String lower = "a0";
+        String upper = "a1";
+
+        // Act
+        List<String> keys = FractionalIndex.keysBetween(lower, upper, 1000);
+        List<String> appended = FractionalIndex.keysBetween("a0", null, 1000);
+
+        // Assert
+        assertThat(keys).hasSize(1000).isSortedAccordingTo(Comparator.naturalOrder()).doesNotHaveDuplicates();
+        assertThat(keys.getFirst()).isGreaterThan(lower);
+        assertThat(keys.getLast()).isLessThan(upper);
+        assertThat(keys).allSatisfy(key -> assertThat(key).hasSizeLessThanOrEqualTo(6));
+        assertThat(appended).isSortedAccordingTo(Comparator.naturalOrder())
+                .allSatisfy(key -> assertThat(key).hasSizeLessThanOrEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("Deve manter a chave com sufixo aleatório antes do vizinho seguinte e rejeitar chaves inválidas")
+    void jitter_StaysBelowUpper() {
+        // Arrange
+        Random random = new Random(7);
+        String upper = "a1";
+        String key = FractionalIndex.keyBetween("a0", upper);
+
+        // Act
+        List<String> jittered = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            jittered.add(FractionalIndex.jitter(key, upper, random));
+        }
+
+        // Assert
+        assertThat(jittered).allSatisfy(candidate -> {
+            assertThat(candidate).startsWith(key).isGreaterThan("a0").isLessThan(upper);
+            FractionalIndex.validate(candidate);
+        });
+        assertThatThrownBy(() -> FractionalIndex.validate("a00")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalIndex.validate("a!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalIndex.keyBetween("a1", "a0")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,63 @@
+package com.stefanini.desafio.todolistapi.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long THRESHOLD = 100_000_000L;
+
+    @Test
+    @DisplayName("Deve recusar requisições acima do limite atual")
+    void tryAcquire_RejectsAboveLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, THRESHOLD);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a latência passa do limiar")
+    void release_SlowRequest_DecreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 20, THRESHOLD);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(THRESHOLD * 3, false);
+        }
+
+        assertTrue(limiter.getLimit() < 10);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite com requisições rápidas enquanto a capacidade está em uso")
+    void release_FastRequestsUnderLoad_IncreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 5, THRESHOLD);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        limiter.release(THRESHOLD / 10, false);
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Não deve ultrapassar os limites mínimo e máximo")
+    void release_RespectsBounds() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 2, 2, THRESHOLD);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.release(THRESHOLD * 10, true);
+        assertEquals(2, limiter.getLimit());
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        limiter.release(1, false);
+        assertEquals(2, limiter.getLimit());
+    }
+}
@@ -0,0 +1,81 @@
+package com.stefanini.desafio.todolistapi.infrastructure.ratelimit;
+
+import com.stefanini.desafio.todolistapi.application.controller.TaskController;
+import com.stefanini.desafio.todolistapi.application.exception.CustomAuthenticationEntryPoint;
+import com.stefanini.desafio.todolistapi.application.exception.CustomExceptionHandler;
+import com.stefanini.desafio.todolistapi.application.exception.ErrorMessages;
+import com.stefanini.desafio.todolistapi.application.stream.TaskEventBroadcaster;
+import com.stefanini.desafio.todolistapi.domain.service.TaskService;
+import com.stefanini.desafio.todolistapi.domain.service.TaskSyncService;
+import com.stefanini.desafio.todolistapi.infrastructure.config.SecurityConfig;
+import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TaskController.class)
+@Import({SecurityConfig.class, CustomAuthenticationEntryPoint.class, CustomExceptionHandler.class, ErrorMessages.class})
+@TestPropertySource(properties = {
+        "api.rate-limit.defaults.capacity=2",
+        "api.rate-limit.defaults.refill-per-second=0.01",
+        "api.rate-limit.principals.parceiro.capacity=1",
+        "api.rate-limit.principals.parceiro.refill-per-second=0.01"
+})
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class RateLimitInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskService taskService;
+
+    @MockBean
+    private TaskMapper taskMapper;
+
+    @MockBean
+    private TaskEventBroadcaster taskEventBroadcaster;
+
+    @MockBean
+    private TaskSyncService taskSyncService;
+
+    @Test
+    @DisplayName("Deve retornar 429 com Retry-After quando o usuário esgota o token bucket")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void exceedingBucket_Returns429() throws Exception {
+        when(taskService.findAllTasks()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/tasks")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o limite específico configurado para o usuário")
+    @WithMockUser(username = "parceiro", roles = "USER")
+    void perPrincipalLimit_Applied() throws Exception {
+        when(taskService.findAllTasks()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/tasks")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks")).andExpect(status().isTooManyRequests());
+    }
+}
@@ -0,0 +1,44 @@
+package com.stefanini.desafio.todolistapi.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long ONE_SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Deve aceitar rajada até a capacidade e então recusar")
+    void tryConsume_BurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0) > 0);
+    }
+
+    @Test
+    @DisplayName("Deve repor fichas de acordo com o tempo decorrido e informar a espera")
+    void tryConsume_RefillsOverTime() {
+        TokenBucket bucket = new TokenBucket(1, 2, 0);
+        assertEquals(0, bucket.tryConsume(0));
+
+        long wait = bucket.tryConsume(0);
+        assertEquals(ONE_SECOND / 2.0, wait, 1.0);
+
+        assertEquals(0, bucket.tryConsume(wait));
+    }
+
+    @Test
+    @DisplayName("Não deve acumular fichas além da capacidade")
+    void tryConsume_DoesNotExceedCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 100, 0);
+
+        assertEquals(0, bucket.tryConsume(10 * ONE_SECOND));
+        assertEquals(0, bucket.tryConsume(10 * ONE_SECOND));
+        assertTrue(bucket.tryConsume(10 * ONE_SECOND) > 0);
+    }
+}
@@ -0,0 +1,73 @@
+package com.stefanini.desafio.todolistapi.infrastructure.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("Deve entregar cada item no tick do seu prazo, inclusive após descer dos níveis altos")
+    void advance_DeliversOnDeadline() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(10, 4, 3, 0);
+        wheel.schedule(30, "nível 0");
+        wheel.schedule(170, "nível 1");
+        wheel.schedule(550, "nível 2");
+
+        // Act
+        List<String> untilBefore = new ArrayList<>();
+        List<String> atDeadlines = new ArrayList<>();
+        untilBefore.addAll(wheel.advance(29));
+        atDeadlines.addAll(wheel.advance(30));
+        untilBefore.addAll(wheel.advance(169));
+        atDeadlines.addAll(wheel.advance(170));
+        untilBefore.addAll(wheel.advance(549));
+        atDeadlines.addAll(wheel.advance(550));
+
+        // Assert
+        assertThat(untilBefore).isEmpty();
+        assertThat(atDeadlines).containsExactly("nível 0", "nível 1", "nível 2");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve entregar prazos já vencidos no próximo avanço e acumular os vencidos durante uma pausa")
+    void advance_ExpiredAndSkippedTicks() {
+        // Arrange
+        TimingWheel<Integer> wheel = new TimingWheel<>(10, 8, 2, 1_000);
+        wheel.schedule(500, 0);
+        for (int i = 1; i <= 50; i++) {
+            wheel.schedule(1_000 + i * 10L, i);
+        }
+
+        // Act
+        List<Integer> first = wheel.advance(1_000);
+        List<Integer> afterPause = wheel.advance(1_500);
+
+        // Assert
+        assertThat(first).containsExactly(0);
+        assertThat(afterPause).hasSize(50).isSorted();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve recusar prazos além do horizonte")
+    void schedule_BeyondHorizon() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(10, 4, 2, 0);
+
+        // Act
+        boolean within = wheel.schedule(wheel.horizonMillis() - 10, "dentro");
+        boolean beyond = wheel.schedule(wheel.horizonMillis() + 10, "fora");
+
+        // Assert
+        assertThat(within).isTrue();
+        assertThat(beyond).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}
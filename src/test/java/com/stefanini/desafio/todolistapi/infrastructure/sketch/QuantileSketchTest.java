@@ -0,0 +1,80 @@
+package com.stefanini.desafio.todolistapi.infrastructure.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+
+    @Test
+    @DisplayName("Deve estimar os percentis com erro relativo de até 1%")
+    void quantile_WithinRelativeAccuracy() {
+        // Arrange
+        Random random = new Random(42);
+        double[] values = new double[50_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextDouble() * 18); // de 1 segundo a ~2 anos
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // Act & Assert
+        for (double quantile : new double[]{0.5, 0.9, 0.99}) {
+            double exact = values[(int) (quantile * (values.length - 1))];
+            assertThat(sketch.quantile(quantile)).isCloseTo(exact, within(exact * QuantileSketch.RELATIVE_ACCURACY));
+        }
+        assertThat(sketch.count()).isEqualTo(values.length);
+    }
+
+    @Test
+    @DisplayName("Deve combinar sketches e preservá-los na serialização")
+    void merge_AndRoundTrip() {
+        // Arrange
+        QuantileSketch first = new QuantileSketch();
+        QuantileSketch second = new QuantileSketch();
+        QuantileSketch all = new QuantileSketch();
+        for (int i = 0; i < 1000; i++) {
+            first.add(i);
+            second.add(i * 100.0);
+            all.add(i);
+            all.add(i * 100.0);
+        }
+
+        // Act
+        QuantileSketch merged = QuantileSketch.fromBytes(first.toBytes());
+        merged.merge(QuantileSketch.fromBytes(second.toBytes()));
+
+        // Assert
+        assertThat(merged.count()).isEqualTo(2000);
+        assertThat(merged.toBytes()).isEqualTo(all.toBytes());
+        assertThat(merged.quantile(0.9)).isEqualTo(all.quantile(0.9));
+    }
+
+    @Test
+    @DisplayName("Deve ler bytes nulos como sketch vazio e rejeitar bytes corrompidos")
+    void fromBytes_EmptyAndCorrupted() {
+        // Arrange
+        byte[] truncated = Arrays.copyOf(sketchOf(10, 20, 30).toBytes(), 3);
+
+        // Act & Assert
+        assertThat(QuantileSketch.fromBytes(null).count()).isZero();
+        assertThat(QuantileSketch.fromBytes(null).quantile(0.5)).isZero();
+        assertThatThrownBy(() -> QuantileSketch.fromBytes(truncated)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuantileSketch.fromBytes(new byte[]{9})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static QuantileSketch sketchOf(double... values) {
+        QuantileSketch sketch = new QuantileSketch();
+        for (double value : values) {
+            sketch.add(value);
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,116 @@
+package com.stefanini.desafio.todolistapi.infrastructure.tracing;
+
+import com.stefanini.desafio.todolistapi.infrastructure.config.TracingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceSamplingSpanProcessorTest {
+
+    private static final String SAMPLED_ROUTE = "/api/v1/tasks/import";
+
+    private MemorySpanExporter exporter;
+    private MeterRegistry meterRegistry;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new MemorySpanExporter(100);
+        meterRegistry = new SimpleMeterRegistry();
+        TracingProperties.Sampling sampling = new TracingProperties.Sampling(
+                0.0, Map.of(SAMPLED_ROUTE, 1.0), Duration.ofMillis(500), 100, 2);
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(new TraceSamplingSpanProcessor(SimpleSpanProcessor.create(exporter), sampling, meterRegistry))
+                .build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("Deve exportar o trace inteiro quando o span raiz passa do limite de latência")
+    void onEnd_SlowTraceExported() {
+        // Arrange
+        Span root = tracer.spanBuilder("http get").setStartTimestamp(0, TimeUnit.MILLISECONDS).startSpan();
+        Span child = tracer.spanBuilder("TaskService.findAllTasks").setParent(Context.current().with(root))
+                .setStartTimestamp(10, TimeUnit.MILLISECONDS).startSpan();
+
+        // Act
+        child.end(400, TimeUnit.MILLISECONDS);
+        assertThat(exporter.getFinishedSpans()).isEmpty(); // aguardando o fim da raiz
+        root.end(600, TimeUnit.MILLISECONDS);
+
+        // Assert
+        assertThat(exporter.getFinishedSpans()).extracting(SpanData::getName)
+                .containsExactly("TaskService.findAllTasks", "http get");
+        assertThat(meterRegistry.counter("tracing.traces", "decision", "exported").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar traces rápidos e sem erro fora das rotas amostradas")
+    void onEnd_FastTraceDiscarded() {
+        // Arrange
+        Span root = tracer.spanBuilder("http get").setStartTimestamp(0, TimeUnit.MILLISECONDS).startSpan();
+        Span child = tracer.spanBuilder("query").setParent(Context.current().with(root))
+                .setStartTimestamp(1, TimeUnit.MILLISECONDS).startSpan();
+
+        // Act
+        child.end(5, TimeUnit.MILLISECONDS);
+        root.end(10, TimeUnit.MILLISECONDS);
+
+        // Assert
+        assertThat(exporter.getFinishedSpans()).isEmpty();
+        assertThat(meterRegistry.counter("tracing.traces", "decision", "discarded").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve exportar traces rápidos com erro, das rotas amostradas e com pai remoto, limitando os spans por trace")
+    void onEnd_ErrorRouteAndRemoteParentExported() {
+        // Arrange
+        Span failed = tracer.spanBuilder("http post").setStartTimestamp(0, TimeUnit.MILLISECONDS).startSpan();
+        failed.setStatus(StatusCode.ERROR);
+        Span imported = tracer.spanBuilder("http post").setAttribute(TraceSamplingSpanProcessor.ROUTE, SAMPLED_ROUTE)
+                .setStartTimestamp(0, TimeUnit.MILLISECONDS).startSpan();
+        SpanContext remote = SpanContext.createFromRemoteParent(
+                "0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", TraceFlags.getSampled(), TraceState.getDefault());
+        Span propagated = tracer.spanBuilder("http get").setParent(Context.current().with(Span.wrap(remote)))
+                .setAttribute(TraceSamplingSpanProcessor.ROUTE, SAMPLED_ROUTE)
+                .setStartTimestamp(0, TimeUnit.MILLISECONDS).startSpan();
+        for (int i = 0; i < 3; i++) {
+            tracer.spanBuilder("mapper").setParent(Context.current().with(propagated)).startSpan().end();
+        }
+
+        // Act
+        failed.end(1, TimeUnit.MILLISECONDS);
+        imported.end(1, TimeUnit.MILLISECONDS);
+        propagated.end(1, TimeUnit.MILLISECONDS);
+
+        // Assert
+        assertThat(exporter.getFinishedSpans()).hasSize(5);
+        assertThat(exporter.getFinishedSpans().getLast().getTraceId()).isEqualTo(remote.getTraceId());
+        assertThat(meterRegistry.counter("tracing.spans.truncated").count()).isEqualTo(1);
+    }
+}
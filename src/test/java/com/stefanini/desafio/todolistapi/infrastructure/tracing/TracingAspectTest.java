@@ -0,0 +1,75 @@
+package com.stefanini.desafio.todolistapi.infrastructure.tracing;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.infrastructure.config.TaskMapper;
+import com.stefanini.desafio.todolistapi.infrastructure.persistence.entity.TaskEntity;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisabledInAotMode // Mockito não roda em imagem nativa (nativeTest)
+class TracingAspectTest {
+
+    private final Tracer tracer = mock(Tracer.class);
+
+    private TaskMapper taskMapper;
+
+    @BeforeEach
+    void setUp() {
+        when(tracer.nextSpan()).thenAnswer(invocation -> mock(Span.class, RETURNS_SELF));
+        when(tracer.withSpan(any())).thenReturn(mock(Tracer.SpanInScope.class));
+        AspectJProxyFactory factory = new AspectJProxyFactory(mock(TaskMapper.class));
+        factory.addAspect(new TracingAspect(tracer, true, 3));
+        taskMapper = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve criar no máximo maxMapperSpans spans de mapper sob o mesmo span pai")
+    void traceMapper_ListingCapped() {
+        // Arrange
+        inParent("listagem");
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            taskMapper.toDomain(new TaskEntity());
+        }
+
+        // Assert
+        verify(tracer, times(3)).nextSpan();
+    }
+
+    @Test
+    @DisplayName("Deve reiniciar a contagem de spans de mapper sob um novo span pai")
+    void traceMapper_NewParentCountsAgain() {
+        // Act
+        inParent("primeira");
+        for (int i = 0; i < 5; i++) {
+            taskMapper.toDomain(new TaskEntity());
+        }
+        inParent("segunda");
+        taskMapper.toResponse((Task) null);
+
+        // Assert
+        verify(tracer, times(4)).nextSpan();
+    }
+
+    private void inParent(String spanId) {
+        Span parent = mock(Span.class);
+        TraceContext context = mock(TraceContext.class);
+        when(context.spanId()).thenReturn(spanId);
+        when(parent.context()).thenReturn(context);
+        when(tracer.currentSpan()).thenReturn(parent);
+    }
+}
@@ -0,0 +1,100 @@
+package com.stefanini.desafio.todolistapi.integration;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.domain.service.TaskService;
+import com.stefanini.desafio.todolistapi.infrastructure.breaker.CircuitBreaker;
+import com.stefanini.desafio.todolistapi.infrastructure.breaker.DatabaseUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "api.breaker.window-size=4",
+        "api.breaker.minimum-calls=2",
+        "api.breaker.open-duration=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CircuitBreakerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CircuitBreaker databaseCircuitBreaker;
+
+    // Guardado fora do contexto: o bean pode ser envolvido por proxies de observação do JDBC
+    private static FaultInjectingDataSource dataSource;
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        @Primary
+        public DataSource dataSource() {
+            dataSource = new FaultInjectingDataSource(new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .build());
+            return dataSource;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.heal();
+    }
+
+    @Test
+    @DisplayName("Com o banco fora, deve servir a última leitura como desatualizada e recusar escritas com 503")
+    @WithMockUser(username = "stefuser", roles = "USER")
+    void databaseDown_ServesStaleReadsAndFailsWritesFast() throws Exception {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Task task = taskService.createTask(new Task(null, "Resiliente", "Lida antes da queda", now, now, TaskStatus.PENDENTE));
+        mockMvc.perform(get("/api/v1/tasks/{id}", task.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.WARNING));
+
+        // Act: o banco cai; a leitura falha no banco e é servida do último resultado
+        dataSource.fail();
+        mockMvc.perform(get("/api/v1/tasks/{id}", task.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.WARNING, "110 - \"Response is Stale\""))
+                .andExpect(header().exists(HttpHeaders.AGE))
+                .andExpect(jsonPath("$.title").value("Resiliente"));
+        assertThrows(RuntimeException.class, () -> taskService.updateTask(task.id(), "Alterada", null, null));
+
+        // Assert: o circuito abriu; leituras seguem servidas e escritas são recusadas sem tocar no banco
+        assertEquals(CircuitBreaker.State.OPEN, databaseCircuitBreaker.getState());
+        mockMvc.perform(get("/api/v1/tasks/{id}", task.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.WARNING, "110 - \"Response is Stale\""));
+        assertThrows(DatabaseUnavailableException.class, () -> taskService.updateTask(task.id(), "Alterada", null, null));
+        mockMvc.perform(get("/api/v1/tasks").param("limit", "10"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+}
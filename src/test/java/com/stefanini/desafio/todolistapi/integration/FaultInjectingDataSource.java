@@ -0,0 +1,63 @@
+package com.stefanini.desafio.todolistapi.integration;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+/**
+ * DataSource de teste que simula a queda ou a lentidão do banco ao abrir conexões: com falha ligada, cada
+ * {@code getConnection()} lança a exceção do pool esgotado ({@link SQLTransientConnectionException}); com atraso,
+ * espera antes de entregar a conexão.
+ */
+class FaultInjectingDataSource extends DelegatingDataSource {
+
+    private volatile boolean failing;
+    private volatile Duration delay = Duration.ZERO;
+
+    FaultInjectingDataSource(DataSource target) {
+        super(target);
+    }
+
+    void fail() {
+        failing = true;
+    }
+
+    void delay(Duration delay) {
+        this.delay = delay;
+    }
+
+    void heal() {
+        failing = false;
+        delay = Duration.ZERO;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        inject();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        inject();
+        return super.getConnection(username, password);
+    }
+
+    private void inject() throws SQLException {
+        if (failing) {
+            throw new SQLTransientConnectionException("Falha injetada: banco indisponível");
+        }
+        if (!delay.isZero()) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Espera injetada interrompida", e);
+            }
+        }
+    }
+}
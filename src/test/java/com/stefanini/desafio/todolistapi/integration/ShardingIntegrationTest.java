@@ -0,0 +1,125 @@
+package com.stefanini.desafio.todolistapi.integration;
+
+import com.stefanini.desafio.todolistapi.domain.model.Task;
+import com.stefanini.desafio.todolistapi.domain.model.TaskPage;
+import com.stefanini.desafio.todolistapi.domain.model.TaskStatus;
+import com.stefanini.desafio.todolistapi.domain.service.TaskNotFoundException;
+import com.stefanini.desafio.todolistapi.domain.service.TaskService;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.ShardContext;
+import com.stefanini.desafio.todolistapi.infrastructure.shard.Shards;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "api.shards.enabled=true",
+        "api.shards.datasources[0].url=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/shard-schema.sql'",
+        "api.shards.datasources[0].username=sa",
+        "api.shards.datasources[1].url=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/shard-schema.sql'",
+        "api.shards.datasources[1].username=sa",
+        "api.shards.datasources[2].url=jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/shard-schema.sql'",
+        "api.shards.datasources[2].username=sa",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@ActiveProfiles("test")
+class ShardingIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private Shards shards;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Deve gravar cada tarefa no shard dono do seu ID e encontrá-la pelo ID")
+    void createTask_RoutedToOwningShard() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> created = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 30; i++) {
+            created.add(taskService.createTask(new Task(null, "Tarefa " + i, "Descrição " + i, now, now, TaskStatus.PENDENTE)));
+        }
+
+        // Assert
+        assertEquals(3, shards.count());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<Set<UUID>> rowsByShard = new ArrayList<>();
+        for (int shard = 0; shard < shards.count(); shard++) {
+            rowsByShard.add(new HashSet<>(ShardContext.callOn(shard, () -> jdbcTemplate.queryForList("SELECT id FROM tasks", UUID.class))));
+        }
+        for (Task task : created) {
+            assertNotNull(task.id());
+            assertTrue(rowsByShard.get(shards.shardOf(task.id())).contains(task.id()));
+            assertEquals(task.title(), taskService.findTaskById(task.id()).title());
+        }
+        rowsByShard.forEach(rows -> assertFalse(rows.isEmpty(), "Todos os shards devem receber tarefas"));
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor entre os shards em ordem de criação, sem repetir nem pular tarefas")
+    void findTaskPage_AcrossShards() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < 20; i++) {
+            LocalDateTime creation = base.plusSeconds(i);
+            taskService.createTask(new Task(null, "Paginada " + i, "Descrição " + i, creation, creation, TaskStatus.PENDENTE));
+        }
+        Set<UUID> expected = new HashSet<>();
+        taskService.findAllTasks().forEach(task -> expected.add(task.id()));
+
+        // Act
+        List<Task> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPage page = taskService.findTaskPage(cursor, 7);
+            assertTrue(page.tasks().size() <= 7);
+            paged.addAll(page.tasks());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(expected.size(), paged.size());
+        assertEquals(expected, new HashSet<>(paged.stream().map(Task::id).toList()));
+        for (int i = 1; i < paged.size(); i++) {
+            assertFalse(paged.get(i).creationDate().isBefore(paged.get(i - 1).creationDate()));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve atualizar e excluir a tarefa no shard dono do ID")
+    void updateAndDelete_RoutedToOwningShard() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Task task = taskService.createTask(new Task(null, "Roteada", "Descrição inicial", now, now, TaskStatus.PENDENTE));
+
+        // Act
+        taskService.updateTask(task.id(), "Roteada e atualizada", null, TaskStatus.CONCLUIDA);
+
+        // Assert
+        Task updated = taskService.findTaskById(task.id());
+        assertEquals("Roteada e atualizada", updated.title());
+        assertEquals(TaskStatus.CONCLUIDA, updated.status());
+
+        taskService.deleteTask(task.id());
+        assertThrows(TaskNotFoundException.class, () -> taskService.findTaskById(task.id()));
+        assertTrue(taskService.findAllTasks().stream().noneMatch(t -> t.id().equals(task.id())));
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import javax.sql.DataSource;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
@@ -51,6 +52,7 @@ class TaskIntegrationTest {
     @DisplayName("Fluxo completo: Criar, Listar, Atualizar e Deletar Tarefa")
     @WithMockUser(username = "stefuser", roles = "USER")
     void fullTaskLifecycle() throws Exception {
+        LocalDateTime syncWatermark = LocalDateTime.now().minusSeconds(1);
         
         // 1. CRIAR TAREFA (POST)
         TaskRequest createRequest = new TaskRequest("Tarefa Integração", "Testando fluxo completo");
@@ -99,5 +101,12 @@ class TaskIntegrationTest {
         // 6. VERIFICAR EXCLUSÃO (GET)
         mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
                 .andExpect(status().isNotFound());
+
+        // 7. SINCRONIZAÇÃO INCREMENTAL (GET) - A exclusão deve chegar como tombstone
+        mockMvc.perform(get("/api/v1/tasks/sync").param("since", syncWatermark.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fullResync").value(false))
+                .andExpect(jsonPath("$.deleted[?(@.id == '" + taskId + "')]").exists())
+                .andExpect(jsonPath("$.tasks[?(@.id == '" + taskId + "')]").doesNotExist());
     }
 }
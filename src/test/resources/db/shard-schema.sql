@@ -0,0 +1,48 @@
+-- Esquema de cada shard H2 nos testes de particionamento (equivalente às migrações Flyway do SQL Server).
+-- Executado a cada nova conexão pelo INIT da URL, por isso usa IF NOT EXISTS.
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000000),
+    creation_date TIMESTAMP(6) NOT NULL,
+    update_date TIMESTAMP(6),
+    status VARCHAR(50) NOT NULL,
+    deleted_date TIMESTAMP(6),
+    due_date TIMESTAMP(6),
+    reminder_date TIMESTAMP(6),
+    reminder_sent_date TIMESTAMP(6),
+    overdue_date TIMESTAMP(6),
+    rank_key VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_creation_date_id ON tasks (creation_date, id);
+CREATE INDEX IF NOT EXISTS idx_task_due_date_id ON tasks (due_date, id);
+CREATE INDEX IF NOT EXISTS idx_task_reminder_date_id ON tasks (reminder_date, id);
+CREATE INDEX IF NOT EXISTS idx_task_rank_key_id ON tasks (rank_key, id);
+
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000000),
+    creation_date TIMESTAMP(6) NOT NULL,
+    update_date TIMESTAMP(6),
+    status VARCHAR(50) NOT NULL,
+    archived_date TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS task_daily_rollups (
+    rollup_date DATE PRIMARY KEY,
+    created BIGINT NOT NULL,
+    completed BIGINT NOT NULL,
+    completion_sketch VARBINARY(1000000),
+    version BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS task_backlog_rollups (
+    status VARCHAR(50) NOT NULL,
+    rollup_date DATE NOT NULL,
+    total BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (status, rollup_date)
+);